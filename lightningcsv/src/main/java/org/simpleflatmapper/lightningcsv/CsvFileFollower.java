@@ -0,0 +1,336 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.impl.CsvRowScanner;
+import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.AppendCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.BufferOverflowException;
+import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Function;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.util.Arrays;
+
+/**
+ * Parse a csv file that is being appended to.
+ * <p>
+ * Each {@link #poll(CellConsumer)} parses the rows that were completed since the last call, the bytes are only read once.
+ * A row is only passed to the char consumer once its end of line is available, the bytes of the partial last row are
+ * kept until the rest of the row is written. The {@link Checkpoint} - the offset of the first unparsed row - can
+ * be persisted so that a new process resumes exactly after the last parsed row.
+ * <p>
+ * The file is expected to only be appended to and to use a charset where the separator, quote, escape and end of line
+ * characters are single bytes, ie UTF-8 or ISO-8859-*.
+ * <pre>
+ *     CsvFileFollower follower = CsvParser.dsl().follow(file, checkpointFile);
+ *     try {
+ *         follower.follow(consumer, 500);
+ *     } finally {
+ *         follower.close();
+ *     }
+ * </pre>
+ */
+public final class CsvFileFollower implements Closeable {
+
+	private static final byte LF = '\n';
+	private static final byte CR = '\r';
+
+	private final File file;
+	private final RandomAccessFile randomAccessFile;
+	private final FileChannel channel;
+	private final CharsetDecoder decoder;
+	private final CsvRowScanner scanner;
+	private final AbstractCharConsumer charConsumer;
+	private final AppendCharBuffer charBuffer;
+	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
+	private final File checkpointFile;
+	private final int maxBufferSize;
+
+	private byte[] bytes;
+	private java.nio.CharBuffer chars;
+	private long offset;
+	private int start;
+	private int scanPosition;
+	private int end;
+	private boolean rowStartPending = true;
+	private boolean dropLf;
+	private boolean lastRowEndedWithCr;
+	private long rowCount;
+
+	CsvFileFollower(File file, Charset charset,
+					CsvRowScanner scanner, AbstractCharConsumer charConsumer, AppendCharBuffer charBuffer,
+					Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper,
+					Checkpoint checkpoint, File checkpointFile,
+					int bufferSize, int maxBufferSize) throws IOException {
+		this.file = file;
+		this.decoder = charset.newDecoder();
+		this.scanner = scanner;
+		this.charConsumer = charConsumer;
+		this.charBuffer = charBuffer;
+		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.checkpointFile = checkpointFile;
+		this.maxBufferSize = maxBufferSize;
+		this.bytes = new byte[bufferSize];
+		this.chars = java.nio.CharBuffer.allocate(bufferSize);
+		if (checkpoint != null) {
+			this.offset = checkpoint.offset;
+			this.rowCount = checkpoint.rowCount;
+			this.dropLf = checkpoint.afterCr;
+			this.lastRowEndedWithCr = checkpoint.afterCr;
+		}
+		this.randomAccessFile = new RandomAccessFile(file, "r");
+		this.channel = randomAccessFile.getChannel();
+	}
+
+	/**
+	 * parse the rows completed since the last call.
+	 * @param cellConsumer the consumer
+	 * @return the number of rows parsed
+	 * @throws IOException if an error occurs reading the file
+	 */
+	public long poll(CellConsumer cellConsumer) throws IOException {
+		long rows = 0;
+		while (read() > 0) {
+			rows += parseCompleteRows(cellConsumer);
+		}
+		if (rows > 0 && checkpointFile != null) {
+			checkpoint().write(checkpointFile);
+		}
+		return rows;
+	}
+
+	/**
+	 * parse the rows as they are appended to the file until the current thread is interrupted.
+	 * @param cellConsumer the consumer
+	 * @param pollIntervalMillis the time to wait when no new row is available
+	 * @throws IOException if an error occurs reading the file
+	 */
+	public void follow(CellConsumer cellConsumer, long pollIntervalMillis) throws IOException {
+		while (!Thread.currentThread().isInterrupted()) {
+			if (poll(cellConsumer) == 0) {
+				try {
+					Thread.sleep(pollIntervalMillis);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	public <RH extends CheckedConsumer<String[]>> RH follow(RH consumer, long pollIntervalMillis) throws IOException {
+		follow(StringArrayCellConsumer.newInstance(consumer), pollIntervalMillis);
+		return consumer;
+	}
+
+	/**
+	 * @return the position after the last parsed row
+	 */
+	public Checkpoint checkpoint() {
+		return new Checkpoint(offset + start, rowCount, lastRowEndedWithCr);
+	}
+
+	/**
+	 * @return the number of rows parsed since the start of the file
+	 */
+	public long rowCount() {
+		return rowCount;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	private int read() throws IOException {
+		if (start > 0) {
+			System.arraycopy(bytes, start, bytes, 0, end - start);
+			offset += start;
+			scanPosition -= start;
+			end -= start;
+			start = 0;
+		}
+		if (end == bytes.length) {
+			if (bytes.length >= maxBufferSize) {
+				throw new BufferOverflowException("The row at offset " + offset + " exceed the maxSizeBuffer " + maxBufferSize + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+			}
+			bytes = Arrays.copyOf(bytes, Math.min(maxBufferSize, bytes.length * 2));
+		}
+
+		long position = offset + end;
+		if (channel.size() < position) {
+			throw new IOException("File " + file + " was truncated to " + channel.size() + " before the last read position " + position);
+		}
+
+		int n = channel.read(ByteBuffer.wrap(bytes, end, bytes.length - end), position);
+		if (n <= 0) return 0;
+
+		end += n;
+		if (dropLf) {
+			dropLf = false;
+			if (bytes[start] == LF) {
+				start++;
+				scanPosition++;
+			}
+		}
+		return n;
+	}
+
+	private long parseCompleteRows(CellConsumer cellConsumer) throws IOException {
+		long rows = 0;
+		int rowsEnd = start;
+		while (scanPosition < end) {
+			if (rowStartPending) {
+				scanPosition = scanner.skipLf(bytes, scanPosition, end);
+				if (scanPosition == end) break;
+				rowStartPending = false;
+			}
+			int endOfRow = scanner.endOfRow(bytes, scanPosition, end);
+			if (endOfRow == -1) {
+				scanPosition = end;
+				break;
+			}
+			scanPosition = endOfRow;
+			rowsEnd = endOfRow;
+			rowStartPending = true;
+			rows++;
+		}
+
+		if (rows > 0) {
+			decode(rowsEnd);
+			lastRowEndedWithCr = bytes[rowsEnd - 1] == CR;
+			start = rowsEnd;
+			rowCount += rows;
+
+			CellConsumer wrappedConsumer = cellConsumerWrapper != null ? cellConsumerWrapper.apply(cellConsumer) : cellConsumer;
+			while (charConsumer.shiftAndRead(false)) {
+				charConsumer.consumeAllBuffer(wrappedConsumer);
+			}
+		}
+		return rows;
+	}
+
+	private void decode(int rowsEnd) throws CharacterCodingException {
+		ByteBuffer in = ByteBuffer.wrap(bytes, start, rowsEnd - start);
+		int maxChars = (int) (in.remaining() * (double) decoder.maxCharsPerByte()) + 1;
+		if (chars.capacity() < maxChars) {
+			chars = java.nio.CharBuffer.allocate(maxChars);
+		}
+		chars.clear();
+		decoder.reset();
+		CoderResult result = decoder.decode(in, chars, true);
+		if (result.isError()) result.throwException();
+		result = decoder.flush(chars);
+		if (result.isError()) result.throwException();
+		charBuffer.append(chars.array(), 0, chars.position());
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			channel.close();
+		} finally {
+			randomAccessFile.close();
+		}
+	}
+
+	/**
+	 * Position of the first row not parsed yet.
+	 */
+	public static final class Checkpoint {
+		private static final int MAGIC = 0x53464d43;
+
+		private final long offset;
+		private final long rowCount;
+		private final boolean afterCr;
+
+		/**
+		 * @param offset the byte offset of the row
+		 * @param rowCount the number of rows before the offset
+		 * @param afterCr true if the previous row ended with a CR, a LF at the offset would complete that end of line
+		 */
+		public Checkpoint(long offset, long rowCount, boolean afterCr) {
+			this.offset = offset;
+			this.rowCount = rowCount;
+			this.afterCr = afterCr;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		public long getRowCount() {
+			return rowCount;
+		}
+
+		public boolean isAfterCr() {
+			return afterCr;
+		}
+
+		/**
+		 * write the checkpoint in a temporary file renamed to the target file.
+		 * @param checkpointFile the file
+		 * @throws IOException if an error occurs
+		 */
+		public void write(File checkpointFile) throws IOException {
+			File tmp = new File(checkpointFile.getPath() + ".tmp");
+			DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+			try {
+				os.writeInt(MAGIC);
+				os.writeLong(offset);
+				os.writeLong(rowCount);
+				os.writeBoolean(afterCr);
+			} finally {
+				os.close();
+			}
+			if (!tmp.renameTo(checkpointFile)) {
+				if (!checkpointFile.delete() || !tmp.renameTo(checkpointFile)) {
+					throw new IOException("Could not rename " + tmp + " to " + checkpointFile);
+				}
+			}
+		}
+
+		/**
+		 * @param checkpointFile the file
+		 * @return the checkpoint, null if the file does not exist or is not a checkpoint
+		 * @throws IOException if an error occurs
+		 */
+		public static Checkpoint read(File checkpointFile) throws IOException {
+			if (!checkpointFile.exists()) return null;
+			DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(checkpointFile)));
+			try {
+				if (is.readInt() != MAGIC) return null;
+				return new Checkpoint(is.readLong(), is.readLong(), is.readBoolean());
+			} catch (EOFException e) {
+				return null;
+			} finally {
+				is.close();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "Checkpoint{" +
+					"offset=" + offset +
+					", rowCount=" + rowCount +
+					", afterCr=" + afterCr +
+					'}';
+		}
+	}
+}
@@ -1,11 +1,15 @@
 package org.simpleflatmapper.lightningcsv;
 
+import org.simpleflatmapper.lightningcsv.impl.CsvRowScanner;
 import org.simpleflatmapper.lightningcsv.parser.CharConsumerFactory;
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
+import org.simpleflatmapper.lightningcsv.parser.AppendCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.CharSequenceCharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjection;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjectionCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.NoopCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.ReaderCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
@@ -131,6 +135,14 @@ public final class CsvParser {
 		return dsl().limit(limit);
 	}
 
+	public static DSL columns(int... columns) {
+		return dsl().columns(columns);
+	}
+
+	public static DSL columns(String... columns) {
+		return dsl().columns(columns);
+	}
+
 	/**
 	 * @param reader the reader
 	 * @return a csv reader based on the default setup.
@@ -196,10 +208,15 @@ public final class CsvParser {
 		return newReader(file, DEFAULT_CHARSET);
 	}
 	private static Reader newReader(File file, Charset charset) throws IOException {
+		return newReader(file, charset, 0);
+	}
+
+	private static Reader newReader(File file, Charset charset, long position) throws IOException {
 		//IFJAVA8_START
 		if (true) {
 			FileChannel fileChannel = FileChannel.open(file.toPath());
 			try {
+				fileChannel.position(position);
 				return Channels.newReader(fileChannel, charset.newDecoder(), -1);
 			} catch(Throwable e) {
 				safeClose(fileChannel);
@@ -208,7 +225,7 @@ public final class CsvParser {
 		}
 		//IFJAVA8_END
 		
-		return newReaderJava6(file, charset);
+		return newReaderJava6(file, charset, position);
 	}
 
 	private static void safeClose(Closeable closeable) {
@@ -220,12 +237,13 @@ public final class CsvParser {
 		}
 	}
 
-	private static Reader newReaderJava6(File file, Charset charset) throws IOException {
+	private static Reader newReaderJava6(File file, Charset charset, long position) throws IOException {
 		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
 		FileChannel fileChannel = null;
 		
 		try {
 			fileChannel = randomAccessFile.getChannel();
+			fileChannel.position(position);
 			return Channels.newReader(fileChannel, charset.newDecoder(), -1);
 		} catch(RuntimeException t) {
 			safeClose(fileChannel);
@@ -271,6 +289,9 @@ public final class CsvParser {
 		protected final boolean yamlComment;
 		protected final boolean parallelReader;
 		protected final boolean specialisedCharConsumer;
+		protected final ColumnProjection columnProjection;
+
+		private final ThreadLocal<CsvReader> reusableReaders = new ThreadLocal<CsvReader>();
 		
 		protected enum StringPostProcessing { NONE, UNESCAPE, TRIM_AND_UNESCAPE}
 
@@ -287,9 +308,10 @@ public final class CsvParser {
 			yamlComment = false;
 			parallelReader = false;
 			specialisedCharConsumer = true;
+			columnProjection = null;
 		}
 
-		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
+		protected AbstractDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, ColumnProjection columnProjection) {
 			this.separatorChar = separatorChar;
 			this.quoteChar = quoteChar;
 			this.escapeChar = escapeChar;
@@ -302,6 +324,7 @@ public final class CsvParser {
 			this.yamlComment = yamlComment;
 			this.parallelReader = parallelReader;
 			this.specialisedCharConsumer = specialisedCharConsumer;
+			this.columnProjection = columnProjection;
 		}
 
 		/**
@@ -353,6 +376,40 @@ public final class CsvParser {
 			return reader(charBuffer(parallelReader ? new ParallelReader(reader) : reader));
 		}
 
+		/**
+		 * Create a CsvReader on the specified reader reusing the buffers of the CsvReader released to the current thread by this DSL instance.
+		 * Avoids the allocation of the buffers and the char consumer when parsing a lot of small contents, the DSL needs to be cached for the reader to be reused.
+		 * The returned CsvReader is owned by the caller until it is passed to {@link #releaseReusableReader(CsvReader)},
+		 * a call made in between on the same thread - from a callback for example - gets a new CsvReader.
+		 * @param reader the content
+		 * @return a CsvReader on the reader.
+		 * @throws IOException if an io error occurs
+		 */
+		public final CsvReader reusableReader(Reader reader) throws IOException {
+			Reader r = parallelReader ? new ParallelReader(reader) : reader;
+			CsvReader csvReader = reusableReaders.get();
+			if (csvReader == null) {
+				return reader(new ReaderCharBuffer(bufferSize, maxBufferSize, r));
+			}
+			reusableReaders.set(null);
+			csvReader.reset(r);
+			csvReader.skipRows(skip);
+			if (columnProjection != null) {
+				columnProjection.apply(csvReader.columnProjection());
+			}
+			return csvReader;
+		}
+
+		/**
+		 * Give back to the current thread a CsvReader returned by {@link #reusableReader(Reader)}, it must not be used afterwards.
+		 * The reference to the content is dropped and the buffer shrunk back to its initial size if it grew.
+		 * @param csvReader the reader
+		 */
+		public final void releaseReusableReader(CsvReader csvReader) {
+			csvReader.release();
+			reusableReaders.set(csvReader);
+		}
+
 		public final CsvReader reader(CharSequence content) throws IOException {
 			return reader(charBuffer(content));
 		}
@@ -362,11 +419,56 @@ public final class CsvParser {
 		}
 
 		private CsvReader reader(CharBuffer charBuffer) throws IOException {
+			return reader(charBuffer, skip, columnProjection);
+		}
+
+		private CsvReader reader(CharBuffer charBuffer, int skip, ColumnProjection columnProjection) throws IOException {
+			if (columnProjection != null) {
+				return projectedReader(charBuffer, skip, columnProjection);
+			}
 			CsvReader csvReader = new CsvReader(charConsumer(charBuffer), cellConsumerWrapper);
 			csvReader.skipRows(skip);
 			return csvReader;
 		}
 
+		private CsvReader projectedReader(CharBuffer charBuffer, int skip, ColumnProjection columnProjection) throws IOException {
+			final TextFormat textFormat = getTextFormat();
+			ColumnProjectionCellPreProcessor cellTransformer =
+					columnProjection.newCellPreProcessor(
+							getCellTransformer(textFormat, stringPostProcessing),
+							defaultCellTransformer(textFormat, stringPostProcessing),
+							charBuffer);
+
+			CsvReader csvReader = new CsvReader(CHAR_CONSUMER_FACTORY.newCharConsumer(textFormat, charBuffer, cellTransformer, specialisedCharConsumer), cellConsumerWrapper, cellTransformer);
+			csvReader.skipRows(skip);
+			columnProjection.apply(cellTransformer);
+			return csvReader;
+		}
+
+		/**
+		 * read the header of the file, the first row after the skipped rows, to resolve a projection by names to
+		 * the indexes of the columns.
+		 */
+		private ColumnProjection resolveProjection(File file, ColumnProjection columnProjection) throws IOException {
+			Reader reader = newReader(file, DEFAULT_CHARSET);
+			try {
+				CharBuffer charBuffer = charBuffer(reader);
+				final TextFormat textFormat = getTextFormat();
+				ColumnProjectionCellPreProcessor cellTransformer =
+						columnProjection.newCellPreProcessor(
+								getCellTransformer(textFormat, stringPostProcessing),
+								defaultCellTransformer(textFormat, stringPostProcessing),
+								charBuffer);
+				CsvReader csvReader = new CsvReader(CHAR_CONSUMER_FACTORY.newCharConsumer(textFormat, charBuffer, cellTransformer, specialisedCharConsumer), cellConsumerWrapper, cellTransformer);
+				csvReader.skipRows(skip);
+				columnProjection.apply(cellTransformer);
+				csvReader.skipRows(1);
+				return ColumnProjection.indexes(cellTransformer.selectedColumns());
+			} finally {
+				reader.close();
+			}
+		}
+
 		protected CharBuffer charBuffer(Reader reader) throws IOException {
 			return new ReaderCharBuffer(bufferSize, maxBufferSize, reader);
 		}
@@ -383,6 +485,123 @@ public final class CsvParser {
 			return onReader(file, this, CREATE_CLOSEABLE_CSV_READER);
 		}
 
+		/**
+		 * Create a CsvReader positioned on the specified row of the file.
+		 * If an up to date sidecar {@link CsvRowIndex} exists the reader seeks to the closest indexed row,
+		 * otherwise the previous rows are parsed and skipped.
+		 * The skip setting is ignored, the row number is counted from the start of the file.
+		 * A projection by names is resolved on the header, the first row after the skipped rows, before seeking.
+		 * The sidecar index is not used with trimSpaces or the yaml comments as it does not follow those settings.
+		 * @param file the file
+		 * @param fromRow the row number, starting at 0, empty lines are counted as rows
+		 * @return a CsvReader on the file
+		 * @throws IOException if an io error occurs
+		 * @see #rowIndex(File, int)
+		 */
+		public final CloseableCsvReader reader(File file, long fromRow) throws IOException {
+			CsvRowIndex index = rowIndexSupported() ? CsvRowIndex.readSidecar(file, separatorChar, quoteChar, escapeChar) : null;
+			if (index != null) {
+				return reader(index, fromRow);
+			}
+			return readerAt(file, 0, fromRow);
+		}
+
+		/**
+		 * Create a CsvReader positioned on the specified row of the indexed file.
+		 * The index does not follow trimSpaces nor the yaml comments, those settings are not supported.
+		 * @param index the index of the file
+		 * @param fromRow the row number, starting at 0, empty lines are counted as rows
+		 * @return a CsvReader on the file
+		 * @throws IOException if an io error occurs
+		 * @throws UnsupportedOperationException if trimSpaces or the yaml comments are enabled
+		 */
+		public final CloseableCsvReader reader(CsvRowIndex index, long fromRow) throws IOException {
+			checkRowIndexSupported();
+			if (index.separator() != separatorChar || index.quote() != quoteChar || index.escape() != escapeChar) {
+				throw new IllegalArgumentException("Index " + index + " was not built with the same separator, quote and escape characters");
+			}
+			if (fromRow < 0) throw new IllegalArgumentException("Invalid row " + fromRow);
+			if (index.checkpointCount() == 0) {
+				return readerAt(index.getFile(), 0, fromRow);
+			}
+			int checkpoint = index.checkpoint(fromRow);
+			return readerAt(index.getFile(), index.checkpointOffset(checkpoint), fromRow - ((long) checkpoint) * index.rowsPerCheckpoint());
+		}
+
+		private CloseableCsvReader readerAt(File file, long offset, long rowsToSkip) throws IOException {
+			ColumnProjection projection = columnProjection != null && columnProjection.isByNames()
+					? resolveProjection(file, columnProjection)
+					: columnProjection;
+			Reader reader = newReader(file, DEFAULT_CHARSET, offset);
+			try {
+				CsvReader csvReader = reader(charBuffer(parallelReader ? new ParallelReader(reader) : reader), 0, projection);
+				while (rowsToSkip > 0) {
+					int n = (int) Math.min(rowsToSkip, Integer.MAX_VALUE);
+					csvReader.skipRows(n);
+					rowsToSkip -= n;
+				}
+				return new CloseableCsvReader(csvReader, reader);
+			} catch (IOException e) {
+				try { reader.close(); } catch(IOException ioe2) { /* ignore*/ }
+				throw e;
+			}
+		}
+
+		/**
+		 * Scan the file and index the byte offset of every rowsPerCheckpoint-th row.
+		 * The index can be stored next to the file with {@link CsvRowIndex#writeSidecar()} to be picked up by {@link #reader(File, long)}.
+		 * The index does not follow trimSpaces nor the yaml comments, those settings are not supported.
+		 * @param file the file
+		 * @param rowsPerCheckpoint the number of rows between 2 indexed offsets
+		 * @return the index
+		 * @throws IOException if an io error occurs
+		 * @throws UnsupportedOperationException if trimSpaces or the yaml comments are enabled
+		 */
+		public final CsvRowIndex rowIndex(File file, int rowsPerCheckpoint) throws IOException {
+			checkRowIndexSupported();
+			return CsvRowIndex.build(file, separatorChar, quoteChar, escapeChar, rowsPerCheckpoint);
+		}
+
+		private boolean rowIndexSupported() {
+			return !yamlComment && stringPostProcessing != StringPostProcessing.TRIM_AND_UNESCAPE;
+		}
+
+		private void checkRowIndexSupported() {
+			if (!rowIndexSupported()) {
+				throw new UnsupportedOperationException("The row index does not support trimSpaces nor yaml comments");
+			}
+		}
+
+		/**
+		 * Create a CsvFileFollower that parses the rows as they are appended to the file.
+		 * The skip and limit settings are ignored.
+		 * @param file the file
+		 * @return a CsvFileFollower starting at the beginning of the file
+		 * @throws IOException if an io error occurs
+		 */
+		public final CsvFileFollower follow(File file) throws IOException {
+			return follow(file, null);
+		}
+
+		/**
+		 * Create a CsvFileFollower that parses the rows as they are appended to the file and stores its position in
+		 * the checkpoint file after each poll. If the checkpoint file exists the follower resumes after the last parsed row.
+		 * The skip and limit settings are ignored.
+		 * @param file the file
+		 * @param checkpointFile the file to store the checkpoint in, null for no checkpoint
+		 * @return a CsvFileFollower
+		 * @throws IOException if an io error occurs
+		 */
+		public final CsvFileFollower follow(File file, File checkpointFile) throws IOException {
+			CsvFileFollower.Checkpoint checkpoint = checkpointFile != null ? CsvFileFollower.Checkpoint.read(checkpointFile) : null;
+			AppendCharBuffer charBuffer = new AppendCharBuffer(bufferSize, maxBufferSize);
+			return new CsvFileFollower(file, DEFAULT_CHARSET,
+					new CsvRowScanner(separatorChar, quoteChar, escapeChar),
+					charConsumer(charBuffer), charBuffer,
+					cellConsumerWrapper, checkpoint, checkpointFile,
+					bufferSize, maxBufferSize);
+		}
+
 		public final Iterator<String[]> iterator(Reader reader) throws IOException {
 			return reader(reader).iterator();
 		}
@@ -508,6 +727,10 @@ public final class CsvParser {
 		}
 
 		protected CellPreProcessor getCellTransformer(TextFormat textFormat, StringPostProcessing stringPostProcessing) {
+			return defaultCellTransformer(textFormat, stringPostProcessing);
+		}
+
+		private CellPreProcessor defaultCellTransformer(TextFormat textFormat, StringPostProcessing stringPostProcessing) {
 			switch (stringPostProcessing) {
 				case TRIM_AND_UNESCAPE:
 					return new TrimCellPreProcessor(getUnescapeCellTransformer(textFormat));
@@ -548,6 +771,10 @@ public final class CsvParser {
 			return quoteChar;
 		}
 
+		public final ColumnProjection columnProjection() {
+			return columnProjection;
+		}
+
 
 		/**
 		 * set the separator character. the default value is ','.
@@ -555,7 +782,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D separator(char c) {
-			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(c, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		/**
@@ -564,7 +791,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D quote(char c) {
-			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, c, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		/**
@@ -573,7 +800,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D escape(char c) {
-			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, c, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		/**
@@ -582,7 +809,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D bufferSize(int size) {
-			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, size, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		/**
@@ -591,7 +818,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D skip(int skip) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		/**
@@ -600,7 +827,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D limit(int limit) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 
@@ -616,7 +843,7 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D parallelReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, true, specialisedCharConsumer, columnProjection);
 		}
 		
 		/**
@@ -624,24 +851,53 @@ public final class CsvParser {
 		 * @return this
 		 */
 		public D serialReader() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, false, specialisedCharConsumer, columnProjection);
 		}
 		
 		public D disableSpecialisedCharConsumer() {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, false, columnProjection);
 		}
 		
+		/**
+		 * only pass the cells of the specified columns, the other cells are skipped without being unescaped.
+		 * The cells keep the order of the row, the consumer sees a row containing only the selected columns.
+		 * @param columns the indexes of the columns to keep, starting at 0
+		 * @return this
+		 */
+		public D columns(int... columns) {
+			return columnProjection(ColumnProjection.indexes(columns));
+		}
+
+		/**
+		 * only pass the cells of the specified columns, the columns are resolved on the header row following the skipped rows.
+		 * The header is passed to the consumer with only the selected columns.
+		 * @param columns the names of the columns to keep
+		 * @return this
+		 */
+		public D columns(String... columns) {
+			return columnProjection(ColumnProjection.names(columns));
+		}
+
+		/**
+		 * set the column projection, {@link ColumnProjection#ALL} allows to narrow the selection on the CsvReader while parsing.
+		 * @param columnProjection the projection, null to disable the projection
+		 * @return this
+		 */
+		public D columnProjection(ColumnProjection columnProjection) {
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
+		}
+
 		/**
 		 * set the maximum size of the content the parser will handle before failing to avoid OOM.
 		 * @param maxBufferSize the maximum size the buffer will grow, default 8M
 		 * @return this
 		 */
 		public D maxBufferSize(int maxBufferSize) {
-			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return newDSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 
-		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer);
+		protected abstract D newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, ColumnProjection columnProjection);
 
 
 	}
@@ -654,14 +910,14 @@ public final class CsvParser {
 		protected DSL() {
 		}
 
-		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 
 
 		public DSL trimSpaces() {
-            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+            return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.TRIM_AND_UNESCAPE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
         }
 
 		/**
@@ -678,7 +934,7 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, null, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		/**
@@ -695,16 +951,16 @@ public final class CsvParser {
 							return new YamlCellPreProcessor.YamlCellConsumer(cellConsumer, cellConsumer, getCellTransformer(textFormat, stringPostProcessing));
 						}
 					},
-					true, parallelReader, specialisedCharConsumer);
+					true, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		public DSL disableUnescaping() {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, StringPostProcessing.NONE, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		@Override
-		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSL newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, ColumnProjection columnProjection) {
+			return new DSL(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 	}
@@ -712,8 +968,8 @@ public final class CsvParser {
 
     public static final class DSLYamlComment extends AbstractDSL<DSLYamlComment> {
 
-		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, ColumnProjection columnProjection) {
+			super(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 		private CsvReader rawReader(CharBuffer charBuffer) throws IOException {
@@ -779,8 +1035,8 @@ public final class CsvParser {
 
 
 		@Override
-		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer) {
-			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer);
+		protected DSLYamlComment newDSL(char separatorChar, char quoteChar, char escapeChar, int bufferSize, int skip, int limit, int maxBufferSize, StringPostProcessing stringPostProcessing, org.simpleflatmapper.util.Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, boolean yamlComment, boolean parallelReader, boolean specialisedCharConsumer, ColumnProjection columnProjection) {
+			return new DSLYamlComment(separatorChar, quoteChar, escapeChar, bufferSize, skip, limit, maxBufferSize, stringPostProcessing, cellConsumerWrapper, yamlComment, parallelReader, specialisedCharConsumer, columnProjection);
 		}
 
 	}
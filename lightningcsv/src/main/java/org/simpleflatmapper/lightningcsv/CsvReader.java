@@ -5,7 +5,9 @@ import org.simpleflatmapper.lightningcsv.impl.CellConsumerFixLengthToCheckConsum
 import org.simpleflatmapper.lightningcsv.parser.AbstractCharConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CellConsumer;
 import org.simpleflatmapper.lightningcsv.parser.CharBuffer;
+import org.simpleflatmapper.lightningcsv.parser.ColumnProjectionCellPreProcessor;
 import org.simpleflatmapper.lightningcsv.parser.NullCellConsumer;
+import org.simpleflatmapper.lightningcsv.parser.ReaderCharBuffer;
 import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.ErrorHelper;
@@ -13,6 +15,7 @@ import org.simpleflatmapper.util.Function;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 //IFJAVA8_START
@@ -30,13 +33,32 @@ public final class CsvReader implements Iterable<String[]> {
 
 	private final Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper;
 
+	private final ColumnProjectionCellPreProcessor columnProjection;
+
 	public CsvReader(AbstractCharConsumer charConsumer) {
 		this(charConsumer, null);
 	}
 
 	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper) {
+		this(charConsumer, cellConsumerWrapper, null);
+	}
+
+	public CsvReader(AbstractCharConsumer charConsumer, Function<? super CellConsumer, ? extends CellConsumer> cellConsumerWrapper, ColumnProjectionCellPreProcessor columnProjection) {
 		this.consumer = charConsumer;
 		this.cellConsumerWrapper = cellConsumerWrapper;
+		this.columnProjection = columnProjection;
+	}
+
+	/**
+	 * narrow the cells passed to the cell consumers to the specified columns, the other cells are skipped without being unescaped.
+	 * The cells are still passed in the order of the row so the consumer sees a dense row.
+	 * @param columns the indexes of the columns to keep, relative to the cells currently passed to the consumer
+	 * @return false if the reader was not created with a column projection and the call has no effect
+	 */
+	public boolean projectColumns(int... columns) {
+		if (columnProjection == null) return false;
+		columnProjection.projectColumns(columns);
+		return true;
 	}
 
 	/**
@@ -123,6 +145,40 @@ public final class CsvReader implements Iterable<String[]> {
 		return consumer.charBuffer();
 	}
 
+	/**
+	 * restart the parsing on the specified reader, the buffers are retained.
+	 * The column projection is cleared, the rows to skip are not skipped.
+	 * @param reader the new reader
+	 * @throws UnsupportedOperationException if the CsvReader was not created on a Reader
+	 * @see CsvParser.AbstractDSL#reusableReader(java.io.Reader)
+	 */
+	public void reset(Reader reader) {
+		CharBuffer charBuffer = consumer.charBuffer();
+		if (!(charBuffer instanceof ReaderCharBuffer)) {
+			throw new UnsupportedOperationException("Cannot reset a CsvReader on a " + charBuffer.getClass().getSimpleName());
+		}
+		((ReaderCharBuffer) charBuffer).reset(reader);
+		consumer.reset();
+		if (columnProjection != null) {
+			columnProjection.reset();
+		}
+	}
+
+	/**
+	 * discard the content and the reader, the grown buffer is released.
+	 */
+	void release() {
+		((ReaderCharBuffer) consumer.charBuffer()).release();
+		consumer.reset();
+		if (columnProjection != null) {
+			columnProjection.reset();
+		}
+	}
+
+	ColumnProjectionCellPreProcessor columnProjection() {
+		return columnProjection;
+	}
+
 	@Override
 	public Iterator<String[]> iterator() {
 		return new CsvStringArrayIterator(this);
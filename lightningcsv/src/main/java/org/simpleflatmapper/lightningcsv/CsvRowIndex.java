@@ -0,0 +1,298 @@
+package org.simpleflatmapper.lightningcsv;
+
+import org.simpleflatmapper.lightningcsv.impl.CsvRowScanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Byte offsets of every n-th row start of a csv file, allow a reader to seek to a row without parsing the previous ones.
+ * <p>
+ * The index is built by scanning the bytes of the file, it follows the quoting rules of the parser so that a new line
+ * in a quoted cell does not start a row. A row start is always outside of a quoted area, the offset is enough to
+ * restart the parser. The file needs to be in a charset where the separator, quote, escape and end of line characters
+ * are encoded as a single byte and can't be part of a multi-bytes character, ie UTF-8 or ISO-8859-*.
+ * <p>
+ * The index can be stored in a sidecar file next to the csv, the offsets are delta encoded as var longs.
+ * <pre>
+ *     CsvRowIndex index = CsvParser.dsl().rowIndex(file, 4096);
+ *     index.writeSidecar();
+ *     ...
+ *     CloseableCsvReader reader = CsvParser.dsl().reader(file, 1000000);
+ * </pre>
+ */
+public final class CsvRowIndex {
+
+	public static final int DEFAULT_ROWS_PER_CHECKPOINT = 4096;
+	public static final String SIDECAR_SUFFIX = ".sfmidx";
+
+	private static final int MAGIC = 0x53464d49;
+	private static final int VERSION = 1;
+
+	private final File file;
+	private final long fileLength;
+	private final long fileLastModified;
+	private final char separatorChar;
+	private final char quoteChar;
+	private final char escapeChar;
+	private final int rowsPerCheckpoint;
+	private final long rowCount;
+	private final long[] offsets;
+
+	private CsvRowIndex(File file, long fileLength, long fileLastModified, char separatorChar, char quoteChar, char escapeChar, int rowsPerCheckpoint, long rowCount, long[] offsets) {
+		this.file = file;
+		this.fileLength = fileLength;
+		this.fileLastModified = fileLastModified;
+		this.separatorChar = separatorChar;
+		this.quoteChar = quoteChar;
+		this.escapeChar = escapeChar;
+		this.rowsPerCheckpoint = rowsPerCheckpoint;
+		this.rowCount = rowCount;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * scan the file and record the offset of every rowsPerCheckpoint-th row.
+	 * @param file the csv file
+	 * @param separatorChar the separator
+	 * @param quoteChar the quote
+	 * @param escapeChar the escape char
+	 * @param rowsPerCheckpoint the number of rows between 2 recorded offsets
+	 * @return the index
+	 * @throws IOException if an error occurs reading the file
+	 */
+	public static CsvRowIndex build(File file, char separatorChar, char quoteChar, char escapeChar, int rowsPerCheckpoint) throws IOException {
+		if (rowsPerCheckpoint <= 0) throw new IllegalArgumentException("rowsPerCheckpoint needs to be strictly positive " + rowsPerCheckpoint);
+		CsvRowScanner scanner = new CsvRowScanner(separatorChar, quoteChar, escapeChar);
+
+		long fileLength = file.length();
+		long lastModified = file.lastModified();
+
+		long[] offsets = new long[16];
+		int nbOffsets = 0;
+		long rowCount = 0;
+
+		boolean rowStartPending = true;
+
+		long position = 0;
+		byte[] buffer = new byte[1 << 16];
+		InputStream is = new FileInputStream(file);
+		try {
+			int n;
+			while ((n = is.read(buffer)) != -1) {
+				int i = 0;
+				while (i < n) {
+					if (rowStartPending) {
+						i = scanner.skipLf(buffer, i, n);
+						if (i == n) break;
+						if (rowCount % rowsPerCheckpoint == 0) {
+							if (nbOffsets == offsets.length) {
+								offsets = Arrays.copyOf(offsets, nbOffsets * 2);
+							}
+							offsets[nbOffsets++] = position + i;
+						}
+						rowCount++;
+						rowStartPending = false;
+					}
+					int end = scanner.endOfRow(buffer, i, n);
+					if (end == -1) break;
+					i = end;
+					rowStartPending = true;
+				}
+				position += n;
+			}
+		} finally {
+			is.close();
+		}
+
+		return new CsvRowIndex(file, fileLength, lastModified, separatorChar, quoteChar, escapeChar, rowsPerCheckpoint, rowCount, Arrays.copyOf(offsets, nbOffsets));
+	}
+
+	/**
+	 * @param csvFile the csv file
+	 * @return the default sidecar file of the csv file
+	 */
+	public static File sidecarFile(File csvFile) {
+		return new File(csvFile.getPath() + SIDECAR_SUFFIX);
+	}
+
+	/**
+	 * @param csvFile the csv file
+	 * @param separatorChar the separator the index needs to be built with
+	 * @param quoteChar the quote the index needs to be built with
+	 * @param escapeChar the escape char the index needs to be built with
+	 * @return the index stored in the sidecar file, null if the sidecar does not exist or is not up to date with the csv file
+	 * @throws IOException if an error occurs reading the sidecar
+	 */
+	public static CsvRowIndex readSidecar(File csvFile, char separatorChar, char quoteChar, char escapeChar) throws IOException {
+		File sidecar = sidecarFile(csvFile);
+		if (!sidecar.exists()) return null;
+		CsvRowIndex index = read(sidecar, csvFile);
+		if (index == null
+				|| !index.isUpToDate()
+				|| index.separatorChar != separatorChar
+				|| index.quoteChar != quoteChar
+				|| index.escapeChar != escapeChar) {
+			return null;
+		}
+		return index;
+	}
+
+	/**
+	 * write the index in the default sidecar file.
+	 * @throws IOException if an error occurs
+	 */
+	public void writeSidecar() throws IOException {
+		write(sidecarFile(file));
+	}
+
+	public void write(File indexFile) throws IOException {
+		DataOutputStream os = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)));
+		try {
+			os.writeInt(MAGIC);
+			os.writeByte(VERSION);
+			os.writeLong(fileLength);
+			os.writeLong(fileLastModified);
+			os.writeChar(separatorChar);
+			os.writeChar(quoteChar);
+			os.writeChar(escapeChar);
+			os.writeInt(rowsPerCheckpoint);
+			os.writeLong(rowCount);
+			os.writeInt(offsets.length);
+			long previous = 0;
+			for (long offset : offsets) {
+				writeVarLong(os, offset - previous);
+				previous = offset;
+			}
+		} finally {
+			os.close();
+		}
+	}
+
+	/**
+	 * @param indexFile the file the index was written to
+	 * @param csvFile the indexed csv file
+	 * @return the index, null if indexFile is not an index file
+	 * @throws IOException if an error occurs
+	 */
+	public static CsvRowIndex read(File indexFile, File csvFile) throws IOException {
+		DataInputStream is = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)));
+		try {
+			if (is.readInt() != MAGIC || is.readByte() != VERSION) {
+				return null;
+			}
+			long fileLength = is.readLong();
+			long fileLastModified = is.readLong();
+			char separatorChar = is.readChar();
+			char quoteChar = is.readChar();
+			char escapeChar = is.readChar();
+			int rowsPerCheckpoint = is.readInt();
+			long rowCount = is.readLong();
+			long[] offsets = new long[is.readInt()];
+			long previous = 0;
+			for (int i = 0; i < offsets.length; i++) {
+				previous += readVarLong(is);
+				offsets[i] = previous;
+			}
+			return new CsvRowIndex(csvFile, fileLength, fileLastModified, separatorChar, quoteChar, escapeChar, rowsPerCheckpoint, rowCount, offsets);
+		} catch (EOFException e) {
+			return null;
+		} finally {
+			is.close();
+		}
+	}
+
+	private static void writeVarLong(DataOutputStream os, long value) throws IOException {
+		while ((value & ~0x7FL) != 0) {
+			os.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		os.writeByte((int) value);
+	}
+
+	private static long readVarLong(DataInputStream is) throws IOException {
+		long value = 0;
+		int shift = 0;
+		int b;
+		do {
+			b = is.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		} while ((b & 0x80) != 0);
+		return value;
+	}
+
+	/**
+	 * @return true if the file has the same length and last modified time as when the index was built
+	 */
+	public boolean isUpToDate() {
+		return file.length() == fileLength && file.lastModified() == fileLastModified;
+	}
+
+	public File getFile() {
+		return file;
+	}
+
+	public int rowsPerCheckpoint() {
+		return rowsPerCheckpoint;
+	}
+
+	/**
+	 * @return the number of rows in the file, empty lines included
+	 */
+	public long rowCount() {
+		return rowCount;
+	}
+
+	public int checkpointCount() {
+		return offsets.length;
+	}
+
+	/**
+	 * @param checkpoint the checkpoint index
+	 * @return the byte offset of the row checkpoint * rowsPerCheckpoint
+	 */
+	public long checkpointOffset(int checkpoint) {
+		return offsets[checkpoint];
+	}
+
+	/**
+	 * @param row the row number, starting at 0
+	 * @return the index of the closest checkpoint before the row
+	 */
+	public int checkpoint(long row) {
+		if (row < 0) throw new IllegalArgumentException("Invalid row " + row);
+		return (int) Math.min(row / rowsPerCheckpoint, offsets.length - 1);
+	}
+
+	public char separator() {
+		return separatorChar;
+	}
+
+	public char quote() {
+		return quoteChar;
+	}
+
+	public char escape() {
+		return escapeChar;
+	}
+
+	@Override
+	public String toString() {
+		return "CsvRowIndex{" +
+				"file=" + file +
+				", rowsPerCheckpoint=" + rowsPerCheckpoint +
+				", rowCount=" + rowCount +
+				", checkpointCount=" + offsets.length +
+				'}';
+	}
+}
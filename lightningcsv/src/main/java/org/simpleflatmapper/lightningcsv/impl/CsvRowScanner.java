@@ -0,0 +1,101 @@
+package org.simpleflatmapper.lightningcsv.impl;
+
+/**
+ * Find the row boundaries in the bytes of a csv following the quoting rules of the char consumer.
+ * The state is kept between calls so the bytes can be scanned as they are read.
+ * Only works on charsets where the separator, quote, escape and end of line characters are single bytes that
+ * can't be part of a multi-bytes character, ie UTF-8 or ISO-8859-*.
+ */
+public final class CsvRowScanner {
+
+    private static final int CR = '\r';
+    private static final int LF = '\n';
+
+    private final char separatorChar;
+    private final char quoteChar;
+    private final char escapeChar;
+
+    private boolean quotedArea;
+    private boolean quoted;
+    private boolean cellData;
+    private boolean escaped;
+    private boolean lastWasCr;
+
+    public CsvRowScanner(char separatorChar, char quoteChar, char escapeChar) {
+        checkSingleByte(separatorChar);
+        checkSingleByte(quoteChar);
+        checkSingleByte(escapeChar);
+        this.separatorChar = separatorChar;
+        this.quoteChar = quoteChar;
+        this.escapeChar = escapeChar;
+    }
+
+    private static void checkSingleByte(char c) {
+        if (c >= 0x80) {
+            throw new IllegalArgumentException("Char '" + c + "' is not encoded as a single byte, cannot scan the bytes");
+        }
+    }
+
+    /**
+     * to call at the start of a row, skip the LF that completes the CR terminating the previous row.
+     * @param bytes the bytes
+     * @param from the start of the row
+     * @param to the end of the available bytes
+     * @return the index of the first byte of the row
+     */
+    public int skipLf(byte[] bytes, int from, int to) {
+        if (lastWasCr && from < to) {
+            lastWasCr = false;
+            if (bytes[from] == LF) {
+                return from + 1;
+            }
+        }
+        return from;
+    }
+
+    /**
+     * @param bytes the bytes
+     * @param from the index to resume the scan from
+     * @param to the end of the available bytes
+     * @return the index following the end of line terminating the current row, -1 if the row is not terminated in the range
+     */
+    public int endOfRow(byte[] bytes, int from, int to) {
+        boolean lQuotedArea = quotedArea;
+        boolean lQuoted = quoted;
+        boolean lCellData = cellData;
+        boolean lEscaped = escaped;
+        try {
+            for (int i = from; i < to; i++) {
+                int b = bytes[i];
+                if (lQuotedArea) {
+                    if (lEscaped) {
+                        lEscaped = false;
+                    } else if (b == escapeChar && escapeChar != quoteChar) {
+                        lEscaped = true;
+                    } else if (b == quoteChar) {
+                        lQuotedArea = false;
+                    }
+                } else if (b == separatorChar) {
+                    lCellData = false;
+                    lQuoted = false;
+                } else if (b == LF || b == CR) {
+                    lCellData = false;
+                    lQuoted = false;
+                    lastWasCr = b == CR;
+                    return i + 1;
+                } else if (b == quoteChar && (!lCellData || lQuoted)) {
+                    lQuotedArea = true;
+                    lQuoted = true;
+                } else {
+                    lCellData = true;
+                }
+            }
+            return -1;
+        } finally {
+            quotedArea = lQuotedArea;
+            quoted = lQuoted;
+            cellData = lCellData;
+            escaped = lEscaped;
+        }
+    }
+}
@@ -15,5 +15,10 @@ public abstract class AbstractCharConsumer {
     public abstract void finish(CellConsumer cellConsumer);
 
     public abstract boolean shiftAndRead(boolean keepRow) throws IOException;
+
+    /**
+     * reset the parsing state to the start of a new content, to call after the char buffer has been reset.
+     */
+    public abstract void reset();
     
 }
@@ -0,0 +1,64 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * CharBuffer fed by the caller with {@link #append(char[], int, int)} instead of pulling from a Reader.
+ * The appended chars are moved in the buffer on the next {@link #shiftAndRead(int)}.
+ */
+public final class AppendCharBuffer extends CharBuffer {
+
+	private final int maxBufferSize;
+
+	private char[] pending;
+	private int pendingSize;
+
+	public AppendCharBuffer(int bufferSize, int maxBufferSize) {
+		super(new char[bufferSize], 0);
+		this.maxBufferSize = maxBufferSize;
+		this.pending = new char[bufferSize];
+	}
+
+	public void append(char[] chars, int offset, int length) {
+		if (pendingSize + length > pending.length) {
+			pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingSize + length));
+		}
+		System.arraycopy(chars, offset, pending, pendingSize, length);
+		pendingSize += length;
+	}
+
+	@Override
+	public boolean isConstant() {
+		return false;
+	}
+
+	@Override
+	public boolean shiftAndRead(int shiftFrom) throws IOException {
+		int newSize = bufferSize - shiftFrom;
+
+		char[] lbuffer = this.buffer;
+		System.arraycopy(lbuffer, shiftFrom, lbuffer, 0, newSize);
+		cellStartMark -= shiftFrom;
+		rowStartMark -= shiftFrom;
+		bufferSize = newSize;
+
+		if (pendingSize == 0) {
+			return false;
+		}
+
+		int requiredSize = newSize + pendingSize;
+		if (requiredSize > lbuffer.length) {
+			if (requiredSize > maxBufferSize) {
+				throw new BufferOverflowException("The content in the csv cell exceed the maxSizeBuffer " + maxBufferSize + ",  "+ requiredSize  + ", see CsvParser.DSL.maxSizeBuffer(int) to change the default value");
+			}
+			lbuffer = Arrays.copyOf(lbuffer, Math.min(maxBufferSize, Math.max(lbuffer.length * 2, requiredSize)));
+			this.buffer = lbuffer;
+		}
+
+		System.arraycopy(pending, 0, lbuffer, newSize, pendingSize);
+		bufferSize = requiredSize;
+		pendingSize = 0;
+		return true;
+	}
+}
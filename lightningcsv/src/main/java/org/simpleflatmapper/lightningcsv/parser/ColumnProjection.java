@@ -0,0 +1,71 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+
+/**
+ * Immutable definition of the columns the parser passes to the cell consumer.
+ * @see ColumnProjectionCellPreProcessor
+ */
+public final class ColumnProjection {
+
+    /**
+     * all the columns are passed but the reader can be narrowed later with {@link org.simpleflatmapper.lightningcsv.CsvReader#projectColumns(int...)}.
+     */
+    public static final ColumnProjection ALL = new ColumnProjection(null, null);
+
+    private final int[] indexes;
+    private final String[] names;
+
+    private ColumnProjection(int[] indexes, String[] names) {
+        this.indexes = indexes;
+        this.names = names;
+    }
+
+    /**
+     * @param indexes the indexes of the columns to keep, starting at 0
+     * @return a projection on the specified columns
+     */
+    public static ColumnProjection indexes(int... indexes) {
+        return new ColumnProjection(indexes.clone(), null);
+    }
+
+    /**
+     * the names are resolved on the first row after the skipped rows, names not found in that header are ignored.
+     * @param names the names of the columns to keep
+     * @return a projection on the specified columns
+     */
+    public static ColumnProjection names(String... names) {
+        return new ColumnProjection(null, names.clone());
+    }
+
+    public ColumnProjectionCellPreProcessor newCellPreProcessor(CellPreProcessor delegate, CellPreProcessor headerCellPreProcessor, CharBuffer charBuffer) {
+        return new ColumnProjectionCellPreProcessor(delegate, headerCellPreProcessor, charBuffer);
+    }
+
+    /**
+     * apply the selection once the skipped rows have been consumed.
+     * @param cellPreProcessor the pre processor of the reader
+     */
+    public void apply(ColumnProjectionCellPreProcessor cellPreProcessor) {
+        if (indexes != null) {
+            cellPreProcessor.projectColumns(indexes);
+        } else if (names != null) {
+            cellPreProcessor.selectHeaders(names);
+        }
+    }
+
+    /**
+     * @return true if the columns are selected by names and need a header to be resolved
+     */
+    public boolean isByNames() {
+        return names != null;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnProjection{" +
+                "indexes=" + Arrays.toString(indexes) +
+                ", names=" + Arrays.toString(names) +
+                '}';
+    }
+}
@@ -0,0 +1,160 @@
+package org.simpleflatmapper.lightningcsv.parser;
+
+import java.util.Arrays;
+
+/**
+ * Only forward the cells of the selected columns to the delegate.
+ * The other cells are delimited by the char consumer but are not unescaped nor passed to the cell consumer.
+ * The selected cells are passed in the order of the row, the cell consumer sees a dense row.
+ * <p>
+ * The selection can be narrowed while parsing with {@link #projectColumns(int[])}, it applies from the next cell.
+ */
+public final class ColumnProjectionCellPreProcessor extends CellPreProcessor {
+
+    private final CellPreProcessor delegate;
+    private final CellPreProcessor headerCellPreProcessor;
+    private final CharBuffer charBuffer;
+
+    private boolean[] selected;
+    private int column;
+
+    private String[] headerNames;
+    private boolean headerStarted;
+    private final HeaderCellConsumer headerCellConsumer = new HeaderCellConsumer();
+
+    /**
+     * @param delegate the pre processor of the selected cells
+     * @param headerCellPreProcessor the pre processor used to read the header names in {@link #selectHeaders(String[])}
+     * @param charBuffer the char buffer of the char consumer, used to detect the start of a row
+     */
+    public ColumnProjectionCellPreProcessor(CellPreProcessor delegate, CellPreProcessor headerCellPreProcessor, CharBuffer charBuffer) {
+        this.delegate = delegate;
+        this.headerCellPreProcessor = headerCellPreProcessor;
+        this.charBuffer = charBuffer;
+    }
+
+    @Override
+    public void newCell(char[] chars, int start, int end, CellConsumer cellConsumer, int state) {
+        int c = start == charBuffer.rowStartMark ? 0 : column;
+        column = c + 1;
+
+        if ((state & ConfigurableCharConsumer.COMMENTED) != 0) {
+            delegate.newCell(chars, start, end, cellConsumer, state);
+            return;
+        }
+
+        if (headerNames != null) {
+            selectHeaderCell(chars, start, end, c, state);
+        }
+
+        boolean[] lSelected = selected;
+        if (lSelected == null || (c < lSelected.length && lSelected[c])) {
+            delegate.newCell(chars, start, end, cellConsumer, state);
+        }
+    }
+
+    private void selectHeaderCell(char[] chars, int start, int end, int c, int state) {
+        if (c == 0 && headerStarted) {
+            headerNames = null;
+            return;
+        }
+        headerStarted = true;
+        headerCellPreProcessor.newCell(chars, start, end, headerCellConsumer, state);
+        String name = headerCellConsumer.value;
+        for (String headerName : headerNames) {
+            if (headerName.equals(name)) {
+                select(c);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public boolean ignoreLeadingSpace() {
+        return delegate.ignoreLeadingSpace();
+    }
+
+    /**
+     * select the columns of the next row, which is expected to be the header, that have one of the specified names.
+     * @param names the names of the columns
+     */
+    public void selectHeaders(String[] names) {
+        selected = new boolean[0];
+        headerNames = names;
+        headerStarted = false;
+    }
+
+    /**
+     * narrow the selection to the specified columns.
+     * @param columns the indexes of the columns in the row as seen by the cell consumer, ie relative to the current selection
+     */
+    public void projectColumns(int[] columns) {
+        headerNames = null;
+        int[] visible = visibleColumns();
+        boolean[] oldSelected = selected;
+        selected = new boolean[0];
+        for (int c : columns) {
+            if (oldSelected == null) {
+                select(c);
+            } else if (c >= 0 && c < visible.length) {
+                select(visible[c]);
+            }
+        }
+    }
+
+    /**
+     * remove the selection, all the columns are passed to the delegate.
+     */
+    public void reset() {
+        selected = null;
+        headerNames = null;
+        headerStarted = false;
+        column = 0;
+    }
+
+    /**
+     * @return the indexes of the selected columns in the row, null if all the columns are selected
+     */
+    public int[] selectedColumns() {
+        return visibleColumns();
+    }
+
+    private int[] visibleColumns() {
+        boolean[] lSelected = selected;
+        if (lSelected == null) return null;
+        int[] visible = new int[lSelected.length];
+        int n = 0;
+        for (int i = 0; i < lSelected.length; i++) {
+            if (lSelected[i]) {
+                visible[n++] = i;
+            }
+        }
+        return Arrays.copyOf(visible, n);
+    }
+
+    private void select(int c) {
+        if (c < 0) return;
+        if (c >= selected.length) {
+            selected = Arrays.copyOf(selected, Math.max(c + 1, selected.length * 2));
+        }
+        selected[c] = true;
+    }
+
+    private static final class HeaderCellConsumer implements CellConsumer {
+        private String value;
+
+        @Override
+        public void newCell(char[] chars, int offset, int length) {
+            value = new String(chars, offset, length);
+        }
+
+        @Override
+        public boolean endOfRow() {
+            return true;
+        }
+
+        @Override
+        public void end() {
+        }
+    }
+}
@@ -348,6 +348,12 @@ public final class ConfigurableCharConsumer extends AbstractCharConsumer {
 		return _currentIndex > csvBuffer.cellStartMark;
 	}
 
+	@Override
+	public void reset() {
+		_currentIndex = 0;
+		_currentState = NONE;
+	}
+
 	@Override
 	public boolean shiftAndRead(boolean keepRow) throws IOException {
 		if (csvBuffer.isConstant()) return false;
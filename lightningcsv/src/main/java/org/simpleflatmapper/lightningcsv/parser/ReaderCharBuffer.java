@@ -7,16 +7,42 @@ import java.util.Arrays;
 public final class ReaderCharBuffer extends CharBuffer {
 
 	private final int maxBufferSize;
-	private final Reader reader;
+	private Reader reader;
 	private final int readSize;
 
 	public ReaderCharBuffer(final int readSize, int maxBufferLength, Reader reader) {
-		super(new char[readSize < 4096 ? readSize : readSize * 2], 0);
+		super(new char[initialBufferSize(readSize)], 0);
 		this.readSize = readSize;
 		this.maxBufferSize = maxBufferLength;
 		this.reader = reader;
 	}
 
+	/**
+	 * discard the content and read from the specified reader, the buffer is retained.
+	 * @param reader the new reader
+	 */
+	public void reset(Reader reader) {
+		this.reader = reader;
+		this.bufferSize = 0;
+		this.cellStartMark = 0;
+		this.rowStartMark = 0;
+	}
+
+	/**
+	 * discard the content and the reader, the buffer is shrunk back to its initial size if it grew.
+	 */
+	public void release() {
+		reset(null);
+		int initialBufferSize = initialBufferSize(readSize);
+		if (buffer.length > initialBufferSize) {
+			this.buffer = new char[initialBufferSize];
+		}
+	}
+
+	private static int initialBufferSize(int readSize) {
+		return readSize < 4096 ? readSize : readSize * 2;
+	}
+
 	@Override
 	public boolean isConstant() {
 		return false;
@@ -0,0 +1,105 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CsvFileFollower;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.parser.StringArrayCellConsumer;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvFileFollowerTest {
+
+	@Test
+	public void testPollOnlyCompleteRows() throws IOException {
+		File file = File.createTempFile("test", ".csv");
+		try {
+			CsvFileFollower follower = CsvParser.dsl().follow(file);
+			try {
+				ListCollector<String[]> collector = new ListCollector<String[]>();
+				StringArrayCellConsumer<ListCollector<String[]>> consumer = StringArrayCellConsumer.newInstance(collector);
+
+				assertEquals(0, follower.poll(consumer));
+
+				append(file, "a,b\r");
+				assertEquals(1, follower.poll(consumer));
+				append(file, "\n1,\"multi");
+				assertEquals(0, follower.poll(consumer));
+				append(file, "\nline\",x\n2,tw");
+				assertEquals(1, follower.poll(consumer));
+				append(file, "o,y\r\n");
+				assertEquals(1, follower.poll(consumer));
+				assertEquals(0, follower.poll(consumer));
+
+				List<String[]> rows = collector.getList();
+				assertEquals(3, rows.size());
+				assertArrayEquals(new String[] {"a", "b"}, rows.get(0));
+				assertArrayEquals(new String[] {"1", "multi\nline", "x"}, rows.get(1));
+				assertArrayEquals(new String[] {"2", "two", "y"}, rows.get(2));
+				assertEquals(3, follower.rowCount());
+			} finally {
+				follower.close();
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testResumeFromCheckpoint() throws IOException {
+		File file = File.createTempFile("test", ".csv");
+		File checkpointFile = new File(file.getPath() + ".checkpoint");
+		try {
+			append(file, "0,zero\r1,one\r");
+
+			ListCollector<String[]> collector = new ListCollector<String[]>();
+			CsvFileFollower follower = CsvParser.dsl().follow(file, checkpointFile);
+			try {
+				assertEquals(2, follower.poll(StringArrayCellConsumer.newInstance(collector)));
+				append(file, "\n2,t");
+				assertEquals(0, follower.poll(StringArrayCellConsumer.newInstance(collector)));
+			} finally {
+				follower.close();
+			}
+
+			CsvFileFollower.Checkpoint checkpoint = CsvFileFollower.Checkpoint.read(checkpointFile);
+			assertEquals(13, checkpoint.getOffset());
+			assertEquals(2, checkpoint.getRowCount());
+			assertTrue(checkpoint.isAfterCr());
+
+			append(file, "wo\n3,three\n");
+			follower = CsvParser.dsl().follow(file, checkpointFile);
+			try {
+				assertEquals(2, follower.poll(StringArrayCellConsumer.newInstance(collector)));
+				assertEquals(4, follower.rowCount());
+			} finally {
+				follower.close();
+			}
+
+			List<String[]> rows = collector.getList();
+			assertEquals(4, rows.size());
+			assertArrayEquals(new String[] {"1", "one"}, rows.get(1));
+			assertArrayEquals(new String[] {"2", "two"}, rows.get(2));
+			assertArrayEquals(new String[] {"3", "three"}, rows.get(3));
+			assertEquals(CsvParser.forEach(file, new ListCollector<String[]>()).getList().size(), rows.size());
+		} finally {
+			checkpointFile.delete();
+			file.delete();
+		}
+	}
+
+	private void append(File file, String content) throws IOException {
+		OutputStream os = new FileOutputStream(file, true);
+		try {
+			os.write(content.getBytes(CsvParser.DEFAULT_CHARSET));
+		} finally {
+			os.close();
+		}
+	}
+}
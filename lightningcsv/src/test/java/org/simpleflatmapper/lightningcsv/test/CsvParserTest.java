@@ -97,6 +97,83 @@ public class CsvParserTest {
 		assertArrayEquals(new String[] {"c"}, list.get(1));
 	}
 
+	@Test
+	public void testColumnProjectionIndexes() throws IOException {
+		String content = "a,\"b,\"\"b\"\"\",c,d\r\n" +
+				"1,\"2\",3\n" +
+				"\"4\",5,\"6\n6\",7\n" +
+				"8";
+		List<String[]> list = CsvParser.dsl().columns(2, 0).forEach(content, new ListCollector<String[]>()).getList();
+
+		assertEquals(4, list.size());
+		assertArrayEquals(new String[] {"a", "c"}, list.get(0));
+		assertArrayEquals(new String[] {"1", "3"}, list.get(1));
+		assertArrayEquals(new String[] {"4", "6\n6"}, list.get(2));
+		assertArrayEquals(new String[] {"8"}, list.get(3));
+
+		for(int bufferSize = 4; bufferSize < 20; bufferSize++) {
+			assertEquals(list.size(), CsvParser.dsl().bufferSize(bufferSize).columns(0, 2).forEach(new StringReader(content), new ListCollector<String[]>()).getList().size());
+		}
+	}
+
+	@Test
+	public void testColumnProjectionNames() throws IOException {
+		List<String[]> list = CsvParser.dsl().skip(1).columns("d", "b").trimSpaces()
+				.forEach("skipped\n a, b ,c,d\n1,2,3,4\n5,6,7,8", new ListCollector<String[]>()).getList();
+
+		assertEquals(3, list.size());
+		assertArrayEquals(new String[] {"b", "d"}, list.get(0));
+		assertArrayEquals(new String[] {"2", "4"}, list.get(1));
+		assertArrayEquals(new String[] {"6", "8"}, list.get(2));
+	}
+
+	@Test
+	public void testCsvReaderProjectColumns() throws IOException {
+		CsvReader reader = CsvParser.dsl().columns(1, 2, 3).reader("a,b,c,d\n1,2,3,4\n5,6,7,8");
+		assertArrayEquals(new String[] {"b", "c", "d"}, reader.iterator().next());
+
+		assertTrue(reader.projectColumns(0, 2));
+		Iterator<String[]> iterator = reader.iterator();
+		assertArrayEquals(new String[] {"2", "4"}, iterator.next());
+		assertArrayEquals(new String[] {"6", "8"}, iterator.next());
+		assertFalse(iterator.hasNext());
+
+		assertFalse(CsvParser.reader("a,b").projectColumns(0));
+	}
+
+	@Test
+	public void testReusableReader() throws IOException {
+		CsvParser.DSL dsl = CsvParser.dsl().skip(1).columns("c", "a").bufferSize(4);
+
+		CsvReader reader = dsl.reusableReader(new StringReader("skipped\na,b,c\n1,\"2\n2222222222\",3\n4,5,\"6"));
+		List<String[]> list = reader.read(new ListCollector<String[]>()).getList();
+		assertEquals(3, list.size());
+		assertArrayEquals(new String[] {"1", "3"}, list.get(1));
+		assertArrayEquals(new String[] {"4", "6"}, list.get(2));
+		assertTrue(reader.charBuffer().buffer.length > 4);
+
+		// not released yet, a nested call gets its own reader
+		CsvReader nested = dsl.reusableReader(new StringReader("skipped\na,b,c\n1,2,3"));
+		assertNotSame(reader, nested);
+		dsl.releaseReusableReader(reader);
+		assertEquals(4, reader.charBuffer().buffer.length);
+
+		CsvReader reused = dsl.reusableReader(new StringReader("skipped\nc,b,a\n7,8,9\n"));
+		assertSame(reader, reused);
+		list = reused.read(new ListCollector<String[]>()).getList();
+		assertEquals(2, list.size());
+		assertArrayEquals(new String[] {"c", "a"}, list.get(0));
+		assertArrayEquals(new String[] {"7", "9"}, list.get(1));
+		dsl.releaseReusableReader(reused);
+
+		try {
+			CsvParser.reader("a,b").reset(new StringReader("c,d"));
+			fail();
+		} catch (UnsupportedOperationException e) {
+			// expected
+		}
+	}
+
 	@Test
 	public void testSimpleCsQuotes() throws  IOException {
 		List<String[]> list = CsvParser.forEach("\"a\",\"b\"\n" +
@@ -0,0 +1,148 @@
+package org.simpleflatmapper.lightningcsv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.lightningcsv.CloseableCsvReader;
+import org.simpleflatmapper.lightningcsv.CsvParser;
+import org.simpleflatmapper.lightningcsv.CsvRowIndex;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvRowIndexTest {
+
+	private static final String CONTENT =
+			"id,name,comment\r\n" +
+			"0,\"zero\",\"multi\nline\"\n" +
+			"1,one,\"quoted \"\"with\"\" \r\n new line\"\r" +
+			"\n" +
+			"\n" +
+			"3,th\"ree,\n" +
+			"4,\"four, \"\"4\"\"\",é\r\n" +
+			"5,five,x\n" +
+			"6,six,\"\"\n" +
+			"7,seven,y";
+
+	@Test
+	public void testReaderFromRow() throws IOException {
+		File file = createTempCsv(CONTENT);
+		try {
+			List<String[]> rows = CsvParser.forEach(file, new ListCollector<String[]>()).getList();
+			assertEquals(9, rows.size());
+
+			for (int rowsPerCheckpoint = 1; rowsPerCheckpoint < 5; rowsPerCheckpoint++) {
+				CsvRowIndex index = CsvParser.dsl().rowIndex(file, rowsPerCheckpoint);
+				assertEquals(9, index.rowCount());
+				assertEquals((9 + rowsPerCheckpoint - 1) / rowsPerCheckpoint, index.checkpointCount());
+				for (int row = 0; row < rows.size(); row++) {
+					assertRows(rows, row, CsvParser.dsl().reader(index, row));
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testSidecar() throws IOException {
+		File file = createTempCsv(CONTENT);
+		File sidecar = CsvRowIndex.sidecarFile(file);
+		try {
+			List<String[]> rows = CsvParser.forEach(file, new ListCollector<String[]>()).getList();
+
+			assertNull(CsvRowIndex.readSidecar(file, ',', '"', '"'));
+			assertRows(rows, 5, CsvParser.dsl().reader(file, 5));
+
+			CsvRowIndex index = CsvParser.dsl().rowIndex(file, 2);
+			index.writeSidecar();
+
+			CsvRowIndex read = CsvRowIndex.readSidecar(file, ',', '"', '"');
+			assertNotNull(read);
+			assertEquals(index.rowCount(), read.rowCount());
+			assertEquals(index.checkpointCount(), read.checkpointCount());
+			for (int i = 0; i < index.checkpointCount(); i++) {
+				assertEquals(index.checkpointOffset(i), read.checkpointOffset(i));
+			}
+			assertNull(CsvRowIndex.readSidecar(file, ';', '"', '"'));
+
+			for (int row = 0; row < rows.size(); row++) {
+				assertRows(rows, row, CsvParser.dsl().reader(file, row));
+			}
+		} finally {
+			sidecar.delete();
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testReaderFromRowWithColumnNames() throws IOException {
+		File file = createTempCsv(CONTENT);
+		try {
+			List<String[]> rows = new ArrayList<String[]>();
+			for (String[] row : CsvParser.forEach(file, new ListCollector<String[]>()).getList()) {
+				rows.add(row.length < 3 ? row : new String[] { row[0], row[2] });
+			}
+
+			CsvParser.DSL dsl = CsvParser.dsl().columns("comment", "id");
+			CsvRowIndex index = dsl.rowIndex(file, 2);
+			for (int row = 0; row < rows.size(); row++) {
+				assertRows(rows, row, dsl.reader(index, row));
+				assertRows(rows, row, dsl.reader(file, row));
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void testRowIndexDoesNotSupportTrimSpaces() throws IOException {
+		File file = createTempCsv("a,b\n \"c\nd\",e\nf,g");
+		File sidecar = CsvRowIndex.sidecarFile(file);
+		try {
+			List<String[]> rows = CsvParser.dsl().trimSpaces().forEach(file, new ListCollector<String[]>()).getList();
+			assertEquals(3, rows.size());
+			try {
+				CsvParser.dsl().trimSpaces().rowIndex(file, 1);
+				fail();
+			} catch (UnsupportedOperationException e) {
+				// expected
+			}
+
+			CsvParser.dsl().rowIndex(file, 1).writeSidecar();
+			assertRows(rows, 2, CsvParser.dsl().trimSpaces().reader(file, 2));
+		} finally {
+			sidecar.delete();
+			file.delete();
+		}
+	}
+
+	private void assertRows(List<String[]> rows, int fromRow, CloseableCsvReader reader) throws IOException {
+		try {
+			Iterator<String[]> iterator = reader.iterator();
+			for (int i = fromRow; i < rows.size(); i++) {
+				assertArrayEquals("row " + i + " from " + fromRow, rows.get(i), iterator.next());
+			}
+			assertFalse(iterator.hasNext());
+		} finally {
+			reader.close();
+		}
+	}
+
+	private File createTempCsv(String content) throws IOException {
+		File file = File.createTempFile("test", ".csv");
+		OutputStream os = new FileOutputStream(file);
+		try {
+			os.write(content.getBytes(CsvParser.DEFAULT_CHARSET));
+		} finally {
+			os.close();
+		}
+		return file;
+	}
+}
@@ -37,6 +37,7 @@ import org.simpleflatmapper.converter.joda.impl.JodaReadableInstantToStringConve
 import org.simpleflatmapper.converter.joda.impl.JodaReadablePartialToStringConverter;
 import org.simpleflatmapper.converter.joda.impl.JodaTimeHelper;
 import org.simpleflatmapper.util.Consumer;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
@@ -80,24 +81,44 @@ public class JodaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, DateTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToJodaDateTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, DateTime> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToJodaDateTimeConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, Instant>(CharSequence.class, Instant.class) {
             @Override
             protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToJodaInstantConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToJodaInstantConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDate>(CharSequence.class, LocalDate.class) {
             @Override
             protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToJodaLocalDateConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToJodaLocalDateConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDateTime>(CharSequence.class, LocalDateTime.class) {
             @Override
             protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToJodaLocalDateTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToJodaLocalDateTimeConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalTime>(CharSequence.class, LocalTime.class) {
             @Override
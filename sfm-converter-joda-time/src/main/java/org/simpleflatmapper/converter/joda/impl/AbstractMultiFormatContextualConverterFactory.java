@@ -6,6 +6,7 @@ import org.simpleflatmapper.converter.AbstractContextualConverterFactory;
 import org.simpleflatmapper.converter.ContextFactoryBuilder;
 import org.simpleflatmapper.converter.ContextualConverter;
 import org.simpleflatmapper.converter.ConvertingTypes;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 
 public abstract class AbstractMultiFormatContextualConverterFactory<I, O> extends AbstractContextualConverterFactory<I, O> {
@@ -18,6 +19,7 @@ public abstract class AbstractMultiFormatContextualConverterFactory<I, O> extend
     public ContextualConverter<? super I, ? extends O> newConverter(ConvertingTypes targetedTypes, ContextFactoryBuilder contextFactoryBuilder, Object... params) {
 
         DateTimeFormatter[] dateTimeFormatters = JodaTimeHelper.getDateTimeFormatters(params);
+        NumericDatePattern[] datePatterns = JodaTimeHelper.getNumericDatePatterns(params);
 
         DateTimeZone zoneId = JodaTimeHelper.getDateTimeZoneOrDefault(params);
 
@@ -29,17 +31,27 @@ public abstract class AbstractMultiFormatContextualConverterFactory<I, O> extend
                 dateTimeFormatter.withZone(zoneId);
             }
 
-            converters[i] = newConverter(dateTimeFormatter);
+            converters[i] = newConverter(dateTimeFormatter, datePatterns[i]);
         }
 
         if (converters.length == 1) {
             return converters[0];
         } else {
-            return new MultiDateTimeFormatterConverter<I, O>(converters);
+            return new MultiDateTimeFormatterConverter<I, O>(converters, dateTimeFormatters);
         }
 
     }
 
     @SuppressWarnings("unchecked")
     protected abstract ContextualConverter<I, O> newConverter(DateTimeFormatter formatter);
+
+    /**
+     * override to create a converter that parses the fixed width numeric pattern without the formatter.
+     * @param formatter the formatter
+     * @param datePattern the numeric pattern of the formatter, null if the formatter is not a fixed width numeric pattern
+     * @return the converter
+     */
+    protected ContextualConverter<I, O> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+        return newConverter(formatter);
+    }
 }
@@ -1,21 +1,48 @@
 package org.simpleflatmapper.converter.joda.impl;
 
 import org.joda.time.DateTime;
+import org.joda.time.chrono.ISOChronology;
 import org.joda.time.format.DateTimeFormatter;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 
-public class CharSequenceToJodaDateTimeConverter implements ContextualConverter<CharSequence, DateTime> {
+public class CharSequenceToJodaDateTimeConverter implements ContextualConverter<CharSequence, DateTime>, NumericDatePatternParser<DateTime> {
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToJodaDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToJodaDateTimeConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && JodaTimeHelper.isIsoZoned(dateTimeFormatter) ? datePattern : null;
     }
 
     @Override
     public DateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            DateTime value = parseNumeric(in);
+            if (value != null) return value;
+        }
         return dateTimeFormatter.parseDateTime(String.valueOf(in));
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public DateTime parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        long millis = JodaTimeHelper.toMillis(fields, datePattern, dateTimeFormatter.getZone());
+        if (millis == Long.MIN_VALUE) return null;
+        return new DateTime(millis, ISOChronology.getInstance(dateTimeFormatter.getZone()));
+    }
 }
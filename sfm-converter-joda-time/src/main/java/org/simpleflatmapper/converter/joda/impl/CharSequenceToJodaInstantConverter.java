@@ -4,18 +4,44 @@ import org.joda.time.Instant;
 import org.joda.time.format.DateTimeFormatter;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 
-public class CharSequenceToJodaInstantConverter implements ContextualConverter<CharSequence, Instant> {
+public class CharSequenceToJodaInstantConverter implements ContextualConverter<CharSequence, Instant>, NumericDatePatternParser<Instant> {
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToJodaInstantConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToJodaInstantConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && JodaTimeHelper.isIsoZoned(dateTimeFormatter) ? datePattern : null;
     }
 
     @Override
     public Instant convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            Instant value = parseNumeric(in);
+            if (value != null) return value;
+        }
         return dateTimeFormatter.parseDateTime(String.valueOf(in)).toInstant();
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public Instant parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        long millis = JodaTimeHelper.toMillis(fields, datePattern, dateTimeFormatter.getZone());
+        if (millis == Long.MIN_VALUE) return null;
+        return new Instant(millis);
+    }
 }
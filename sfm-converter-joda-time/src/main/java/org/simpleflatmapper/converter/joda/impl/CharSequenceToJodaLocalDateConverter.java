@@ -4,18 +4,42 @@ import org.joda.time.LocalDate;
 import org.joda.time.format.DateTimeFormatter;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 
-public class CharSequenceToJodaLocalDateConverter implements ContextualConverter<CharSequence, LocalDate> {
+public class CharSequenceToJodaLocalDateConverter implements ContextualConverter<CharSequence, LocalDate>, NumericDatePatternParser<LocalDate> {
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToJodaLocalDateConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToJodaLocalDateConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && !datePattern.hasOffset() && dateTimeFormatter.getChronology() == null ? datePattern : null;
     }
 
     @Override
     public LocalDate convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            LocalDate value = parseNumeric(in);
+            if (value != null) return value;
+        }
         return dateTimeFormatter.parseLocalDate(String.valueOf(in));
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public LocalDate parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        return new LocalDate(fields[NumericDatePattern.YEAR], fields[NumericDatePattern.MONTH], fields[NumericDatePattern.DAY]);
+    }
 }
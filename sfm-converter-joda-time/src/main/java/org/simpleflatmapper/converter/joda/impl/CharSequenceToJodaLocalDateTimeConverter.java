@@ -4,18 +4,43 @@ import org.joda.time.LocalDateTime;
 import org.joda.time.format.DateTimeFormatter;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 
-public class CharSequenceToJodaLocalDateTimeConverter implements ContextualConverter<CharSequence, LocalDateTime> {
+public class CharSequenceToJodaLocalDateTimeConverter implements ContextualConverter<CharSequence, LocalDateTime>, NumericDatePatternParser<LocalDateTime> {
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToJodaLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToJodaLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && !datePattern.hasOffset() && dateTimeFormatter.getChronology() == null ? datePattern : null;
     }
 
     @Override
     public LocalDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            LocalDateTime value = parseNumeric(in);
+            if (value != null) return value;
+        }
         return dateTimeFormatter.parseLocalDateTime(String.valueOf(in));
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public LocalDateTime parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        return new LocalDateTime(fields[NumericDatePattern.YEAR], fields[NumericDatePattern.MONTH], fields[NumericDatePattern.DAY],
+                fields[NumericDatePattern.HOUR], fields[NumericDatePattern.MINUTE], fields[NumericDatePattern.SECOND], fields[NumericDatePattern.NANO] / 1000000);
+    }
 }
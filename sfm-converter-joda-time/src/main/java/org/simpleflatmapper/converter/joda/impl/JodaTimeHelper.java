@@ -7,6 +7,7 @@ import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.SupplierHelper;
 import org.simpleflatmapper.util.date.DateFormatSupplier;
 import org.simpleflatmapper.util.date.DefaultDateFormatSupplier;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -72,6 +73,62 @@ public final class JodaTimeHelper {
 
         return dtf.toArray(new DateTimeFormatter[0]);
     }
+    /**
+     * @param properties the properties
+     * @return the numeric patterns of the formatters returned by {@link #getDateTimeFormatters(Object...)},
+     * null for a formatter that is not specified as a fixed width numeric pattern.
+     */
+    public static NumericDatePattern[] getNumericDatePatterns(Object... properties) {
+        List<NumericDatePattern> patterns = new ArrayList<NumericDatePattern>();
+
+        DefaultDateFormatSupplier defaultDateFormatSupplier = null;
+        for(Object prop : properties) {
+            if (SupplierHelper.isSupplierOf(prop, DateTimeFormatter.class) || prop instanceof DateTimeFormatter) {
+                patterns.add(null);
+            } else if (prop instanceof DateFormatSupplier) {
+                patterns.add(NumericDatePattern.compile(((DateFormatSupplier) prop).get()));
+            } else if (prop instanceof DefaultDateFormatSupplier) {
+                defaultDateFormatSupplier = (DefaultDateFormatSupplier) prop;
+            }
+        }
+
+        if (patterns.isEmpty() && defaultDateFormatSupplier != null) {
+            patterns.add(NumericDatePattern.compile(defaultDateFormatSupplier.get()));
+        }
+
+        return patterns.toArray(new NumericDatePattern[0]);
+    }
+
+    /**
+     * @param dateTimeFormatter the formatter
+     * @return true if the formatter resolves the parsed fields in the iso chronology of its zone
+     */
+    public static boolean isIsoZoned(DateTimeFormatter dateTimeFormatter) {
+        return dateTimeFormatter.getZone() != null
+                && dateTimeFormatter.getChronology() == null
+                && !dateTimeFormatter.isOffsetParsed();
+    }
+
+    /**
+     * compute the instant of the parsed fields the same way the formatter does.
+     * @param fields the parsed fields
+     * @param datePattern the pattern
+     * @param zone the zone of the formatter
+     * @return the instant millis or Long.MIN_VALUE if the local date time is in a zone gap
+     */
+    public static long toMillis(int[] fields, NumericDatePattern datePattern, DateTimeZone zone) {
+        long millis = NumericDatePattern.toLocalEpochMillis(fields);
+        if (datePattern.hasOffset()) {
+            return millis - fields[NumericDatePattern.OFFSET_SECONDS] * 1000l;
+        }
+        int offset = zone.getOffsetFromLocal(millis);
+        millis -= offset;
+        if (offset != zone.getOffset(millis)) {
+            return Long.MIN_VALUE;
+        }
+        return millis;
+    }
+
     private static DateTimeFormatter withZone(String format, DateTimeZone zoneId) {
         return withZone(DateTimeFormat.forPattern(format), zoneId);
     }
@@ -1,17 +1,58 @@
 package org.simpleflatmapper.converter.joda.impl;
 
+import org.joda.time.chrono.ISOChronology;
+import org.joda.time.format.DateTimeFormatter;
+import org.joda.time.format.DateTimeParser;
+import org.joda.time.format.DateTimeParserBucket;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.DateFormatSignatureCache;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
+/**
+ * try the converters in reverse order, the fixed width numeric patterns that match the input length
+ * are parsed first without going through the formatter.
+ * <p>
+ * When the formatters are known, a formatter that cannot parse the structure of the input is skipped
+ * with a non throwing parseInto and the formatter that parsed an input is learned for its signature.
+ */
 public class MultiDateTimeFormatterConverter<I, O> implements ContextualConverter<I, O> {
     private final ContextualConverter<I, O>[] converters;
+    private final DateTimeFormatter[] formatters;
+    private final NumericDatePatternParser<O>[] numericParsers;
+    private final DateFormatSignatureCache signatureCache;
 
     public MultiDateTimeFormatterConverter(ContextualConverter<I, O>[] converters) {
+        this(converters, null);
+    }
+
+    /**
+     * @param converters the converters
+     * @param formatters the formatters of the converters, in the same order
+     */
+    public MultiDateTimeFormatterConverter(ContextualConverter<I, O>[] converters, DateTimeFormatter[] formatters) {
         this.converters = converters;
+        this.formatters = formatters;
+        this.numericParsers = numericParsers(converters);
+        this.signatureCache = formatters != null && converters.length <= DateFormatSignatureCache.MAX_FORMATS ? new DateFormatSignatureCache() : null;
     }
 
     @Override
     public O convert(I in, Context context) throws Exception {
+        if (in instanceof CharSequence) {
+            CharSequence cs = (CharSequence) in;
+            if (cs.length() == 0) return null;
+            for(int i = 0; i < numericParsers.length; i++) {
+                NumericDatePatternParser<O> parser = numericParsers[i];
+                if (parser.getNumericDatePattern().length() == cs.length()) {
+                    O o = parser.parseNumeric(cs);
+                    if (o != null) return o;
+                }
+            }
+            if (formatters != null) {
+                return convertWithFormatters(cs, in, context);
+            }
+        }
         for(int i = converters.length - 1; i >= 0; i--) {
             ContextualConverter<I, O> converter = converters[i];
             try {
@@ -22,4 +63,61 @@ public class MultiDateTimeFormatterConverter<I, O> implements ContextualConverte
         }
         throw new IllegalArgumentException("Unable to parse " + in);
     }
+
+    private O convertWithFormatters(CharSequence cs, I in, Context context) throws Exception {
+        long signature = 0;
+        int learned = -1;
+        boolean structuralFailures = true;
+        if (signatureCache != null) {
+            signature = DateFormatSignatureCache.signature(cs);
+            learned = signatureCache.get(signature);
+            if (learned != -1) {
+                try {
+                    return converters[learned].convert(in, context);
+                } catch (IllegalArgumentException e) {
+                    structuralFailures = false;
+                }
+            }
+        }
+
+        String str = cs.toString();
+        for(int i = converters.length - 1; i >= 0; i--) {
+            if (i == learned || !matchesStructure(formatters[i], str)) continue;
+            try {
+                O o = converters[i].convert(in, context);
+                if (structuralFailures && signatureCache != null) {
+                    signatureCache.put(signature, i);
+                }
+                return o;
+            } catch (IllegalArgumentException e) {
+                // invalid value, the structure of the input is not enough to skip this formatter
+                structuralFailures = false;
+            }
+        }
+        throw new IllegalArgumentException("Unable to parse " + in);
+    }
+
+    private static boolean matchesStructure(DateTimeFormatter formatter, String str) {
+        DateTimeParser parser = formatter.getParser();
+        if (parser == null) {
+            return true;
+        }
+        DateTimeParserBucket bucket = new DateTimeParserBucket(0, ISOChronology.getInstanceUTC(), formatter.getLocale(), formatter.getPivotYear(), formatter.getDefaultYear());
+        return parser.parseInto(bucket, str, 0) == str.length();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> NumericDatePatternParser<O>[] numericParsers(ContextualConverter<?, O>[] converters) {
+        int nb = 0;
+        NumericDatePatternParser<O>[] parsers = new NumericDatePatternParser[converters.length];
+        for(int i = converters.length - 1; i >= 0; i--) {
+            if (converters[i] instanceof NumericDatePatternParser
+                    && ((NumericDatePatternParser<O>) converters[i]).getNumericDatePattern() != null) {
+                parsers[nb++] = (NumericDatePatternParser<O>) converters[i];
+            }
+        }
+        NumericDatePatternParser<O>[] result = new NumericDatePatternParser[nb];
+        System.arraycopy(parsers, 0, result, 0, nb);
+        return result;
+    }
 }
@@ -7,10 +7,14 @@ import org.junit.Test;
 import org.simpleflatmapper.converter.ContextualConverter;
 import org.simpleflatmapper.converter.ConverterService;
 import org.simpleflatmapper.converter.EmptyContextFactoryBuilder;
+import org.simpleflatmapper.util.date.DateFormatSupplier;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.simpleflatmapper.converter.test.ConverterServiceTestHelper.testConverter;
 
@@ -107,6 +111,100 @@ public class JodaTimeConverterServiceTest {
         testConvertFromCharSequence(DateTime.now(), DateTimeFormat.forPattern("yyyyMMdd HH:mm:ss.SSSS Z"));
     }
 
+    @Test
+    public void testNumericDatePatternMatchesFormatter() throws Exception {
+        DateTimeZone zone = DateTimeZone.forID("Europe/Paris");
+        String[] dates = new String[] {
+                "2019-03-31 01:59:59.999",
+                "2019-03-31 02:30:00.000",
+                "2019-03-31 03:00:00.000",
+                "2019-10-27 02:30:00.000",
+                "2020-02-29 23:59:59.001",
+                "1900-01-01 00:00:00.000",
+                "2019-02-29 00:00:00.000",
+                "2019-01-01 24:00:00.000"
+        };
+
+        DateTimeFormatter formatter = DateTimeFormat.forPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(zone);
+        for(Class<?> target : new Class<?>[] { DateTime.class, Instant.class, LocalDate.class, LocalDateTime.class }) {
+            ContextualConverter<? super CharSequence, ?> converter =
+                    ConverterService.getInstance().findConverter(CharSequence.class, target, EmptyContextFactoryBuilder.INSTANCE, dateFormat("yyyy-MM-dd HH:mm:ss.SSS"), zone);
+            assertTrue(converter instanceof NumericDatePatternParser);
+            assertNotNull(((NumericDatePatternParser<?>) converter).getNumericDatePattern());
+
+            for(String date : dates) {
+                Object expected;
+                try {
+                    expected = parse(formatter, date, target);
+                } catch (IllegalArgumentException e) {
+                    expected = e.getClass();
+                }
+                Object actual;
+                try {
+                    actual = converter.convert(date, null);
+                } catch (IllegalArgumentException e) {
+                    actual = e.getClass();
+                }
+                assertEquals(target + " " + date, expected, actual);
+            }
+        }
+
+        DateTimeFormatter offsetFormatter = DateTimeFormat.forPattern("yyyyMMddHHmmssZ").withZone(zone);
+        ContextualConverter<? super CharSequence, ? extends DateTime> offsetConverter =
+                ConverterService.getInstance().findConverter(CharSequence.class, DateTime.class, EmptyContextFactoryBuilder.INSTANCE, dateFormat("yyyyMMddHHmmssZ"), zone);
+        assertNotNull(((NumericDatePatternParser<?>) offsetConverter).parseNumeric("20190331023000-0130"));
+        assertEquals(offsetFormatter.parseDateTime("20190331023000-0130"), offsetConverter.convert("20190331023000-0130", null));
+
+        ContextualConverter<? super CharSequence, ? extends LocalDate> multiConverter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDate.class, EmptyContextFactoryBuilder.INSTANCE,
+                        dateFormat("yyyy-MM-dd"), dateFormat("dd/MM/yyyy HH:mm"), DateTimeFormat.forPattern("yyyy"));
+        assertEquals(new LocalDate(2019, 1, 5), multiConverter.convert("2019-01-05", null));
+        assertEquals(new LocalDate(2019, 1, 5), multiConverter.convert("05/01/2019 10:30", null));
+    }
+
+    @Test
+    public void testMultiFormatLearnsFormatWithoutChangingPriority() throws Exception {
+        ContextualConverter<? super CharSequence, ? extends LocalDate> converter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDate.class, EmptyContextFactoryBuilder.INSTANCE,
+                        DateTimeFormat.forPattern("dd/MM/yyyy"), DateTimeFormat.forPattern("MM/dd/yyyy"), DateTimeFormat.forPattern("d MMM yyyy").withLocale(java.util.Locale.ENGLISH));
+
+        for(int i = 0; i < 3; i++) {
+            assertEquals(new LocalDate(2019, 1, 5), converter.convert("5 Jan 2019", null));
+            // MM/dd/yyyy has priority, dd/MM/yyyy only parses when the month is invalid
+            assertEquals(new LocalDate(2019, 12, 25), converter.convert("25/12/2019", null));
+            assertEquals(new LocalDate(2019, 5, 12), converter.convert("05/12/2019", null));
+            assertEquals(new LocalDate(2019, 12, 25), converter.convert("12/25/2019", null));
+        }
+
+        try {
+            converter.convert("2019-01-05", null);
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    private static Object parse(DateTimeFormatter formatter, String date, Class<?> target) {
+        if (target == DateTime.class) {
+            return formatter.parseDateTime(date);
+        } else if (target == Instant.class) {
+            return formatter.parseDateTime(date).toInstant();
+        } else if (target == LocalDate.class) {
+            return formatter.parseLocalDate(date);
+        } else {
+            return formatter.parseLocalDateTime(date);
+        }
+    }
+
+    private static DateFormatSupplier dateFormat(final String pattern) {
+        return new DateFormatSupplier() {
+            @Override
+            public String get() {
+                return pattern;
+            }
+        };
+    }
+
     @SuppressWarnings("unchecked")
     public void testConvertFromCharSequence(ReadableInstant date, DateTimeFormatter dateTimeFormatter) throws Exception {
         ContextualConverter<? super CharSequence, ? extends ReadableInstant> converter =
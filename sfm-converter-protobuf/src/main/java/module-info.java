@@ -4,6 +4,7 @@ module org.simpleflatmapper.converter.protobuf {
         requires org.simpleflatmapper.util;
         requires org.simpleflatmapper.converter;
         requires protobuf.java;
+        requires java.sql;
         exports org.simpleflatmapper.converter.protobuf;
 
         provides ContextualConverterFactoryProducer
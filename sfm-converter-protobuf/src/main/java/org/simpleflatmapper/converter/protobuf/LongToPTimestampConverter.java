@@ -4,13 +4,24 @@ import com.google.protobuf.Timestamp;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
 
-import java.util.concurrent.TimeUnit;
-
 public class LongToPTimestampConverter implements ContextualConverter<Long, Timestamp> {
     @Override
     public Timestamp convert(Long in, Context context) throws Exception {
         if (in == null) return null;
-        long time = in;
-        return Timestamp.newBuilder().setSeconds(time /1000).setNanos((int)TimeUnit.MILLISECONDS.toNanos(time%1000)).build();
+        return toTimestamp(in);
+    }
+
+    /**
+     * @param millis the millis since epoch
+     * @return the timestamp, the nanos are positive for a time before epoch as per the Timestamp spec
+     */
+    public static Timestamp toTimestamp(long millis) {
+        long seconds = millis / 1000;
+        int millisOfSecond = (int) (millis % 1000);
+        if (millisOfSecond < 0) {
+            seconds--;
+            millisOfSecond += 1000;
+        }
+        return Timestamp.newBuilder().setSeconds(seconds).setNanos(millisOfSecond * 1000000).build();
     }
 }
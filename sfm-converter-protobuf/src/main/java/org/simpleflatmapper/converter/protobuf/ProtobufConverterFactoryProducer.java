@@ -11,6 +11,7 @@ public class ProtobufConverterFactoryProducer extends AbstractContextualConverte
 
     @Override
     public void produce(Consumer<? super ContextualConverterFactory<?, ?>> consumer) {
+        constantConverter(consumer, java.sql.Timestamp.class, Timestamp.class, new SqlTimestampToPTimestampConverter());
         constantConverter(consumer, Date.class, Timestamp.class, new DateToPTimestampConverter());
         constantConverter(consumer, Long.class, Timestamp.class, new LongToPTimestampConverter());
     }
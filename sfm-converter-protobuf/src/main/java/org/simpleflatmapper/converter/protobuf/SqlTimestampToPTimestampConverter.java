@@ -0,0 +1,21 @@
+package org.simpleflatmapper.converter.protobuf;
+
+import com.google.protobuf.Timestamp;
+import org.simpleflatmapper.converter.Context;
+import org.simpleflatmapper.converter.ContextualConverter;
+
+/**
+ * keep the nanos of the sql timestamp that would be truncated to millis through the Date converter.
+ */
+public class SqlTimestampToPTimestampConverter implements ContextualConverter<java.sql.Timestamp, Timestamp> {
+    @Override
+    public Timestamp convert(java.sql.Timestamp in, Context context) throws Exception {
+        if (in == null) return null;
+        long millis = in.getTime();
+        long seconds = millis / 1000;
+        if (millis % 1000 < 0) {
+            seconds--;
+        }
+        return Timestamp.newBuilder().setSeconds(seconds).setNanos(in.getNanos()).build();
+    }
+}
@@ -31,4 +31,20 @@ public class ProtobufConverterServiceTest {
                 .testConverter(cal.getTime().getTime(),
                         Timestamp.newBuilder().setSeconds(cal.getTime().getTime()/1000).setNanos((int)TimeUnit.MILLISECONDS.toNanos(cal.get(Calendar.MILLISECOND))).build());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testLongBeforeEpochToTimestamp() throws Exception {
+        ConverterServiceTestHelper
+                .testConverter(-1500l,
+                        Timestamp.newBuilder().setSeconds(-2).setNanos(500000000).build());
+    }
+
+    @Test
+    public void testSqlTimestampToTimestampKeepsNanos() throws Exception {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(-1500l);
+        timestamp.setNanos(500000123);
+        ConverterServiceTestHelper
+                .testConverter(timestamp,
+                        Timestamp.newBuilder().setSeconds(-2).setNanos(500000123).build());
+    }
+}
@@ -2,22 +2,76 @@ package org.simpleflatmapper.converter.impl;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
 
 
 public class CharSequenceToDateConverter implements ContextualConverter<CharSequence, Date> {
 
     private final int contextIndex;
+    private final NumericDatePattern datePattern;
+    private final TimeZone timeZone;
 
     public CharSequenceToDateConverter(int contextIndex) {
+        this(contextIndex, null, null);
+    }
+
+    public CharSequenceToDateConverter(int contextIndex, NumericDatePattern datePattern, TimeZone timeZone) {
         this.contextIndex = contextIndex;
+        this.datePattern = datePattern;
+        this.timeZone = timeZone;
     }
 
     @Override
     public Date convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            Date date = parseNumeric(in, datePattern, timeZone);
+            if (date != null) return date;
+        }
         return ((SimpleDateFormat)context.context(contextIndex)).parse(in.toString());
     }
+
+    /**
+     * @param pattern the pattern of the format
+     * @param simpleDateFormat the format
+     * @return the numeric pattern of the format if its parsing can be done without the format, null otherwise
+     */
+    static NumericDatePattern numericDatePattern(String pattern, SimpleDateFormat simpleDateFormat) {
+        NumericDatePattern datePattern = NumericDatePattern.compile(pattern);
+        if (datePattern != null
+                // S is the number of millis not a fraction of second
+                && (datePattern.getFractionDigits() == 0 || datePattern.getFractionDigits() == 3)
+                && simpleDateFormat.getCalendar().getClass() == GregorianCalendar.class) {
+            return datePattern;
+        }
+        return null;
+    }
+
+    /**
+     * compute the date the same way the gregorian calendar of the format does.
+     * @return the date or null if the input needs to be parsed by the format
+     */
+    static Date parseNumeric(CharSequence in, NumericDatePattern datePattern, TimeZone timeZone) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        // before 1583 the calendar uses the julian calendar
+        if (!datePattern.parse(in, fields) || fields[NumericDatePattern.YEAR] < 1583) return null;
+
+        long millis = NumericDatePattern.toLocalEpochMillis(fields);
+        if (datePattern.hasOffset()) {
+            return new Date(millis - fields[NumericDatePattern.OFFSET_SECONDS] * 1000l);
+        }
+
+        int offset = timeZone.getOffset(millis - timeZone.getRawOffset());
+        millis -= offset;
+        if (offset != timeZone.getOffset(millis)) {
+            // in a daylight saving transition, let the format resolve it
+            return null;
+        }
+        return new Date(millis);
+    }
 }
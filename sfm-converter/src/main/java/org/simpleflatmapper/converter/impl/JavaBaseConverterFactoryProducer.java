@@ -17,6 +17,7 @@ import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.TypeHelper;
 import org.simpleflatmapper.util.date.DateFormatSupplier;
 import org.simpleflatmapper.util.date.DefaultDateFormatSupplier;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
@@ -88,13 +89,16 @@ public class JavaBaseConverterFactoryProducer extends AbstractContextualConverte
 						return (SimpleDateFormat) simpleDateFormat.clone();
 					}
 				});
-				return new CharSequenceToDateConverter(contextIndex);
+				return new CharSequenceToDateConverter(contextIndex, CharSequenceToDateConverter.numericDatePattern(formats.get(0), simpleDateFormat), timeZone);
 			} else {
 				final SimpleDateFormat[] simpleDateFormats = new SimpleDateFormat[formats.size()];
+				NumericDatePattern[] datePatterns = new NumericDatePattern[formats.size()];
 				for(int i = 0; i < simpleDateFormats.length; i++) {
-					final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(formats.get(simpleDateFormats.length - i - 1));
+					String format = formats.get(simpleDateFormats.length - i - 1);
+					final SimpleDateFormat simpleDateFormat = new SimpleDateFormat(format);
 					simpleDateFormat.setTimeZone(timeZone);
 					simpleDateFormats[i] = simpleDateFormat;
+					datePatterns[i] = CharSequenceToDateConverter.numericDatePattern(format, simpleDateFormat);
 				}
 				
 				int contextIndex = contextFactoryBuilder.addSupplier(new Supplier<SimpleDateFormat[]>() {
@@ -108,7 +112,7 @@ public class JavaBaseConverterFactoryProducer extends AbstractContextualConverte
 					}
 				});
 				
-				return new MultiFormatCharSequenceToDateConverter(contextIndex);
+				return new MultiFormatCharSequenceToDateConverter(contextIndex, datePatterns, timeZone);
 			}
 		}
 
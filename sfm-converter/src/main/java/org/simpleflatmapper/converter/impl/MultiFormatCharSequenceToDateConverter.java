@@ -2,33 +2,86 @@ package org.simpleflatmapper.converter.impl;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.DateFormatSignatureCache;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 import java.text.ParseException;
+import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.TimeZone;
 
 
+/**
+ * try the formats in order with the non throwing parse, a fixed width numeric pattern that matches the input length
+ * is parsed without going through its format. The format that parsed an input is learned for its signature.
+ */
 public class MultiFormatCharSequenceToDateConverter implements ContextualConverter<CharSequence, Date> {
 
     private final int contextIndex;
-    
+    private final NumericDatePattern[] datePatterns;
+    private final TimeZone timeZone;
+    private final DateFormatSignatureCache signatureCache = new DateFormatSignatureCache();
+
     public MultiFormatCharSequenceToDateConverter(int contextIndex) {
+        this(contextIndex, new NumericDatePattern[0], null);
+    }
+
+    /**
+     * @param contextIndex the index of the formats
+     * @param datePatterns the numeric patterns of the formats, in the same order, null for a format that is not a fixed width numeric pattern
+     * @param timeZone the time zone of the formats
+     */
+    public MultiFormatCharSequenceToDateConverter(int contextIndex, NumericDatePattern[] datePatterns, TimeZone timeZone) {
         this.contextIndex = contextIndex;
+        this.datePatterns = datePatterns;
+        this.timeZone = timeZone;
     }
 
     @Override
     public Date convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
-        
+
         SimpleDateFormat[] formats = context.context(contextIndex);
+        String str = in.toString();
+        boolean cacheable = formats.length <= DateFormatSignatureCache.MAX_FORMATS;
+
+        long signature = 0;
+        int learned = -1;
+        if (cacheable) {
+            signature = DateFormatSignatureCache.signature(str);
+            learned = signatureCache.get(signature);
+            if (learned != -1 && learned < formats.length) {
+                Date date = parse(learned, formats[learned], in, str);
+                if (date != null) return date;
+                cacheable = false;
+            }
+        }
+
         for(int i = 0; i < formats.length; i++) {
-            try {
-                return formats[i].parse(in.toString());
-            } catch (ParseException e) {
-                // ignore
+            if (i == learned) continue;
+            SimpleDateFormat format = formats[i];
+            Date date = parse(i, format, in, str);
+            if (date != null) {
+                if (cacheable) {
+                    signatureCache.put(signature, i);
+                }
+                return date;
             }
+            // a lenient format only fails on the structure of the input
+            cacheable &= format.isLenient();
         }
         throw new ParseException("Unable to parse date '" + in + "'", 0);
         
     }
+
+    // the numeric pattern is only tried at the priority of its format, a previous format can parse a prefix of the input
+    private Date parse(int i, SimpleDateFormat format, CharSequence in, String str) {
+        NumericDatePattern datePattern = i < datePatterns.length ? datePatterns[i] : null;
+        if (datePattern != null && datePattern.length() == in.length()) {
+            Date date = CharSequenceToDateConverter.parseNumeric(in, datePattern, timeZone);
+            if (date != null) return date;
+        }
+        return format.parse(str, new ParsePosition(0));
+    }
 }
@@ -2,21 +2,51 @@ package org.simpleflatmapper.converter.impl.time;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
-public class CharSequenceToInstantConverter implements ContextualConverter<CharSequence, Instant> {
+public class CharSequenceToInstantConverter implements ContextualConverter<CharSequence, Instant>, NumericDatePatternParser<Instant> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToInstantConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToInstantConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && datePattern.hasTime()
+                && (datePattern.hasOffset() ? JavaTimeHelper.resolvesParsedOffset(dateTimeFormatter) : dateTimeFormatter.getZone() != null) ? datePattern : null;
     }
 
     @Override
     public Instant convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            Instant instant = parseNumeric(in);
+            if (instant != null) return instant;
+        }
         return dateTimeFormatter.parse(in, Instant::from);
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public Instant parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        if (datePattern.hasOffset()) {
+            return JavaTimeHelper.toLocalDateTime(fields).toInstant(ZoneOffset.ofTotalSeconds(fields[NumericDatePattern.OFFSET_SECONDS]));
+        } else {
+            return JavaTimeHelper.toLocalDateTime(fields).atZone(dateTimeFormatter.getZone()).toInstant();
+        }
+    }
 }
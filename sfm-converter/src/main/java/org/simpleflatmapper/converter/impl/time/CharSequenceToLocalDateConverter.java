@@ -2,21 +2,45 @@ package org.simpleflatmapper.converter.impl.time;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
-public class CharSequenceToLocalDateConverter implements ContextualConverter<CharSequence, LocalDate> {
+public class CharSequenceToLocalDateConverter implements ContextualConverter<CharSequence, LocalDate>, NumericDatePatternParser<LocalDate> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToLocalDateConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToLocalDateConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && !datePattern.hasOffset() ? datePattern : null;
     }
 
     @Override
     public LocalDate convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            LocalDate localDate = parseNumeric(in);
+            if (localDate != null) return localDate;
+        }
         return LocalDate.parse(in, dateTimeFormatter);
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public LocalDate parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        return JavaTimeHelper.toLocalDate(fields);
+    }
 }
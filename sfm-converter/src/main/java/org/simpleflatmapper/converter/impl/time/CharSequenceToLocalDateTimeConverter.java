@@ -2,21 +2,45 @@ package org.simpleflatmapper.converter.impl.time;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
-public class CharSequenceToLocalDateTimeConverter implements ContextualConverter<CharSequence, LocalDateTime> {
+public class CharSequenceToLocalDateTimeConverter implements ContextualConverter<CharSequence, LocalDateTime>, NumericDatePatternParser<LocalDateTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToLocalDateTimeConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && datePattern.hasTime() && !datePattern.hasOffset() ? datePattern : null;
     }
 
     @Override
     public LocalDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            LocalDateTime localDateTime = parseNumeric(in);
+            if (localDateTime != null) return localDateTime;
+        }
         return LocalDateTime.parse(in, dateTimeFormatter);
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public LocalDateTime parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        return JavaTimeHelper.toLocalDateTime(fields);
+    }
 }
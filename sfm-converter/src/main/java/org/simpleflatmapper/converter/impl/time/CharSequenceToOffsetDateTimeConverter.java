@@ -2,21 +2,47 @@ package org.simpleflatmapper.converter.impl.time;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 
-public class CharSequenceToOffsetDateTimeConverter implements ContextualConverter<CharSequence, OffsetDateTime> {
+public class CharSequenceToOffsetDateTimeConverter implements ContextualConverter<CharSequence, OffsetDateTime>, NumericDatePatternParser<OffsetDateTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToOffsetDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToOffsetDateTimeConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && datePattern.hasTime() && datePattern.hasOffset()
+                && JavaTimeHelper.resolvesParsedOffset(dateTimeFormatter) ? datePattern : null;
     }
 
     @Override
     public OffsetDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            OffsetDateTime offsetDateTime = parseNumeric(in);
+            if (offsetDateTime != null) return offsetDateTime;
+        }
         return OffsetDateTime.parse(in, dateTimeFormatter);
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public OffsetDateTime parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        return OffsetDateTime.of(JavaTimeHelper.toLocalDateTime(fields), ZoneOffset.ofTotalSeconds(fields[NumericDatePattern.OFFSET_SECONDS]));
+    }
 }
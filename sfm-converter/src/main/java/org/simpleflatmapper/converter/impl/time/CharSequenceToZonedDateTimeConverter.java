@@ -2,21 +2,46 @@ package org.simpleflatmapper.converter.impl.time;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
-public class CharSequenceToZonedDateTimeConverter implements ContextualConverter<CharSequence, ZonedDateTime> {
+public class CharSequenceToZonedDateTimeConverter implements ContextualConverter<CharSequence, ZonedDateTime>, NumericDatePatternParser<ZonedDateTime> {
 
     private final DateTimeFormatter dateTimeFormatter;
+    private final NumericDatePattern datePattern;
 
     public CharSequenceToZonedDateTimeConverter(DateTimeFormatter dateTimeFormatter) {
+        this(dateTimeFormatter, null);
+    }
+
+    public CharSequenceToZonedDateTimeConverter(DateTimeFormatter dateTimeFormatter, NumericDatePattern datePattern) {
         this.dateTimeFormatter = dateTimeFormatter;
+        this.datePattern = datePattern != null && datePattern.hasDate() && datePattern.hasTime()
+                && !datePattern.hasOffset() && dateTimeFormatter.getZone() != null ? datePattern : null;
     }
 
     @Override
     public ZonedDateTime convert(CharSequence in, Context context) throws Exception {
         if (in == null || in.length() == 0) return null;
+        if (datePattern != null && in.length() == datePattern.length()) {
+            ZonedDateTime zonedDateTime = parseNumeric(in);
+            if (zonedDateTime != null) return zonedDateTime;
+        }
         return ZonedDateTime.parse(in, dateTimeFormatter);
     }
+
+    @Override
+    public NumericDatePattern getNumericDatePattern() {
+        return datePattern;
+    }
+
+    @Override
+    public ZonedDateTime parseNumeric(CharSequence in) {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+        if (!datePattern.parse(in, fields)) return null;
+        return JavaTimeHelper.toLocalDateTime(fields).atZone(dateTimeFormatter.getZone());
+    }
 }
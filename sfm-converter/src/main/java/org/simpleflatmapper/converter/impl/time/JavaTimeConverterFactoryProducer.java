@@ -9,6 +9,7 @@ import org.simpleflatmapper.converter.ContextualConverterFactory;
 import org.simpleflatmapper.converter.ConvertingTypes;
 import org.simpleflatmapper.converter.ToStringConverter;
 import org.simpleflatmapper.util.Consumer;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
@@ -168,6 +169,11 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToInstantConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, Instant> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToInstantConverter(formatter, datePattern);
+            }
         });
 
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDate>(CharSequence.class, LocalDate.class) {
@@ -176,6 +182,11 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToLocalDateConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalDate> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToLocalDateConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalDateTime>(CharSequence.class, LocalDateTime.class) {
             @SuppressWarnings("unchecked")
@@ -183,6 +194,11 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToLocalDateTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, LocalDateTime> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToLocalDateTimeConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, LocalTime>(CharSequence.class, LocalTime.class) {
             @SuppressWarnings("unchecked")
@@ -197,6 +213,11 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, OffsetDateTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToOffsetDateTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, OffsetDateTime> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToOffsetDateTimeConverter(formatter, datePattern);
+            }
         });
         factoryConverter(consumer, new AbstractMultiFormatContextualConverterFactory<CharSequence, OffsetTime>(CharSequence.class, OffsetTime.class) {
             @SuppressWarnings("unchecked")
@@ -225,6 +246,11 @@ public class JavaTimeConverterFactoryProducer extends AbstractContextualConverte
             protected ContextualConverter<CharSequence, ZonedDateTime> newConverter(DateTimeFormatter formatter) {
                 return new CharSequenceToZonedDateTimeConverter(formatter);
             }
+
+            @Override
+            protected ContextualConverter<CharSequence, ZonedDateTime> newConverter(DateTimeFormatter formatter, NumericDatePattern datePattern) {
+                return new CharSequenceToZonedDateTimeConverter(formatter, datePattern);
+            }
         });
 
         factoryConverter(consumer, new AbstractContextualConverterFactory<Temporal, String>(Temporal.class, String.class) {
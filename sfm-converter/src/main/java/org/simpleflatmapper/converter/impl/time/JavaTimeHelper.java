@@ -4,8 +4,13 @@ import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.SupplierHelper;
 import org.simpleflatmapper.util.date.DateFormatSupplier;
 import org.simpleflatmapper.util.date.DefaultDateFormatSupplier;
+import org.simpleflatmapper.util.date.NumericDatePattern;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +18,32 @@ import java.util.TimeZone;
 
 public final class JavaTimeHelper {
 
+    /**
+     * JDK 8 resolves the fields of a formatter with an override zone in that zone, ignoring the parsed offset, later JDKs use the offset.
+     */
+    private static final boolean OVERRIDE_ZONE_IGNORES_PARSED_OFFSET = overrideZoneIgnoresParsedOffset();
+
     private JavaTimeHelper () {}
 
+    /**
+     * The numeric fast path resolves an offset pattern with the parsed offset,
+     * it is only consistent with the formatter if the formatter does the same.
+     * @param dateTimeFormatter the formatter
+     * @return true if the formatter resolves a parsed offset as the parsed offset.
+     */
+    public static boolean resolvesParsedOffset(DateTimeFormatter dateTimeFormatter) {
+        return dateTimeFormatter.getZone() == null || !OVERRIDE_ZONE_IGNORES_PARSED_OFFSET;
+    }
+
+    private static boolean overrideZoneIgnoresParsedOffset() {
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmZ").withZone(ZoneOffset.UTC);
+            return !Instant.parse("1999-12-31T23:00:00Z").equals(Instant.from(formatter.parse("200001010000+0100")));
+        } catch (RuntimeException e) {
+            return true;
+        }
+    }
+
     public static DateTimeFormatter getDateTimeFormatter(Object... properties) {
 
         ZoneId zoneId = getZoneId(properties);
@@ -61,6 +90,32 @@ public final class JavaTimeHelper {
         return dtf.toArray(new DateTimeFormatter[0]);
     }
 
+    /**
+     * @param properties the properties
+     * @return the numeric patterns of the formatters returned by {@link #getDateTimeFormatters(Object...)},
+     * null for a formatter that is not specified as a fixed width numeric pattern.
+     */
+    public static NumericDatePattern[] getNumericDatePatterns(Object... properties) {
+        List<NumericDatePattern> patterns = new ArrayList<NumericDatePattern>();
+
+        DefaultDateFormatSupplier defaultDateFormatSupplier = null;
+        for(Object prop : properties) {
+            if (SupplierHelper.isSupplierOf(prop, DateTimeFormatter.class) || prop instanceof DateTimeFormatter) {
+                patterns.add(null);
+            } else if (prop instanceof DateFormatSupplier) {
+                patterns.add(NumericDatePattern.compile(((DateFormatSupplier) prop).get()));
+            } else if (prop instanceof DefaultDateFormatSupplier) {
+                defaultDateFormatSupplier = (DefaultDateFormatSupplier) prop;
+            }
+        }
+
+        if (patterns.isEmpty() && defaultDateFormatSupplier != null) {
+            patterns.add(NumericDatePattern.compile(defaultDateFormatSupplier.get()));
+        }
+
+        return patterns.toArray(new NumericDatePattern[0]);
+    }
+
     @SuppressWarnings("unchecked")
     private static DateTimeFormatter toDateTimeFormatter(Object prop, ZoneId zoneId) {
         if (SupplierHelper.isSupplierOf(prop, DateTimeFormatter.class)) {
@@ -110,4 +165,13 @@ public final class JavaTimeHelper {
         return null;
     }
 
+    public static LocalDate toLocalDate(int[] fields) {
+        return LocalDate.of(fields[NumericDatePattern.YEAR], fields[NumericDatePattern.MONTH], fields[NumericDatePattern.DAY]);
+    }
+
+    public static LocalDateTime toLocalDateTime(int[] fields) {
+        return LocalDateTime.of(
+                fields[NumericDatePattern.YEAR], fields[NumericDatePattern.MONTH], fields[NumericDatePattern.DAY],
+                fields[NumericDatePattern.HOUR], fields[NumericDatePattern.MINUTE], fields[NumericDatePattern.SECOND], fields[NumericDatePattern.NANO]);
+    }
 }
@@ -2,18 +2,58 @@ package org.simpleflatmapper.converter.impl.time;
 
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.converter.ContextualConverter;
+import org.simpleflatmapper.util.date.DateFormatSignatureCache;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
+import java.text.ParsePosition;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
+/**
+ * try the converters in reverse order, the fixed width numeric patterns that match the input length
+ * are parsed first without going through the formatter.
+ * <p>
+ * When the formatters are known, a formatter that cannot parse the structure of the input is skipped
+ * with a non throwing parseUnresolved and the formatter that parsed an input is learned for its signature.
+ */
 public class MultiDateTimeFormatterConverter<I, O> implements ContextualConverter<I, O> {
     private final ContextualConverter<I, O>[] converters;
+    private final DateTimeFormatter[] formatters;
+    private final NumericDatePatternParser<O>[] numericParsers;
+    private final DateFormatSignatureCache signatureCache;
 
     public MultiDateTimeFormatterConverter(ContextualConverter<I, O>[] converters) {
+        this(converters, null);
+    }
+
+    /**
+     * @param converters the converters
+     * @param formatters the formatters of the converters, in the same order
+     */
+    public MultiDateTimeFormatterConverter(ContextualConverter<I, O>[] converters, DateTimeFormatter[] formatters) {
         this.converters = converters;
+        this.formatters = formatters;
+        this.numericParsers = numericParsers(converters);
+        this.signatureCache = formatters != null && converters.length <= DateFormatSignatureCache.MAX_FORMATS ? new DateFormatSignatureCache() : null;
     }
 
     @Override
     public O convert(I in, Context context) throws Exception {
+        if (in instanceof CharSequence) {
+            CharSequence cs = (CharSequence) in;
+            if (cs.length() == 0) return null;
+            for(int i = 0; i < numericParsers.length; i++) {
+                NumericDatePatternParser<O> parser = numericParsers[i];
+                if (parser.getNumericDatePattern().length() == cs.length()) {
+                    O o = parser.parseNumeric(cs);
+                    if (o != null) return o;
+                }
+            }
+            if (formatters != null) {
+                return convertWithFormatters(cs, in, context);
+            }
+        }
         for(int i = converters.length - 1; i >= 0; i--) {
             ContextualConverter<I, O> converter = converters[i];
             try {
@@ -24,4 +64,61 @@ public class MultiDateTimeFormatterConverter<I, O> implements ContextualConverte
         }
         throw new DateTimeParseException("Unable to parse " + in,  String.valueOf(in), 0);
     }
+
+    private O convertWithFormatters(CharSequence cs, I in, Context context) throws Exception {
+        long signature = 0;
+        int learned = -1;
+        boolean structuralFailures = true;
+        if (signatureCache != null) {
+            signature = DateFormatSignatureCache.signature(cs);
+            learned = signatureCache.get(signature);
+            if (learned != -1) {
+                try {
+                    return converters[learned].convert(in, context);
+                } catch (DateTimeParseException e) {
+                    structuralFailures = false;
+                }
+            }
+        }
+
+        for(int i = converters.length - 1; i >= 0; i--) {
+            if (i == learned || !matchesStructure(formatters[i], cs)) continue;
+            try {
+                O o = converters[i].convert(in, context);
+                if (structuralFailures && signatureCache != null) {
+                    signatureCache.put(signature, i);
+                }
+                return o;
+            } catch (DateTimeParseException e) {
+                // invalid value, the structure of the input is not enough to skip this formatter
+                structuralFailures = false;
+            }
+        }
+        throw new DateTimeParseException("Unable to parse " + in,  String.valueOf(in), 0);
+    }
+
+    private static boolean matchesStructure(DateTimeFormatter formatter, CharSequence cs) {
+        ParsePosition position = new ParsePosition(0);
+        return formatter.parseUnresolved(cs, position) != null
+                && position.getErrorIndex() < 0
+                && position.getIndex() == cs.length();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <O> NumericDatePatternParser<O>[] numericParsers(ContextualConverter<?, O>[] converters) {
+        int nb = 0;
+        NumericDatePatternParser<O>[] parsers = new NumericDatePatternParser[converters.length];
+        for(int i = converters.length - 1; i >= 0; i--) {
+            if (converters[i] instanceof NumericDatePatternParser) {
+                NumericDatePatternParser<O> parser = (NumericDatePatternParser<O>) converters[i];
+                NumericDatePattern datePattern = parser.getNumericDatePattern();
+                if (datePattern != null) {
+                    parsers[nb++] = parser;
+                }
+            }
+        }
+        NumericDatePatternParser<O>[] result = new NumericDatePatternParser[nb];
+        System.arraycopy(parsers, 0, result, 0, nb);
+        return result;
+    }
 }
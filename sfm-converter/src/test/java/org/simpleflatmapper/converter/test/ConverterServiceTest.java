@@ -10,6 +10,7 @@ import org.simpleflatmapper.converter.ConverterService;
 import org.simpleflatmapper.converter.EmptyContextFactoryBuilder;
 import org.simpleflatmapper.converter.ToStringConverter;
 import org.simpleflatmapper.converter.impl.CharSequenceIntegerConverter;
+import org.simpleflatmapper.util.Supplier;
 import org.simpleflatmapper.util.date.DateFormatSupplier;
 
 import java.io.Reader;
@@ -19,10 +20,12 @@ import java.net.MalformedURLException;
 import java.net.URL;
 
 import java.net.URLClassLoader;
+import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.TimeZone;
 import java.util.UUID;
 
 import static org.junit.Assert.*;
@@ -191,4 +194,89 @@ public class ConverterServiceTest {
         assertEquals(new SimpleDateFormat("yyyyMMdd").parse("20180927"), dateConv.convert("20180927"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testDateNumericPatternMatchesSimpleDateFormat() throws Exception {
+        final TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+        String[] dates = new String[] {
+                "2019-03-31 01:59:59.999",
+                "2019-03-31 02:30:00.000",
+                "2019-03-31 03:00:00.000",
+                "2019-10-27 02:30:00.000",
+                "2019-10-27 03:00:00.000",
+                "2020-02-29 23:59:59.001",
+                "1582-10-10 00:00:00.000",
+                "1900-01-01 00:00:00.000",
+                "2019-02-29 00:00:00.000"
+        };
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        simpleDateFormat.setTimeZone(timeZone);
+
+        Supplier<TimeZone> timeZoneSupplier = new Supplier<TimeZone>() {
+            @Override
+            public TimeZone get() {
+                return timeZone;
+            }
+        };
+        Converter<? super String, ? extends Date> dateConv =
+                ConverterService.getInstance().findConverter(String.class, Date.class, dateFormat("yyyy-MM-dd HH:mm:ss.SSS"), timeZoneSupplier);
+        Converter<? super String, ? extends Date> multiDateConv =
+                ConverterService.getInstance().findConverter(String.class, Date.class, dateFormat("yyyy-MM-dd HH:mm:ss.SSS"), dateFormat("dd/MM/yyyy"), timeZoneSupplier);
+
+        for(String date : dates) {
+            assertEquals(date, simpleDateFormat.parse(date), dateConv.convert(date));
+            assertEquals(date, simpleDateFormat.parse(date), multiDateConv.convert(date));
+        }
+
+        SimpleDateFormat offsetFormat = new SimpleDateFormat("yyyyMMddHHmmssZ");
+        assertEquals(offsetFormat.parse("20190331023000-0130"),
+                ConverterService.getInstance().findConverter(String.class, Date.class, dateFormat("yyyyMMddHHmmssZ"), timeZoneSupplier).convert("20190331023000-0130"));
+
+        SimpleDateFormat shortFormat = new SimpleDateFormat("dd/MM/yyyy");
+        shortFormat.setTimeZone(timeZone);
+        assertEquals(shortFormat.parse("05/01/2019"), multiDateConv.convert("05/01/2019"));
+    }
+
+    @Test
+    public void testDateMultiFormatLearnsFormatWithoutChangingPriority() throws Exception {
+        Converter<? super String, ? extends Date> dateConv =
+                ConverterService.getInstance().findConverter(String.class, Date.class, dateFormat("yyyy-MM-dd"), dateFormat("dd MMM yyyy"), dateFormat("dd MMM yyyy HH:mm"));
+
+        for(int i = 0; i < 3; i++) {
+            assertEquals(new SimpleDateFormat("dd MMM yyyy").parse("05 Jan 2019"), dateConv.convert("05 Jan 2019"));
+            assertEquals(new SimpleDateFormat("dd MMM yyyy HH:mm").parse("05 Jan 2019 10:30"), dateConv.convert("05 Jan 2019 10:30"));
+            assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2019-01-05"), dateConv.convert("2019-01-05"));
+        }
+
+        try {
+            dateConv.convert("2019/01/05");
+            fail();
+        } catch (ParseException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testDateMultiFormatNumericPatternKeepsPriority() throws Exception {
+        Converter<? super String, ? extends Date> dateConv =
+                ConverterService.getInstance().findConverter(String.class, Date.class, dateFormat("yyyy-MM-dd HH:mm:ss"), dateFormat("yyyy-MM-dd"));
+        Converter<? super String, ? extends Date> dateTimeConv =
+                ConverterService.getInstance().findConverter(String.class, Date.class, dateFormat("yyyy-MM-dd"), dateFormat("yyyy-MM-dd HH:mm:ss"));
+
+        for(int i = 0; i < 3; i++) {
+            // the last format has the priority and parses the date prefix
+            assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2019-01-05"), dateConv.convert("2019-01-05 10:30:00"));
+            assertEquals(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").parse("2019-01-05 10:30:00"), dateTimeConv.convert("2019-01-05 10:30:00"));
+            assertEquals(new SimpleDateFormat("yyyy-MM-dd").parse("2019-01-05"), dateTimeConv.convert("2019-01-05"));
+        }
+    }
+
+    private static DateFormatSupplier dateFormat(final String pattern) {
+        return new DateFormatSupplier() {
+            @Override
+            public String get() {
+                return pattern;
+            }
+        };
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.Test;
 import org.simpleflatmapper.converter.ContextualConverter;
 import org.simpleflatmapper.converter.ConverterService;
 import org.simpleflatmapper.converter.EmptyContextFactoryBuilder;
+import org.simpleflatmapper.converter.impl.time.JavaTimeHelper;
+import org.simpleflatmapper.util.date.DateFormatSupplier;
+import org.simpleflatmapper.util.date.NumericDatePatternParser;
 
 import java.text.SimpleDateFormat;
 import java.time.Instant;
@@ -22,10 +25,12 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.time.temporal.TemporalQuery;
 import java.util.Calendar;
 import java.util.Date;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -345,6 +350,105 @@ public class JavaTimeConverterServiceTest {
         }
     }
 
+    @Test
+    public void testNumericDatePatternMatchesFormatter() throws Exception {
+        ZoneId zone = ZoneId.of("Europe/Paris");
+        ZonedDateTime[] dates = new ZonedDateTime[] {
+                ZonedDateTime.of(2019, 3, 31, 1, 59, 59, 999000000, zone),
+                ZonedDateTime.of(2019, 3, 31, 3, 0, 0, 0, zone),
+                ZonedDateTime.of(2019, 10, 27, 2, 30, 0, 0, zone),
+                ZonedDateTime.of(2019, 10, 27, 2, 30, 0, 0, zone).withLaterOffsetAtOverlap(),
+                ZonedDateTime.of(2020, 2, 29, 23, 59, 59, 1000000, zone),
+                ZonedDateTime.of(1900, 1, 1, 0, 0, 0, 0, zone),
+                ZonedDateTime.now(zone)
+        };
+
+        testNumericDatePattern("yyyy-MM-dd HH:mm:ss", zone, dates, LocalDateTime::from, LocalDateTime.class);
+        testNumericDatePattern("yyyyMMdd", zone, dates, LocalDate::from, LocalDate.class);
+        testNumericDatePattern("dd/MM/yyyy HH:mm:ss.SSS", zone, dates, Instant::from, Instant.class);
+        testNumericDatePattern("dd/MM/yyyy HH:mm:ss.SSS", zone, dates, ZonedDateTime::from, ZonedDateTime.class);
+        testNumericDatePattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ", zone, dates, OffsetDateTime::from, OffsetDateTime.class);
+        testNumericDatePattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ", zone, dates, Instant::from, Instant.class);
+
+        ContextualConverter<? super CharSequence, ? extends LocalDate> converter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDate.class, EmptyContextFactoryBuilder.INSTANCE, dateFormat("yyyy-MM-dd"));
+        assertEquals(LocalDate.of(2019, 2, 28), converter.convert("2019-02-29", null));
+        try {
+            converter.convert("2019-0a-01", null);
+            fail();
+        } catch (DateTimeParseException e) {
+            // expected
+        }
+
+        ContextualConverter<? super CharSequence, ? extends LocalDate> multiConverter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDate.class, EmptyContextFactoryBuilder.INSTANCE,
+                        dateFormat("yyyy-MM-dd"), dateFormat("dd/MM/yyyy HH:mm"), DateTimeFormatter.ofPattern("yyyy"));
+        assertEquals(LocalDate.of(2019, 1, 5), multiConverter.convert("2019-01-05", null));
+        assertEquals(LocalDate.of(2019, 1, 5), multiConverter.convert("05/01/2019 10:30", null));
+        assertEquals(LocalDate.of(2019, 2, 28), multiConverter.convert("2019-02-29", null));
+    }
+
+    @Test
+    public void testMultiFormatLearnsFormatWithoutChangingPriority() throws Exception {
+        ContextualConverter<? super CharSequence, ? extends LocalDate> converter =
+                ConverterService.getInstance().findConverter(CharSequence.class, LocalDate.class, EmptyContextFactoryBuilder.INSTANCE,
+                        DateTimeFormatter.ofPattern("dd/MM/yyyy"), DateTimeFormatter.ofPattern("MM/dd/yyyy"), DateTimeFormatter.ofPattern("d MMM uuuu"));
+
+        for(int i = 0; i < 3; i++) {
+            assertEquals(LocalDate.of(2019, 1, 5), converter.convert("5 Jan 2019", null));
+            // MM/dd/yyyy has priority, dd/MM/yyyy only parses when the month is invalid
+            assertEquals(LocalDate.of(2019, 12, 25), converter.convert("25/12/2019", null));
+            assertEquals(LocalDate.of(2019, 5, 12), converter.convert("05/12/2019", null));
+            assertEquals(LocalDate.of(2019, 12, 25), converter.convert("12/25/2019", null));
+        }
+
+        try {
+            converter.convert("2019-01-05", null);
+            fail();
+        } catch (DateTimeParseException e) {
+            // expected
+        }
+    }
+
+    private <T extends Temporal> void testNumericDatePattern(String pattern, ZoneId zone, ZonedDateTime[] dates, TemporalQuery<T> query, Class<T> target) throws Exception {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern).withZone(zone);
+        boolean hasOffset = pattern.endsWith("Z");
+        // the value of an offset pattern is the one of its offset, independently of the zone override
+        DateTimeFormatter expectedFormatter = hasOffset ? DateTimeFormatter.ofPattern(pattern) : formatter;
+        ContextualConverter<? super CharSequence, ? extends T> converter =
+                ConverterService.getInstance().findConverter(CharSequence.class, target, EmptyContextFactoryBuilder.INSTANCE, dateFormat(pattern), zone);
+
+        assertTrue(converter instanceof NumericDatePatternParser);
+        boolean fastPathEnabled = ((NumericDatePatternParser) converter).getNumericDatePattern() != null;
+        // on JDK 8 the override zone wins over the parsed offset in the formatter, the fast path is disabled to keep its behaviour
+        assertEquals(!hasOffset || JavaTimeHelper.resolvesParsedOffset(formatter), fastPathEnabled);
+
+        int nbFastPath = 0;
+        for(ZonedDateTime date : dates) {
+            String str = formatter.format(date);
+            T expected = expectedFormatter.parse(str, query);
+            if (fastPathEnabled) {
+                assertEquals(str, expected, converter.convert(str, null));
+                Object fastPath = ((NumericDatePatternParser) converter).parseNumeric(str);
+                if (fastPath != null) {
+                    assertEquals(str, expected, fastPath);
+                    nbFastPath++;
+                }
+            } else {
+                assertEquals(str, formatter.parse(str, query), converter.convert(str, null));
+            }
+        }
+        assertTrue(!fastPathEnabled || nbFastPath > 0);
+    }
+
+    private static DateFormatSupplier dateFormat(final String pattern) {
+        return new DateFormatSupplier() {
+            @Override
+            public String get() {
+                return pattern;
+            }
+        };
+    }
 
     @Test
     public void testTemporalToString() throws Exception {
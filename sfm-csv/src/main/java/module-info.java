@@ -2,6 +2,7 @@ module org.simpleflatmapper.csv {
         requires transitive org.simpleflatmapper.map;
         requires transitive org.simpleflatmapper.tuple;
         requires transitive org.simpleflatmapper.lightningcsv;
+        requires static org.simpleflatmapper.jdbc;
         exports org.simpleflatmapper.csv;
         exports org.simpleflatmapper.csv.property;
 }
\ No newline at end of file
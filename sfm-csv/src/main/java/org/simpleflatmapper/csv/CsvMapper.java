@@ -84,6 +84,21 @@ public interface CsvMapper<T> extends SetRowMapper<CsvRow, CsvRowSet, T, IOExcep
 	 */
 	<H extends CheckedConsumer<? super T>> H forEach(CsvReader reader, H handle) throws IOException, MappingException;
 
+	/**
+	 * Same as {@link #forEach(Reader, CheckedConsumer)} but reuses the csv reader buffers of the previous call on the current thread,
+	 * and the row set for a mapper on a static set of columns.
+	 * Avoids the per call allocations when mapping a lot of small contents. A call made from the handle uses its own buffers.
+	 *
+	 * @param reader the reader
+	 * @param handle the callback newInstance
+     * @param <H> the row handler type
+	 * @return the callback newInstance
+	 * @throws IOException if an io error occurs
+	 * @throws MappingException if an mapping error occurs
+	 * @see org.simpleflatmapper.lightningcsv.CsvParser.AbstractDSL#reusableReader(Reader)
+	 */
+	<H extends CheckedConsumer<? super T>> H forEachReusingBuffers(Reader reader, H handle) throws IOException, MappingException;
+
 
 	/**
 	 * Will map each row of the content of reader, starting at rowStart, to an object of type T and will pass that object to the handle via the {@link CheckedConsumer}.handler(T t) call back.
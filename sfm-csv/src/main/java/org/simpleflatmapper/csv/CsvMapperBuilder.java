@@ -10,6 +10,7 @@ import org.simpleflatmapper.map.getter.ContextualGetterFactory;
 import org.simpleflatmapper.map.mapper.AbstractColumnDefinitionProvider;
 import org.simpleflatmapper.map.mapper.ColumnDefinitionProvider;
 import org.simpleflatmapper.map.mapper.DefaultSetRowMapperBuilder;
+import org.simpleflatmapper.map.mapper.InstrumentedSetRowMapper;
 import org.simpleflatmapper.map.mapper.KeyFactory;
 import org.simpleflatmapper.map.mapper.MapperBuilder;
 import org.simpleflatmapper.map.mapper.MapperSourceImpl;
@@ -91,7 +92,12 @@ public class CsvMapperBuilder<T> extends MapperBuilder<CsvRow, CsvRowSet, T, Csv
 				new BiFunction<SetRowMapper<CsvRow, CsvRowSet, T, IOException>, List<CsvColumnKey>, CsvMapper<T>>() {
 					@Override
 					public CsvMapper<T> apply(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, List<CsvColumnKey> keys) {
-						return new CsvMapperImpl<T>(setRowMapper, keys.toArray(EMPTY_KEYS));
+						CsvColumnKey[] keyArray = keys.toArray(EMPTY_KEYS);
+						int[] projectedColumns =
+								mapperConfig.getDiscriminators().isEmpty() && !mapperConfig.hasRowFilter()
+										? CsvMapperImpl.projectedColumns(keyArray)
+										: null;
+						return new CsvMapperImpl<T>(InstrumentedSetRowMapper.instrument(setRowMapper, mapperConfig.mappingMetrics()), keyArray, projectedColumns);
 					}
 				}, CsvColumnDefinition.COLUMN_DEFINITION_FACTORY, 0 );
 		this.classMeta = classMeta;
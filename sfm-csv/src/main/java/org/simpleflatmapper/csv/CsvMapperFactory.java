@@ -9,6 +9,7 @@ import org.simpleflatmapper.csv.property.CustomReaderFactoryProperty;
 import org.simpleflatmapper.csv.property.CustomReaderProperty;
 import org.simpleflatmapper.lightningcsv.CsvReader;
 import org.simpleflatmapper.lightningcsv.StringReader;
+import org.simpleflatmapper.map.MapperBuildListener;
 import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.Result;
@@ -157,7 +158,7 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 	}
 
 	public <T> CsvMapper<T> newMapper(final ClassMeta<T> classMeta) throws MapperBuildingException {
-		return new DynamicCsvSetRowMapper<T>(new SetRowMapperFactory<T>(this, classMeta),  new CsvRowMapperKeyFactory(),  new CsvRowSetMapperKeyFactory());
+		return new DynamicCsvSetRowMapper<T>(new SetRowMapperFactory<T>(this, classMeta),  new CsvRowMapperKeyFactory(),  new CsvRowSetMapperKeyFactory(), mapperConfig().mapperBuildListener());
 	}
 
 	public <T> CsvMapper<Result<T,CsvColumnKey>> newErrorCollectingMapper(final Class<T> target) throws MapperBuildingException {
@@ -192,7 +193,7 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 								}
 						);
 					}
-				}, new CsvRowMapperKeyFactory(), new CsvRowSetMapperKeyFactory());
+				}, new CsvRowMapperKeyFactory(), new CsvRowSetMapperKeyFactory(), mapperConfig().mapperBuildListener());
 	}
 
 	/**
@@ -270,6 +271,7 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 	public static class DynamicCsvSetRowMapper<T>
 			extends DynamicSetRowMapper<CsvRow, CsvRowSet, T, IOException, CsvColumnKey>
 			implements CsvMapper<T> {
+		private static final CsvParser.DSL REUSABLE_READER_DSL = CsvParser.dsl();
 
 		public DynamicCsvSetRowMapper(
 				UnaryFactory<MapperKey<CsvColumnKey>, SetRowMapper<CsvRow, CsvRowSet, T, IOException>> mapperFactory,
@@ -278,6 +280,14 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, CsvColumnKeyMapperKeyComparator.INSTANCE);
 		}
 
+		public DynamicCsvSetRowMapper(
+				UnaryFactory<MapperKey<CsvColumnKey>, SetRowMapper<CsvRow, CsvRowSet, T, IOException>> mapperFactory,
+				UnaryFactoryWithException<CsvRow, MapperKey<CsvColumnKey>, IOException> mapperKeyFromRow,
+				UnaryFactoryWithException<CsvRowSet, MapperKey<CsvColumnKey>, IOException> mapperKeyFromSet,
+				MapperBuildListener mapperBuildListener) {
+			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, CsvColumnKeyMapperKeyComparator.INSTANCE, mapperBuildListener);
+		}
+
 		@Override
 		public String toString() {
 			return "DynamicCsvSetRowMapper{}";
@@ -295,6 +305,17 @@ public final class CsvMapperFactory extends AbstractColumnNameDiscriminatorMappe
 			return handle;
 		}
 
+		@Override
+		public <H extends CheckedConsumer<? super T>> H forEachReusingBuffers(Reader reader, H handle) throws IOException, MappingException {
+			CsvReader csvReader = REUSABLE_READER_DSL.reusableReader(reader);
+			try {
+				forEach(toCsvRowSet(csvReader, 0, -1), handle);
+				return handle;
+			} finally {
+				REUSABLE_READER_DSL.releaseReusableReader(csvReader);
+			}
+		}
+
 		@Override
 		public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, int skip) throws IOException, MappingException {
 			forEach(toCsvRowSet(reader, skip, -1), handle);
@@ -16,6 +16,7 @@ public final class CsvRow {
     
     private int[] fieldsBoundaries;
     private int currentIndex;
+    private int[] cellIndexes;
     protected int rowStartMark;
 
     public CsvRow(CsvColumnKey[] keys, int maxIndex, CharBuffer charBuffer) {
@@ -43,9 +44,26 @@ public final class CsvRow {
         currentIndex = 0;
     }
     
+    /**
+     * the parser only passes the cells of the specified columns, the n-th cell is stored at the index columns[n].
+     * @param columns the indexes of the columns passed by the parser in increasing order
+     */
+    void projectColumns(int[] columns) {
+        this.cellIndexes = columns;
+    }
+
     public void addValue(int offset, int length) {
         int index = this.currentIndex;
-        if (index < fieldsBoundaries.length) {
+        int[] lCellIndexes = this.cellIndexes;
+        if (lCellIndexes != null) {
+            int cell = index >> 1;
+            if (cell < lCellIndexes.length) {
+                int i = lCellIndexes[cell] * 2;
+                fieldsBoundaries[i] = offset;
+                fieldsBoundaries[i + 1] = length;
+                currentIndex = index + 2;
+            }
+        } else if (index < fieldsBoundaries.length) {
             fieldsBoundaries[index] = offset;
             fieldsBoundaries[index + 1] = length;
             currentIndex = index + 2;
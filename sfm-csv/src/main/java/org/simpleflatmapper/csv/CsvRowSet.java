@@ -18,6 +18,7 @@ public final class CsvRowSet implements Enumerable<CsvRow> {
     private int limit;
     private CsvColumnKey[] keys;
     private boolean finished;
+    private boolean projected;
     
     private final CellConsumer cellConsumer;
 
@@ -50,6 +51,42 @@ public final class CsvRowSet implements Enumerable<CsvRow> {
         return keys;
     }
 
+    /**
+     * push down the columns used by the mapper to the parser, the cells of the other columns are not unescaped nor stored.
+     * Needs to be called before reading the first row, only the first call is applied.
+     * @param columns the indexes of the columns to keep in increasing order
+     * @return true if the reader supports the projection
+     * @throws IOException if an error occurs reading the headers
+     * @see CsvReader#projectColumns(int...)
+     */
+    public boolean projectColumns(int[] columns) throws IOException {
+        if (projected) return true;
+        getKeys();
+        if (csvReader.projectColumns(columns)) {
+            currentRow.projectColumns(columns);
+            projected = true;
+        }
+        return projected;
+    }
+
+    /**
+     * restart on the content of the csv reader after it was reset, the keys and the row are retained.
+     * @param limit the number of row to process
+     * @see CsvReader#reset(java.io.Reader)
+     */
+    public void reset(int limit) {
+        this.limit = limit;
+        this.finished = false;
+        if (projected) {
+            currentRow.projectColumns(null);
+            projected = false;
+        }
+    }
+
+    public CsvReader getCsvReader() {
+        return csvReader;
+    }
+
     private int maxIndex(CsvColumnKey[] keys) {
         int i = 0;
         for(CsvColumnKey k : keys) {
@@ -0,0 +1,295 @@
+package org.simpleflatmapper.csv;
+
+import org.simpleflatmapper.converter.ContextualConverterAdapter;
+import org.simpleflatmapper.converter.Converter;
+import org.simpleflatmapper.converter.ConverterService;
+import org.simpleflatmapper.csv.impl.writer.BooleanAppendableSetter;
+import org.simpleflatmapper.csv.impl.writer.CellSeparatorAppender;
+import org.simpleflatmapper.csv.impl.writer.ConvertingAppender;
+import org.simpleflatmapper.csv.impl.writer.DoubleAppendableSetter;
+import org.simpleflatmapper.csv.impl.writer.EndOfRowAppender;
+import org.simpleflatmapper.csv.impl.writer.IntegerAppendableSetter;
+import org.simpleflatmapper.csv.impl.writer.LongAppendableSetter;
+import org.simpleflatmapper.jdbc.JdbcColumnKey;
+import org.simpleflatmapper.jdbc.ResultSetGetterFactory;
+import org.simpleflatmapper.lightningcsv.CellWriter;
+import org.simpleflatmapper.lightningcsv.CsvCellWriter;
+import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperConfig;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.asm.MapperAsmFactory;
+import org.simpleflatmapper.map.fieldmapper.BooleanConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.DoubleConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.IntConstantTargetFieldMapper;
+import org.simpleflatmapper.map.fieldmapper.LongConstantTargetFieldMapper;
+import org.simpleflatmapper.map.mapper.AbstractMapper;
+import org.simpleflatmapper.map.mapper.MapperImpl;
+import org.simpleflatmapper.reflect.BiInstantiator;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.ReflectionService;
+import org.simpleflatmapper.reflect.asm.AsmFactory;
+import org.simpleflatmapper.reflect.primitive.BooleanGetter;
+import org.simpleflatmapper.reflect.primitive.DoubleGetter;
+import org.simpleflatmapper.reflect.primitive.IntGetter;
+import org.simpleflatmapper.reflect.primitive.LongGetter;
+import org.simpleflatmapper.util.ErrorHelper;
+import org.simpleflatmapper.util.UnaryFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write the rows of a {@link ResultSet} as csv without mapping them to an object first.
+ * <p>
+ * The getters of the columns are provided by the {@link ResultSetGetterFactory} and appended straight to the {@link CellWriter},
+ * the not null integer, floating point and boolean columns are read with the primitive getters, the other columns are converted to their string value.
+ * The column appenders are chained in a generated class, one class per columns signature, when asm is available.
+ * <br>
+ * <code>
+ *     ResultSetCsvWriter csvWriter = ResultSetCsvWriter.from(rs.getMetaData());<br>
+ *     csvWriter.appendHeaders(writer).append(rs, writer);<br>
+ * </code>
+ * <br>
+ * The writer is thread safe and can be reused for the ResultSets of the same query.
+ * It needs sfm-jdbc on the classpath.
+ */
+public final class ResultSetCsvWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(ResultSetCsvWriter.class.getName());
+
+    private static final BiInstantiator<ResultSet, MappingContext<? super ResultSet>, Appendable> NO_INSTANTIATOR =
+            new BiInstantiator<ResultSet, MappingContext<? super ResultSet>, Appendable>() {
+                @Override
+                public Appendable newInstance(ResultSet o, MappingContext<? super ResultSet> context) throws Exception {
+                    return new StringBuilder();
+                }
+            };
+
+    private final String[] headers;
+    private final CellWriter cellWriter;
+    private final AbstractMapper<ResultSet, Appendable> mapper;
+
+    private ResultSetCsvWriter(String[] headers, CellWriter cellWriter, AbstractMapper<ResultSet, Appendable> mapper) {
+        this.headers = headers;
+        this.cellWriter = cellWriter;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Create a writer for the columns of the metadata using the default cell writer.
+     * @param metaData the metadata of the ResultSet
+     * @return the writer
+     * @throws SQLException if an error occurs reading the metadata
+     */
+    public static ResultSetCsvWriter from(ResultSetMetaData metaData) throws SQLException {
+        return from(metaData, CsvCellWriter.DEFAULT_WRITER);
+    }
+
+    /**
+     * Create a writer for the columns of the metadata.
+     * @param metaData the metadata of the ResultSet
+     * @param cellWriter the cell writer
+     * @return the writer
+     * @throws SQLException if an error occurs reading the metadata
+     */
+    public static ResultSetCsvWriter from(ResultSetMetaData metaData, CellWriter cellWriter) throws SQLException {
+        return from(metaData, cellWriter, ReflectionService.newInstance());
+    }
+
+    /**
+     * Create a writer for the columns of the metadata.
+     * @param metaData the metadata of the ResultSet
+     * @param cellWriter the cell writer
+     * @param reflectionService the reflection service providing the asm factory
+     * @return the writer
+     * @throws SQLException if an error occurs reading the metadata
+     */
+    public static ResultSetCsvWriter from(ResultSetMetaData metaData, CellWriter cellWriter, ReflectionService reflectionService) throws SQLException {
+        return from(metaData, cellWriter, reflectionService, MapperConfig.<JdbcColumnKey, ResultSet>fieldMapperConfig());
+    }
+
+    /**
+     * Create a writer for the columns of the metadata.
+     * @param metaData the metadata of the ResultSet
+     * @param cellWriter the cell writer
+     * @param reflectionService the reflection service providing the asm factory
+     * @param mapperConfig the config providing the asm mapper fields limit and the fail on asm flag
+     * @return the writer
+     * @throws SQLException if an error occurs reading the metadata
+     */
+    @SuppressWarnings("unchecked")
+    public static ResultSetCsvWriter from(ResultSetMetaData metaData, CellWriter cellWriter, ReflectionService reflectionService, MapperConfig<?, ?> mapperConfig) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        String[] headers = new String[columnCount];
+        JdbcColumnKey[] keys = new JdbcColumnKey[columnCount];
+        List<FieldMapper<ResultSet, Appendable>> mappers = new ArrayList<FieldMapper<ResultSet, Appendable>>();
+
+        CellSeparatorAppender<ResultSet> cellSeparatorAppender = new CellSeparatorAppender<ResultSet>(cellWriter);
+        for(int i = 0; i < columnCount; i++) {
+            JdbcColumnKey key = JdbcColumnKey.of(metaData, i + 1);
+            headers[i] = key.getName();
+            keys[i] = key;
+            if (i > 0) {
+                mappers.add(cellSeparatorAppender);
+            }
+            boolean nullable = metaData.isNullable(i + 1) != ResultSetMetaData.columnNoNulls;
+            mappers.add(newColumnAppender(key, nullable, cellWriter));
+        }
+        mappers.add(new EndOfRowAppender<ResultSet>(cellWriter));
+
+        FieldMapper<ResultSet, Appendable>[] fields = mappers.toArray(new FieldMapper[0]);
+
+        AbstractMapper<ResultSet, Appendable> mapper;
+        if (reflectionService.isAsmActivated() && fields.length < mapperConfig.asmMapperNbFieldsLimit()) {
+            try {
+                mapper = reflectionService
+                        .getAsmFactory()
+                        .registerOrCreate(MapperAsmFactory.class, new UnaryFactory<AsmFactory, MapperAsmFactory>() {
+                            @Override
+                            public MapperAsmFactory newInstance(AsmFactory asmFactory) {
+                                return new MapperAsmFactory(asmFactory);
+                            }
+                        })
+                        .<ResultSet, Appendable>createMapper(
+                                (FieldKey<?>[]) keys,
+                                fields,
+                                new FieldMapper[0],
+                                NO_INSTANTIATOR,
+                                ResultSet.class,
+                                Appendable.class,
+                                mapperConfig.maxMethodSize()
+                        );
+            } catch (Exception e) {
+                if (mapperConfig.failOnAsm()) {
+                    return ErrorHelper.rethrow(e);
+                }
+                LOGGER.log(Level.WARNING, "Could not generate the asm mapper for " + Arrays.toString(headers) + ", falling back to the reflection mapper", e);
+                mapper = new MapperImpl<ResultSet, Appendable>(fields, new FieldMapper[0], NO_INSTANTIATOR);
+            }
+        } else {
+            mapper = new MapperImpl<ResultSet, Appendable>(fields, new FieldMapper[0], NO_INSTANTIATOR);
+        }
+
+        return new ResultSetCsvWriter(headers, cellWriter, mapper);
+    }
+
+    // the primitive field mappers write 0 or false for an sql null, they are only used on the not null columns
+    @SuppressWarnings("unchecked")
+    private static FieldMapper<ResultSet, Appendable> newColumnAppender(JdbcColumnKey key, boolean nullable, CellWriter cellWriter) {
+        switch (key.getSqlType(null)) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                if (nullable) return newConvertingAppender(Boolean.class, key, cellWriter);
+                Getter<ResultSet, ?> booleanGetter = newGetter(boolean.class, key);
+                if (booleanGetter instanceof BooleanGetter) {
+                    return new BooleanConstantTargetFieldMapper<ResultSet, Appendable>((BooleanGetter<ResultSet>) booleanGetter, new BooleanAppendableSetter(cellWriter));
+                }
+                break;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                if (nullable) return newConvertingAppender(Integer.class, key, cellWriter);
+                Getter<ResultSet, ?> intGetter = newGetter(int.class, key);
+                if (intGetter instanceof IntGetter) {
+                    return new IntConstantTargetFieldMapper<ResultSet, Appendable>((IntGetter<ResultSet>) intGetter, new IntegerAppendableSetter(cellWriter));
+                }
+                break;
+            case Types.BIGINT:
+                if (nullable) return newConvertingAppender(Long.class, key, cellWriter);
+                Getter<ResultSet, ?> longGetter = newGetter(long.class, key);
+                if (longGetter instanceof LongGetter) {
+                    return new LongConstantTargetFieldMapper<ResultSet, Appendable>((LongGetter<ResultSet>) longGetter, new LongAppendableSetter(cellWriter));
+                }
+                break;
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                if (nullable) return newConvertingAppender(Double.class, key, cellWriter);
+                Getter<ResultSet, ?> doubleGetter = newGetter(double.class, key);
+                if (doubleGetter instanceof DoubleGetter) {
+                    return new DoubleConstantTargetFieldMapper<ResultSet, Appendable>((DoubleGetter<ResultSet>) doubleGetter, new DoubleAppendableSetter(cellWriter));
+                }
+                break;
+        }
+        return newConvertingAppender(String.class, key, cellWriter);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <P> FieldMapper<ResultSet, Appendable> newConvertingAppender(Class<P> type, JdbcColumnKey key, CellWriter cellWriter) {
+        Getter<ResultSet, P> getter = (Getter<ResultSet, P>) newGetter(type, key);
+        Converter<? super P, ? extends CharSequence> converter = ConverterService.getInstance().findConverter(type, CharSequence.class);
+        return new ConvertingAppender<ResultSet, P>(getter, new ContextualConverterAdapter<P, CharSequence>(converter), cellWriter);
+    }
+
+    private static Getter<ResultSet, ?> newGetter(Type type, JdbcColumnKey key) {
+        return ResultSetGetterFactory.INSTANCE.newGetter(type, key);
+    }
+
+    /**
+     * append the column labels as the header row.
+     * @param appendable the appendable
+     * @return the current writer
+     * @throws IOException if an I/O error occurs
+     */
+    public ResultSetCsvWriter appendHeaders(Appendable appendable) throws IOException {
+        for(int i = 0; i < headers.length; i++) {
+            if (i > 0) {
+                cellWriter.nextCell(appendable);
+            }
+            cellWriter.writeValue(headers[i], appendable);
+        }
+        cellWriter.endOfRow(appendable);
+        return this;
+    }
+
+    /**
+     * append the current row of the ResultSet.
+     * @param rs the ResultSet positioned on the row
+     * @param appendable the appendable
+     * @return the current writer
+     * @throws IOException if an I/O error occurs
+     */
+    public ResultSetCsvWriter appendRow(ResultSet rs, Appendable appendable) throws IOException {
+        try {
+            mapper.mapTo(rs, appendable, emptyContext());
+        } catch(Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static MappingContext<? super ResultSet> emptyContext() {
+        return (MappingContext<? super ResultSet>) MappingContext.EMPTY_CONTEXT;
+    }
+
+    /**
+     * append all the remaining rows of the ResultSet.
+     * @param rs the ResultSet
+     * @param appendable the appendable
+     * @return the number of rows appended
+     * @throws IOException if an I/O error occurs
+     * @throws SQLException if an error occurs reading the ResultSet
+     */
+    public long append(ResultSet rs, Appendable appendable) throws IOException, SQLException {
+        long nbRows = 0;
+        while(rs.next()) {
+            appendRow(rs, appendable);
+            nbRows++;
+        }
+        return nbRows;
+    }
+
+    public String[] getHeaders() {
+        return headers.clone();
+    }
+}
@@ -14,6 +14,7 @@ import org.simpleflatmapper.util.Enumerable;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Arrays;
 import java.util.Iterator;
 
 //IFJAVA8_START
@@ -21,12 +22,51 @@ import java.util.stream.Stream;
 //IFJAVA8_END
 
 public class CsvMapperImpl<T> implements CsvMapper<T> {
+    private static final CsvParser.DSL REUSABLE_READER_DSL = CsvParser.dsl();
+
     private final SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper;
     private final CsvColumnKey[] keys;
+    private final int[] projectedColumns;
+    private final ThreadLocal<CsvRowSet> reusableRowSets = new ThreadLocal<CsvRowSet>();
 
     public CsvMapperImpl(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, CsvColumnKey[] keys) {
+        this(setRowMapper, keys, null);
+    }
+
+    /**
+     * @param setRowMapper the mapper
+     * @param keys the keys
+     * @param projectedColumns the columns read by the mapper in increasing order, pushed down to the parser if it supports it, null to read all the columns
+     */
+    public CsvMapperImpl(SetRowMapper<CsvRow, CsvRowSet, T, IOException> setRowMapper, CsvColumnKey[] keys, int[] projectedColumns) {
         this.setRowMapper = setRowMapper;
         this.keys = keys;
+        this.projectedColumns = projectedColumns;
+    }
+
+    public static int[] projectedColumns(CsvColumnKey[] keys) {
+        boolean[] mapped = new boolean[0];
+        int nb = 0;
+        for(CsvColumnKey key : keys) {
+            if (key != null && key.getIndex() >= 0) {
+                int index = key.getIndex();
+                if (index >= mapped.length) {
+                    mapped = Arrays.copyOf(mapped, index + 1);
+                }
+                if (!mapped[index]) {
+                    mapped[index] = true;
+                    nb++;
+                }
+            }
+        }
+        int[] columns = new int[nb];
+        int j = 0;
+        for(int i = 0; i < mapped.length; i++) {
+            if (mapped[i]) {
+                columns[j++] = i;
+            }
+        }
+        return columns;
     }
 
     @Override
@@ -41,6 +81,25 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return handle;
     }
 
+    @Override
+    public <H extends CheckedConsumer<? super T>> H forEachReusingBuffers(Reader reader, H handle) throws IOException, MappingException {
+        CsvReader csvReader = REUSABLE_READER_DSL.reusableReader(reader);
+        try {
+            // a nested call gets a new csv reader, it cannot match the row set in use
+            CsvRowSet rowSet = reusableRowSets.get();
+            if (rowSet != null && rowSet.getCsvReader() == csvReader) {
+                rowSet.reset(-1);
+            } else {
+                rowSet = new CsvRowSet(csvReader, -1, keys);
+                reusableRowSets.set(rowSet);
+            }
+            forEach(rowSet, handle);
+            return handle;
+        } finally {
+            REUSABLE_READER_DSL.releaseReusableReader(csvReader);
+        }
+    }
+
     @Override
     public <H extends CheckedConsumer<? super T>> H forEach(Reader reader, H handle, int skip) throws IOException, MappingException {
         forEach(toCsvRowSet(reader, skip, -1), handle);
@@ -95,24 +154,28 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
 
     @Override
     public <H extends CheckedConsumer<? super T>> H forEach(CsvRowSet source, H handler) throws IOException, MappingException {
+        projectColumns(source);
         setRowMapper.forEach(source, handler);
         return handler;
     }
 
     @Override
     public Iterator<T> iterator(CsvRowSet source) throws IOException, MappingException {
+        projectColumns(source);
         return setRowMapper.iterator(source);
     }
 
     //IFJAVA8_START
     @Override
     public Stream<T> stream(CsvRowSet source) throws IOException, MappingException {
+        projectColumns(source);
         return setRowMapper.stream(source);
     }
     //IFJAVA8_END
 
     @Override
     public Enumerable<T> enumerate(CsvRowSet source) throws IOException, MappingException {
+        projectColumns(source);
         return setRowMapper.enumerate(source);
     }
 
@@ -126,6 +189,12 @@ public class CsvMapperImpl<T> implements CsvMapper<T> {
         return setRowMapper.map(source, context);
     }
 
+    private void projectColumns(CsvRowSet source) throws IOException {
+        if (projectedColumns != null) {
+            source.projectColumns(projectedColumns);
+        }
+    }
+
     private CsvRowSet toCsvRowSet(Reader reader, int skip, int limit) throws IOException {
         return toCsvRowSet(CsvParser.reader(reader), skip, limit);
     }
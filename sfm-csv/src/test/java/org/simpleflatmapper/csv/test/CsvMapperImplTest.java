@@ -8,14 +8,19 @@ import org.simpleflatmapper.csv.CsvMapper;
 import org.simpleflatmapper.csv.CsvMapperBuilder;
 import org.simpleflatmapper.csv.CsvMapperFactory;
 import org.simpleflatmapper.csv.CsvParser;
+import org.simpleflatmapper.csv.CsvRow;
+import org.simpleflatmapper.csv.CsvRowSet;
 import org.simpleflatmapper.map.FieldMapperErrorHandler;
 import org.simpleflatmapper.map.MappingException;
+import org.simpleflatmapper.map.MappingMetrics;
 import org.simpleflatmapper.map.Result;
+import org.simpleflatmapper.map.mapper.InstrumentedSetRowMapper;
 import org.simpleflatmapper.map.property.ConverterProperty;
 import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.csv.impl.CsvMapperImpl;
 import org.simpleflatmapper.test.jdbc.DbHelper;
 import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ListCollector;
 import org.simpleflatmapper.util.TypeReference;
 
 import java.io.IOException;
@@ -26,6 +31,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.text.ParseException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 //IFJAVA8_START
@@ -143,6 +149,113 @@ public class CsvMapperImplTest {
 
 	}
 
+	@Test
+	public void testCsvForEachReusingBuffers()
+			throws IOException, ParseException {
+		CsvMapperBuilder<DbObject> builder = CsvMapperFactory.newInstance().newBuilder(DbObject.class);
+		CsvMapperBuilderTest.addDbObjectFields(builder);
+		CsvMapperImpl<DbObject> mapper = (CsvMapperImpl<DbObject>) builder.mapper();
+
+		for(int j = 0; j < 3; j++) {
+			int i = mapper.forEachReusingBuffers(CsvMapperImplTest.dbObjectCsvReader3Lines(), new CheckedConsumer<DbObject>() {
+				int i = 0;
+				@Override
+				public void accept(DbObject dbObject) throws Exception {
+					DbHelper.assertDbObjectMapping(i++, dbObject);
+				}
+			}).i;
+
+			assertEquals(3, i);
+		}
+	}
+
+	@Test
+	public void testCsvForEachReusingBuffersFromHandle()
+			throws IOException, ParseException {
+		CsvMapperBuilder<DbObject> builder = CsvMapperFactory.newInstance().newBuilder(DbObject.class);
+		CsvMapperBuilderTest.addDbObjectFields(builder);
+		CsvMapperImpl<DbObject> mapper = (CsvMapperImpl<DbObject>) builder.mapper();
+		CsvMapperBuilder<DbObject> nestedBuilder = CsvMapperFactory.newInstance().newBuilder(DbObject.class);
+		CsvMapperBuilderTest.addDbObjectFields(nestedBuilder);
+		final CsvMapper<DbObject> nestedMapper = nestedBuilder.mapper();
+
+		int i = mapper.forEachReusingBuffers(CsvMapperImplTest.dbObjectCsvReader3Lines(), new CheckedConsumer<DbObject>() {
+			int i = 0;
+			@Override
+			public void accept(DbObject dbObject) throws Exception {
+				List<DbObject> nested = nestedMapper.forEachReusingBuffers(CsvMapperImplTest.dbObjectCsvReader3Lines(), new ListCollector<DbObject>()).getList();
+				assertEquals(3, nested.size());
+				DbHelper.assertDbObjectMapping(2, nested.get(2));
+				DbHelper.assertDbObjectMapping(i++, dbObject);
+			}
+		}).i;
+
+		assertEquals(3, i);
+	}
+
+	@Test
+	public void testInstrumentedMapperMetrics() throws IOException {
+		MappingMetrics metrics = new MappingMetrics(1);
+		CsvMapper<DbObject> csvMapper = CsvMapperFactory.newInstance()
+				.fieldMapperErrorHandler(metrics.fieldMapperErrorHandler(new FieldMapperErrorHandler<CsvColumnKey>() {
+					@Override
+					public void errorMappingField(CsvColumnKey key, Object source, Object target, Exception error, Context mappingContext) throws MappingException {
+					}
+				}))
+				.newMapper(DbObject.class);
+		InstrumentedSetRowMapper<CsvRow, CsvRowSet, DbObject, IOException> mapper =
+				new InstrumentedSetRowMapper<CsvRow, CsvRowSet, DbObject, IOException>(csvMapper, metrics);
+
+		String csv = "id,name\n1,a\nx,b\n3,c";
+		final int[] n = new int[1];
+		mapper.forEach(new CsvRowSet(CsvParser.reader(csv), -1), new CheckedConsumer<DbObject>() {
+			@Override
+			public void accept(DbObject dbObject) throws Exception {
+				n[0]++;
+			}
+		});
+		assertEquals(3, n[0]);
+
+		MappingMetrics.Snapshot first = metrics.snapshot();
+		assertEquals(3, first.getRows());
+		assertEquals(1, first.getCalls());
+		assertEquals(2, first.getSamples());
+		assertEquals(Long.valueOf(1), first.getFieldErrors().get("id"));
+
+		Iterator<DbObject> iterator = mapper.iterator(new CsvRowSet(CsvParser.reader(csv), -1));
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+
+		MappingMetrics.Snapshot second = metrics.snapshot();
+		assertEquals(6, second.getRows());
+		assertEquals(2, second.getCalls());
+		assertEquals(5, second.getSamples());
+		assertEquals(Long.valueOf(2), second.getFieldErrors().get("id"));
+		assertTrue(second.rowsPerSecondSince(first) >= 0);
+	}
+
+	@Test
+	public void testFactoryMappingMetrics() throws IOException {
+		MappingMetrics metrics = new MappingMetrics(1);
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().mappingMetrics(metrics).newMapper(DbObject.class);
+
+		String csv = "id,name\n1,a\n2,b\n3,c";
+		assertEquals(3, mapper.forEach(new StringReader(csv), new ListCollector<DbObject>()).getList().size());
+
+		MappingMetrics.Snapshot snapshot = metrics.snapshot();
+		assertEquals(3, snapshot.getRows());
+		assertEquals(1, snapshot.getCalls());
+
+		Iterator<DbObject> iterator = mapper.iterator(new StringReader(csv));
+		while (iterator.hasNext()) {
+			iterator.next();
+		}
+		snapshot = metrics.snapshot();
+		assertEquals(6, snapshot.getRows());
+		assertEquals(2, snapshot.getCalls());
+	}
+
 	@Test
 	public void testCsvForEachSkip()
 			throws IOException, ParseException {
@@ -210,6 +323,18 @@ public class CsvMapperImplTest {
 
 
 	//IFJAVA8_START
+	@Test
+	public void testFactoryMappingMetricsStreamClose() throws IOException {
+		MappingMetrics metrics = new MappingMetrics();
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().mappingMetrics(metrics).newMapper(DbObject.class);
+
+		try (Stream<DbObject> stream = mapper.stream(new StringReader("id,name\n1,a\n2,b\n3,c"))) {
+			assertEquals(1, stream.limit(1).count());
+			assertEquals(0, metrics.snapshot().getRows());
+		}
+		assertEquals(1, metrics.snapshot().getRows());
+	}
+
 	@Test
 	public void testCsvStream()
 			throws IOException, ParseException {
@@ -329,6 +329,37 @@ public class CsvParserTest {
         assertArrayEquals(new Object[] { new Tuple2<String, String>("value1", "value2"), new Tuple2<String, String>("value3", null)}, list.toArray());
     }
 
+	@Test
+	public void testDSLSkipUnmappedColumns() throws IOException {
+		String content = "id,junk,name,\"other, \"\"junk\"\"\"\n" +
+				"1,\"x,\"\"y\",n1,z\n" +
+				"2,,n2,";
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().ignorePropertyNotFound().newMapper(DbObject.class);
+
+		List<DbObject> list = CsvParser.dsl().skipUnmappedColumns().mapWith(mapper).forEach(content, new ListCollector<DbObject>()).getList();
+		assertEquals(2, list.size());
+		assertEquals(1, list.get(0).getId());
+		assertEquals("n1", list.get(0).getName());
+		assertEquals(2, list.get(1).getId());
+		assertEquals("n2", list.get(1).getName());
+
+		CsvReader reader = CsvParser.dsl().skipUnmappedColumns().reader(content);
+		Iterator<DbObject> iterator = mapper.iterator(reader);
+		assertEquals("n1", iterator.next().getName());
+		assertEquals("n2", iterator.next().getName());
+		assertFalse(iterator.hasNext());
+	}
+
+	@Test
+	public void testDSLColumnsMapTo() throws IOException {
+		List<DbObject> list = CsvParser.columns("name", "id").mapTo(DbObject.class)
+				.forEach("id,junk,name\n1,x,n1\n2,y,n2", new ListCollector<DbObject>()).getList();
+		assertEquals(2, list.size());
+		assertEquals(1, list.get(0).getId());
+		assertEquals("n1", list.get(0).getName());
+		assertEquals("n2", list.get(1).getName());
+	}
+
 	@Test
 	public void testDSLMapToForEachWithLimit() throws IOException {
 		List<Tuple2<String, String>> list = CsvParser.limit(1).mapTo(String.class, String.class)
@@ -3,6 +3,8 @@ package org.simpleflatmapper.csv.test;
 import org.junit.Test;
 import org.simpleflatmapper.csv.CsvMapper;
 import org.simpleflatmapper.csv.CsvMapperFactory;
+import org.simpleflatmapper.map.MapperBuildEvent;
+import org.simpleflatmapper.map.MapperBuildListener;
 import org.simpleflatmapper.test.beans.DbFinalObject;
 import org.simpleflatmapper.test.beans.DbListObject;
 import org.simpleflatmapper.test.beans.DbObject;
@@ -55,6 +57,44 @@ public class DynamicCsvMapperImplTest {
 	}
 
 
+	@Test
+	public void testMapperBuildListener() throws Exception {
+		final List<MapperBuildEvent> events = new ArrayList<MapperBuildEvent>();
+		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().mapperBuildListener(new MapperBuildListener() {
+			@Override
+			public void mapperBuilt(MapperBuildEvent event) {
+				events.add(event);
+			}
+		}).newMapper(DbObject.class);
+
+		assertEquals(2, mapper.forEach(dbObjectCsvReader3Lines(), new ListCollector<DbObject>()).getList().size());
+
+		assertEquals(1, events.size());
+		MapperBuildEvent event = events.get(0);
+		assertEquals(DbObject.class, event.getTargetType());
+		assertEquals(MapperBuildEvent.CacheOutcome.MISS, event.getCacheOutcome());
+		assertEquals(6, event.getKeys().size());
+		assertTrue(event.getTotalNanos() > 0);
+		assertTrue(event.getPropertyMatchingNanos() >= 0);
+		assertTrue(event.getFieldMapperResolutionNanos() >= 0);
+		assertTrue(event.getAsmGenerationNanos() >= 0);
+		assertTrue(event.getAsmGenerationNanos() <= event.getTotalNanos());
+
+		// same columns, the mapper comes from the cache and is not rebuilt
+		assertEquals(2, mapper.forEach(dbObjectCsvReader3Lines(), new ListCollector<DbObject>()).getList().size());
+		assertEquals(1, events.size());
+
+		CsvMapperFactory.newInstance().mapperBuildListener(new MapperBuildListener() {
+			@Override
+			public void mapperBuilt(MapperBuildEvent event) {
+				events.add(event);
+			}
+		}).newBuilder(DbObject.class).addMapping("id").addMapping("name").mapper();
+		assertEquals(2, events.size());
+		assertEquals(MapperBuildEvent.CacheOutcome.NOT_CACHED, events.get(1).getCacheOutcome());
+		assertEquals(2, events.get(1).getKeys().size());
+	}
+
 	@Test
 	public void testDbObject() throws Exception {
 		CsvMapper<DbObject> mapper = CsvMapperFactory.newInstance().newMapper(DbObject.class);
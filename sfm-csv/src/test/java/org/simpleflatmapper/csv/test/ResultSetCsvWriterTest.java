@@ -0,0 +1,84 @@
+package org.simpleflatmapper.csv.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.csv.ResultSetCsvWriter;
+import org.simpleflatmapper.jdbc.JdbcColumnKey;
+import org.simpleflatmapper.lightningcsv.CsvCellWriter;
+import org.simpleflatmapper.map.MapperConfig;
+import org.simpleflatmapper.reflect.ReflectionService;
+import org.simpleflatmapper.test.jdbc.DbHelper;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ResultSetCsvWriterTest {
+
+    private static final String QUERY = "select id, ref, score, active, label from TEST_CSV_EXPORT order by id";
+
+    private static final String EXPECTED =
+            "ID,REF,SCORE,ACTIVE,LABEL\r\n" +
+            "1,10000000000,1.5,true,\"hello, \"\"world\"\"\"\r\n" +
+            "2,,,,\r\n" +
+            "3,0,0.0,false,\r\n";
+
+    @Test
+    public void testExportResultSet() throws Exception {
+        testExportResultSet(ReflectionService.newInstance());
+    }
+
+    @Test
+    public void testExportResultSetNoAsm() throws Exception {
+        testExportResultSet(ReflectionService.disableAsm());
+    }
+
+    @Test
+    public void testExportResultSetOverAsmFieldsLimit() throws Exception {
+        testExportResultSet(ReflectionService.newInstance(), MapperConfig.<JdbcColumnKey, ResultSet>fieldMapperConfig().asmMapperNbFieldsLimit(4).failOnAsm(true));
+    }
+
+    private void testExportResultSet(ReflectionService reflectionService) throws Exception {
+        testExportResultSet(reflectionService, MapperConfig.<JdbcColumnKey, ResultSet>fieldMapperConfig());
+    }
+
+    private void testExportResultSet(ReflectionService reflectionService, MapperConfig<JdbcColumnKey, ResultSet> mapperConfig) throws Exception {
+        Connection connection = exportDb();
+        try {
+            Statement statement = connection.createStatement();
+            try {
+                ResultSet rs = statement.executeQuery(QUERY);
+
+                ResultSetCsvWriter csvWriter = ResultSetCsvWriter.from(rs.getMetaData(), CsvCellWriter.DEFAULT_WRITER, reflectionService, mapperConfig);
+                assertArrayEquals(new String[] {"ID", "REF", "SCORE", "ACTIVE", "LABEL"}, csvWriter.getHeaders());
+
+                StringBuilder sb = new StringBuilder();
+                long nbRows = csvWriter.appendHeaders(sb).append(rs, sb);
+
+                assertEquals(3, nbRows);
+                assertEquals(EXPECTED, sb.toString());
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connection.close();
+        }
+    }
+
+    private Connection exportDb() throws Exception {
+        Connection connection = DbHelper.objectDb();
+        Statement st = connection.createStatement();
+        try {
+            st.execute("create table if not exists TEST_CSV_EXPORT(id integer primary key, ref bigint, score double, active boolean, label varchar(50))");
+            st.execute("delete from TEST_CSV_EXPORT");
+            st.execute("insert into TEST_CSV_EXPORT values(1, 10000000000, 1.5, true, 'hello, \"world\"')");
+            st.execute("insert into TEST_CSV_EXPORT values(2, null, null, null, null)");
+            st.execute("insert into TEST_CSV_EXPORT values(3, 0, 0, false, null)");
+        } finally {
+            st.close();
+        }
+        return connection;
+    }
+}
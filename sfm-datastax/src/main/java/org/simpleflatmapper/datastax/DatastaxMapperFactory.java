@@ -10,6 +10,7 @@ import org.simpleflatmapper.datastax.impl.DatastaxMapperKeyComparator;
 import org.simpleflatmapper.datastax.impl.DatastaxMappingContextFactoryBuilder;
 import org.simpleflatmapper.datastax.impl.RowGetterFactory;
 import org.simpleflatmapper.datastax.impl.SettableDataSetterFactory;
+import org.simpleflatmapper.map.MapperBuildListener;
 import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
@@ -108,7 +109,7 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
     }
     public <T> DatastaxMapper<T> mapTo(Type type) {
         final ClassMeta<T> classMeta = getClassMeta(type);
-        return new DynamicDatastaxSetRowMapper<T>(new MapperFactory<T>(classMeta), new MapperKeyFromRowFactory(), new MapperKeyFromSet());
+        return new DynamicDatastaxSetRowMapper<T>(new MapperFactory<T>(classMeta), new MapperKeyFromRowFactory(), new MapperKeyFromSet(), mapperConfig().mapperBuildListener());
     }
 
     public <T, K> DatastaxCrudDSL<T, K> crud(Class<T> targetType, Class<K> keyType) {
@@ -158,7 +159,8 @@ public class DatastaxMapperFactory extends AbstractMapperFactory<DatastaxColumnK
         public DynamicDatastaxSetRowMapper(
                 UnaryFactory<MapperKey<DatastaxColumnKey>, SetRowMapper<Row, ResultSet, T, DriverException>> mapperFactory,
                 UnaryFactoryWithException<Row, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromRow,
-                UnaryFactoryWithException<ResultSet, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromSet) {
-            super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, DatastaxMapperKeyComparator.INSTANCE);        }
+                UnaryFactoryWithException<ResultSet, MapperKey<DatastaxColumnKey>, DriverException> mapperKeyFromSet,
+                MapperBuildListener mapperBuildListener) {
+            super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, DatastaxMapperKeyComparator.INSTANCE, mapperBuildListener);        }
     }
 }
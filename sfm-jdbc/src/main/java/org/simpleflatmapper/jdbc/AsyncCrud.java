@@ -0,0 +1,396 @@
+package org.simpleflatmapper.jdbc;
+
+//IFJAVA8_START
+import org.simpleflatmapper.jdbc.impl.DataSourceTransactionTemplate;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.ParallelReader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Non blocking facade over a {@link Crud}, the operations are executed in a transaction on the executor
+ * and return a CompletionStage.
+ * <p>
+ * At most maxConcurrency operations run at the same time, the other operations are queued.
+ * The concurrent single key reads are coalesced into one {@link Crud#read(Connection, Collection, org.simpleflatmapper.util.CheckedConsumer)}
+ * and the concurrent single value creates into one batch {@link Crud#create(Connection, Collection)}, of at most maxBatchSize elements.
+ * The requests queued while a batch is executed form the next batch, it is scheduled once the running batch is executed,
+ * there is no wait for a batch to fill up.
+ * The CompletionStages complete after the operation released its slot, a callback can wait on another operation.
+ * <br>
+ * <code>
+ *     AsyncCrud&lt;DbObject, Long&gt; asyncCrud = new AsyncCrud&lt;DbObject, Long&gt;(dataSource, crud, DbObject::getId, executor, 8, 128);<br>
+ *     asyncCrud.read(1l).thenAccept(o -&gt; ...);<br>
+ * </code>
+ * <p>
+ * The key getter matches the rows read in a batch to the requested keys, the keys must implement equals and hashCode.
+ * A batch succeeds or fails as a whole, if the batch create fails all the creates of the batch complete exceptionally.
+ */
+public class AsyncCrud<T, K> {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 128;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Crud<T, K> delegate;
+    private final Function<? super T, ? extends K> keyGetter;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final int maxBatchSize;
+
+    private final ConcurrentLinkedQueue<Task> tasks = new ConcurrentLinkedQueue<Task>();
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final Batcher<K, T> readBatcher = new Batcher<K, T>() {
+        @Override
+        protected List<T> execute(Connection connection, List<Pending<K, T>> batch) throws SQLException {
+            LinkedHashSet<K> keys = new LinkedHashSet<K>();
+            for (Pending<K, T> pending : batch) {
+                keys.add(pending.value);
+            }
+            List<T> values = delegate.read(connection, keys, new ListCollector<T>(keys.size())).getList();
+            Map<K, T> valuesByKey = new HashMap<K, T>();
+            for (T value : values) {
+                valuesByKey.put(keyGetter.apply(value), value);
+            }
+            List<T> results = new ArrayList<T>(batch.size());
+            for (Pending<K, T> pending : batch) {
+                results.add(valuesByKey.get(pending.value));
+            }
+            return results;
+        }
+    };
+
+    private final Batcher<T, Void> createBatcher = new Batcher<T, Void>() {
+        @Override
+        protected List<Void> execute(Connection connection, List<Pending<T, Void>> batch) throws SQLException {
+            List<T> values = new ArrayList<T>(batch.size());
+            for (Pending<T, Void> pending : batch) {
+                values.add(pending.value);
+            }
+            delegate.create(connection, values);
+            return Collections.<Void>nCopies(batch.size(), null);
+        }
+    };
+
+    /**
+     * @param transactionTemplate the transaction template
+     * @param delegate the crud
+     * @param keyGetter the key of a value
+     * @param executor the executor the operations are run on
+     * @param maxConcurrency the maximum number of operations running at the same time
+     * @param maxBatchSize the maximum number of reads or creates coalesced in one operation
+     */
+    public AsyncCrud(TransactionTemplate transactionTemplate, Crud<T, K> delegate, Function<? super T, ? extends K> keyGetter,
+                     Executor executor, int maxConcurrency, int maxBatchSize) {
+        if (maxConcurrency < 1) throw new IllegalArgumentException("maxConcurrency must be strictly positive " + maxConcurrency);
+        if (maxBatchSize < 1) throw new IllegalArgumentException("maxBatchSize must be strictly positive " + maxBatchSize);
+        this.transactionTemplate = transactionTemplate;
+        this.delegate = delegate;
+        this.keyGetter = keyGetter;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public AsyncCrud(DataSource dataSource, Crud<T, K> delegate, Function<? super T, ? extends K> keyGetter,
+                     Executor executor, int maxConcurrency, int maxBatchSize) {
+        this(new DataSourceTransactionTemplate(dataSource), delegate, keyGetter, executor, maxConcurrency, maxBatchSize);
+    }
+
+    /**
+     * Create an async crud running on virtual threads if the jvm supports them, the default executor otherwise.
+     * @param dataSource the datasource
+     * @param delegate the crud
+     * @param keyGetter the key of a value
+     * @param maxConcurrency the maximum number of operations running at the same time
+     */
+    public AsyncCrud(DataSource dataSource, Crud<T, K> delegate, Function<? super T, ? extends K> keyGetter, int maxConcurrency) {
+        this(dataSource, delegate, keyGetter, ParallelReader.getVirtualThreadExecutor(), maxConcurrency, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * insert value into the db, the concurrent creates are batched.
+     *
+     * @param value the value
+     * @return the completion of the insert
+     */
+    public CompletionStage<Void> create(T value) {
+        return createBatcher.add(value);
+    }
+
+    /**
+     * insert values into the db.
+     *
+     * @param values the values
+     * @return the completion of the insert
+     */
+    public CompletionStage<Void> create(final Collection<T> values) {
+        return submit(connection -> {
+            delegate.create(connection, values);
+            return null;
+        });
+    }
+
+    /**
+     * retrieve the object with the specified key, the concurrent reads are batched.
+     *
+     * @param key the key
+     * @return the object or null if not found
+     */
+    public CompletionStage<T> read(K key) {
+        return readBatcher.add(key);
+    }
+
+    /**
+     * retrieve the objects with the specified keys.
+     *
+     * @param keys the keys
+     * @return the objects found
+     */
+    public CompletionStage<List<T>> read(final Collection<K> keys) {
+        return submit(connection -> delegate.read(connection, keys, new ListCollector<T>(keys.size())).getList());
+    }
+
+    /**
+     * update the object.
+     *
+     * @param value the value
+     * @return the completion of the update
+     */
+    public CompletionStage<Void> update(final T value) {
+        return submit(connection -> {
+            delegate.update(connection, value);
+            return null;
+        });
+    }
+
+    /**
+     * update the objects.
+     *
+     * @param values the values
+     * @return the completion of the update
+     */
+    public CompletionStage<Void> update(final Collection<T> values) {
+        return submit(connection -> {
+            delegate.update(connection, values);
+            return null;
+        });
+    }
+
+    /**
+     * delete the object with the specified key.
+     *
+     * @param key the key
+     * @return the completion of the delete
+     */
+    public CompletionStage<Void> delete(final K key) {
+        return submit(connection -> {
+            delegate.delete(connection, key);
+            return null;
+        });
+    }
+
+    /**
+     * delete the objects with the specified keys.
+     *
+     * @param keys the keys
+     * @return the completion of the delete
+     */
+    public CompletionStage<Void> delete(final Collection<K> keys) {
+        return submit(connection -> {
+            delegate.delete(connection, keys);
+            return null;
+        });
+    }
+
+    /**
+     * UPSERT only supported on Mysql and Postgres 9.5.
+     *
+     * @param value the value
+     * @return the completion of the upsert
+     */
+    public CompletionStage<Void> createOrUpdate(final T value) {
+        return submit(connection -> {
+            delegate.createOrUpdate(connection, value);
+            return null;
+        });
+    }
+
+    /**
+     * UPSERT only supported on Mysql and Postgres 9.5.
+     *
+     * @param values the values
+     * @return the completion of the upsert
+     */
+    public CompletionStage<Void> createOrUpdate(final Collection<T> values) {
+        return submit(connection -> {
+            delegate.createOrUpdate(connection, values);
+            return null;
+        });
+    }
+
+    public Crud<T, K> crud() {
+        return delegate;
+    }
+
+    private <R> CompletionStage<R> submit(final SQLFunction<? super Connection, ? extends R> function) {
+        final CompletableFuture<R> future = new CompletableFuture<R>();
+        schedule(new Task() {
+            @Override
+            public Runnable execute() {
+                try {
+                    final R result = transactionTemplate.doInTransaction(function);
+                    return () -> future.complete(result);
+                } catch (final Throwable e) {
+                    return () -> future.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            protected void fail(Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private void schedule(Task task) {
+        tasks.add(task);
+        runTasks();
+    }
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            int nbRunning = running.get();
+            if (nbRunning >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(nbRunning, nbRunning + 1)) {
+                continue;
+            }
+            final Task task = tasks.poll();
+            if (task == null) {
+                running.decrementAndGet();
+                continue;
+            }
+            try {
+                executor.execute(() -> {
+                    Runnable completion = null;
+                    try {
+                        completion = task.execute();
+                    } finally {
+                        running.decrementAndGet();
+                        runTasks();
+                    }
+                    if (completion != null) {
+                        completion.run();
+                    }
+                });
+            } catch (Throwable e) {
+                running.decrementAndGet();
+                task.fail(e);
+            }
+        }
+    }
+
+    private static abstract class Task {
+        /**
+         * execute the operation while holding a slot.
+         * @return the completion of the futures, run once the slot is released
+         */
+        protected abstract Runnable execute();
+
+        protected abstract void fail(Throwable e);
+    }
+
+    private static final class Pending<I, R> {
+        private final I value;
+        private final CompletableFuture<R> future = new CompletableFuture<R>();
+
+        private Pending(I value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * queue the single element requests, a batch task drains up to maxBatchSize of them.
+     * Only one batch task is queued or running at a time, a new one is scheduled when the running one has executed its batch.
+     */
+    private abstract class Batcher<I, R> extends Task {
+        private final ConcurrentLinkedQueue<Pending<I, R>> queue = new ConcurrentLinkedQueue<Pending<I, R>>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        public CompletionStage<R> add(I value) {
+            Pending<I, R> pending = new Pending<I, R>(value);
+            queue.add(pending);
+            scheduleIfNeeded();
+            return pending.future;
+        }
+
+        private void scheduleIfNeeded() {
+            if (!queue.isEmpty() && scheduled.compareAndSet(false, true)) {
+                schedule(this);
+            }
+        }
+
+        @Override
+        public Runnable execute() {
+            final List<Pending<I, R>> batch = new ArrayList<Pending<I, R>>();
+            Pending<I, R> pending;
+            while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+                batch.add(pending);
+            }
+            try {
+                if (batch.isEmpty()) return null;
+                final List<R> results = transactionTemplate.doInTransaction(connection -> execute(connection, batch));
+                return () -> {
+                    for (int i = 0; i < batch.size(); i++) {
+                        batch.get(i).future.complete(results.get(i));
+                    }
+                };
+            } catch (final Throwable e) {
+                return () -> fail(batch, e);
+            } finally {
+                scheduled.set(false);
+                scheduleIfNeeded();
+            }
+        }
+
+        @Override
+        protected void fail(Throwable e) {
+            scheduled.set(false);
+            Pending<I, R> pending;
+            while ((pending = queue.poll()) != null) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+
+        private void fail(List<Pending<I, R>> batch, Throwable e) {
+            for (Pending<I, R> pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * @return the results, in the order of the batch
+         */
+        protected abstract List<R> execute(Connection connection, List<Pending<I, R>> batch) throws SQLException;
+    }
+}
+//IFJAVA8_END
@@ -57,6 +57,22 @@ public class CrudDSL<T, K> {
         return CrudFactory.<T, K>newInstance(target, keyTarget, crudMeta, jdbcMapperFactory);
     }
 
+    /**
+     * Create a crud against the specified table from the metadata in the snapshot, without querying the database.
+     * @param snapshot the snapshot
+     * @param table the table, as exported in the snapshot
+     * @return a new crud instance
+     * @throws SQLException if an error occurred
+     * @throws IllegalArgumentException if the table is not in the snapshot
+     */
+    public Crud<T, K> table(CrudMetaSnapshot snapshot, String table) throws SQLException {
+        CrudMeta crudMeta = snapshot.get(table);
+        if (crudMeta == null) {
+            throw new IllegalArgumentException("Table " + table + " is not in the snapshot " + snapshot.tables());
+        }
+        return CrudFactory.<T, K>newInstance(target, keyTarget, crudMeta, jdbcMapperFactory);
+    }
+
     /**
      * Create a connected crud against the specified table validating it against the specified datasource.
      * @param dataSource the datasource
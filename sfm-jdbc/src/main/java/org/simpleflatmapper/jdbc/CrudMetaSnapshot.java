@@ -0,0 +1,279 @@
+package org.simpleflatmapper.jdbc;
+
+import org.simpleflatmapper.jdbc.impl.ColumnMeta;
+import org.simpleflatmapper.jdbc.impl.CrudMeta;
+import org.simpleflatmapper.jdbc.impl.DatabaseMeta;
+import org.simpleflatmapper.map.mapper.ColumnDefinitionProvider;
+import org.simpleflatmapper.map.property.AutoGeneratedProperty;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Resolved table metadata used to create crud instances without querying the database.
+ * <p>
+ * The snapshot is exported from a live connection with {@link #of(Connection, Collection, ColumnDefinitionProvider)},
+ * written with {@link #writeTo(Writer)} and loaded at boot with {@link #readFrom(Reader)}.
+ * {@link CrudDSL#table(CrudMetaSnapshot, String)} then creates the crud eagerly without a connection,
+ * the snapshot is only read at that point so the cruds can be created in parallel.
+ * {@link #verify(Connection, ColumnDefinitionProvider)} compares the snapshot with the live schema.
+ * <p>
+ * The key and auto generated properties are resolved with the column definitions used to export the snapshot.
+ * <p>
+ * The format is one record per line, fields separated by tabs:
+ * <pre>
+ * db    product  majorVersion  minorVersion
+ * table name     resolvedName
+ * col   name     sqlType       K|-  -|+|=expression
+ * </pre>
+ * a db record applies to the following tables.
+ */
+public final class CrudMetaSnapshot {
+
+    private static final String HEADER = "sfm-crud-meta\t1";
+    private static final String DB = "db";
+    private static final String TABLE = "table";
+    private static final String COLUMN = "col";
+
+    private final Map<String, CrudMeta> crudMetas = new LinkedHashMap<String, CrudMeta>();
+
+    /**
+     * resolve the metadata of the specified tables.
+     * @param connection the connection
+     * @param tables the table names as they will be passed to {@link CrudDSL#table(CrudMetaSnapshot, String)}
+     * @param columnDefinitionProvider the column definitions, usually {@link JdbcMapperFactory#columnDefinitions()}
+     * @return the snapshot
+     * @throws SQLException if an error occurred
+     */
+    public static CrudMetaSnapshot of(Connection connection, Collection<String> tables, ColumnDefinitionProvider<JdbcColumnKey> columnDefinitionProvider) throws SQLException {
+        CrudMetaSnapshot snapshot = new CrudMetaSnapshot();
+        for(String table : tables) {
+            snapshot.add(table, CrudMeta.of(connection, table, columnDefinitionProvider));
+        }
+        return snapshot;
+    }
+
+    public CrudMetaSnapshot add(String table, CrudMeta crudMeta) {
+        crudMetas.put(table, crudMeta);
+        return this;
+    }
+
+    /**
+     * @param table the table name
+     * @return the crud meta for table or null if not in the snapshot
+     */
+    public CrudMeta get(String table) {
+        return crudMetas.get(table);
+    }
+
+    public Set<String> tables() {
+        return Collections.unmodifiableSet(crudMetas.keySet());
+    }
+
+    /**
+     * compare the snapshot with the live schema.
+     * @param connection the connection
+     * @param columnDefinitionProvider the column definitions
+     * @return the tables that do not match the live schema or cannot be read, empty if the snapshot is up to date
+     */
+    public List<String> verify(Connection connection, ColumnDefinitionProvider<JdbcColumnKey> columnDefinitionProvider) {
+        List<String> mismatches = new ArrayList<String>();
+        for(Map.Entry<String, CrudMeta> e : crudMetas.entrySet()) {
+            CrudMeta live;
+            try {
+                live = CrudMeta.of(connection, e.getKey(), columnDefinitionProvider);
+            } catch (SQLException ex) {
+                live = null;
+            }
+            if (!e.getValue().equals(live)) {
+                mismatches.add(e.getKey());
+            }
+        }
+        return mismatches;
+    }
+
+    public void writeTo(Writer writer) throws IOException {
+        writer.write(HEADER);
+        writer.write('\n');
+        DatabaseMeta currentDb = null;
+        for(Map.Entry<String, CrudMeta> e : crudMetas.entrySet()) {
+            CrudMeta crudMeta = e.getValue();
+            DatabaseMeta databaseMeta = crudMeta.getDatabaseMeta();
+            if (!databaseMeta.equals(currentDb)) {
+                writeRecord(writer, DB, databaseMeta.getProduct(), Integer.toString(databaseMeta.getMajorVersion()), Integer.toString(databaseMeta.getMinorVersion()));
+                currentDb = databaseMeta;
+            }
+            writeRecord(writer, TABLE, e.getKey(), crudMeta.getTable());
+            for(ColumnMeta columnMeta : crudMeta.getColumnMetas()) {
+                writeRecord(writer, COLUMN,
+                        columnMeta.getColumn(),
+                        Integer.toString(columnMeta.getSqlType()),
+                        columnMeta.isKey() ? "K" : "-",
+                        generatedToString(columnMeta.getAutoGeneratedProperty()));
+            }
+        }
+        writer.flush();
+    }
+
+    public static CrudMetaSnapshot readFrom(Reader reader) throws IOException {
+        BufferedReader bufferedReader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+
+        String header = bufferedReader.readLine();
+        if (!HEADER.equals(header)) {
+            throw new IOException("Not a crud meta snapshot, unexpected header " + header);
+        }
+
+        CrudMetaSnapshot snapshot = new CrudMetaSnapshot();
+        DatabaseMeta databaseMeta = null;
+        String tableKey = null;
+        CrudMetaRecord current = null;
+
+        String line;
+        int lineNumber = 1;
+        while((line = bufferedReader.readLine()) != null) {
+            lineNumber++;
+            if (line.length() == 0) continue;
+            String[] record = readRecord(line);
+            String type = record[0];
+            if (DB.equals(type) && record.length == 4) {
+                databaseMeta = new DatabaseMeta(record[1], parseInt(record[2], lineNumber), parseInt(record[3], lineNumber));
+            } else if (TABLE.equals(type) && record.length == 3) {
+                if (databaseMeta == null) {
+                    throw new IOException("Missing db record before table at line " + lineNumber);
+                }
+                if (current != null) {
+                    snapshot.add(tableKey, current.toCrudMeta());
+                }
+                tableKey = record[1];
+                current = new CrudMetaRecord(databaseMeta, record[2]);
+            } else if (COLUMN.equals(type) && record.length == 5 && current != null) {
+                current.columnMetas.add(new ColumnMeta(record[1], parseInt(record[2], lineNumber), "K".equals(record[3]), parseGenerated(record[4])));
+            } else {
+                throw new IOException("Invalid record at line " + lineNumber + " : " + line);
+            }
+        }
+        if (current != null) {
+            snapshot.add(tableKey, current.toCrudMeta());
+        }
+
+        return snapshot;
+    }
+
+    private static final class CrudMetaRecord {
+        private final DatabaseMeta databaseMeta;
+        private final String table;
+        private final List<ColumnMeta> columnMetas = new ArrayList<ColumnMeta>();
+
+        private CrudMetaRecord(DatabaseMeta databaseMeta, String table) {
+            this.databaseMeta = databaseMeta;
+            this.table = table;
+        }
+
+        private CrudMeta toCrudMeta() {
+            return new CrudMeta(databaseMeta, table, columnMetas.toArray(new ColumnMeta[0]));
+        }
+    }
+
+    private static String generatedToString(AutoGeneratedProperty autoGeneratedProperty) {
+        if (autoGeneratedProperty == null) {
+            return "-";
+        } else if (autoGeneratedProperty.getExpression() == null) {
+            return "+";
+        } else {
+            return "=" + autoGeneratedProperty.getExpression();
+        }
+    }
+
+    private static AutoGeneratedProperty parseGenerated(String value) throws IOException {
+        if ("-".equals(value)) {
+            return null;
+        } else if ("+".equals(value)) {
+            return AutoGeneratedProperty.DEFAULT;
+        } else if (value.startsWith("=")) {
+            return AutoGeneratedProperty.of(value.substring(1));
+        }
+        throw new IOException("Invalid auto generated value " + value);
+    }
+
+    private static int parseInt(String value, int lineNumber) throws IOException {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid number " + value + " at line " + lineNumber);
+        }
+    }
+
+    private static void writeRecord(Writer writer, String... values) throws IOException {
+        for(int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write('\t');
+            }
+            escape(writer, values[i]);
+        }
+        writer.write('\n');
+    }
+
+    private static void escape(Writer writer, String value) throws IOException {
+        for(int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                default:
+                    writer.write(c);
+            }
+        }
+    }
+
+    private static String[] readRecord(String line) {
+        List<String> values = new ArrayList<String>();
+        StringBuilder sb = new StringBuilder();
+        for(int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '\t') {
+                values.add(sb.toString());
+                sb.setLength(0);
+            } else if (c == '\\' && i + 1 < line.length()) {
+                char n = line.charAt(++i);
+                switch (n) {
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    default:
+                        sb.append(n);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        values.add(sb.toString());
+        return values.toArray(new String[0]);
+    }
+}
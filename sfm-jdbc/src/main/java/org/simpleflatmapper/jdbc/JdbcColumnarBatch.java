@@ -0,0 +1,245 @@
+package org.simpleflatmapper.jdbc;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column oriented batch of rows filled by a {@link JdbcColumnarExtractor}.
+ * <p>
+ * Each column is stored in a primitive array depending on its kind, integer columns in an int[],
+ * bigint in a long[], floating point in a double[], bit and boolean in a boolean[], character columns are dictionary encoded in an int[] of codes
+ * and the other columns are stored in an Object[].
+ * The nullity of the values is tracked in a bitmap per column, the value of a null entry is 0 or false, or -1 for a dictionary code.
+ * <p>
+ * The arrays are reused from one batch to the next, only the first {@link #size()} entries are valid.
+ */
+public final class JdbcColumnarBatch {
+
+    public static final int INT = 0;
+    public static final int LONG = 1;
+    public static final int DOUBLE = 2;
+    public static final int DICTIONARY = 3;
+    public static final int OBJECT = 4;
+    public static final int BOOLEAN = 5;
+
+    private final String[] names;
+    private final int[] kinds;
+    private final int capacity;
+
+    final int[][] ints;
+    final long[][] longs;
+    final double[][] doubles;
+    final boolean[][] booleans;
+    final Object[][] objects;
+    final long[][] nulls;
+
+    private final List<String>[] dictionaries;
+    private final Map<String, Integer>[] dictionaryIndexes;
+
+    int size;
+
+    @SuppressWarnings("unchecked")
+    JdbcColumnarBatch(String[] names, int[] kinds, int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity needs to be strictly positive " + capacity);
+        this.names = names;
+        this.kinds = kinds;
+        this.capacity = capacity;
+        this.ints = new int[kinds.length][];
+        this.longs = new long[kinds.length][];
+        this.doubles = new double[kinds.length][];
+        this.booleans = new boolean[kinds.length][];
+        this.objects = new Object[kinds.length][];
+        this.nulls = new long[kinds.length][];
+        this.dictionaries = new List[kinds.length];
+        this.dictionaryIndexes = new Map[kinds.length];
+        for(int i = 0; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case INT:
+                    ints[i] = new int[capacity];
+                    break;
+                case LONG:
+                    longs[i] = new long[capacity];
+                    break;
+                case DOUBLE:
+                    doubles[i] = new double[capacity];
+                    break;
+                case BOOLEAN:
+                    booleans[i] = new boolean[capacity];
+                    break;
+                case DICTIONARY:
+                    ints[i] = new int[capacity];
+                    dictionaries[i] = new ArrayList<String>();
+                    dictionaryIndexes[i] = new HashMap<String, Integer>();
+                    break;
+                default:
+                    objects[i] = new Object[capacity];
+            }
+            nulls[i] = new long[(capacity + 63) >>> 6];
+        }
+    }
+
+    /**
+     * @return the number of rows in the batch
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return the maximum number of rows in the batch
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    public int getColumnCount() {
+        return kinds.length;
+    }
+
+    /**
+     * @param column the column index, starting at 0
+     * @return the column name
+     */
+    public String getColumnName(int column) {
+        return names[column];
+    }
+
+    /**
+     * @param column the column index, starting at 0
+     * @return the kind of storage used for the column
+     */
+    public int getKind(int column) {
+        return kinds[column];
+    }
+
+    public int[] getInts(int column) {
+        checkKind(column, INT);
+        return ints[column];
+    }
+
+    public long[] getLongs(int column) {
+        checkKind(column, LONG);
+        return longs[column];
+    }
+
+    public double[] getDoubles(int column) {
+        checkKind(column, DOUBLE);
+        return doubles[column];
+    }
+
+    public boolean[] getBooleans(int column) {
+        checkKind(column, BOOLEAN);
+        return booleans[column];
+    }
+
+    /**
+     * @param column the column index
+     * @return the codes of the values, index in {@link #getDictionary(int)}
+     */
+    public int[] getCodes(int column) {
+        checkKind(column, DICTIONARY);
+        return ints[column];
+    }
+
+    /**
+     * @param column the column index
+     * @return the distinct values of the column in the batch
+     */
+    public List<String> getDictionary(int column) {
+        checkKind(column, DICTIONARY);
+        return Collections.unmodifiableList(dictionaries[column]);
+    }
+
+    public Object[] getObjects(int column) {
+        checkKind(column, OBJECT);
+        return objects[column];
+    }
+
+    /**
+     * @param column the column index
+     * @return the null bitmap of the column, bit row &amp; 63 of word row &gt;&gt;&gt; 6
+     */
+    public long[] getNulls(int column) {
+        return nulls[column];
+    }
+
+    public boolean isNull(int column, int row) {
+        return (nulls[column][row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * @param column the column index
+     * @param row the row index
+     * @return the value boxed or decoded
+     */
+    public Object getValue(int column, int row) {
+        if (isNull(column, row)) return null;
+        switch (kinds[column]) {
+            case INT:
+                return ints[column][row];
+            case LONG:
+                return longs[column][row];
+            case DOUBLE:
+                return doubles[column][row];
+            case BOOLEAN:
+                return booleans[column][row];
+            case DICTIONARY:
+                return dictionaries[column].get(ints[column][row]);
+            default:
+                return objects[column][row];
+        }
+    }
+
+    void clear() {
+        for(int i = 0; i < kinds.length; i++) {
+            Arrays.fill(nulls[i], 0L);
+            if (kinds[i] == DICTIONARY) {
+                dictionaries[i].clear();
+                dictionaryIndexes[i].clear();
+            } else if (kinds[i] == OBJECT) {
+                Arrays.fill(objects[i], 0, size, null);
+            }
+        }
+        size = 0;
+    }
+
+    void setNull(int column, int row) {
+        nulls[column][row >>> 6] |= 1L << row;
+    }
+
+    void setString(int column, int row, String value) {
+        if (value == null) {
+            ints[column][row] = -1;
+            setNull(column, row);
+            return;
+        }
+        Map<String, Integer> index = dictionaryIndexes[column];
+        Integer code = index.get(value);
+        if (code == null) {
+            List<String> dictionary = dictionaries[column];
+            code = dictionary.size();
+            dictionary.add(value);
+            index.put(value, code);
+        }
+        ints[column][row] = code;
+    }
+
+    private void checkKind(int column, int kind) {
+        if (kinds[column] != kind) {
+            throw new IllegalArgumentException("Column " + names[column] + " is of kind " + kinds[column] + " not " + kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JdbcColumnarBatch{" +
+                "names=" + Arrays.toString(names) +
+                ", size=" + size +
+                ", capacity=" + capacity +
+                '}';
+    }
+}
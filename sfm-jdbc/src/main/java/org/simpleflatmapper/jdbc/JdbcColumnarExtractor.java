@@ -0,0 +1,277 @@
+package org.simpleflatmapper.jdbc;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.ObjectGetterFactory;
+import org.simpleflatmapper.reflect.primitive.BooleanGetter;
+import org.simpleflatmapper.reflect.primitive.DoubleGetter;
+import org.simpleflatmapper.reflect.primitive.IntGetter;
+import org.simpleflatmapper.reflect.primitive.LongGetter;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Extract the rows of a {@link ResultSet} in {@link JdbcColumnarBatch} without creating an object per row.
+ * <p>
+ * Instantiate via {@link JdbcMapperFactory#newColumnarExtractor(java.sql.ResultSetMetaData)}, the getters are
+ * provided by the factory {@link org.simpleflatmapper.reflect.getter.GetterFactory} and the primitive ones are used
+ * when available.
+ * <pre>
+ *     JdbcColumnarBatch batch = extractor.newBatch(4096);
+ *     while(extractor.fill(rs, batch) &gt; 0) {
+ *         long[] ids = batch.getLongs(0);
+ *         ...
+ *     }
+ * </pre>
+ * The extractor is thread safe, the batch is not.
+ */
+public final class JdbcColumnarExtractor {
+
+    private final String[] names;
+    private final int[] kinds;
+    private final ColumnReader[] readers;
+
+    JdbcColumnarExtractor(String[] names, int[] kinds, Getter<ResultSet, ?>[] getters) {
+        this.names = names;
+        this.kinds = kinds;
+        this.readers = new ColumnReader[kinds.length];
+        for(int i = 0; i < kinds.length; i++) {
+            readers[i] = newColumnReader(i, kinds[i], getters[i]);
+        }
+    }
+
+    /**
+     * @param capacity the number of rows in the batch
+     * @return a new empty batch
+     */
+    public JdbcColumnarBatch newBatch(int capacity) {
+        return new JdbcColumnarBatch(names, kinds, capacity);
+    }
+
+    /**
+     * clear the batch and fill it with the next rows of the ResultSet.
+     * @param rs the ResultSet
+     * @param batch the batch to fill
+     * @return the number of rows read, 0 if the ResultSet is exhausted
+     * @throws SQLException if an error occurs
+     */
+    public int fill(ResultSet rs, JdbcColumnarBatch batch) throws SQLException {
+        batch.clear();
+        ColumnReader[] lReaders = this.readers;
+        int capacity = batch.capacity();
+        int row = 0;
+        try {
+            while (row < capacity && rs.next()) {
+                for (int i = 0; i < lReaders.length; i++) {
+                    lReaders[i].read(rs, batch, row);
+                }
+                row++;
+            }
+        } catch (Exception e) {
+            ErrorHelper.rethrow(e);
+        }
+        batch.size = row;
+        return row;
+    }
+
+    /**
+     * Read all the rows of the ResultSet and call the handler for each batch.
+     * The same batch instance is passed to the handler each time.
+     * @param rs the ResultSet
+     * @param batchSize the number of rows per batch
+     * @param handler the handler
+     * @param <H> the handler type
+     * @return the handler
+     * @throws SQLException if an error occurs
+     */
+    public <H extends CheckedConsumer<? super JdbcColumnarBatch>> H forEach(ResultSet rs, int batchSize, H handler) throws SQLException {
+        JdbcColumnarBatch batch = newBatch(batchSize);
+        while(fill(rs, batch) > 0) {
+            try {
+                handler.accept(batch);
+            } catch (Exception e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+        return handler;
+    }
+
+    static int kind(int sqlType) {
+        switch (sqlType) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return JdbcColumnarBatch.BOOLEAN;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return JdbcColumnarBatch.INT;
+            case Types.BIGINT:
+                return JdbcColumnarBatch.LONG;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return JdbcColumnarBatch.DOUBLE;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return JdbcColumnarBatch.DICTIONARY;
+            default:
+                return JdbcColumnarBatch.OBJECT;
+        }
+    }
+
+    static Class<?> type(int kind) {
+        switch (kind) {
+            case JdbcColumnarBatch.INT:
+                return Integer.class;
+            case JdbcColumnarBatch.LONG:
+                return Long.class;
+            case JdbcColumnarBatch.DOUBLE:
+                return Double.class;
+            case JdbcColumnarBatch.BOOLEAN:
+                return Boolean.class;
+            case JdbcColumnarBatch.DICTIONARY:
+                return String.class;
+            default:
+                return Object.class;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ColumnReader newColumnReader(int column, int kind, Getter<ResultSet, ?> getter) {
+        switch (kind) {
+            case JdbcColumnarBatch.INT:
+                return new IntColumnReader(column, ObjectGetterFactory.toIntGetter((Getter<ResultSet, Integer>) getter));
+            case JdbcColumnarBatch.LONG:
+                return new LongColumnReader(column, ObjectGetterFactory.toLongGetter((Getter<ResultSet, Long>) getter));
+            case JdbcColumnarBatch.DOUBLE:
+                return new DoubleColumnReader(column, ObjectGetterFactory.toDoubleGetter((Getter<ResultSet, Double>) getter));
+            case JdbcColumnarBatch.BOOLEAN:
+                return new BooleanColumnReader(column, ObjectGetterFactory.toBooleanGetter((Getter<ResultSet, Boolean>) getter));
+            case JdbcColumnarBatch.DICTIONARY:
+                return new DictionaryColumnReader(column, (Getter<ResultSet, String>) getter);
+            default:
+                return new ObjectColumnReader(column, getter);
+        }
+    }
+
+    private static abstract class ColumnReader {
+        protected final int column;
+
+        protected ColumnReader(int column) {
+            this.column = column;
+        }
+
+        abstract void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception;
+    }
+
+    private static final class IntColumnReader extends ColumnReader {
+        private final IntGetter<ResultSet> getter;
+
+        private IntColumnReader(int column, IntGetter<ResultSet> getter) {
+            super(column);
+            this.getter = getter;
+        }
+
+        @Override
+        void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception {
+            int value = getter.getInt(rs);
+            batch.ints[column][row] = value;
+            if (value == 0 && rs.wasNull()) {
+                batch.setNull(column, row);
+            }
+        }
+    }
+
+    private static final class LongColumnReader extends ColumnReader {
+        private final LongGetter<ResultSet> getter;
+
+        private LongColumnReader(int column, LongGetter<ResultSet> getter) {
+            super(column);
+            this.getter = getter;
+        }
+
+        @Override
+        void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception {
+            long value = getter.getLong(rs);
+            batch.longs[column][row] = value;
+            if (value == 0 && rs.wasNull()) {
+                batch.setNull(column, row);
+            }
+        }
+    }
+
+    private static final class DoubleColumnReader extends ColumnReader {
+        private final DoubleGetter<ResultSet> getter;
+
+        private DoubleColumnReader(int column, DoubleGetter<ResultSet> getter) {
+            super(column);
+            this.getter = getter;
+        }
+
+        @Override
+        void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception {
+            double value = getter.getDouble(rs);
+            batch.doubles[column][row] = value;
+            if (value == 0 && rs.wasNull()) {
+                batch.setNull(column, row);
+            }
+        }
+    }
+
+    private static final class BooleanColumnReader extends ColumnReader {
+        private final BooleanGetter<ResultSet> getter;
+
+        private BooleanColumnReader(int column, BooleanGetter<ResultSet> getter) {
+            super(column);
+            this.getter = getter;
+        }
+
+        @Override
+        void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception {
+            boolean value = getter.getBoolean(rs);
+            batch.booleans[column][row] = value;
+            if (!value && rs.wasNull()) {
+                batch.setNull(column, row);
+            }
+        }
+    }
+
+    private static final class DictionaryColumnReader extends ColumnReader {
+        private final Getter<ResultSet, String> getter;
+
+        private DictionaryColumnReader(int column, Getter<ResultSet, String> getter) {
+            super(column);
+            this.getter = getter;
+        }
+
+        @Override
+        void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception {
+            batch.setString(column, row, getter.get(rs));
+        }
+    }
+
+    private static final class ObjectColumnReader extends ColumnReader {
+        private final Getter<ResultSet, ?> getter;
+
+        private ObjectColumnReader(int column, Getter<ResultSet, ?> getter) {
+            super(column);
+            this.getter = getter;
+        }
+
+        @Override
+        void read(ResultSet rs, JdbcColumnarBatch batch, int row) throws Exception {
+            Object value = getter.get(rs);
+            batch.objects[column][row] = value;
+            if (value == null) {
+                batch.setNull(column, row);
+            }
+        }
+    }
+}
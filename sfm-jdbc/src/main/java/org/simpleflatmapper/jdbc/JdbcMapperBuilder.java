@@ -10,6 +10,7 @@ import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.map.getter.ContextualGetterFactoryAdapter;
 import org.simpleflatmapper.map.mapper.ColumnDefinition;
 import org.simpleflatmapper.map.mapper.DefaultSetRowMapperBuilder;
+import org.simpleflatmapper.map.mapper.InstrumentedSetRowMapper;
 import org.simpleflatmapper.map.mapper.MapperBuilder;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
 import org.simpleflatmapper.map.context.MappingContextFactoryBuilder;
@@ -107,7 +108,7 @@ public final class JdbcMapperBuilder<T> extends MapperBuilder<ResultSet, ResultS
                 new BiFunction<SetRowMapper<ResultSet, ResultSet, T, SQLException>, List<JdbcColumnKey>, JdbcMapper<T>>() {
                     @Override
                     public JdbcMapper<T> apply(SetRowMapper<ResultSet, ResultSet, T, SQLException> setRowMapper, List<JdbcColumnKey> keys) {
-                        return new JdbcMapperImpl<T>(setRowMapper, parentBuilder.build());
+                        return new JdbcMapperImpl<T>(InstrumentedSetRowMapper.instrument(setRowMapper, mapperConfig.mappingMetrics()), parentBuilder.build());
                     }
                 }, 
                 COLUMN_DEFINITION_FACTORY,
@@ -1,8 +1,11 @@
 package org.simpleflatmapper.jdbc;
 
 import org.simpleflatmapper.map.ContextualSourceFieldMapper;
+import org.simpleflatmapper.map.MapperBuildListener;
+import org.simpleflatmapper.map.MapperBuildingException;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.AbstractColumnNameDiscriminatorMapperFactory;
+import org.simpleflatmapper.map.mapper.ColumnDefinition;
 import org.simpleflatmapper.map.mapper.ContextualSourceFieldMapperImpl;
 import org.simpleflatmapper.map.mapper.DynamicSourceFieldMapper;
 import org.simpleflatmapper.reflect.getter.GetterFactory;
@@ -226,6 +229,45 @@ public final class JdbcMapperFactory
         return newMapper(target.getType());
     }
 
+	/**
+	 * Will create a columnar extractor for the columns described by the metadata.
+	 * The extractor fills batches of rows in primitive arrays without instantiating an object per row.
+	 * @param metaData the metadata
+	 * @return the extractor
+	 * @throws SQLException if an error occurs getting the metaData
+	 */
+	@SuppressWarnings("unchecked")
+	public JdbcColumnarExtractor newColumnarExtractor(final ResultSetMetaData metaData) throws SQLException {
+		int nbColumns = metaData.getColumnCount();
+		String[] names = new String[nbColumns];
+		int[] kinds = new int[nbColumns];
+		Getter<ResultSet, ?>[] getters = new Getter[nbColumns];
+		for(int i = 0; i < nbColumns; i++) {
+			JdbcColumnKey key = JdbcColumnKey.of(metaData, i + 1);
+			ColumnDefinition<JdbcColumnKey, ?> columnDefinition = columnDefinitions().getColumnDefinition(key);
+			Object[] properties = columnDefinition.properties();
+
+			int kind = JdbcColumnarExtractor.kind(key.getSqlType(properties));
+			Getter<ResultSet, ?> getter = (Getter<ResultSet, ?>) columnDefinition.getCustomGetterFrom(ResultSet.class);
+			if (getter != null) {
+				kind = JdbcColumnarBatch.OBJECT;
+			} else {
+				getter = getterFactory.newGetter(JdbcColumnarExtractor.type(kind), key, properties);
+				if (getter == null) {
+					kind = JdbcColumnarBatch.OBJECT;
+					getter = getterFactory.newGetter(Object.class, key, properties);
+				}
+				if (getter == null) {
+					throw new MapperBuildingException("Could not find getter for column " + key);
+				}
+			}
+			names[i] = key.getName();
+			kinds[i] = kind;
+			getters[i] = getter;
+		}
+		return new JdbcColumnarExtractor(names, kinds, getters);
+	}
+
 	public <T, K> CrudDSL<T, K> crud(final Type target, final Type keyTarget) {
 		return crud(this.<T>getClassMeta(target), this.<K>getClassMeta(TypeHelper.toBoxedClass(keyTarget)));
 	}
@@ -246,12 +288,12 @@ public final class JdbcMapperFactory
      */
 	public <T> DynamicJdbcMapper<T> newMapper(final Type target) {
 		final ClassMeta<T> classMeta = getClassMeta(target);
-		return new DynamicJdbcSetRowMapper<T>(new SetRowMapperFactory<T>(classMeta),  new MapperKeyFactory(),  new MapperKeyFactory());
+		return new DynamicJdbcSetRowMapper<T>(new SetRowMapperFactory<T>(classMeta),  new MapperKeyFactory(),  new MapperKeyFactory(), mapperConfig().mapperBuildListener());
 	}
 
 	public <T> JdbcSourceFieldMapper<T> newSourceFieldMapper(Type target) {
 		final ClassMeta<T> classMeta = getClassMeta(target);
-		return new DynamicJdbSourceFieldMapper<T>(new SourceFieldMapperFactory<T>(classMeta),  new MapperKeyFactory());
+		return new DynamicJdbSourceFieldMapper<T>(new SourceFieldMapperFactory<T>(classMeta),  new MapperKeyFactory(), mapperConfig().mapperBuildListener());
 	}
 	public static class DynamicJdbSourceFieldMapper<T>
 			extends DynamicSourceFieldMapper<ResultSet, T, JdbcColumnKey, SQLException>
@@ -263,6 +305,13 @@ public final class JdbcMapperFactory
 			super(mapperFactory, mapperKeyFromRow, JdbcColumnKeyMapperKeyComparator.INSTANCE);
 		}
 
+		public DynamicJdbSourceFieldMapper(
+				UnaryFactory<MapperKey<JdbcColumnKey>, ContextualSourceFieldMapper<ResultSet, T>> mapperFactory,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromRow,
+				MapperBuildListener mapperBuildListener) {
+			super(mapperFactory, mapperKeyFromRow, JdbcColumnKeyMapperKeyComparator.INSTANCE, mapperBuildListener);
+		}
+
 		private ContextualSourceFieldMapper<ResultSet, T> getMapper(ResultSetMetaData metaData) throws SQLException {
 			return getMapper(JdbcColumnKey.mapperKey(metaData));
 		}
@@ -291,6 +340,14 @@ public final class JdbcMapperFactory
 			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, JdbcColumnKeyMapperKeyComparator.INSTANCE);
 		}
 
+		public DynamicJdbcSetRowMapper(
+				UnaryFactory<MapperKey<JdbcColumnKey>, SetRowMapper<ResultSet, ResultSet, T, SQLException>> mapperFactory,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromRow,
+				UnaryFactoryWithException<ResultSet, MapperKey<JdbcColumnKey>, SQLException> mapperKeyFromSet,
+				MapperBuildListener mapperBuildListener) {
+			super(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, JdbcColumnKeyMapperKeyComparator.INSTANCE, mapperBuildListener);
+		}
+
 
 		@Override
 		public JdbcMapper<T> getMapper(ResultSetMetaData metaData) throws SQLException {
@@ -0,0 +1,1381 @@
+package org.simpleflatmapper.jdbc;
+
+import org.simpleflatmapper.jdbc.impl.RowFrame;
+import org.simpleflatmapper.jdbc.impl.RowFrameRingBuffer;
+import org.simpleflatmapper.util.ParallelReader;
+
+import javax.sql.rowset.serial.SerialBlob;
+import javax.sql.rowset.serial.SerialClob;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Forward only, read only ResultSet that fetches the rows of the underlying ResultSet in another thread.
+ * <p>
+ * The producer iterates over the ResultSet and extracts the column values into reusable primitive-typed frames in a ring buffer,
+ * the consumer - usually a {@link JdbcMapper} - maps the frames in the calling thread.
+ * On high latency connections this overlaps the network fetch with the object construction.
+ * <p>
+ * <code>
+ *     try (ResultSet rs = new PipelinedResultSet(ps.executeQuery())) {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;jdbcMapper.forEach(rs, consumer);<br>
+ *     }<br>
+ * </code>
+ * <p>
+ * The underlying ResultSet must not be used once wrapped. Lobs are materialised as byte[] or String, streams are not supported.
+ * The values are extracted without Calendar, the Calendar variants of the date getters reinterpret the extracted date and time in the Calendar time zone.
+ */
+public final class PipelinedResultSet implements ResultSet {
+
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+
+    private static final long CLOSE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Charset US_ASCII = Charset.forName("US-ASCII");
+
+    private static final ParallelReader.WaitingStrategy DEFAULT_WAITING_STRATEGY = new ParallelReader.WaitingStrategy() {
+        @Override
+        public int idle(int i) {
+            java.util.concurrent.locks.LockSupport.parkNanos(1l);
+            return i;
+        }
+    };
+
+    private final ResultSet resultSet;
+    private final ResultSetMetaData metaData;
+    private final Statement statement;
+    private final int holdability;
+    private final int[] kinds;
+    private final int[] sqlTypes;
+    private final Map<String, Integer> columnIndexes;
+    private final RowFrameRingBuffer ringBuffer;
+
+    private RowFrame current;
+    private int row;
+    private int lastColumnIndex;
+    private boolean afterLast;
+    private boolean closed;
+
+    /**
+     * Create a new PipelinedResultSet that will fetch the rows from the default executor of {@link ParallelReader}.
+     * @param resultSet the resultSet to fetch from
+     * @throws SQLException if an error occurs reading the metadata
+     */
+    public PipelinedResultSet(ResultSet resultSet) throws SQLException {
+        this(resultSet, ParallelReader.getDefaultExecutor());
+    }
+
+    public PipelinedResultSet(ResultSet resultSet, Executor executor) throws SQLException {
+        this(resultSet, executor, DEFAULT_RING_BUFFER_SIZE, DEFAULT_WAITING_STRATEGY);
+    }
+
+    /**
+     * Create a new PipelinedResultSet.
+     * @param resultSet the resultSet to fetch from
+     * @param executor the executor running the producer
+     * @param ringBufferSize the number of frames in the ring buffer
+     * @param waitingStrategy the waiting strategy when the ring buffer is full or empty
+     * @throws SQLException if an error occurs reading the metadata
+     */
+    public PipelinedResultSet(ResultSet resultSet, Executor executor, int ringBufferSize, ParallelReader.WaitingStrategy waitingStrategy) throws SQLException {
+        this.resultSet = resultSet;
+        this.metaData = resultSet.getMetaData();
+        this.statement = resultSet.getStatement();
+        this.holdability = resultSet.getHoldability();
+        this.kinds = RowFrame.kinds(metaData);
+        this.sqlTypes = new int[kinds.length];
+        this.columnIndexes = new HashMap<String, Integer>();
+        for(int i = 1; i < kinds.length; i++) {
+            sqlTypes[i] = metaData.getColumnType(i);
+            String label = metaData.getColumnLabel(i).toUpperCase();
+            if (!columnIndexes.containsKey(label)) {
+                columnIndexes.put(label, i);
+            }
+        }
+        this.ringBuffer = new RowFrameRingBuffer(resultSet, kinds, executor, ringBufferSize, waitingStrategy);
+    }
+
+    @Override
+    public boolean next() throws SQLException {
+        checkOpen();
+        if (afterLast) return false;
+        current = ringBuffer.next();
+        if (current == null) {
+            afterLast = true;
+            return false;
+        }
+        row++;
+        return true;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed) return;
+        closed = true;
+        current = null;
+        // if the producer is still blocked fetching, closing the ResultSet makes it fail and exit
+        ringBuffer.stop(CLOSE_TIMEOUT_NANOS);
+        resultSet.close();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed;
+    }
+
+    @Override
+    public boolean wasNull() throws SQLException {
+        return frame().nulls[lastColumnIndex];
+    }
+
+    @Override
+    public int findColumn(String columnLabel) throws SQLException {
+        Integer index = columnIndexes.get(columnLabel.toUpperCase());
+        if (index == null) {
+            throw new SQLException("Unknown column " + columnLabel);
+        }
+        return index;
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() throws SQLException {
+        return metaData;
+    }
+
+    @Override
+    public Statement getStatement() throws SQLException {
+        return statement;
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return holdability;
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        if (frame.nulls[columnIndex]) return null;
+        switch (kinds[columnIndex]) {
+            case RowFrame.LONG:
+                return Long.toString(frame.longs[columnIndex]);
+            case RowFrame.DOUBLE:
+                return Double.toString(frame.doubles[columnIndex]);
+            case RowFrame.BOOLEAN:
+                return Boolean.toString(frame.longs[columnIndex] != 0);
+            default:
+                return String.valueOf(frame.objects[columnIndex]);
+        }
+    }
+
+    @Override
+    public String getNString(int columnIndex) throws SQLException {
+        return getString(columnIndex);
+    }
+
+    @Override
+    public boolean getBoolean(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        switch (kinds[columnIndex]) {
+            case RowFrame.LONG:
+            case RowFrame.BOOLEAN:
+                return frame.longs[columnIndex] != 0;
+            case RowFrame.DOUBLE:
+                return frame.doubles[columnIndex] != 0;
+            default:
+                Object o = frame.objects[columnIndex];
+                if (o == null) {
+                    return false;
+                } else if (o instanceof Boolean) {
+                    return (Boolean) o;
+                } else if (o instanceof Number) {
+                    return ((Number) o).intValue() != 0;
+                } else if (o instanceof String) {
+                    String s = ((String) o).trim();
+                    return "1".equals(s) || Boolean.parseBoolean(s);
+                }
+                throw cannotConvert(o, "boolean");
+        }
+    }
+
+    @Override
+    public byte getByte(int columnIndex) throws SQLException {
+        return (byte) getLong(columnIndex);
+    }
+
+    @Override
+    public short getShort(int columnIndex) throws SQLException {
+        return (short) getLong(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException {
+        return (int) getLong(columnIndex);
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        switch (kinds[columnIndex]) {
+            case RowFrame.LONG:
+            case RowFrame.BOOLEAN:
+                return frame.longs[columnIndex];
+            case RowFrame.DOUBLE:
+                return (long) frame.doubles[columnIndex];
+            default:
+                Object o = frame.objects[columnIndex];
+                if (o == null) {
+                    return 0;
+                } else if (o instanceof Number) {
+                    return ((Number) o).longValue();
+                } else if (o instanceof Boolean) {
+                    return ((Boolean) o) ? 1 : 0;
+                } else if (o instanceof String) {
+                    try {
+                        return new BigDecimal(((String) o).trim()).longValue();
+                    } catch (NumberFormatException e) {
+                        throw new SQLException("Cannot convert " + o + " to long", e);
+                    }
+                }
+                throw cannotConvert(o, "long");
+        }
+    }
+
+    @Override
+    public float getFloat(int columnIndex) throws SQLException {
+        return (float) getDouble(columnIndex);
+    }
+
+    @Override
+    public double getDouble(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        switch (kinds[columnIndex]) {
+            case RowFrame.LONG:
+            case RowFrame.BOOLEAN:
+                return frame.longs[columnIndex];
+            case RowFrame.DOUBLE:
+                return frame.doubles[columnIndex];
+            default:
+                Object o = frame.objects[columnIndex];
+                if (o == null) {
+                    return 0;
+                } else if (o instanceof Number) {
+                    return ((Number) o).doubleValue();
+                } else if (o instanceof String) {
+                    try {
+                        return Double.parseDouble(((String) o).trim());
+                    } catch (NumberFormatException e) {
+                        throw new SQLException("Cannot convert " + o + " to double", e);
+                    }
+                }
+                throw cannotConvert(o, "double");
+        }
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        if (frame.nulls[columnIndex]) return null;
+        switch (kinds[columnIndex]) {
+            case RowFrame.LONG:
+            case RowFrame.BOOLEAN:
+                return BigDecimal.valueOf(frame.longs[columnIndex]);
+            case RowFrame.DOUBLE:
+                return BigDecimal.valueOf(frame.doubles[columnIndex]);
+            default:
+                Object o = frame.objects[columnIndex];
+                if (o instanceof BigDecimal) {
+                    return (BigDecimal) o;
+                } else if (o instanceof BigInteger) {
+                    return new BigDecimal((BigInteger) o);
+                } else if (o instanceof Number || o instanceof String) {
+                    try {
+                        return new BigDecimal(o.toString().trim());
+                    } catch (NumberFormatException e) {
+                        throw new SQLException("Cannot convert " + o + " to BigDecimal", e);
+                    }
+                }
+                throw cannotConvert(o, "BigDecimal");
+        }
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
+        BigDecimal bigDecimal = getBigDecimal(columnIndex);
+        return bigDecimal != null ? bigDecimal.setScale(scale, BigDecimal.ROUND_HALF_UP) : null;
+    }
+
+    @Override
+    public byte[] getBytes(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof byte[]) {
+            return (byte[]) o;
+        }
+        throw cannotConvert(o, "byte[]");
+    }
+
+    @Override
+    public Date getDate(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof Date) {
+            return (Date) o;
+        } else if (o instanceof java.util.Date) {
+            return new Date(((java.util.Date) o).getTime());
+        } else if (o instanceof String) {
+            try {
+                return Date.valueOf(((String) o).trim());
+            } catch (IllegalArgumentException e) {
+                throw new SQLException("Cannot convert " + o + " to Date", e);
+            }
+        }
+        throw cannotConvert(o, "Date");
+    }
+
+    @Override
+    public Time getTime(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof Time) {
+            return (Time) o;
+        } else if (o instanceof java.util.Date) {
+            return new Time(((java.util.Date) o).getTime());
+        } else if (o instanceof String) {
+            try {
+                return Time.valueOf(((String) o).trim());
+            } catch (IllegalArgumentException e) {
+                throw new SQLException("Cannot convert " + o + " to Time", e);
+            }
+        }
+        throw cannotConvert(o, "Time");
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof Timestamp) {
+            return (Timestamp) o;
+        } else if (o instanceof java.util.Date) {
+            return new Timestamp(((java.util.Date) o).getTime());
+        } else if (o instanceof String) {
+            try {
+                return Timestamp.valueOf(((String) o).trim());
+            } catch (IllegalArgumentException e) {
+                throw new SQLException("Cannot convert " + o + " to Timestamp", e);
+            }
+        }
+        throw cannotConvert(o, "Timestamp");
+    }
+
+    @Override
+    public Object getObject(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        if (frame.nulls[columnIndex]) return null;
+        switch (kinds[columnIndex]) {
+            case RowFrame.LONG:
+                if (sqlTypes[columnIndex] == Types.BIGINT) {
+                    return frame.longs[columnIndex];
+                }
+                return (int) frame.longs[columnIndex];
+            case RowFrame.DOUBLE:
+                if (sqlTypes[columnIndex] == Types.REAL) {
+                    return (float) frame.doubles[columnIndex];
+                }
+                return frame.doubles[columnIndex];
+            case RowFrame.BOOLEAN:
+                return frame.longs[columnIndex] != 0;
+            default:
+                return frame.objects[columnIndex];
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+        if (type == null) throw new SQLException("type is null");
+        Object o = getObject(columnIndex);
+        if (o == null || type.isInstance(o)) {
+            return (T) o;
+        }
+        if (Long.class.equals(type)) return (T) Long.valueOf(getLong(columnIndex));
+        if (Integer.class.equals(type)) return (T) Integer.valueOf(getInt(columnIndex));
+        if (Short.class.equals(type)) return (T) Short.valueOf(getShort(columnIndex));
+        if (Byte.class.equals(type)) return (T) Byte.valueOf(getByte(columnIndex));
+        if (Double.class.equals(type)) return (T) Double.valueOf(getDouble(columnIndex));
+        if (Float.class.equals(type)) return (T) Float.valueOf(getFloat(columnIndex));
+        if (Boolean.class.equals(type)) return (T) Boolean.valueOf(getBoolean(columnIndex));
+        if (String.class.equals(type)) return (T) getString(columnIndex);
+        if (BigDecimal.class.equals(type)) return (T) getBigDecimal(columnIndex);
+        if (Date.class.equals(type)) return (T) getDate(columnIndex);
+        if (Time.class.equals(type)) return (T) getTime(columnIndex);
+        if (Timestamp.class.equals(type)) return (T) getTimestamp(columnIndex);
+        throw cannotConvert(o, type.getName());
+    }
+
+    @Override
+    public Object getObject(int columnIndex, Map<String, Class<?>> map) throws SQLException {
+        if (map == null || map.isEmpty()) {
+            return getObject(columnIndex);
+        }
+        throw new SQLFeatureNotSupportedException("Type map not supported");
+    }
+
+    @Override
+    public InputStream getAsciiStream(int columnIndex) throws SQLException {
+        String str = getString(columnIndex);
+        return str != null ? new ByteArrayInputStream(str.getBytes(US_ASCII)) : null;
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public InputStream getBinaryStream(int columnIndex) throws SQLException {
+        byte[] bytes = getBytes(columnIndex);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    @Override
+    public Reader getCharacterStream(int columnIndex) throws SQLException {
+        String str = getString(columnIndex);
+        return str != null ? new StringReader(str) : null;
+    }
+
+    @Override
+    public Reader getNCharacterStream(int columnIndex) throws SQLException {
+        return getCharacterStream(columnIndex);
+    }
+
+    @Override
+    public Blob getBlob(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof Blob) {
+            return (Blob) o;
+        } else if (o instanceof byte[]) {
+            return new SerialBlob((byte[]) o);
+        }
+        throw cannotConvert(o, "Blob");
+    }
+
+    @Override
+    public Clob getClob(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof Clob) {
+            return (Clob) o;
+        } else if (o instanceof String) {
+            return new SerialClob(((String) o).toCharArray());
+        }
+        throw cannotConvert(o, "Clob");
+    }
+
+    @Override
+    public NClob getNClob(int columnIndex) throws SQLException {
+        return getObjectOfType(columnIndex, NClob.class);
+    }
+
+    @Override
+    public Ref getRef(int columnIndex) throws SQLException {
+        return getObjectOfType(columnIndex, Ref.class);
+    }
+
+    @Override
+    public Array getArray(int columnIndex) throws SQLException {
+        return getObjectOfType(columnIndex, Array.class);
+    }
+
+    @Override
+    public RowId getRowId(int columnIndex) throws SQLException {
+        return getObjectOfType(columnIndex, RowId.class);
+    }
+
+    @Override
+    public SQLXML getSQLXML(int columnIndex) throws SQLException {
+        return getObjectOfType(columnIndex, SQLXML.class);
+    }
+
+    @Override
+    public URL getURL(int columnIndex) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || o instanceof URL) {
+            return (URL) o;
+        } else if (o instanceof String) {
+            try {
+                return new URL((String) o);
+            } catch (MalformedURLException e) {
+                throw new SQLException("Cannot convert " + o + " to URL", e);
+            }
+        }
+        throw cannotConvert(o, "URL");
+    }
+
+    @Override
+    public Date getDate(int columnIndex, Calendar cal) throws SQLException {
+        Date date = getDate(columnIndex);
+        if (date == null || cal == null) {
+            return date;
+        }
+        return new Date(inCalendar(date, cal));
+    }
+
+    @Override
+    public Time getTime(int columnIndex, Calendar cal) throws SQLException {
+        Time time = getTime(columnIndex);
+        if (time == null || cal == null) {
+            return time;
+        }
+        return new Time(inCalendar(time, cal));
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex, Calendar cal) throws SQLException {
+        Timestamp timestamp = getTimestamp(columnIndex);
+        if (timestamp == null || cal == null) {
+            return timestamp;
+        }
+        Timestamp inCalendar = new Timestamp(inCalendar(timestamp, cal));
+        inCalendar.setNanos(timestamp.getNanos());
+        return inCalendar;
+    }
+
+    public <T> T getObject(String columnLabel, Class<T> type) throws SQLException {
+        return getObject(findColumn(columnLabel), type);
+    }
+
+    @Override
+    public boolean getBoolean(String columnLabel) throws SQLException {
+        return getBoolean(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte getByte(String columnLabel) throws SQLException {
+        return getByte(findColumn(columnLabel));
+    }
+
+    @Override
+    public byte[] getBytes(String columnLabel) throws SQLException {
+        return getBytes(findColumn(columnLabel));
+    }
+
+    @Override
+    public double getDouble(String columnLabel) throws SQLException {
+        return getDouble(findColumn(columnLabel));
+    }
+
+    @Override
+    public float getFloat(String columnLabel) throws SQLException {
+        return getFloat(findColumn(columnLabel));
+    }
+
+    @Override
+    public int getInt(String columnLabel) throws SQLException {
+        return getInt(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getAsciiStream(String columnLabel) throws SQLException {
+        return getAsciiStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public InputStream getBinaryStream(String columnLabel) throws SQLException {
+        return getBinaryStream(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public InputStream getUnicodeStream(String columnLabel) throws SQLException {
+        return getUnicodeStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getCharacterStream(String columnLabel) throws SQLException {
+        return getCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Reader getNCharacterStream(String columnLabel) throws SQLException {
+        return getNCharacterStream(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(String columnLabel) throws SQLException {
+        return getObject(findColumn(columnLabel));
+    }
+
+    @Override
+    public Object getObject(String columnLabel, Map<String, Class<?>> map) throws SQLException {
+        return getObject(findColumn(columnLabel), map);
+    }
+
+    @Override
+    public String getNString(String columnLabel) throws SQLException {
+        return getNString(findColumn(columnLabel));
+    }
+
+    @Override
+    public String getString(String columnLabel) throws SQLException {
+        return getString(findColumn(columnLabel));
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String columnLabel) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel));
+    }
+
+    @Override
+    @Deprecated
+    public BigDecimal getBigDecimal(String columnLabel, int scale) throws SQLException {
+        return getBigDecimal(findColumn(columnLabel), scale);
+    }
+
+    @Override
+    public URL getURL(String columnLabel) throws SQLException {
+        return getURL(findColumn(columnLabel));
+    }
+
+    @Override
+    public Array getArray(String columnLabel) throws SQLException {
+        return getArray(findColumn(columnLabel));
+    }
+
+    @Override
+    public Blob getBlob(String columnLabel) throws SQLException {
+        return getBlob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Clob getClob(String columnLabel) throws SQLException {
+        return getClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel) throws SQLException {
+        return getDate(findColumn(columnLabel));
+    }
+
+    @Override
+    public Date getDate(String columnLabel, Calendar cal) throws SQLException {
+        return getDate(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public NClob getNClob(String columnLabel) throws SQLException {
+        return getNClob(findColumn(columnLabel));
+    }
+
+    @Override
+    public Ref getRef(String columnLabel) throws SQLException {
+        return getRef(findColumn(columnLabel));
+    }
+
+    @Override
+    public RowId getRowId(String columnLabel) throws SQLException {
+        return getRowId(findColumn(columnLabel));
+    }
+
+    @Override
+    public SQLXML getSQLXML(String columnLabel) throws SQLException {
+        return getSQLXML(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(String columnLabel) throws SQLException {
+        return getTime(findColumn(columnLabel));
+    }
+
+    @Override
+    public Time getTime(String columnLabel, Calendar cal) throws SQLException {
+        return getTime(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel) throws SQLException {
+        return getTimestamp(findColumn(columnLabel));
+    }
+
+    @Override
+    public Timestamp getTimestamp(String columnLabel, Calendar cal) throws SQLException {
+        return getTimestamp(findColumn(columnLabel), cal);
+    }
+
+    @Override
+    public long getLong(String columnLabel) throws SQLException {
+        return getLong(findColumn(columnLabel));
+    }
+
+    @Override
+    public short getShort(String columnLabel) throws SQLException {
+        return getShort(findColumn(columnLabel));
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return null;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+    }
+
+    @Override
+    public String getCursorName() throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public boolean isBeforeFirst() throws SQLException {
+        return row == 0 && !afterLast;
+    }
+
+    @Override
+    public boolean isAfterLast() throws SQLException {
+        return afterLast && row > 0;
+    }
+
+    @Override
+    public boolean isFirst() throws SQLException {
+        return row == 1 && !afterLast;
+    }
+
+    @Override
+    public boolean isLast() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public void beforeFirst() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public void afterLast() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean first() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean last() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public int getRow() throws SQLException {
+        return afterLast ? 0 : row;
+    }
+
+    @Override
+    public boolean absolute(int row) throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean relative(int rows) throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public boolean previous() throws SQLException {
+        throw forwardOnly();
+    }
+
+    @Override
+    public void setFetchDirection(int direction) throws SQLException {
+        if (direction != FETCH_FORWARD) {
+            throw forwardOnly();
+        }
+    }
+
+    @Override
+    public int getFetchDirection() throws SQLException {
+        return FETCH_FORWARD;
+    }
+
+    @Override
+    public void setFetchSize(int rows) throws SQLException {
+        // the fetch size of the underlying result set is owned by the producer
+    }
+
+    @Override
+    public int getFetchSize() throws SQLException {
+        return 0;
+    }
+
+    @Override
+    public int getType() throws SQLException {
+        return TYPE_FORWARD_ONLY;
+    }
+
+    @Override
+    public int getConcurrency() throws SQLException {
+        return CONCUR_READ_ONLY;
+    }
+
+    @Override
+    public boolean rowUpdated() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean rowInserted() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public boolean rowDeleted() throws SQLException {
+        return false;
+    }
+
+    @Override
+    public void insertRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void refreshRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void cancelRowUpdates() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveToInsertRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void moveToCurrentRow() throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateArray(int columnIndex, Array x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateArray(String columnLabel, Array x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateAsciiStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBigDecimal(int columnIndex, BigDecimal x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBigDecimal(String columnLabel, BigDecimal x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(int columnIndex, InputStream x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBinaryStream(String columnLabel, InputStream x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, InputStream x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(int columnIndex, Blob x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, InputStream x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBlob(String columnLabel, Blob x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBoolean(int columnIndex, boolean x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBoolean(String columnLabel, boolean x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateByte(int columnIndex, byte x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateByte(String columnLabel, byte x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBytes(int columnIndex, byte[] x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateBytes(String columnLabel, byte[] x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(int columnIndex, Clob x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateClob(String columnLabel, Clob x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDate(int columnIndex, Date x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDate(String columnLabel, Date x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDouble(int columnIndex, double x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateDouble(String columnLabel, double x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFloat(int columnIndex, float x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateFloat(String columnLabel, float x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateInt(int columnIndex, int x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateInt(String columnLabel, int x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateLong(int columnIndex, long x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateLong(String columnLabel, long x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(int columnIndex, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNCharacterStream(String columnLabel, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(int columnIndex, NClob x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, Reader x, long length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNClob(String columnLabel, NClob x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNString(int columnIndex, String x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNString(String columnLabel, String x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNull(int columnIndex) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateNull(String columnLabel) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(int columnIndex, Object x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateObject(String columnLabel, Object x, int length) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRef(int columnIndex, Ref x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRef(String columnLabel, Ref x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRowId(int columnIndex, RowId x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateRowId(String columnLabel, RowId x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateSQLXML(int columnIndex, SQLXML x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateSQLXML(String columnLabel, SQLXML x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateShort(int columnIndex, short x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateShort(String columnLabel, short x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateString(int columnIndex, String x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateString(String columnLabel, String x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTime(int columnIndex, Time x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTime(String columnLabel, Time x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTimestamp(int columnIndex, Timestamp x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateTimestamp(String columnLabel, Timestamp x) throws SQLException {
+        throw readOnly();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        return resultSet.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || resultSet.isWrapperFor(iface);
+    }
+
+    private RowFrame frame() throws SQLException {
+        RowFrame frame = current;
+        if (frame == null) {
+            checkOpen();
+            throw new SQLException("No current row");
+        }
+        return frame;
+    }
+
+    private RowFrame frame(int columnIndex) throws SQLException {
+        RowFrame frame = frame();
+        if (columnIndex < 1 || columnIndex >= kinds.length) {
+            throw new SQLException("Invalid column index " + columnIndex);
+        }
+        lastColumnIndex = columnIndex;
+        return frame;
+    }
+
+    private Object getFrameObject(int columnIndex) throws SQLException {
+        RowFrame frame = frame(columnIndex);
+        return frame.nulls[columnIndex] ? null : frame.objects[columnIndex];
+    }
+
+    private <T> T getObjectOfType(int columnIndex, Class<T> type) throws SQLException {
+        Object o = getFrameObject(columnIndex);
+        if (o == null || type.isInstance(o)) {
+            return type.cast(o);
+        }
+        throw cannotConvert(o, type.getSimpleName());
+    }
+
+    private void checkOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("ResultSet is closed");
+        }
+    }
+
+    private static SQLException cannotConvert(Object o, String type) {
+        return new SQLException("Cannot convert " + o.getClass().getName() + " to " + type);
+    }
+
+    // the value was extracted in the jvm time zone, resolve its fields in the time zone of the calendar as a driver does
+    private static long inCalendar(java.util.Date date, Calendar cal) {
+        Calendar local = Calendar.getInstance();
+        local.setTime(date);
+        Calendar target = (Calendar) cal.clone();
+        target.clear();
+        target.set(Calendar.ERA, local.get(Calendar.ERA));
+        target.set(local.get(Calendar.YEAR), local.get(Calendar.MONTH), local.get(Calendar.DAY_OF_MONTH),
+                local.get(Calendar.HOUR_OF_DAY), local.get(Calendar.MINUTE), local.get(Calendar.SECOND));
+        target.set(Calendar.MILLISECOND, local.get(Calendar.MILLISECOND));
+        return target.getTimeInMillis();
+    }
+
+    private static SQLFeatureNotSupportedException readOnly() {
+        return new SQLFeatureNotSupportedException("PipelinedResultSet is read only");
+    }
+
+    private static SQLFeatureNotSupportedException forwardOnly() {
+        return new SQLFeatureNotSupportedException("PipelinedResultSet is forward only");
+    }
+}
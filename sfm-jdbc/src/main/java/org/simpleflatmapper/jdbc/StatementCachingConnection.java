@@ -0,0 +1,481 @@
+package org.simpleflatmapper.jdbc;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * Connection that keeps the PreparedStatements open for the duration of a unit of work.
+ * <p>
+ * The statements are cached per sql query and prepare options, closing a statement releases it to the cache
+ * and the next prepareStatement of the same query reuses it without a prepare round trip.
+ * The cache is bounded, the least recently used statement is closed when the cache is full.
+ * If the cached statement of a query is still in use a new, non cached, statement is prepared,
+ * a statement on closeOnCompletion is no longer in use once all its ResultSets are closed.
+ * <br>
+ * <code>
+ *     StatementCachingConnection cachingConnection = new StatementCachingConnection(connection, 32);<br>
+ *     try {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;for(DbObject o : objects) {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;&nbsp;crud.create(cachingConnection, o);<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;}<br>
+ *     } finally {<br>
+ *     &nbsp;&nbsp;&nbsp;&nbsp;cachingConnection.releaseStatements();<br>
+ *     }<br>
+ * </code>
+ * <br>
+ * The {@link StatementCachingTransactionTemplate} scopes the cache to the transaction.
+ * Closing the connection closes the cached statements and the underlying connection.
+ * As the Connection it wraps, it is not thread safe.
+ */
+public final class StatementCachingConnection implements Connection {
+
+    public static final int DEFAULT_MAX_STATEMENTS = 32;
+
+    private static final Object[] NO_OPTIONS = new Object[0];
+
+    private final Connection connection;
+    private final StatementCache statements;
+
+    public StatementCachingConnection(Connection connection) {
+        this(connection, DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * @param connection the underlying connection
+     * @param maxStatements the maximum number of statements kept open
+     */
+    public StatementCachingConnection(Connection connection, int maxStatements) {
+        if (maxStatements < 1) throw new IllegalArgumentException("maxStatements must be strictly positive " + maxStatements);
+        this.connection = connection;
+        this.statements = new StatementCache(maxStatements);
+    }
+
+    /**
+     * @return the underlying connection
+     */
+    public Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * close all the cached statements, the statements in use are closed when released.
+     */
+    public void releaseStatements() {
+        ArrayList<CachedPreparedStatement> cachedStatements = new ArrayList<CachedPreparedStatement>(statements.values());
+        statements.clear();
+        for(CachedPreparedStatement statement : cachedStatements) {
+            statement.evict();
+        }
+    }
+
+    /**
+     * @return the number of cached statements
+     */
+    public int cachedStatements() {
+        return statements.size();
+    }
+
+    /**
+     * remove the statement from the cache and close it.
+     * @param statement the statement
+     */
+    void evict(CachedPreparedStatement statement) {
+        Iterator<CachedPreparedStatement> iterator = statements.values().iterator();
+        while(iterator.hasNext()) {
+            if (iterator.next() == statement) {
+                iterator.remove();
+                break;
+            }
+        }
+        statement.evict();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        StatementKey key = new StatementKey(sql, NO_OPTIONS);
+        CachedPreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            return cache(key, connection.prepareStatement(sql));
+        } else if (statement.isInUse() && !statement.releaseIfCompleted()) {
+            return connection.prepareStatement(sql);
+        }
+        statement.acquire();
+        return statement;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        StatementKey key = new StatementKey(sql, new Object[] { autoGeneratedKeys });
+        CachedPreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            return cache(key, connection.prepareStatement(sql, autoGeneratedKeys));
+        } else if (statement.isInUse() && !statement.releaseIfCompleted()) {
+            return connection.prepareStatement(sql, autoGeneratedKeys);
+        }
+        statement.acquire();
+        return statement;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        StatementKey key = new StatementKey(sql, new Object[] { columnIndexes });
+        CachedPreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            return cache(key, connection.prepareStatement(sql, columnIndexes));
+        } else if (statement.isInUse() && !statement.releaseIfCompleted()) {
+            return connection.prepareStatement(sql, columnIndexes);
+        }
+        statement.acquire();
+        return statement;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        StatementKey key = new StatementKey(sql, new Object[] { columnNames });
+        CachedPreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            return cache(key, connection.prepareStatement(sql, columnNames));
+        } else if (statement.isInUse() && !statement.releaseIfCompleted()) {
+            return connection.prepareStatement(sql, columnNames);
+        }
+        statement.acquire();
+        return statement;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        StatementKey key = new StatementKey(sql, new Object[] { resultSetType, resultSetConcurrency });
+        CachedPreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            return cache(key, connection.prepareStatement(sql, resultSetType, resultSetConcurrency));
+        } else if (statement.isInUse() && !statement.releaseIfCompleted()) {
+            return connection.prepareStatement(sql, resultSetType, resultSetConcurrency);
+        }
+        statement.acquire();
+        return statement;
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        StatementKey key = new StatementKey(sql, new Object[] { resultSetType, resultSetConcurrency, resultSetHoldability });
+        CachedPreparedStatement statement = statements.get(key);
+        if (statement == null) {
+            return cache(key, connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability));
+        } else if (statement.isInUse() && !statement.releaseIfCompleted()) {
+            return connection.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+        }
+        statement.acquire();
+        return statement;
+    }
+
+    private PreparedStatement cache(StatementKey key, PreparedStatement preparedStatement) {
+        CachedPreparedStatement statement = new CachedPreparedStatement(preparedStatement, this);
+        statement.acquire();
+        statements.put(key, statement);
+        return statement;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        releaseStatements();
+        connection.close();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(connection)) {
+            return iface.cast(connection);
+        }
+        return connection.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(connection) || connection.isWrapperFor(iface);
+    }
+
+    public void abort(Executor executor) throws SQLException {
+        connection.abort(executor);
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        connection.clearWarnings();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        connection.commit();
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return connection.createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return connection.createBlob();
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return connection.createClob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return connection.createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return connection.createSQLXML();
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return connection.createStatement();
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return connection.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return connection.createStatement(resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return connection.createStruct(typeName, attributes);
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return connection.getAutoCommit();
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return connection.getCatalog();
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return connection.getClientInfo();
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return connection.getClientInfo(name);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return connection.getHoldability();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return connection.getMetaData();
+    }
+
+    public int getNetworkTimeout() throws SQLException {
+        return connection.getNetworkTimeout();
+    }
+
+    public String getSchema() throws SQLException {
+        return connection.getSchema();
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return connection.getTransactionIsolation();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return connection.getTypeMap();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return connection.getWarnings();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return connection.isClosed();
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return connection.isReadOnly();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return connection.isValid(timeout);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return connection.nativeSQL(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return connection.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return connection.prepareCall(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return connection.prepareCall(sql);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        connection.releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        connection.rollback();
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        connection.rollback(savepoint);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        connection.setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        connection.setCatalog(catalog);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        connection.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        connection.setClientInfo(properties);
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        connection.setHoldability(holdability);
+    }
+
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        connection.setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        connection.setReadOnly(readOnly);
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return connection.setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return connection.setSavepoint(name);
+    }
+
+    public void setSchema(String schema) throws SQLException {
+        connection.setSchema(schema);
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        connection.setTransactionIsolation(level);
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        connection.setTypeMap(map);
+    }
+
+    private static final class StatementCache extends LinkedHashMap<StatementKey, CachedPreparedStatement> {
+        private final int maxStatements;
+
+        private StatementCache(int maxStatements) {
+            super(16, 0.75f, true);
+            this.maxStatements = maxStatements;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<StatementKey, CachedPreparedStatement> eldest) {
+            if (size() > maxStatements) {
+                eldest.getValue().evict();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class StatementKey {
+        private final String sql;
+        private final Object[] options;
+        private final int hash;
+
+        private StatementKey(String sql, Object[] options) {
+            this.sql = sql;
+            this.options = options;
+            this.hash = 31 * sql.hashCode() + Arrays.deepHashCode(options);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            StatementKey that = (StatementKey) o;
+
+            return sql.equals(that.sql) && Arrays.deepEquals(options, that.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
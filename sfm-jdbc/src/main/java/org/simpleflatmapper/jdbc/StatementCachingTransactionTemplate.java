@@ -0,0 +1,39 @@
+package org.simpleflatmapper.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * TransactionTemplate that passes a {@link StatementCachingConnection} to the function,
+ * the prepared statements are reused within the transaction and closed at the end of it, before the commit or the rollback
+ * of the delegate template.
+ */
+public class StatementCachingTransactionTemplate implements TransactionTemplate {
+
+    private final TransactionTemplate delegate;
+    private final int maxStatements;
+
+    public StatementCachingTransactionTemplate(TransactionTemplate delegate) {
+        this(delegate, StatementCachingConnection.DEFAULT_MAX_STATEMENTS);
+    }
+
+    public StatementCachingTransactionTemplate(TransactionTemplate delegate, int maxStatements) {
+        this.delegate = delegate;
+        this.maxStatements = maxStatements;
+    }
+
+    @Override
+    public <R> R doInTransaction(final SQLFunction<? super Connection, ? extends R> sqlFunction) throws SQLException {
+        return delegate.doInTransaction(new SQLFunction<Connection, R>() {
+            @Override
+            public R apply(Connection connection) throws SQLException {
+                StatementCachingConnection cachingConnection = new StatementCachingConnection(connection, maxStatements);
+                try {
+                    return sqlFunction.apply(cachingConnection);
+                } finally {
+                    cachingConnection.releaseStatements();
+                }
+            }
+        });
+    }
+}
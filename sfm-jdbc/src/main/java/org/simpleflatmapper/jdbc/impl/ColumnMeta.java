@@ -32,6 +32,10 @@ public class ColumnMeta {
         return generated != null;
     }
 
+    public AutoGeneratedProperty getAutoGeneratedProperty() {
+        return generated;
+    }
+
     public JdbcColumnKey toJdbcColumnKey(int index) {
         return new JdbcColumnKey(column, index, sqlType);
     }
@@ -43,4 +47,36 @@ public class ColumnMeta {
     public String getInsertExpression() {
         return generated == null ? "?" : generated.getExpression();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ColumnMeta that = (ColumnMeta) o;
+
+        if (sqlType != that.sqlType) return false;
+        if (key != that.key) return false;
+        if (!column.equals(that.column)) return false;
+        return generated != null ? generated.equals(that.generated) : that.generated == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = column.hashCode();
+        result = 31 * result + sqlType;
+        result = 31 * result + (key ? 1 : 0);
+        result = 31 * result + (generated != null ? generated.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnMeta{" +
+                "column='" + column + '\'' +
+                ", sqlType=" + sqlType +
+                ", key=" + key +
+                ", generated=" + generated +
+                '}';
+    }
 }
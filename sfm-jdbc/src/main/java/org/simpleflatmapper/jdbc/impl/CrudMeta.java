@@ -17,6 +17,7 @@ import java.sql.SQLException;
 import java.sql.SQLSyntaxErrorException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class CrudMeta {
@@ -209,4 +210,32 @@ public class CrudMeta {
         return sb.toString();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        CrudMeta crudMeta = (CrudMeta) o;
+
+        if (!databaseMeta.equals(crudMeta.databaseMeta)) return false;
+        if (!table.equals(crudMeta.table)) return false;
+        return Arrays.equals(columnMetas, crudMeta.columnMetas);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = databaseMeta.hashCode();
+        result = 31 * result + table.hashCode();
+        result = 31 * result + Arrays.hashCode(columnMetas);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "CrudMeta{" +
+                "databaseMeta=" + databaseMeta +
+                ", table='" + table + '\'' +
+                ", columnMetas=" + Arrays.toString(columnMetas) +
+                '}';
+    }
 }
@@ -12,6 +12,18 @@ public class DatabaseMeta {
         this.minorVersion = minorVersion;
     }
 
+    public String getProduct() {
+        return product;
+    }
+
+    public int getMajorVersion() {
+        return majorVersion;
+    }
+
+    public int getMinorVersion() {
+        return minorVersion;
+    }
+
     public boolean isMysql() {
         return "MySQL".equals(product);
     }
@@ -20,6 +32,26 @@ public class DatabaseMeta {
         return "PostgreSQL".equals(product);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        DatabaseMeta that = (DatabaseMeta) o;
+
+        if (majorVersion != that.majorVersion) return false;
+        if (minorVersion != that.minorVersion) return false;
+        return product != null ? product.equals(that.product) : that.product == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = product != null ? product.hashCode() : 0;
+        result = 31 * result + majorVersion;
+        result = 31 * result + minorVersion;
+        return result;
+    }
+
     @Override
     public String toString() {
         return "DatabaseMeta{" +
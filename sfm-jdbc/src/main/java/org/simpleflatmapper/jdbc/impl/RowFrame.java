@@ -0,0 +1,130 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Reusable holder for the values of one row extracted from a {@link ResultSet}.
+ * Numeric columns are stored unboxed in the longs or doubles array, other values in the objects array.
+ * Lobs are materialised as byte[] or String as they are not valid once the cursor moves.
+ */
+public final class RowFrame {
+
+    public static final int LONG = 0;
+    public static final int DOUBLE = 1;
+    public static final int BOOLEAN = 2;
+    public static final int STRING = 3;
+    public static final int NSTRING = 4;
+    public static final int BYTES = 5;
+    public static final int BIG_DECIMAL = 6;
+    public static final int DATE = 7;
+    public static final int TIME = 8;
+    public static final int TIMESTAMP = 9;
+    public static final int OBJECT = 10;
+
+    public final long[] longs;
+    public final double[] doubles;
+    public final Object[] objects;
+    public final boolean[] nulls;
+
+    public RowFrame(int nbColumns) {
+        // index 0 unused to match jdbc column index
+        this.longs = new long[nbColumns + 1];
+        this.doubles = new double[nbColumns + 1];
+        this.objects = new Object[nbColumns + 1];
+        this.nulls = new boolean[nbColumns + 1];
+    }
+
+    public void load(ResultSet resultSet, int[] kinds) throws SQLException {
+        for(int i = 1; i < kinds.length; i++) {
+            switch (kinds[i]) {
+                case LONG:
+                    longs[i] = resultSet.getLong(i);
+                    break;
+                case DOUBLE:
+                    doubles[i] = resultSet.getDouble(i);
+                    break;
+                case BOOLEAN:
+                    longs[i] = resultSet.getBoolean(i) ? 1 : 0;
+                    break;
+                case STRING:
+                    objects[i] = resultSet.getString(i);
+                    break;
+                case NSTRING:
+                    objects[i] = resultSet.getNString(i);
+                    break;
+                case BYTES:
+                    objects[i] = resultSet.getBytes(i);
+                    break;
+                case BIG_DECIMAL:
+                    objects[i] = resultSet.getBigDecimal(i);
+                    break;
+                case DATE:
+                    objects[i] = resultSet.getDate(i);
+                    break;
+                case TIME:
+                    objects[i] = resultSet.getTime(i);
+                    break;
+                case TIMESTAMP:
+                    objects[i] = resultSet.getTimestamp(i);
+                    break;
+                default:
+                    objects[i] = resultSet.getObject(i);
+            }
+            nulls[i] = resultSet.wasNull();
+        }
+    }
+
+    public static int[] kinds(ResultSetMetaData metaData) throws SQLException {
+        int[] kinds = new int[metaData.getColumnCount() + 1];
+        for(int i = 1; i < kinds.length; i++) {
+            kinds[i] = kind(metaData.getColumnType(i));
+        }
+        return kinds;
+    }
+
+    public static int kind(int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return LONG;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return DOUBLE;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                return BOOLEAN;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.CLOB:
+                return STRING;
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.NCLOB:
+                return NSTRING;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return BYTES;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return BIG_DECIMAL;
+            case Types.DATE:
+                return DATE;
+            case Types.TIME:
+                return TIME;
+            case Types.TIMESTAMP:
+                return TIMESTAMP;
+            default:
+                return OBJECT;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.simpleflatmapper.jdbc.impl;
+
+import org.simpleflatmapper.util.AbstractRingBuffer;
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Single producer single consumer ring buffer of {@link RowFrame}.
+ * The producer iterates over the ResultSet in the executor and loads the values of each row in the next free frame,
+ * the consumer gets the frames in order. The frame returned by {@link #next()} is not reused until the following call.
+ * The sequences are the ones of the {@link ParallelReader} ring buffer.
+ */
+public final class RowFrameRingBuffer extends AbstractRingBuffer {
+
+    private final ResultSet resultSet;
+    private final RowFrame[] frames;
+    private final long mask;
+    private final int capacity;
+    private final FrameProducer frameProducer;
+
+    public RowFrameRingBuffer(ResultSet resultSet, int[] kinds, Executor executor, int ringBufferSize, ParallelReader.WaitingStrategy waitingStrategy) {
+        super(waitingStrategy);
+        this.capacity = 1 << 32 - Integer.numberOfLeadingZeros(Math.max(ringBufferSize, 2) - 1);
+        this.mask = capacity - 1;
+        this.resultSet = resultSet;
+        this.frames = new RowFrame[capacity];
+        for(int i = 0; i < capacity; i++) {
+            frames[i] = new RowFrame(kinds.length - 1);
+        }
+        this.frameProducer = new FrameProducer(kinds);
+        executor.execute(frameProducer);
+    }
+
+    /**
+     * @return the next frame or null if the result set is exhausted
+     * @throws SQLException if the producer failed
+     */
+    public RowFrame next() throws SQLException {
+        final long currentHead = head;
+        if (currentHead >= tailCache) {
+            tailCache = tail;
+            if (currentHead >= tailCache && !waitForData(currentHead)) {
+                if (frameProducer.exception != null) {
+                    throw frameProducer.exception;
+                }
+                return null;
+            }
+        }
+
+        RowFrame frame = frames[(int) (currentHead & mask)];
+        publishHead(currentHead + 1);
+        return frame;
+    }
+
+    /**
+     * stop the producer and park until it releases the ResultSet, the producer stops between two rows.
+     * @param timeoutNanos the maximum time to wait, the producer can be blocked in a ResultSet.next() call
+     * @return true if the producer released the ResultSet
+     */
+    public boolean stop(long timeoutNanos) {
+        stopProducer();
+        return awaitProducerDone(timeoutNanos);
+    }
+
+    private final class FrameProducer implements Runnable {
+        private final int[] kinds;
+        private volatile SQLException exception;
+
+        private FrameProducer(int[] kinds) {
+            this.kinds = kinds;
+        }
+
+        @Override
+        public void run() {
+            try {
+                produce();
+            } catch (SQLException e) {
+                exception = e;
+            } catch (RuntimeException e) {
+                exception = new SQLException(e.getMessage(), e);
+            } finally {
+                producerDone();
+            }
+        }
+
+        private void produce() throws SQLException {
+            ResultSet resultSet = RowFrameRingBuffer.this.resultSet;
+            int[] kinds = this.kinds;
+            long currentTail = tail;
+            long headCache = head;
+            // keep one frame for the consumer current row
+            long wrapPointOffset = capacity - 1;
+            while(run) {
+                final long wrapPoint = currentTail - wrapPointOffset;
+
+                if (headCache <= wrapPoint) {
+                    headCache = waitForSpace(wrapPoint);
+                    if (headCache <= wrapPoint) return;
+                }
+
+                if (!resultSet.next()) {
+                    return;
+                }
+                frames[(int) (currentTail & mask)].load(resultSet, kinds);
+                currentTail++;
+                publishTail(currentTail);
+            }
+        }
+    }
+}
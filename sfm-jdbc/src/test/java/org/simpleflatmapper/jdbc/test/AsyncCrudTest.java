@@ -0,0 +1,186 @@
+package org.simpleflatmapper.jdbc.test;
+
+//IFJAVA8_START
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.AsyncCrud;
+import org.simpleflatmapper.jdbc.Crud;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.jdbc.SQLFunction;
+import org.simpleflatmapper.jdbc.TransactionTemplate;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.test.jdbc.DbHelper;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class AsyncCrudTest {
+
+    private final Connection connection = mock(Connection.class);
+
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate() {
+        @Override
+        public <R> R doInTransaction(SQLFunction<? super Connection, ? extends R> sqlFunction) throws SQLException {
+            return sqlFunction.apply(connection);
+        }
+    };
+
+    private final List<Runnable> tasks = new ArrayList<Runnable>();
+
+    private void runTasks() {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCoalesceReads() throws Exception {
+        Crud<DbObject, Long> crud = mock(Crud.class);
+        doAnswer(invocation -> {
+            Collection<Long> keys = invocation.getArgument(1);
+            CheckedConsumer<DbObject> consumer = invocation.getArgument(2);
+            for (Long key : keys) {
+                if (key != 3) {
+                    DbObject dbObject = new DbObject();
+                    dbObject.setId(key);
+                    consumer.accept(dbObject);
+                }
+            }
+            return consumer;
+        }).when(crud).read(eq(connection), any(Collection.class), any(CheckedConsumer.class));
+
+        AsyncCrud<DbObject, Long> asyncCrud = new AsyncCrud<DbObject, Long>(transactionTemplate, crud, DbObject::getId, tasks::add, 1, 2);
+
+        CompletableFuture<DbObject> r1 = asyncCrud.read(1l).toCompletableFuture();
+        CompletableFuture<DbObject> r2 = asyncCrud.read(2l).toCompletableFuture();
+        CompletableFuture<DbObject> r1bis = asyncCrud.read(1l).toCompletableFuture();
+        CompletableFuture<DbObject> r3 = asyncCrud.read(3l).toCompletableFuture();
+
+        assertEquals(1, tasks.size());
+        runTasks();
+
+        assertEquals(1l, r1.get().getId());
+        assertEquals(2l, r2.get().getId());
+        assertEquals(1l, r1bis.get().getId());
+        assertNull(r3.get());
+
+        // batches of 2 requests
+        verify(crud).read(eq(connection), eq(new LinkedHashSet<Long>(Arrays.asList(1l, 2l))), any(CheckedConsumer.class));
+        verify(crud).read(eq(connection), eq(new LinkedHashSet<Long>(Arrays.asList(1l, 3l))), any(CheckedConsumer.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCallbackWaitingOnAnotherOperation() throws Exception {
+        Crud<DbObject, Long> crud = mock(Crud.class);
+        doAnswer(invocation -> {
+            Collection<Long> keys = invocation.getArgument(1);
+            CheckedConsumer<DbObject> consumer = invocation.getArgument(2);
+            for (Long key : keys) {
+                DbObject dbObject = new DbObject();
+                dbObject.setId(key);
+                consumer.accept(dbObject);
+            }
+            return consumer;
+        }).when(crud).read(eq(connection), any(Collection.class), any(CheckedConsumer.class));
+
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            AsyncCrud<DbObject, Long> asyncCrud = new AsyncCrud<DbObject, Long>(transactionTemplate, crud, DbObject::getId, executorService, 1, 2);
+
+            // the callback blocks on a second read, the slot needs to be released before the completion
+            CompletableFuture<Long> chained = asyncCrud.read(1l)
+                    .thenApply(o -> asyncCrud.read(o.getId() + 1).toCompletableFuture().join().getId())
+                    .toCompletableFuture();
+
+            assertEquals(2l, chained.get(10, TimeUnit.SECONDS).longValue());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testCoalesceCreatesFailure() throws Exception {
+        Crud<DbObject, Long> crud = mock(Crud.class);
+        SQLException error = new SQLException("batch failed");
+        doThrow(error).when(crud).create(eq(connection), any(Collection.class));
+
+        AsyncCrud<DbObject, Long> asyncCrud = new AsyncCrud<DbObject, Long>(transactionTemplate, crud, DbObject::getId, tasks::add, 1, 10);
+
+        CompletableFuture<Void> c1 = asyncCrud.create(new DbObject()).toCompletableFuture();
+        CompletableFuture<Void> c2 = asyncCrud.create(new DbObject()).toCompletableFuture();
+
+        runTasks();
+
+        verify(crud, times(1)).create(eq(connection), any(Collection.class));
+        try {
+            c1.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(error, e.getCause());
+        }
+        assertTrue(c2.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testDbObjectAsyncCrud() throws Exception {
+        DataSource dataSource = DbHelper.getHsqlDataSource();
+        Crud<DbObject, Long> crud;
+        Connection connection = dataSource.getConnection();
+        try {
+            crud = JdbcMapperFactory.newInstance().<DbObject, Long>crud(DbObject.class, Long.class).table(connection, "TEST_DB_OBJECT");
+        } finally {
+            connection.close();
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            AsyncCrud<DbObject, Long> asyncCrud = new AsyncCrud<DbObject, Long>(dataSource, crud, DbObject::getId, executorService, 2, 16);
+
+            List<DbObject> objects = new ArrayList<DbObject>();
+            List<CompletableFuture<Void>> creates = new ArrayList<CompletableFuture<Void>>();
+            for (int i = 0; i < 50; i++) {
+                DbObject object = DbObject.newInstance();
+                objects.add(object);
+                creates.add(asyncCrud.create(object).toCompletableFuture());
+            }
+            CompletableFuture.allOf(creates.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+            List<CompletableFuture<DbObject>> reads = new ArrayList<CompletableFuture<DbObject>>();
+            for (DbObject object : objects) {
+                reads.add(asyncCrud.read(object.getId()).toCompletableFuture());
+            }
+            for (int i = 0; i < objects.size(); i++) {
+                assertEquals(objects.get(i), reads.get(i).get(10, TimeUnit.SECONDS));
+            }
+
+            asyncCrud.delete(objects.get(0).getId()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertNull(asyncCrud.read(objects.get(0).getId()).toCompletableFuture().get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
+//IFJAVA8_END
@@ -5,8 +5,11 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.simpleflatmapper.converter.Context;
 import org.simpleflatmapper.jdbc.Crud;
+import org.simpleflatmapper.jdbc.CrudMetaSnapshot;
 import org.simpleflatmapper.jdbc.JdbcMapperFactory;
 import org.simpleflatmapper.jdbc.SelectQuery;
+import org.simpleflatmapper.jdbc.impl.ColumnMeta;
+import org.simpleflatmapper.jdbc.impl.CrudMeta;
 import org.simpleflatmapper.jdbc.property.IndexedSetterProperty;
 import org.simpleflatmapper.map.property.GetterProperty;
 import org.simpleflatmapper.reflect.Getter;
@@ -18,6 +21,9 @@ import org.simpleflatmapper.util.ListCollector;
 import org.simpleflatmapper.util.CheckedConsumer;
 
 import javax.persistence.Table;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -136,6 +142,35 @@ public class CrudTest {
         }
     }
 
+    @Test
+    public void testDbObjectCrudFromSnapshot() throws SQLException, IOException {
+        Connection connection = DbHelper.getDbConnection(targetDB);
+        if (connection == null) { System.err.println("Db " + targetDB + " not available"); return; }
+        try {
+            JdbcMapperFactory mapperFactory = JdbcMapperFactory.newInstance();
+            CrudMetaSnapshot snapshot = CrudMetaSnapshot.of(connection, Arrays.asList("TEST_DB_OBJECT", "TEST_DB_OBJECT_AUTOINC"), mapperFactory.columnDefinitions());
+
+            StringWriter writer = new StringWriter();
+            snapshot.writeTo(writer);
+            CrudMetaSnapshot loaded = CrudMetaSnapshot.readFrom(new StringReader(writer.toString()));
+
+            assertEquals(snapshot.tables(), loaded.tables());
+            assertEquals(snapshot.get("TEST_DB_OBJECT"), loaded.get("TEST_DB_OBJECT"));
+            assertEquals(snapshot.get("TEST_DB_OBJECT_AUTOINC"), loaded.get("TEST_DB_OBJECT_AUTOINC"));
+            assertTrue(loaded.verify(connection, mapperFactory.columnDefinitions()).isEmpty());
+
+            Crud<DbObject, Long> objectCrud =
+                    mapperFactory.<DbObject, Long>crud(DbObject.class, Long.class).table(loaded, "TEST_DB_OBJECT");
+
+            checkCrudDbObject(connection, objectCrud, DbObject.newInstance());
+
+            loaded.add("TEST_DB_OBJECT", new CrudMeta(loaded.get("TEST_DB_OBJECT").getDatabaseMeta(), "TEST_DB_OBJECT", new ColumnMeta[0]));
+            assertEquals(Collections.singletonList("TEST_DB_OBJECT"), loaded.verify(connection, mapperFactory.columnDefinitions()));
+        } finally {
+            connection.close();
+        }
+    }
+
     @Test
     public void testDbObjectCrudTable() throws SQLException {
         Connection connection = DbHelper.getDbConnection(targetDB);
@@ -12,12 +12,17 @@ import org.simpleflatmapper.util.CheckedConsumer;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 //IFJAVA8_START
 import java.util.function.Consumer;
@@ -113,6 +118,38 @@ public class DynamicJdbcMapperTest {
 		});
 	}
 
+	@Test
+	public void testResultSetMapperMapResolvesMetaDataOncePerResultSet() throws Exception {
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.noAsm().ignorePropertyNotFound().newMapper(DbObject.class);
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				final ResultSet delegate = ps.executeQuery();
+				final AtomicInteger metaDataCalls = new AtomicInteger();
+				ResultSet rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, new InvocationHandler() {
+					@Override
+					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+						if (method.getName().equals("getMetaData")) {
+							metaDataCalls.incrementAndGet();
+						}
+						try {
+							return method.invoke(delegate, args);
+						} catch (InvocationTargetException e) {
+							throw e.getCause();
+						}
+					}
+				});
+				int id = 1;
+				while(rs.next()) {
+					DbHelper.assertDbObjectMapping(id++, mapper.map(rs));
+				}
+				assertEquals(11, id);
+				assertEquals(1, metaDataCalls.get());
+			}
+		}, "SELECT id, 'name ' || id as name, 'name' || id || '@mail.com' as email, " +
+				"TIMESTAMP '2014-03-04 11:10:03' as creation_time, 2 as type_ordinal, 'type4' as type_name " +
+				"FROM UNNEST(SEQUENCE_ARRAY(1, 10, 1)) AS t(id)");
+	}
 
 	private static final int NBROW = 2;
 	private static final int NBFUTURE = 10000;
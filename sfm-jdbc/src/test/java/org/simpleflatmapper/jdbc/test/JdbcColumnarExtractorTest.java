@@ -0,0 +1,125 @@
+package org.simpleflatmapper.jdbc.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.JdbcColumnarBatch;
+import org.simpleflatmapper.jdbc.JdbcColumnarExtractor;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.test.jdbc.DbHelper;
+import org.simpleflatmapper.test.jdbc.TestRowHandler;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+
+import static org.junit.Assert.*;
+
+public class JdbcColumnarExtractorTest {
+
+	private static final String QUERY = "SELECT id, CAST(id AS INTEGER) as iid, CAST(id AS DOUBLE) / 2 as half, " +
+			"'type' || MOD(id, 3) as type_name, TIMESTAMP '2014-03-04 11:10:03' as creation_time, " +
+			"CASEWHEN(MOD(id, 2) = 0, CAST(NULL AS INTEGER), CAST(id AS INTEGER)) as odd " +
+			"FROM UNNEST(SEQUENCE_ARRAY(CAST(1 AS BIGINT), CAST(1000 AS BIGINT), CAST(1 AS BIGINT))) AS t(id)";
+
+	@Test
+	public void testFillBatches() throws Exception {
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement preparedStatement) throws Exception {
+				ResultSet rs = preparedStatement.executeQuery();
+				JdbcColumnarExtractor extractor = JdbcMapperFactory.newInstance().newColumnarExtractor(rs.getMetaData());
+
+				JdbcColumnarBatch batch = extractor.newBatch(300);
+				assertEquals(JdbcColumnarBatch.LONG, batch.getKind(0));
+				assertEquals(JdbcColumnarBatch.INT, batch.getKind(1));
+				assertEquals(JdbcColumnarBatch.DOUBLE, batch.getKind(2));
+				assertEquals(JdbcColumnarBatch.DICTIONARY, batch.getKind(3));
+				assertEquals(JdbcColumnarBatch.OBJECT, batch.getKind(4));
+				assertEquals(JdbcColumnarBatch.INT, batch.getKind(5));
+
+				long id = 1;
+				int n;
+				int nbBatch = 0;
+				while((n = extractor.fill(rs, batch)) > 0) {
+					nbBatch++;
+					assertEquals(n, batch.size());
+					long[] ids = batch.getLongs(0);
+					int[] iids = batch.getInts(1);
+					double[] halves = batch.getDoubles(2);
+					int[] codes = batch.getCodes(3);
+					Object[] timestamps = batch.getObjects(4);
+					int[] odds = batch.getInts(5);
+
+					assertEquals(3, batch.getDictionary(3).size());
+					for(int i = 0; i < n; i++, id++) {
+						assertEquals(id, ids[i]);
+						assertEquals((int) id, iids[i]);
+						assertEquals(id / 2.0, halves[i], 0.0001);
+						assertEquals("type" + (id % 3), batch.getDictionary(3).get(codes[i]));
+						assertEquals(Timestamp.valueOf("2014-03-04 11:10:03"), timestamps[i]);
+						if (id % 2 == 0) {
+							assertTrue(batch.isNull(5, i));
+							assertNull(batch.getValue(5, i));
+						} else {
+							assertFalse(batch.isNull(5, i));
+							assertEquals((int) id, odds[i]);
+						}
+						assertFalse(batch.isNull(0, i));
+					}
+				}
+				assertEquals(1001, id);
+				assertEquals(4, nbBatch);
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testBooleanColumn() throws Exception {
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement preparedStatement) throws Exception {
+				ResultSet rs = preparedStatement.executeQuery();
+				JdbcColumnarExtractor extractor = JdbcMapperFactory.newInstance().newColumnarExtractor(rs.getMetaData());
+
+				JdbcColumnarBatch batch = extractor.newBatch(10);
+				assertEquals(JdbcColumnarBatch.BOOLEAN, batch.getKind(1));
+				assertEquals(3, extractor.fill(rs, batch));
+
+				boolean[] flags = batch.getBooleans(1);
+				assertTrue(flags[0]);
+				assertFalse(batch.isNull(1, 0));
+				assertFalse(flags[1]);
+				assertFalse(batch.isNull(1, 1));
+				assertTrue(batch.isNull(1, 2));
+				assertNull(batch.getValue(1, 2));
+				assertEquals(Boolean.TRUE, batch.getValue(1, 0));
+			}
+		}, "SELECT id, CASEWHEN(id = 3, CAST(NULL AS BOOLEAN), id = 1) as flag " +
+				"FROM UNNEST(SEQUENCE_ARRAY(CAST(1 AS BIGINT), CAST(3 AS BIGINT), CAST(1 AS BIGINT))) AS t(id)");
+	}
+
+	@Test
+	public void testForEach() throws Exception {
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement preparedStatement) throws Exception {
+				ResultSet rs = preparedStatement.executeQuery();
+				JdbcColumnarExtractor extractor = JdbcMapperFactory.newInstance().newColumnarExtractor(rs.getMetaData());
+
+				final long[] sum = new long[2];
+				extractor.forEach(rs, 128, new CheckedConsumer<JdbcColumnarBatch>() {
+					@Override
+					public void accept(JdbcColumnarBatch batch) throws Exception {
+						long[] ids = batch.getLongs(0);
+						for(int i = 0; i < batch.size(); i++) {
+							sum[0] += ids[i];
+						}
+						sum[1] += batch.size();
+					}
+				});
+				assertEquals(500500, sum[0]);
+				assertEquals(1000, sum[1]);
+			}
+		}, QUERY);
+	}
+}
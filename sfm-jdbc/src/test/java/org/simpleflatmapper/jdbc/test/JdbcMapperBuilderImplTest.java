@@ -62,6 +62,11 @@ public class JdbcMapperBuilderImplTest {
 			public Class<?> createClass(String className, byte[] bytes, ClassLoader declaringClassLoader) {
 				throw new IllegalArgumentException("Invalid class");
 			}
+
+			@Override
+			public Class<?> createHiddenClass(String className, byte[] bytes, ClassLoader declaringClassLoader) {
+				throw new IllegalArgumentException("Invalid class");
+			}
 		};
 	}
 
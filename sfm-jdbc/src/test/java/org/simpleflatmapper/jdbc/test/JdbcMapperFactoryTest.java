@@ -9,6 +9,7 @@ import org.simpleflatmapper.reflect.getter.GetterFactory;
 import org.simpleflatmapper.map.FieldMapper;
 import org.simpleflatmapper.map.FieldMapperErrorHandler;
 import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.MappingMetrics;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.test.beans.DbFinalObject;
 import org.simpleflatmapper.test.beans.DbObject;
@@ -45,6 +46,23 @@ public class JdbcMapperFactoryTest {
 		assertNotNull(asmFactory.newBuilder(Tuples.typeDef(Date.class, Date.class)));
 	}
 
+	@Test
+	public void testMappingMetricsOnMapRow() throws Exception {
+		final MappingMetrics metrics = new MappingMetrics();
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactoryHelper.asm().mappingMetrics(metrics).newMapper(DbObject.class);
+		DbHelper.testDbObjectFromDb(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement ps) throws Exception {
+				ResultSet rs = ps.executeQuery();
+				while (rs.next()) {
+					DbHelper.assertDbObjectMapping(mapper.map(rs));
+				}
+			}
+		});
+		// the rows mapped one at a time are pending on the current thread until the snapshot
+		assertEquals(1, metrics.snapshot().getRows());
+	}
+
     @Test
     public void testFactoryOnReferenceType() throws SQLException {
         ResultSet rs = mock(ResultSet.class);
@@ -0,0 +1,114 @@
+package org.simpleflatmapper.jdbc.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.jdbc.PipelinedResultSet;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.test.jdbc.DbHelper;
+import org.simpleflatmapper.test.jdbc.TestRowHandler;
+import org.simpleflatmapper.util.ListCollector;
+import org.simpleflatmapper.util.ParallelReader;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+public class PipelinedResultSetTest {
+
+	private static final String QUERY = "SELECT id, 'name ' || id as name, 'name' || id || '@mail.com' as email, " +
+			"TIMESTAMP '2014-03-04 11:10:03' as creation_time, 2 as type_ordinal, 'type4' as type_name, " +
+			"CAST(NULL AS INTEGER) as nothing FROM UNNEST(SEQUENCE_ARRAY(1, 1000, 1)) AS t(id)";
+
+	private static final ParallelReader.WaitingStrategy YIELD = new ParallelReader.WaitingStrategy() {
+		@Override
+		public int idle(int i) {
+			Thread.yield();
+			return i;
+		}
+	};
+
+	@Test
+	public void testMapAllRowsInOrder() throws Exception {
+		final JdbcMapper<DbObject> mapper = JdbcMapperFactory.newInstance().ignorePropertyNotFound().newMapper(DbObject.class);
+
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement preparedStatement) throws Exception {
+				ResultSet rs = new PipelinedResultSet(preparedStatement.executeQuery(), ParallelReader.getDefaultExecutor(), 4, YIELD);
+				try {
+					List<DbObject> list = mapper.forEach(rs, new ListCollector<DbObject>()).getList();
+					assertEquals(1000, list.size());
+					for (int i = 0; i < list.size(); i++) {
+						DbHelper.assertDbObjectMapping(i + 1, list.get(i));
+					}
+					assertFalse(rs.next());
+				} finally {
+					rs.close();
+				}
+				assertTrue(rs.isClosed());
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testGetters() throws Exception {
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement preparedStatement) throws Exception {
+				ResultSet rs = new PipelinedResultSet(preparedStatement.executeQuery());
+				try {
+					assertTrue(rs.isBeforeFirst());
+					assertTrue(rs.next());
+					assertEquals(1, rs.getRow());
+					assertEquals(1, rs.getInt(1));
+					assertEquals("1", rs.getString("ID"));
+					assertEquals(1.0, rs.getDouble("id"), 0.0001);
+					assertEquals("name 1", rs.getString("name"));
+					assertEquals(2, rs.getInt("type_ordinal"));
+					assertEquals("2014-03-04 11:10:03.0", rs.getTimestamp("creation_time").toString());
+
+					Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+					utc.clear();
+					utc.set(2014, Calendar.MARCH, 4, 11, 10, 3);
+					assertEquals(utc.getTimeInMillis(), rs.getTimestamp("creation_time", Calendar.getInstance(TimeZone.getTimeZone("UTC"))).getTime());
+					assertEquals(utc.getTimeInMillis() - 9 * 3600 * 1000, rs.getTimestamp("creation_time", Calendar.getInstance(TimeZone.getTimeZone("Asia/Tokyo"))).getTime());
+
+					assertEquals(0, rs.getInt("nothing"));
+					assertTrue(rs.wasNull());
+					assertNull(rs.getObject("nothing"));
+
+					assertTrue(rs.next());
+					assertEquals(Long.valueOf(2), rs.getObject(1, Long.class));
+					assertFalse(rs.wasNull());
+				} finally {
+					rs.close();
+				}
+			}
+		}, QUERY);
+	}
+
+	@Test
+	public void testCloseBeforeEnd() throws Exception {
+		DbHelper.testQuery(new TestRowHandler<PreparedStatement>() {
+			@Override
+			public void handle(PreparedStatement preparedStatement) throws Exception {
+				ResultSet delegate = preparedStatement.executeQuery();
+				ResultSet rs = new PipelinedResultSet(delegate, ParallelReader.getDefaultExecutor(), 2, YIELD);
+				assertTrue(rs.next());
+				rs.close();
+				assertTrue(delegate.isClosed());
+				try {
+					rs.next();
+					fail();
+				} catch (java.sql.SQLException e) {
+					// expected
+				}
+			}
+		}, QUERY);
+	}
+}
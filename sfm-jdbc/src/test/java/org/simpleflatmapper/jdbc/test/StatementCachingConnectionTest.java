@@ -0,0 +1,176 @@
+package org.simpleflatmapper.jdbc.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.Crud;
+import org.simpleflatmapper.jdbc.JdbcMapperFactory;
+import org.simpleflatmapper.jdbc.SQLFunction;
+import org.simpleflatmapper.jdbc.StatementCachingConnection;
+import org.simpleflatmapper.jdbc.StatementCachingTransactionTemplate;
+import org.simpleflatmapper.jdbc.TransactionTemplate;
+import org.simpleflatmapper.jdbc.impl.DataSourceTransactionTemplate;
+import org.simpleflatmapper.test.beans.DbObject;
+import org.simpleflatmapper.test.jdbc.DbHelper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StatementCachingConnectionTest {
+
+    @Test
+    public void testReuseReleasedStatement() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps1 = mock(PreparedStatement.class);
+        PreparedStatement ps2 = mock(PreparedStatement.class);
+        when(connection.prepareStatement("select 1")).thenReturn(ps1, ps2);
+
+        StatementCachingConnection cachingConnection = new StatementCachingConnection(connection, 2);
+
+        PreparedStatement statement = cachingConnection.prepareStatement("select 1");
+        assertSame(cachingConnection, statement.getConnection());
+        statement.close();
+        assertTrue(statement.isClosed());
+
+        assertSame(statement, cachingConnection.prepareStatement("select 1"));
+        assertFalse(statement.isClosed());
+
+        // in use, not cached
+        assertSame(ps2, cachingConnection.prepareStatement("select 1"));
+        assertEquals(1, cachingConnection.cachedStatements());
+
+        verify(connection, times(2)).prepareStatement("select 1");
+        verify(ps1).clearParameters();
+        verify(ps1, never()).close();
+
+        statement.close();
+        cachingConnection.releaseStatements();
+        verify(ps1).close();
+        assertEquals(0, cachingConnection.cachedStatements());
+    }
+
+    @Test
+    public void testReleaseResetsSettingsAndClosesResultSets() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        ResultSet keys = mock(ResultSet.class);
+        when(connection.prepareStatement("q1")).thenReturn(ps);
+        when(ps.getFetchSize()).thenReturn(10);
+        when(ps.getFetchDirection()).thenReturn(ResultSet.FETCH_FORWARD);
+        when(ps.execute()).thenReturn(true);
+        when(ps.getResultSet()).thenReturn(rs);
+        when(ps.getGeneratedKeys()).thenReturn(keys);
+
+        StatementCachingConnection cachingConnection = new StatementCachingConnection(connection, 2);
+
+        PreparedStatement statement = cachingConnection.prepareStatement("q1");
+        statement.setMaxRows(5);
+        statement.setFetchSize(1000);
+        statement.execute();
+        assertSame(rs, statement.getResultSet());
+        assertSame(rs, statement.getResultSet());
+        assertSame(keys, statement.getGeneratedKeys());
+        statement.close();
+
+        verify(rs).close();
+        verify(keys).close();
+        verify(ps).setMaxRows(0);
+        verify(ps).setFetchSize(10);
+        verify(ps).setQueryTimeout(0);
+        verify(ps).setFetchDirection(ResultSet.FETCH_FORWARD);
+
+        // untouched settings are not reset
+        cachingConnection.prepareStatement("q1").close();
+        verify(ps).setFetchSize(10);
+    }
+
+    @Test
+    public void testCloseOnCompletion() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(connection.prepareStatement("q1")).thenReturn(ps);
+        when(ps.executeQuery()).thenReturn(rs);
+
+        StatementCachingConnection cachingConnection = new StatementCachingConnection(connection, 2);
+
+        PreparedStatement statement = cachingConnection.prepareStatement("q1");
+        statement.closeOnCompletion();
+        assertTrue(statement.isCloseOnCompletion());
+        statement.executeQuery();
+        assertFalse(statement.isClosed());
+
+        when(rs.isClosed()).thenReturn(true);
+        assertSame(statement, cachingConnection.prepareStatement("q1"));
+        assertFalse(statement.isCloseOnCompletion());
+        verify(ps, never()).closeOnCompletion();
+        verify(ps, never()).close();
+        verify(connection, times(1)).prepareStatement("q1");
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps1 = mock(PreparedStatement.class);
+        PreparedStatement ps2 = mock(PreparedStatement.class);
+        PreparedStatement ps3 = mock(PreparedStatement.class);
+        when(connection.prepareStatement("q1")).thenReturn(ps1);
+        when(connection.prepareStatement("q2")).thenReturn(ps2);
+        when(connection.prepareStatement("q3", 1)).thenReturn(ps3);
+
+        StatementCachingConnection cachingConnection = new StatementCachingConnection(connection, 2);
+
+        cachingConnection.prepareStatement("q1").close();
+        cachingConnection.prepareStatement("q2").close();
+        cachingConnection.prepareStatement("q1").close();
+
+        PreparedStatement statement = cachingConnection.prepareStatement("q3", 1);
+        verify(ps2).close();
+        verify(ps1, never()).close();
+        assertEquals(2, cachingConnection.cachedStatements());
+
+        // evicted while in use, closed on release
+        cachingConnection.releaseStatements();
+        verify(ps1).close();
+        verify(ps3, never()).close();
+        statement.close();
+        verify(ps3).close();
+    }
+
+    @Test
+    public void testCrudInTransaction() throws Exception {
+        DataSource dataSource = DbHelper.getHsqlDataSource();
+        final Crud<DbObject, Long> objectCrud;
+        Connection connection = dataSource.getConnection();
+        try {
+            objectCrud = JdbcMapperFactory.newInstance().<DbObject, Long>crud(DbObject.class, Long.class).table(connection, "TEST_DB_OBJECT");
+        } finally {
+            connection.close();
+        }
+
+        TransactionTemplate transactionTemplate = new StatementCachingTransactionTemplate(new DataSourceTransactionTemplate(dataSource), 4);
+
+        final StatementCachingConnection[] cachingConnections = new StatementCachingConnection[1];
+        transactionTemplate.doInTransaction(new SQLFunction<Connection, Object>() {
+            @Override
+            public Object apply(Connection connection) throws SQLException {
+                cachingConnections[0] = (StatementCachingConnection) connection;
+                for(int i = 0; i < 3; i++) {
+                    CrudTest.checkCrudDbObject(connection, objectCrud, DbObject.newInstance());
+                }
+                assertEquals(4, cachingConnections[0].cachedStatements());
+                return null;
+            }
+        });
+        assertEquals(0, cachingConnections[0].cachedStatements());
+    }
+}
@@ -0,0 +1,121 @@
+package org.simpleflatmapper.csv;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.simpleflatmapper.ow2asm.ClassWriter;
+import org.simpleflatmapper.ow2asm.MethodVisitor;
+import org.simpleflatmapper.ow2asm.Opcodes;
+import org.simpleflatmapper.util.CheckedConsumer;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Compare the mapping of 50, 200 and 400 columns types with
+ * the asm mapper splitting the mapping calls in methods of maxMethodSize calls,
+ * the asm mapper with all the calls in one method and the non asm mapper looping over the field mappers.
+ */
+@State(Scope.Benchmark)
+public class WideTypeMapperBenchmark {
+
+    private static final int NB_ROWS = 1000;
+
+    public enum Mode {
+        ASM_SPLIT, ASM_NO_SPLIT, NO_ASM
+    }
+
+    @Param({"50", "200", "400"})
+    public int nbColumns;
+
+    @Param({"ASM_SPLIT", "ASM_NO_SPLIT", "NO_ASM"})
+    public Mode mode;
+
+    private CsvMapper<?> mapper;
+    private String content;
+
+    @Setup
+    public void setUp() throws Exception {
+        Class<?> target = new WideTypeClassLoader().defineWideType(nbColumns);
+
+        CsvMapperFactory factory = CsvMapperFactory.newInstance();
+        switch (mode) {
+            case ASM_NO_SPLIT:
+                factory.maxMethodSize(1 << 30);
+                break;
+            case NO_ASM:
+                factory.useAsm(false);
+                break;
+            default:
+        }
+
+        CsvMapperBuilder<?> builder = factory.newBuilder(target);
+        for(int i = 0; i < nbColumns; i++) {
+            builder.addMapping("col" + i);
+        }
+        mapper = builder.mapper();
+
+        StringBuilder sb = new StringBuilder();
+        for(int r = 0; r < NB_ROWS; r++) {
+            for(int i = 0; i < nbColumns; i++) {
+                if (i > 0) sb.append(',');
+                switch (i & 3) {
+                    case 2:
+                        sb.append("str").append(r);
+                        break;
+                    case 3:
+                        sb.append(r).append(".5");
+                        break;
+                    default:
+                        sb.append(r + i);
+                }
+            }
+            sb.append('\n');
+        }
+        content = sb.toString();
+    }
+
+    @Benchmark
+    public void mapRows(final Blackhole blackhole) throws IOException {
+        mapper.forEach(new StringReader(content), new CheckedConsumer<Object>() {
+            @Override
+            public void accept(Object o) {
+                blackhole.consume(o);
+            }
+        });
+    }
+
+    /**
+     * generate a public class with public fields col0 to colN, cycling through int, long, String and double
+     * so that the field mappers are not all of the same class.
+     */
+    private static class WideTypeClassLoader extends ClassLoader {
+        private static final String[] TYPES = { "I", "J", "Ljava/lang/String;", "D" };
+
+        WideTypeClassLoader() {
+            super(WideTypeMapperBenchmark.class.getClassLoader());
+        }
+
+        Class<?> defineWideType(int nbColumns) {
+            String className = "org.simpleflatmapper.csv.WideType" + nbColumns;
+            ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+            cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC + Opcodes.ACC_SUPER, className.replace('.', '/'), null, "java/lang/Object", null);
+            for(int i = 0; i < nbColumns; i++) {
+                cw.visitField(Opcodes.ACC_PUBLIC, "col" + i, TYPES[i & 3], null, null).visitEnd();
+            }
+            MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(Opcodes.ALOAD, 0);
+            mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+            mv.visitInsn(Opcodes.RETURN);
+            mv.visitMaxs(1, 1);
+            mv.visitEnd();
+            cw.visitEnd();
+            byte[] bytes = cw.toByteArray();
+            return defineClass(className, bytes, 0, bytes.length);
+        }
+    }
+}
@@ -2,22 +2,57 @@ package org.simpleflatmapper.jooq;
 
 import org.jooq.Record;
 import org.jooq.RecordMapper;
+import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 public class JooqRecordMapperWrapper<R extends Record, E> implements RecordMapper<R, E> {
 
 	private final SourceMapper<Record, E> mapper;
 	private final MappingContextFactory<? super Record> mappingContextFactory;
+	private final boolean statelessContext;
 
 	public JooqRecordMapperWrapper(SourceMapper<Record, E> mapper, MappingContextFactory<? super Record> mappingContextFactory) {
 		this.mapper = mapper;
 		this.mappingContextFactory = mappingContextFactory;
+		this.statelessContext = mappingContextFactory == MappingContext.EMPTY_FACTORY;
 	}
 
 	@Override
 	public E map(R record) {
-		return mapper.map(record, mappingContextFactory.newContext());
+		return mapper.map(record, newContext());
+	}
+
+	/**
+	 * map all the records, the stateless context is shared by all the records.
+	 * @param records the records, usually a {@link org.jooq.Result}
+	 * @return the list of mapped objects
+	 */
+	public List<E> map(Collection<? extends R> records) {
+		List<E> list = new ArrayList<E>(records.size());
+		if (statelessContext) {
+			MappingContext<? super Record> context = newContext();
+			for(R record : records) {
+				list.add(mapper.map(record, context));
+			}
+		} else {
+			for(R record : records) {
+				list.add(mapper.map(record, mappingContextFactory.newContext()));
+			}
+		}
+		return list;
+	}
+
+	@SuppressWarnings("unchecked")
+	private MappingContext<? super Record> newContext() {
+		if (statelessContext) {
+			return MappingContext.EMPTY_CONTEXT;
+		}
+		return mappingContextFactory.newContext();
 	}
 
 	public SourceMapper<Record, E> getMapper() {
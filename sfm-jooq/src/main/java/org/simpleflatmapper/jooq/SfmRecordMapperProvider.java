@@ -6,8 +6,11 @@ import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.reflect.ReflectionService;
 
+import java.lang.ref.WeakReference;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Integration point with jooq.<p>
@@ -15,6 +18,14 @@ import java.util.concurrent.ConcurrentMap;
  */
 public class SfmRecordMapperProvider implements RecordMapperProvider {
 
+	private static final int RECORD_TYPE_CACHE_SIZE = 256;
+
+	/**
+	 * jooq calls provide on every fetch, usually with the same RecordType instance for a given query.
+	 * The last mapper provided for a RecordType is kept in a direct mapped table looked up by identity,
+	 * the RecordType is only weakly referenced so the table does not retain the queries.
+	 */
+	private final AtomicReferenceArray<RecordTypeEntry> recordTypeCache = new AtomicReferenceArray<RecordTypeEntry>(RECORD_TYPE_CACHE_SIZE);
 	private final ConcurrentMap<TargetColumnsMapperKey, MapperAndContext> mapperCache = new ConcurrentHashMap<TargetColumnsMapperKey, MapperAndContext>();
 	private final MapperConfig<JooqFieldKey, Record> mapperConfig;
 	private final ReflectionService reflectionService;
@@ -29,13 +40,41 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 		this.reflectionService = reflectionService;
 	}
 
+	@SuppressWarnings("unchecked")
 	@Override
-	public <R extends Record, E> RecordMapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
+	public <R extends Record, E> JooqRecordMapperWrapper<R, E> provide(RecordType<R> recordType, Class<? extends E> type) {
+		int index = (System.identityHashCode(recordType) * 31 + type.hashCode()) & (RECORD_TYPE_CACHE_SIZE - 1);
+
+		RecordTypeEntry entry = recordTypeCache.get(index);
+		if (entry != null && entry.type == type && entry.get() == recordType) {
+			return (JooqRecordMapperWrapper<R, E>) entry.wrapper;
+		}
+
+		JooqRecordMapperWrapper<R, E> wrapper = newWrapper(recordType, type);
+		recordTypeCache.set(index, new RecordTypeEntry(recordType, type, wrapper));
+		return wrapper;
+	}
+
+	/**
+	 * map all the records of the result, without going through the RecordMapper for each record.
+	 * @param result the result
+	 * @param type the target type
+	 * @param <R> the record type
+	 * @param <E> the target type
+	 * @return the list of mapped objects
+	 */
+	public <R extends Record, E> List<E> map(Result<R> result, Class<? extends E> type) {
+		return this.<R, E>provide(result.recordType(), type).map(result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <R extends Record, E> JooqRecordMapperWrapper<R, E> newWrapper(RecordType<R> recordType, Class<? extends E> type) {
 
 		SourceMapper<Record, E> mapper;
 		MappingContextFactory<? super Record> mappingContextFactory;
 
-		TargetColumnsMapperKey key = getMapperKey(recordType, type);
+		Field<?>[] fields = recordType.fields();
+		TargetColumnsMapperKey key = getMapperKey(fields, type);
 
 		MapperAndContext mc = mapperCache.get(key);
 		
@@ -49,7 +88,7 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 							mapperConfig);
 
 			int i = 0;
-			for(Field<?> field : recordType.fields()) {
+			for(Field<?> field : fields) {
 				mapperBuilder.addField(new JooqFieldKey(field, i++));
 			}
 
@@ -67,10 +106,10 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 
 
 
-	private <R extends Record> TargetColumnsMapperKey getMapperKey(RecordType<R> recordType, Class<?> type) {
-		String[] columns = new String[recordType.size()];
+	private TargetColumnsMapperKey getMapperKey(Field<?>[] fields, Class<?> type) {
+		String[] columns = new String[fields.length];
 		int i = 0;
-		for(Field<?> field : recordType.fields()) {
+		for(Field<?> field : fields) {
 			columns[i++] = field.getName();
 		}
 		
@@ -86,4 +125,15 @@ public class SfmRecordMapperProvider implements RecordMapperProvider {
 			this.mappingContextFactory = mappingContextFactory;
 		}
 	}
+
+	private static class RecordTypeEntry extends WeakReference<RecordType<?>> {
+		private final Class<?> type;
+		private final JooqRecordMapperWrapper<?, ?> wrapper;
+
+		private RecordTypeEntry(RecordType<?> recordType, Class<?> type, JooqRecordMapperWrapper<?, ?> wrapper) {
+			super(recordType);
+			this.type = type;
+			this.wrapper = wrapper;
+		}
+	}
 }
@@ -17,6 +17,8 @@ import java.util.List;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class JooqMapperTest {
@@ -39,6 +41,42 @@ public class JooqMapperTest {
 		assertSame(provider1.getMapper(), provider2.getMapper());
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testProvideMemoisedByRecordType() {
+		SfmRecordMapperProvider recordMapperProvider = new SfmRecordMapperProvider();
+		RecordType rt = mock(RecordType.class);
+		Field field1 = mock(Field.class);
+		when(field1.getName()).thenReturn("id");
+		when(field1.getType()).thenReturn(long.class);
+		when(rt.size()).thenReturn(1);
+		when(rt.fields()).thenReturn(new Field[] {field1});
+
+		JooqRecordMapperWrapper provider1 = recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+		JooqRecordMapperWrapper provider2 = recordMapperProvider.<Record, DbObject>provide(rt, DbObject.class);
+		assertSame(provider1, provider2);
+		verify(rt, times(1)).fields();
+	}
+
+	@Test
+	public void testMapResult() throws Exception {
+		Connection conn = DbHelper.objectDb();
+
+		SfmRecordMapperProvider recordMapperProvider = new SfmRecordMapperProvider();
+		DSLContext dsl = DSL
+				.using(new DefaultConfiguration().set(conn)
+						.set(SQLDialect.HSQLDB)
+						.set(recordMapperProvider));
+
+		Result<Record> result = dsl.select()
+				.from("TEST_DB_OBJECT").fetch();
+
+		List<DbObject> list = recordMapperProvider.map(result, DbObject.class);
+
+		assertEquals(2, list.size());
+		DbHelper.assertDbObjectMapping(list.get(0));
+	}
+
 	@Test
 	public void testIgnoreFields() throws Exception {
 		Connection conn = DbHelper.objectDb();
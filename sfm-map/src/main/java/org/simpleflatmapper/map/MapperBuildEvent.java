@@ -0,0 +1,103 @@
+package org.simpleflatmapper.map;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * Timings of a mapper build.
+ * <ul>
+ *     <li>property matching: the time spent matching the keys to the properties of the target in the addMapping calls</li>
+ *     <li>asm generation: the time spent generating and defining the asm mapper classes, sub object mappers included</li>
+ *     <li>field mapper resolution: the rest of the build, getters, converters, instantiators and sub property matching</li>
+ * </ul>
+ */
+public final class MapperBuildEvent {
+
+	public enum CacheOutcome {
+		/**
+		 * the mapper was built directly from a builder
+		 */
+		NOT_CACHED,
+		/**
+		 * the mapper was built by a dynamic mapper on a key not found in its cache
+		 */
+		MISS
+	}
+
+	private final Type targetType;
+	private final List<? extends FieldKey<?>> keys;
+	private final CacheOutcome cacheOutcome;
+	private final long propertyMatchingNanos;
+	private final long fieldMapperResolutionNanos;
+	private final long asmGenerationNanos;
+	private final int nbAsmMappers;
+	private final Object mapper;
+
+	public MapperBuildEvent(Type targetType, List<? extends FieldKey<?>> keys, CacheOutcome cacheOutcome,
+							long propertyMatchingNanos, long fieldMapperResolutionNanos, long asmGenerationNanos, int nbAsmMappers,
+							Object mapper) {
+		this.targetType = targetType;
+		this.keys = keys;
+		this.cacheOutcome = cacheOutcome;
+		this.propertyMatchingNanos = propertyMatchingNanos;
+		this.fieldMapperResolutionNanos = fieldMapperResolutionNanos;
+		this.asmGenerationNanos = asmGenerationNanos;
+		this.nbAsmMappers = nbAsmMappers;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * @return the target type of the mapper, null if it could not be determined
+	 */
+	public Type getTargetType() {
+		return targetType;
+	}
+
+	public List<? extends FieldKey<?>> getKeys() {
+		return keys;
+	}
+
+	public CacheOutcome getCacheOutcome() {
+		return cacheOutcome;
+	}
+
+	public long getPropertyMatchingNanos() {
+		return propertyMatchingNanos;
+	}
+
+	public long getFieldMapperResolutionNanos() {
+		return fieldMapperResolutionNanos;
+	}
+
+	public long getAsmGenerationNanos() {
+		return asmGenerationNanos;
+	}
+
+	/**
+	 * @return the number of asm mapper classes generated, 0 if the mapper does not use asm
+	 */
+	public int getNbAsmMappers() {
+		return nbAsmMappers;
+	}
+
+	public long getTotalNanos() {
+		return propertyMatchingNanos + fieldMapperResolutionNanos + asmGenerationNanos;
+	}
+
+	public Object getMapper() {
+		return mapper;
+	}
+
+	@Override
+	public String toString() {
+		return "MapperBuildEvent{" +
+				"targetType=" + targetType +
+				", keys=" + keys +
+				", cacheOutcome=" + cacheOutcome +
+				", propertyMatchingNanos=" + propertyMatchingNanos +
+				", fieldMapperResolutionNanos=" + fieldMapperResolutionNanos +
+				", asmGenerationNanos=" + asmGenerationNanos +
+				", nbAsmMappers=" + nbAsmMappers +
+				'}';
+	}
+}
@@ -0,0 +1,13 @@
+package org.simpleflatmapper.map;
+
+/**
+ * Notified each time a mapper is built, with the time spent in each phase of the build.
+ * <p>
+ * Called synchronously on the thread building the mapper, ie on the first query of a new shape for a dynamic mapper.
+ * The implementation needs to be thread safe and fast, it can forward the event to a metrics registry or a JFR event.
+ * @see org.simpleflatmapper.map.mapper.AbstractMapperFactory#mapperBuildListener(MapperBuildListener)
+ */
+public interface MapperBuildListener {
+
+	void mapperBuilt(MapperBuildEvent event);
+}
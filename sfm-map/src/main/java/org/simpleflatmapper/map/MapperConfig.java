@@ -34,7 +34,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
                 RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, 
-                false, Collections.<Discriminator<S, ?>>emptyList(), null);
+                false, Collections.<Discriminator<S, ?>>emptyList(), null, null, null);
     }
 
     public static <K extends FieldKey<K>, S> MapperConfig<K, S> config(ColumnDefinitionProvider<K> columnDefinitionProvider) {
@@ -45,7 +45,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 false,
                 NO_ASM_MAPPER_THRESHOLD,
                 RethrowFieldMapperErrorHandler.INSTANCE,
-                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, ?>>emptyList(), null);
+                RethrowConsumerErrorHandler.INSTANCE, MAX_METHOD_SIZE, false, Collections.<Discriminator<S, ?>>emptyList(), null, null, null);
     }
 
     private final ColumnDefinitionProvider<K> columnDefinitions;
@@ -59,6 +59,8 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
     private final boolean assumeInjectionModifiesValues;
     private final List<Discriminator<S, ?>> discriminators;
     private final Predicate<? super S> rowFilter;
+    private final MapperBuildListener mapperBuildListener;
+    private final MappingMetrics mappingMetrics;
 
     private MapperConfig(
             ColumnDefinitionProvider<K> columnDefinitions,
@@ -69,7 +71,9 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
             FieldMapperErrorHandler<? super K> fieldMapperErrorHandler,
             ConsumerErrorHandler consumerErrorHandler,
             int maxMethodSize, boolean assumeInjectionModifiesValues,
-            List<Discriminator<S, ?>> discriminators, Predicate<? super S> rowFilter) {
+            List<Discriminator<S, ?>> discriminators, Predicate<? super S> rowFilter,
+            MapperBuildListener mapperBuildListener,
+            MappingMetrics mappingMetrics) {
         this.columnDefinitions = columnDefinitions;
         this.propertyNameMatcherFactory = propertyNameMatcherFactory;
         this.mapperBuilderErrorHandler = mapperBuilderErrorHandler;
@@ -81,6 +85,8 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
         this.assumeInjectionModifiesValues = assumeInjectionModifiesValues;
         this.discriminators = discriminators;
         this.rowFilter = rowFilter;
+        this.mapperBuildListener = mapperBuildListener;
+        this.mappingMetrics = mappingMetrics;
     }
 
     public ColumnDefinitionProvider<K> columnDefinitions() {
@@ -117,7 +123,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                    consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> propertyNameMatcherFactory(PropertyNameMatcherFactory propertyNameMatcherFactory) {
@@ -128,7 +134,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> mapperBuilderErrorHandler(MapperBuilderErrorHandler mapperBuilderErrorHandler) {
@@ -139,7 +145,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> failOnAsm(boolean failOnAsm) {
@@ -150,7 +156,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
 
@@ -163,7 +169,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> asmMapperNbFieldsLimit(int asmMapperNbFieldsLimit) {
@@ -174,7 +180,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> fieldMapperErrorHandler(FieldMapperErrorHandler<? super K> fieldMapperErrorHandler) {
@@ -185,7 +191,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 failOnAsm,
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
-                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                consumerErrorHandler, maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> consumerErrorHandler(ConsumerErrorHandler consumerErrorHandler) {
@@ -197,7 +203,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public MapperConfig<K, S> rowFilter(Predicate<? super S> rowFilter) {
@@ -209,7 +215,49 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
+    }
+
+    public boolean hasRowFilter() {
+        return rowFilter != null;
+    }
+
+    public MapperConfig<K, S> mapperBuildListener(MapperBuildListener mapperBuildListener) {
+        return new MapperConfig<K, S>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                consumerErrorHandler,
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
+    }
+
+    /**
+     * @return the listener notified of the mappers built with this config, null if none
+     */
+    public MapperBuildListener mapperBuildListener() {
+        return mapperBuildListener;
+    }
+
+    public MapperConfig<K, S> mappingMetrics(MappingMetrics mappingMetrics) {
+        return new MapperConfig<K, S>(
+                columnDefinitions,
+                propertyNameMatcherFactory,
+                mapperBuilderErrorHandler,
+                failOnAsm,
+                asmMapperNbFieldsLimit,
+                fieldMapperErrorHandler,
+                consumerErrorHandler,
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
+    }
+
+    /**
+     * @return the metrics the mappers built with this config record into, null if none
+     */
+    public MappingMetrics mappingMetrics() {
+        return mappingMetrics;
     }
 
     public ConsumerErrorHandler consumerErrorHandler() {
@@ -247,7 +295,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 asmMapperNbFieldsLimit,
                 fieldMapperErrorHandler,
                 consumerErrorHandler,
-                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter);
+                maxMethodSize, assumeInjectionModifiesValues, discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public <T> MapperConfig<K, S> discriminator(Class<T> rootClass, DiscriminatorCase<S, T>... cases) {
@@ -266,7 +314,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 consumerErrorHandler,
                 maxMethodSize,
                 assumeInjectionModifiesValues,
-                discriminators, rowFilter);
+                discriminators, rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public <S, T> Discriminator<S, T> getDiscriminator(ClassMeta<T> classMeta) {
@@ -298,7 +346,7 @@ public final class MapperConfig<K extends FieldKey<K>, S> {
                 maxMethodSize,
                 assumeInjectionModifiesValues,
                 discriminators, 
-                rowFilter);
+                rowFilter, mapperBuildListener, mappingMetrics);
     }
 
     public DiscriminatorCase<S, ?> getDiscriminatorCase(Type type) {
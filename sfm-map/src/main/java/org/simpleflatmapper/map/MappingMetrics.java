@@ -0,0 +1,267 @@
+package org.simpleflatmapper.map;
+
+import org.simpleflatmapper.converter.Context;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Runtime counters of the mappers instrumented with {@link org.simpleflatmapper.map.mapper.InstrumentedSetRowMapper}.
+ * <p>
+ * The row counts are accumulated per call and added once the enumeration is done, the rows mapped one at a time are
+ * accumulated per thread and added by batch, the mapping time is only measured
+ * on one row every sampleInterval rows so the overhead stays marginal. The per field errors are counted by the
+ * handlers returned by {@link #fieldMapperErrorHandler(FieldMapperErrorHandler)} and {@link #consumerErrorHandler(ConsumerErrorHandler)}
+ * that need to be set on the mapper factory.
+ * <p>
+ * The counters are cumulative, call {@link #snapshot()} periodically to publish them.
+ */
+public final class MappingMetrics {
+
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private static final int NB_BUCKETS = 64;
+
+    private static final int ROW_BATCH_MASK = (1 << 10) - 1;
+
+    private final int sampleMask;
+
+    private final AtomicLong rows = new AtomicLong();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+    private final AtomicLong sampledNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(NB_BUCKETS);
+    private final AtomicLong consumerErrors = new AtomicLong();
+    private final ConcurrentMap<String, AtomicLong> fieldErrors = new ConcurrentHashMap<String, AtomicLong>();
+    private final ThreadLocal<long[]> pendingRows = new ThreadLocal<long[]>();
+
+    public MappingMetrics() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * @param sampleInterval the mapping time is measured every sampleInterval rows, needs to be a power of 2
+     */
+    public MappingMetrics(int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("sampleInterval needs to be a power of 2 " + sampleInterval);
+        }
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    public int sampleMask() {
+        return sampleMask;
+    }
+
+    public void recordCall(long nbRows) {
+        calls.incrementAndGet();
+        if (nbRows > 0) {
+            rows.addAndGet(nbRows);
+        }
+    }
+
+    public void recordRows(long nbRows) {
+        rows.addAndGet(nbRows);
+    }
+
+    /**
+     * count a row mapped on its own, the count is kept on the current thread and added by batch of 1024 rows.
+     * @see #flushMappedRows()
+     */
+    public void recordMappedRow() {
+        long[] pending = pendingRows.get();
+        if (pending == null) {
+            pending = new long[1];
+            pendingRows.set(pending);
+        }
+        if (++pending[0] > ROW_BATCH_MASK) {
+            rows.addAndGet(pending[0]);
+            pending[0] = 0;
+        }
+    }
+
+    /**
+     * add the rows recorded by {@link #recordMappedRow()} on the current thread that are not added yet.
+     */
+    public void flushMappedRows() {
+        long[] pending = pendingRows.get();
+        if (pending != null && pending[0] > 0) {
+            rows.addAndGet(pending[0]);
+            pending[0] = 0;
+        }
+    }
+
+    public void recordSample(long nanos) {
+        samples.incrementAndGet();
+        sampledNanos.addAndGet(nanos);
+        histogram.incrementAndGet(bucket(nanos));
+    }
+
+    private static int bucket(long nanos) {
+        if (nanos <= 0) return 0;
+        return Math.min(NB_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * @param delegate the handler to call after counting the error, usually the handler configured on the factory
+     * @param <K> the key type
+     * @return a handler counting the errors per field
+     */
+    public <K> FieldMapperErrorHandler<K> fieldMapperErrorHandler(final FieldMapperErrorHandler<K> delegate) {
+        return new FieldMapperErrorHandler<K>() {
+            @Override
+            public void errorMappingField(K key, Object source, Object target, Exception error, Context mappingContext) throws MappingException {
+                fieldErrorCounter(key).incrementAndGet();
+                delegate.errorMappingField(key, source, target, error, mappingContext);
+            }
+        };
+    }
+
+    private AtomicLong fieldErrorCounter(Object key) {
+        String name = key instanceof FieldKey ? ((FieldKey<?>) key).getName() : String.valueOf(key);
+        AtomicLong counter = fieldErrors.get(name);
+        if (counter == null) {
+            counter = new AtomicLong();
+            AtomicLong previous = fieldErrors.putIfAbsent(name, counter);
+            if (previous != null) {
+                counter = previous;
+            }
+        }
+        return counter;
+    }
+
+    /**
+     * @param delegate the handler to call after counting the error, usually the handler configured on the factory
+     * @return a handler counting the errors thrown by the consumers
+     */
+    public ConsumerErrorHandler consumerErrorHandler(final ConsumerErrorHandler delegate) {
+        return new ConsumerErrorHandler() {
+            @Override
+            public void handlerError(Throwable error, Object target) {
+                consumerErrors.incrementAndGet();
+                delegate.handlerError(error, target);
+            }
+        };
+    }
+
+    /**
+     * @return the counters, including the rows mapped one at a time by the current thread
+     */
+    public Snapshot snapshot() {
+        flushMappedRows();
+        long[] buckets = new long[NB_BUCKETS];
+        for(int i = 0; i < NB_BUCKETS; i++) {
+            buckets[i] = histogram.get(i);
+        }
+        Map<String, Long> errors = new HashMap<String, Long>();
+        for(Map.Entry<String, AtomicLong> e : fieldErrors.entrySet()) {
+            errors.put(e.getKey(), e.getValue().get());
+        }
+        return new Snapshot(System.nanoTime(), rows.get(), calls.get(), samples.get(), sampledNanos.get(), buckets, consumerErrors.get(), Collections.unmodifiableMap(errors));
+    }
+
+    public static final class Snapshot {
+        private final long timestampNanos;
+        private final long rows;
+        private final long calls;
+        private final long samples;
+        private final long sampledNanos;
+        private final long[] histogram;
+        private final long consumerErrors;
+        private final Map<String, Long> fieldErrors;
+
+        private Snapshot(long timestampNanos, long rows, long calls, long samples, long sampledNanos, long[] histogram, long consumerErrors, Map<String, Long> fieldErrors) {
+            this.timestampNanos = timestampNanos;
+            this.rows = rows;
+            this.calls = calls;
+            this.samples = samples;
+            this.sampledNanos = sampledNanos;
+            this.histogram = histogram;
+            this.consumerErrors = consumerErrors;
+            this.fieldErrors = fieldErrors;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * @return the number of forEach, iterator, stream or enumerate calls
+         */
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getSamples() {
+            return samples;
+        }
+
+        /**
+         * @return the average mapping time of the sampled rows, including the read of the row from the source
+         */
+        public double getAverageRowNanos() {
+            return samples == 0 ? 0 : ((double) sampledNanos) / samples;
+        }
+
+        /**
+         * @param percentile the percentile between 0 and 1
+         * @return the upper bound of the power of 2 bucket of the sampled row mapping times containing the percentile
+         */
+        public long getRowNanosPercentile(double percentile) {
+            long target = (long) Math.ceil(samples * percentile);
+            long n = 0;
+            for(int i = 0; i < histogram.length; i++) {
+                n += histogram[i];
+                if (n >= target && n > 0) {
+                    return i == 0 ? 0 : (1L << i) - 1;
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * @return the number of sampled rows per power of 2 bucket, bucket i contains the rows mapped in [2^(i-1), 2^i) nanoseconds
+         */
+        public long[] getHistogram() {
+            return histogram.clone();
+        }
+
+        public long getConsumerErrors() {
+            return consumerErrors;
+        }
+
+        /**
+         * @return the number of errors per field name
+         */
+        public Map<String, Long> getFieldErrors() {
+            return fieldErrors;
+        }
+
+        /**
+         * @param previous an older snapshot of the same metrics
+         * @return the rows mapped per second between the previous snapshot and this one
+         */
+        public double rowsPerSecondSince(Snapshot previous) {
+            long elapsed = timestampNanos - previous.timestampNanos;
+            if (elapsed <= 0) return 0;
+            return (rows - previous.rows) * 1e9 / elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return "Snapshot{" +
+                    "rows=" + rows +
+                    ", calls=" + calls +
+                    ", samples=" + samples +
+                    ", averageRowNanos=" + getAverageRowNanos() +
+                    ", consumerErrors=" + consumerErrors +
+                    ", fieldErrors=" + fieldErrors +
+                    '}';
+        }
+    }
+}
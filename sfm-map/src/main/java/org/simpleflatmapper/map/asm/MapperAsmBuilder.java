@@ -4,6 +4,7 @@ import org.simpleflatmapper.ow2asm.ClassWriter;
 import org.simpleflatmapper.ow2asm.FieldVisitor;
 import org.simpleflatmapper.ow2asm.MethodVisitor;
 import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.mapper.AbstractMapper;
 import org.simpleflatmapper.reflect.BiInstantiator;
@@ -52,6 +53,25 @@ public class MapperAsmBuilder {
             final FieldMapper<? super S, ? super T>[] constructorMappers,
             final Class<? super S> sourceClass,
             final Class<T> target
+    ) throws Exception {
+        return dump(className, mappers, constructorMappers, sourceClass, target, MapperConfig.MAX_METHOD_SIZE);
+    }
+
+    /**
+     * generate the mapper class.
+     * <p>
+     * if there are more than maxMethodSize mappers the calls are split in private methods of at most maxMethodSize calls,
+     * that keeps each method under the jit huge method limit and gives each of them its own inlining budget
+     * while the calls stay on the typed final fields.
+     * @param maxMethodSize the max number of mapping calls per generated method, 0 or less to not split
+     */
+    public static <S,T> byte[] dump (
+            final String className,
+            final FieldMapper<? super S, ? super T>[] mappers,
+            final FieldMapper<? super S, ? super T>[] constructorMappers,
+            final Class<? super S> sourceClass,
+            final Class<T> target,
+            final int maxMethodSize
     ) throws Exception {
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
         MethodVisitor mv;
@@ -103,12 +123,20 @@ public class MapperAsmBuilder {
 			mv = cw.visitMethod(ACC_PUBLIC + ACC_FINAL, "mapFields", "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) +")V", null, new String[] { "java/lang/Exception" });
 			mv.visitCode();
 
-			for(int i = 0; i < mappers.length; i++) {
-				generateMappingCall(mv, mappers[i], i, classType, AsmUtils.toAsmType(sourceClass), targetType);
+			if (needsSplit(mappers, maxMethodSize)) {
+				generateSplitMethodCalls(mv, mappers, maxMethodSize, "mapFields", classType, sourceClass, targetType);
+			} else {
+				for (int i = 0; i < mappers.length; i++) {
+					generateMappingCall(mv, mappers[i], i, classType, AsmUtils.toAsmType(sourceClass), targetType);
+				}
 			}
 			
 			mv.visitInsn(RETURN);
 			mv.visitMaxs(3, 3);
+			mv.visitEnd();
+		}
+		if (needsSplit(mappers, maxMethodSize)) {
+			generateSplitMethods(cw, mappers, maxMethodSize, "mapFields", "fieldMapper", classType, sourceClass, targetType);
 		}
 		{
 			mv = cw.visitMethod(ACC_PUBLIC + ACC_BRIDGE + ACC_SYNTHETIC, "mapFields", "(Ljava/lang/Object;Ljava/lang/Object;" + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[] { "java/lang/Exception" });
@@ -129,8 +157,12 @@ public class MapperAsmBuilder {
             mv = cw.visitMethod(ACC_PROTECTED + ACC_FINAL, "mapToFields", "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType)+  ")V", null, new String[]{"java/lang/Exception"});
             mv.visitCode();
 
-            for(int i = 0; i < constructorMappers.length; i++) {
-                generateConstructorMappingCall(mv, constructorMappers[i], i, classType, AsmUtils.toAsmType(sourceClass), targetType);
+            if (needsSplit(constructorMappers, maxMethodSize)) {
+                generateSplitMethodCalls(mv, constructorMappers, maxMethodSize, "mapToFields", classType, sourceClass, targetType);
+            } else {
+                for (int i = 0; i < constructorMappers.length; i++) {
+                    generateConstructorMappingCall(mv, constructorMappers[i], i, classType, AsmUtils.toAsmType(sourceClass), targetType);
+                }
             }
 
             mv.visitVarInsn(ALOAD, 0);
@@ -142,6 +174,9 @@ public class MapperAsmBuilder {
             mv.visitMaxs(3, 3);
             mv.visitEnd();
         }
+        if (needsSplit(constructorMappers, maxMethodSize)) {
+            generateSplitMethods(cw, constructorMappers, maxMethodSize, "mapToFields", "constructorMapper", classType, sourceClass, targetType);
+        }
         {
             mv = cw.visitMethod(ACC_PROTECTED + ACC_BRIDGE + ACC_SYNTHETIC, "mapToFields", "(Ljava/lang/Object;Ljava/lang/Object;" + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[]{"java/lang/Exception"});
             mv.visitCode();
@@ -219,6 +254,35 @@ public class MapperAsmBuilder {
 		return AsmUtils.writeClassToFile(className, cw.toByteArray());
 	}
 
+    private static boolean needsSplit(FieldMapper<?, ?>[] mappers, int maxMethodSize) {
+        return maxMethodSize > 0 && mappers.length > maxMethodSize;
+    }
+
+    private static void generateSplitMethodCalls(MethodVisitor mv, FieldMapper<?, ?>[] mappers, int maxMethodSize, String methodName, String classType, Class<?> sourceClass, String targetType) {
+        for(int start = 0, part = 0; start < mappers.length; start += maxMethodSize, part++) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitMethodInsn(INVOKESPECIAL, classType, methodName + part, "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) + ")V", false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void generateSplitMethods(ClassWriter cw, FieldMapper<?, ?>[] mappers, int maxMethodSize, String methodName, String variablePrefix, String classType, Class<?> sourceClass, String targetType) {
+        for(int start = 0, part = 0; start < mappers.length; start += maxMethodSize, part++) {
+            MethodVisitor mv = cw.visitMethod(ACC_PRIVATE + ACC_FINAL, methodName + part, "(" + toTargetTypeDeclaration(sourceClass) + toTargetTypeDeclaration(targetType) + toTargetTypeDeclaration(mappingContextType) + ")V", null, new String[] { "java/lang/Exception" });
+            mv.visitCode();
+            int end = Math.min(start + maxMethodSize, mappers.length);
+            for(int i = start; i < end; i++) {
+                generateMappingCall(mv, (FieldMapper<Object, Object>) mappers[i], i, classType, AsmUtils.toAsmType(sourceClass), targetType, variablePrefix);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(3, 4);
+            mv.visitEnd();
+        }
+    }
+
     private static <S, T> void generateMappingCall(MethodVisitor mv,
 			FieldMapper<S, T> mapper, int index, String classType, String sourceType, String targetType) {
         generateMappingCall(mv, mapper, index, classType, sourceType, targetType, "fieldMapper");
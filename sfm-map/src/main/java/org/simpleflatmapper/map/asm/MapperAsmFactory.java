@@ -2,16 +2,16 @@ package org.simpleflatmapper.map.asm;
 
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 import org.simpleflatmapper.map.mapper.AbstractMapper;
 import org.simpleflatmapper.reflect.BiInstantiator;
 import org.simpleflatmapper.reflect.asm.AsmFactory;
+import org.simpleflatmapper.reflect.asm.GeneratedClassCache;
 
 import java.lang.reflect.Constructor;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 public class MapperAsmFactory {
 
@@ -22,7 +22,7 @@ public class MapperAsmFactory {
 	}
 
 
-    private final ConcurrentMap<MapperKey, Class<? extends SourceMapper<?, ?>>> fieldMapperCache = new ConcurrentHashMap<MapperKey, Class<? extends SourceMapper<?, ?>>>();
+    private final GeneratedClassCache<MapperKey, SourceMapper<?, ?>> fieldMapperCache = new GeneratedClassCache<MapperKey, SourceMapper<?, ?>>();
 
     private <S, T> String generateClassNameForFieldMapper(final FieldMapper<S, T>[] mappers, final FieldMapper<S, T>[] constructorMappers, final Class<? super S> source, final Class<T> target) {
         StringBuilder sb = new StringBuilder();
@@ -45,22 +45,32 @@ public class MapperAsmFactory {
         return sb.toString();
     }
 
-    @SuppressWarnings("unchecked")
     public <S, T> AbstractMapper<S, T> createMapper(final FieldKey<?>[] keys,
                                                     final FieldMapper<S, T>[] mappers,
                                                     final FieldMapper<S, T>[] constructorMappers,
                                                     final BiInstantiator<S, MappingContext<? super S>, T> instantiator,
                                                     final Class<? super S> source,
                                                     final Class<T> target) throws Exception {
+        return createMapper(keys, mappers, constructorMappers, instantiator, source, target, MapperConfig.MAX_METHOD_SIZE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> AbstractMapper<S, T> createMapper(final FieldKey<?>[] keys,
+                                                    final FieldMapper<S, T>[] mappers,
+                                                    final FieldMapper<S, T>[] constructorMappers,
+                                                    final BiInstantiator<S, MappingContext<? super S>, T> instantiator,
+                                                    final Class<? super S> source,
+                                                    final Class<T> target,
+                                                    final int maxMethodSize) throws Exception {
 
         MapperKey key = new MapperKey(keys, mappers, constructorMappers, instantiator, target, source);
         Class<SourceMapper<S, T>> type = (Class<SourceMapper<S, T>>) fieldMapperCache.get(key);
         if (type == null) {
 
             final String className = generateClassNameForFieldMapper(mappers, constructorMappers, source, target);
-            final byte[] bytes = MapperAsmBuilder.dump(className, mappers, constructorMappers, source, target);
+            final byte[] bytes = MapperAsmBuilder.dump(className, mappers, constructorMappers, source, target, maxMethodSize);
 
-            type = (Class<SourceMapper<S, T>>) asmFactory.createClass(className, bytes, target.getClass().getClassLoader());
+            type = (Class<SourceMapper<S, T>>) asmFactory.createHiddenClass(className, bytes, target.getClassLoader());
             fieldMapperCache.put(key, type);
         }
         final Constructor<?> constructor = type.getDeclaredConstructors()[0];
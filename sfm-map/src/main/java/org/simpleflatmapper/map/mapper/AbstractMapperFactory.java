@@ -3,6 +3,8 @@ package org.simpleflatmapper.map.mapper;
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.FieldMapperErrorHandler;
 import org.simpleflatmapper.map.IgnoreMapperBuilderErrorHandler;
+import org.simpleflatmapper.map.MapperBuildListener;
+import org.simpleflatmapper.map.MappingMetrics;
 import org.simpleflatmapper.map.ConsumerErrorHandler;
 import org.simpleflatmapper.map.error.RethrowConsumerErrorHandler;
 import org.simpleflatmapper.map.error.RethrowMapperBuilderErrorHandler;
@@ -59,6 +61,10 @@ public abstract class AbstractMapperFactory<
 	
 	private Predicate<? super S> rowFilter = null;
 
+	private MapperBuildListener mapperBuildListener = null;
+
+	private MappingMetrics mappingMetrics = null;
+
 
 	public AbstractMapperFactory(AbstractMapperFactory<K, ?, S> config) {
 		this.fieldMapperErrorHandler = config.fieldMapperErrorHandler;
@@ -78,6 +84,8 @@ public abstract class AbstractMapperFactory<
 		this.maxMethodSize = config.maxMethodSize;
 		this.assumeInjectionModifiesValues = config.assumeInjectionModifiesValues;
 		this.rowFilter = config.rowFilter;
+		this.mapperBuildListener = config.mapperBuildListener;
+		this.mappingMetrics = config.mappingMetrics;
 	}
 
 
@@ -156,6 +164,27 @@ public abstract class AbstractMapperFactory<
 		this.rowFilter = rowFilter;
 		return (MF) this;
 	}
+
+	/**
+	 * Set the listener notified with the timings of each mapper built by the factory, including the mappers built by the dynamic mappers on a new key.
+	 * @param mapperBuildListener the listener, null to disable the timings
+	 * @return the current factory
+	 */
+	public final MF mapperBuildListener(final MapperBuildListener mapperBuildListener) {
+		this.mapperBuildListener = mapperBuildListener;
+		return (MF) this;
+	}
+
+	/**
+	 * Record the rows mapped and a sample of the row mapping times of the mappers built by the factory in the metrics.
+	 * @param mappingMetrics the metrics, null to disable the instrumentation
+	 * @return the current factory
+	 * @see InstrumentedSetRowMapper
+	 */
+	public final MF mappingMetrics(final MappingMetrics mappingMetrics) {
+		this.mappingMetrics = mappingMetrics;
+		return (MF) this;
+	}
 	
 	public final MapperConfig<K, S> mapperConfig() {
 		return MapperConfig
@@ -169,7 +198,9 @@ public abstract class AbstractMapperFactory<
 				.maxMethodSize(maxMethodSize)
 				.assumeInjectionModifiesValues(assumeInjectionModifiesValues)
 				.discriminators(discriminators)
-				.rowFilter(rowFilter);
+				.rowFilter(rowFilter)
+				.mapperBuildListener(mapperBuildListener)
+				.mappingMetrics(mappingMetrics);
 	}
 
 	public AbstractColumnDefinitionProvider<K> enrichColumnDefinitions(AbstractColumnDefinitionProvider<K> columnDefinitions) {
@@ -302,6 +333,8 @@ public abstract class AbstractMapperFactory<
 
 	/**
 	 * Number needs to be a power of 2, do not use if you don't know what it does.
+	 * <p>
+	 * the asm mapper splits the field mapping calls in methods of at most maxMethodSize calls.
 	 * @param maxMethodSize the max method size, needs be a power of 2.
 	 * @return the factory.
 	 */
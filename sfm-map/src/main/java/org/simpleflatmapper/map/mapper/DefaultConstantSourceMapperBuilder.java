@@ -203,10 +203,25 @@ public final class DefaultConstantSourceMapperBuilder<S, T, K extends FieldKey<K
                 propertyMappingsBuilder.getClassMeta().needTransformer() 
                         || needGenericBuilder(injectionParams)
                 // is aggregate and constructor injection
-                       || (mapperConfig.assumeInjectionModifiesValues() && (!mappingContextFactoryBuilder.hasNoDependentKeys() && !injectionParams.isEmpty()))
+                       || ((mapperConfig.assumeInjectionModifiesValues() || builderCopiesInjectedValues()) && (!mappingContextFactoryBuilder.hasNoDependentKeys() && !injectionParams.isEmpty()))
                 ;
     }
 
+    private boolean builderCopiesInjectedValues() {
+        List<InstantiatorDefinition> eligibleInstantiatorDefinitions = propertyMappingsBuilder.getPropertyFinder().getEligibleInstantiatorDefinitions();
+
+        for(int i = 0; i < eligibleInstantiatorDefinitions.size(); i++) {
+            InstantiatorDefinition instantiatorDefinition = eligibleInstantiatorDefinitions.get(i);
+
+            if (instantiatorDefinition.getType() == InstantiatorDefinition.Type.BUILDER
+                    && ((BuilderInstantiatorDefinition) instantiatorDefinition).copiesInjectedValues()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     @SuppressWarnings("unchecked")
     private SourceFieldMapper<S, T> buildMapperWithTransformer(List<InjectionParam> injections) {
         boolean forceGenericBuilder = needGenericBuilder(injections);
@@ -465,6 +480,11 @@ public final class DefaultConstantSourceMapperBuilder<S, T, K extends FieldKey<K
              MapperConfig<K, ? extends S> mapperConfig) {
         SourceFieldMapper<S, T> mapper;
 
+        MapperBuildTimer timer = MapperBuildTimer.current();
+        if (timer != null) {
+            timer.targetType = target;
+        }
+
         if (reflectionService.isAsmActivated() 
                 && fields.length + constructorFieldMappersAndInstantiator.constructorInjections.parameterGetterMap.size() < mapperConfig.asmMapperNbFieldsLimit()) {
             try {
@@ -477,6 +497,7 @@ public final class DefaultConstantSourceMapperBuilder<S, T, K extends FieldKey<K
                                         return new MapperAsmFactory(asmFactory);
                                     }
                                 });
+                long start = timer != null ? System.nanoTime() : 0;
                 mapper =
                         mapperAsmFactory
                                 .createMapper(
@@ -485,7 +506,11 @@ public final class DefaultConstantSourceMapperBuilder<S, T, K extends FieldKey<K
                                         constructorFieldMappersAndInstantiator.constructorInjections.fieldMappers,
                                         constructorFieldMappersAndInstantiator.instantiator,
                                         mapperSource.source(),
-                                        target);
+                                        target,
+                                        mapperConfig.maxMethodSize());
+                if (timer != null) {
+                    timer.recordAsmMapper(System.nanoTime() - start);
+                }
             } catch (Throwable e) {
                 if (mapperConfig.failOnAsm()) {
                     return ErrorHelper.rethrow(e);
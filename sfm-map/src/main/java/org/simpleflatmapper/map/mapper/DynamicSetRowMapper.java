@@ -1,6 +1,7 @@
 package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.map.MapperBuildListener;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.map.SetRowMapper;
@@ -10,6 +11,7 @@ import org.simpleflatmapper.util.UnaryFactory;
 import org.simpleflatmapper.util.CheckedConsumer;
 import org.simpleflatmapper.util.UnaryFactoryWithException;
 
+import java.lang.ref.WeakReference;
 import java.util.Iterator;
 
 //IFJAVA8_START
@@ -28,15 +30,48 @@ public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends Fie
 
 	private final UnaryFactoryWithException<SET, MapperKey<K>, E> mapperKeyFromSet;
 
+	// the key of a row instance does not change, ie a ResultSet metadata, remember the mapper of the last row seen by each thread
+	// the row and the mapper are weakly referenced, the memo of a discarded DynamicSetRowMapper does not retain its mapper
+	private final ThreadLocal<RowMapperMemo<ROW, SET, T, E>> rowMapperMemos = new ThreadLocal<RowMapperMemo<ROW, SET, T, E>>();
+
+	// the mappers built on a cache miss are flagged for the MapperBuildListener only
+	private final boolean flagCacheMiss;
+
 	public DynamicSetRowMapper(
 			UnaryFactory<MapperKey<K>, SetRowMapper<ROW, SET, T, E>> mapperFactory,
 			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
 			UnaryFactoryWithException<SET, MapperKey<K>, E> mapperKeyFromSet,
 			MapperKeyComparator<K> keyComparator) {
+		this(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, keyComparator, true);
+	}
+
+	/**
+	 * @param mapperFactory the factory of the mapper of a key
+	 * @param mapperKeyFromRow the key of a row
+	 * @param mapperKeyFromSet the key of a set
+	 * @param keyComparator the comparator of the keys
+	 * @param mapperBuildListener the listener of the mapper factory, null if the builds are not timed
+	 */
+	public DynamicSetRowMapper(
+			UnaryFactory<MapperKey<K>, SetRowMapper<ROW, SET, T, E>> mapperFactory,
+			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
+			UnaryFactoryWithException<SET, MapperKey<K>, E> mapperKeyFromSet,
+			MapperKeyComparator<K> keyComparator,
+			MapperBuildListener mapperBuildListener) {
+		this(mapperFactory, mapperKeyFromRow, mapperKeyFromSet, keyComparator, mapperBuildListener != null);
+	}
+
+	private DynamicSetRowMapper(
+			UnaryFactory<MapperKey<K>, SetRowMapper<ROW, SET, T, E>> mapperFactory,
+			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
+			UnaryFactoryWithException<SET, MapperKey<K>, E> mapperKeyFromSet,
+			MapperKeyComparator<K> keyComparator,
+			boolean flagCacheMiss) {
 		this.mapperFactory = mapperFactory;
 		this.mapperKeyFromRow = mapperKeyFromRow;
 		this.mapperKeyFromSet = mapperKeyFromSet;
 		this.mapperCache = new MapperCache<K, SetRowMapper<ROW, SET, T, E>>(keyComparator);
+		this.flagCacheMiss = flagCacheMiss;
 	}
 
 	@Override
@@ -95,15 +130,43 @@ public class DynamicSetRowMapper<ROW, SET, T, E extends Exception, K extends Fie
 	}
 
 	private SetRowMapper<ROW, SET, T, E> getMapperFromRow(ROW row) throws E {
-		return getMapper(mapperKeyFromRow.newInstance(row));
+		RowMapperMemo<ROW, SET, T, E> memo = rowMapperMemos.get();
+		if (memo != null && memo.row.get() == row) {
+			SetRowMapper<ROW, SET, T, E> mapper = memo.mapper.get();
+			if (mapper != null) {
+				return mapper;
+			}
+		}
+		SetRowMapper<ROW, SET, T, E> mapper = getMapper(mapperKeyFromRow.newInstance(row));
+		rowMapperMemos.set(new RowMapperMemo<ROW, SET, T, E>(row, mapper));
+		return mapper;
 	}
 
 	public SetRowMapper<ROW, SET, T, E> getMapper(MapperKey<K> key) throws E {
 		SetRowMapper<ROW, SET, T, E> mapper = mapperCache.get(key);
 		if (mapper == null) {
-			mapper = mapperFactory.newInstance(key);
+			if (flagCacheMiss) {
+				boolean wasInCacheMiss = MapperBuildTimer.enterCacheMiss();
+				try {
+					mapper = mapperFactory.newInstance(key);
+				} finally {
+					MapperBuildTimer.exitCacheMiss(wasInCacheMiss);
+				}
+			} else {
+				mapper = mapperFactory.newInstance(key);
+			}
 			mapperCache.add(key, mapper);
 		}
 		return mapper;
 	}
+
+	private static final class RowMapperMemo<ROW, SET, T, E extends Exception> {
+		private final WeakReference<ROW> row;
+		private final WeakReference<SetRowMapper<ROW, SET, T, E>> mapper;
+
+		private RowMapperMemo(ROW row, SetRowMapper<ROW, SET, T, E> mapper) {
+			this.row = new WeakReference<ROW>(row);
+			this.mapper = new WeakReference<SetRowMapper<ROW, SET, T, E>>(mapper);
+		}
+	}
 }
@@ -2,6 +2,7 @@ package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.ContextualSourceFieldMapper;
 import org.simpleflatmapper.map.FieldKey;
+import org.simpleflatmapper.map.MapperBuildListener;
 import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.MappingException;
 import org.simpleflatmapper.util.ErrorHelper;
@@ -13,14 +14,39 @@ public class DynamicSourceFieldMapper<ROW, T, K extends FieldKey<K>, E extends E
     private final MapperCache<K, ContextualSourceFieldMapper<ROW, T>> mapperCache;
 	private final UnaryFactory<MapperKey<K>, ContextualSourceFieldMapper<ROW, T>> mapperFactory;
 	private final UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow;
+	// the mappers built on a cache miss are flagged for the MapperBuildListener only
+	private final boolean flagCacheMiss;
 
 	public DynamicSourceFieldMapper(
 			UnaryFactory<MapperKey<K>,ContextualSourceFieldMapper<ROW, T>> mapperFactory,
 			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
 			MapperKeyComparator<K> keyComparator) {
+		this(mapperFactory, mapperKeyFromRow, keyComparator, true);
+	}
+
+	/**
+	 * @param mapperFactory the factory of the mapper of a key
+	 * @param mapperKeyFromRow the key of a row
+	 * @param keyComparator the comparator of the keys
+	 * @param mapperBuildListener the listener of the mapper factory, null if the builds are not timed
+	 */
+	public DynamicSourceFieldMapper(
+			UnaryFactory<MapperKey<K>,ContextualSourceFieldMapper<ROW, T>> mapperFactory,
+			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
+			MapperKeyComparator<K> keyComparator,
+			MapperBuildListener mapperBuildListener) {
+		this(mapperFactory, mapperKeyFromRow, keyComparator, mapperBuildListener != null);
+	}
+
+	private DynamicSourceFieldMapper(
+			UnaryFactory<MapperKey<K>,ContextualSourceFieldMapper<ROW, T>> mapperFactory,
+			UnaryFactoryWithException<ROW, MapperKey<K>, E> mapperKeyFromRow,
+			MapperKeyComparator<K> keyComparator,
+			boolean flagCacheMiss) {
 		this.mapperFactory = mapperFactory;
 		this.mapperKeyFromRow = mapperKeyFromRow;
 		this.mapperCache = new MapperCache<K, ContextualSourceFieldMapper<ROW, T>>(keyComparator);
+		this.flagCacheMiss = flagCacheMiss;
 	}
 
 	@Override
@@ -64,7 +90,16 @@ public class DynamicSourceFieldMapper<ROW, T, K extends FieldKey<K>, E extends E
 	public ContextualSourceFieldMapper<ROW, T> getMapper(MapperKey<K> key) {
 		ContextualSourceFieldMapper<ROW, T> mapper = mapperCache.get(key);
 		if (mapper == null) {
-			mapper = mapperFactory.newInstance(key);
+			if (flagCacheMiss) {
+				boolean wasInCacheMiss = MapperBuildTimer.enterCacheMiss();
+				try {
+					mapper = mapperFactory.newInstance(key);
+				} finally {
+					MapperBuildTimer.exitCacheMiss(wasInCacheMiss);
+				}
+			} else {
+				mapper = mapperFactory.newInstance(key);
+			}
 			mapperCache.add(key, mapper);
 		}
 		return mapper;
@@ -0,0 +1,192 @@
+package org.simpleflatmapper.map.mapper;
+
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.map.MappingException;
+import org.simpleflatmapper.map.MappingMetrics;
+import org.simpleflatmapper.map.SetRowMapper;
+import org.simpleflatmapper.util.CheckedConsumer;
+import org.simpleflatmapper.util.Enumerable;
+import org.simpleflatmapper.util.EnumerableIterator;
+
+import java.util.Iterator;
+//IFJAVA8_START
+import org.simpleflatmapper.util.EnumerableSpliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+//IFJAVA8_END
+
+/**
+ * SetRowMapper recording the number of rows mapped and a sample of the row mapping times in a {@link MappingMetrics}.
+ * <p>
+ * The delegate is left untouched so its field mappers are still inlined in the asm mapper,
+ * the row counts are kept in a local counter and published once per batch of 1024 rows and at the end of the set.
+ * The rows mapped one by one via {@link #map(Object)} are counted per thread, see {@link MappingMetrics#recordMappedRow()}.
+ * An iterator abandoned before its end does not publish its last batch, a stream publishes it when closed.
+ * <p>
+ * The mappers built by a factory configured with {@link AbstractMapperFactory#mappingMetrics(MappingMetrics)} are instrumented.
+ */
+public final class InstrumentedSetRowMapper<ROW, SET, T, E extends Exception> implements SetRowMapper<ROW, SET, T, E> {
+
+	private static final int FLUSH_MASK = (1 << 10) - 1;
+
+	private final SetRowMapper<ROW, SET, T, E> delegate;
+	private final MappingMetrics metrics;
+
+	public InstrumentedSetRowMapper(SetRowMapper<ROW, SET, T, E> delegate, MappingMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @param mapper the mapper
+	 * @param metrics the metrics, null for no instrumentation
+	 * @return the mapper instrumented to record into metrics, the mapper itself if metrics is null
+	 */
+	public static <ROW, SET, T, E extends Exception> SetRowMapper<ROW, SET, T, E> instrument(SetRowMapper<ROW, SET, T, E> mapper, MappingMetrics metrics) {
+		if (metrics == null) {
+			return mapper;
+		}
+		return new InstrumentedSetRowMapper<ROW, SET, T, E>(mapper, metrics);
+	}
+
+	@Override
+	public <H extends CheckedConsumer<? super T>> H forEach(SET source, H handler) throws E, MappingException {
+		CountingConsumer<T> consumer = new CountingConsumer<T>(handler, metrics);
+		try {
+			delegate.forEach(source, consumer);
+		} finally {
+			metrics.recordCall(consumer.count);
+		}
+		return handler;
+	}
+
+	@Override
+	public Iterator<T> iterator(SET source) throws E, MappingException {
+		return new EnumerableIterator<T>(enumerate(source));
+	}
+
+	@Override
+	public Enumerable<T> enumerate(SET source) throws E, MappingException {
+		return countingEnumerable(source);
+	}
+
+	private CountingEnumerable<T> countingEnumerable(SET source) throws E {
+		Enumerable<T> enumerable = delegate.enumerate(source);
+		metrics.recordCall(0);
+		return new CountingEnumerable<T>(enumerable, metrics);
+	}
+
+	//IFJAVA8_START
+	@Override
+	public Stream<T> stream(SET source) throws E, MappingException {
+		final CountingEnumerable<T> enumerable = countingEnumerable(source);
+		return StreamSupport.stream(new EnumerableSpliterator<T>(enumerable), false).onClose(enumerable::flush);
+	}
+	//IFJAVA8_END
+
+	@Override
+	public T map(ROW source) throws MappingException {
+		T t = delegate.map(source);
+		metrics.recordMappedRow();
+		return t;
+	}
+
+	@Override
+	public T map(ROW source, MappingContext<? super ROW> context) throws MappingException {
+		T t = delegate.map(source, context);
+		metrics.recordMappedRow();
+		return t;
+	}
+
+	public SetRowMapper<ROW, SET, T, E> getDelegate() {
+		return delegate;
+	}
+
+	public MappingMetrics getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * the mapping of a row happens between two accept calls, the sample is the time between the end of the
+	 * previous accept and the start of the sampled one.
+	 */
+	private static final class CountingConsumer<T> implements CheckedConsumer<T> {
+		private final CheckedConsumer<? super T> handler;
+		private final MappingMetrics metrics;
+		private final int sampleMask;
+		private long count;
+		private long mark;
+
+		private CountingConsumer(CheckedConsumer<? super T> handler, MappingMetrics metrics) {
+			this.handler = handler;
+			this.metrics = metrics;
+			this.sampleMask = metrics.sampleMask();
+		}
+
+		@Override
+		public void accept(T t) throws Exception {
+			long n = ++count;
+			if (mark != 0) {
+				metrics.recordSample(System.nanoTime() - mark);
+				mark = 0;
+			}
+			handler.accept(t);
+			if ((n & sampleMask) == 0) {
+				mark = System.nanoTime();
+			}
+		}
+	}
+
+	private static final class CountingEnumerable<T> implements Enumerable<T> {
+		private final Enumerable<T> delegate;
+		private final MappingMetrics metrics;
+		private final int sampleMask;
+		private long count;
+		private boolean done;
+
+		private CountingEnumerable(Enumerable<T> delegate, MappingMetrics metrics) {
+			this.delegate = delegate;
+			this.metrics = metrics;
+			this.sampleMask = metrics.sampleMask();
+		}
+
+		@Override
+		public boolean next() {
+			if (done) return false;
+			boolean hasNext = false;
+			try {
+				if ((count & sampleMask) == 0) {
+					long start = System.nanoTime();
+					hasNext = delegate.next();
+					if (hasNext) {
+						metrics.recordSample(System.nanoTime() - start);
+					}
+				} else {
+					hasNext = delegate.next();
+				}
+			} finally {
+				if (hasNext) {
+					if ((++count & FLUSH_MASK) == 0) {
+						metrics.recordRows(FLUSH_MASK + 1);
+					}
+				} else {
+					flush();
+				}
+			}
+			return hasNext;
+		}
+
+		// publish the rows since the last batch, on the end of the set, an error or the close of the stream
+		private void flush() {
+			if (!done) {
+				done = true;
+				metrics.recordRows(count & FLUSH_MASK);
+			}
+		}
+
+		@Override
+		public T currentValue() {
+			return delegate.currentValue();
+		}
+	}
+}
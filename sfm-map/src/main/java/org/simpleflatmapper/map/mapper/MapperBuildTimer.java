@@ -0,0 +1,71 @@
+package org.simpleflatmapper.map.mapper;
+
+import java.lang.reflect.Type;
+
+/**
+ * Collect the timings of the mapper build in progress on the current thread.
+ * The builds are nested, a sub mapper build records in the timer of the root mapper.
+ */
+final class MapperBuildTimer {
+
+    private static final ThreadLocal<MapperBuildTimer> CURRENT = new ThreadLocal<MapperBuildTimer>();
+    private static final ThreadLocal<Boolean> CACHE_MISS = new ThreadLocal<Boolean>();
+
+    private final MapperBuildTimer previous;
+    private final boolean cacheMiss;
+
+    long asmGenerationNanos;
+    int nbAsmMappers;
+    Type targetType;
+
+    private MapperBuildTimer(MapperBuildTimer previous, boolean cacheMiss) {
+        this.previous = previous;
+        this.cacheMiss = cacheMiss;
+    }
+
+    static MapperBuildTimer start() {
+        MapperBuildTimer timer = new MapperBuildTimer(CURRENT.get(), CACHE_MISS.get() != null);
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    void stop() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    boolean isCacheMiss() {
+        return cacheMiss;
+    }
+
+    /**
+     * @return the timer of the build in progress, null if the build is not timed
+     */
+    static MapperBuildTimer current() {
+        return CURRENT.get();
+    }
+
+    void recordAsmMapper(long nanos) {
+        asmGenerationNanos += nanos;
+        nbAsmMappers++;
+    }
+
+    /**
+     * flag the mappers built on the current thread until {@link #exitCacheMiss(boolean)} as built on a cache miss.
+     * @return true if the flag was already set
+     */
+    static boolean enterCacheMiss() {
+        if (CACHE_MISS.get() != null) return true;
+        CACHE_MISS.set(Boolean.TRUE);
+        return false;
+    }
+
+    static void exitCacheMiss(boolean wasInCacheMiss) {
+        if (!wasInCacheMiss) {
+            CACHE_MISS.remove();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.simpleflatmapper.map.mapper;
 
 import org.simpleflatmapper.map.FieldKey;
 import org.simpleflatmapper.map.FieldMapper;
+import org.simpleflatmapper.map.MapperBuildEvent;
+import org.simpleflatmapper.map.MapperBuildListener;
 import org.simpleflatmapper.map.SetRowMapper;
 import org.simpleflatmapper.map.SourceFieldMapper;
 import org.simpleflatmapper.map.property.FieldMapperColumnDefinition;
@@ -22,6 +24,7 @@ public class MapperBuilder<ROW, SET, T, K extends FieldKey<K>, E extends Excepti
     protected final Function<Object[], ColumnDefinition<K, ?>> columnDefinitionFactory;
     
     private int calculatedIndex;
+    private long propertyMatchingNanos;
     
     public MapperBuilder(
             KeyFactory<K> keyFactory,
@@ -39,11 +42,52 @@ public class MapperBuilder<ROW, SET, T, K extends FieldKey<K>, E extends Excepti
      * @return a new newInstance of the jdbcMapper based on the current state of the builder.
      */
     public final OM mapper() {
-        return specialisedMapper.apply(setRowMapperBuilder.mapper(), setRowMapperBuilder.getKeys());
+        MapperBuildListener listener = setRowMapperBuilder.mapperConfig().mapperBuildListener();
+        if (listener == null) {
+            return specialisedMapper.apply(setRowMapperBuilder.mapper(), setRowMapperBuilder.getKeys());
+        }
+
+        long start = System.nanoTime();
+        MapperBuildTimer timer = MapperBuildTimer.start();
+        OM mapper;
+        try {
+            mapper = specialisedMapper.apply(setRowMapperBuilder.mapper(), setRowMapperBuilder.getKeys());
+        } finally {
+            timer.stop();
+        }
+        notifyListener(listener, timer, System.nanoTime() - start, mapper);
+        return mapper;
     }
     
     protected final SourceFieldMapper<ROW, T> sourceFieldMapper() {
-        return setRowMapperBuilder.sourceFieldMapper();
+        MapperBuildListener listener = setRowMapperBuilder.mapperConfig().mapperBuildListener();
+        if (listener == null) {
+            return setRowMapperBuilder.sourceFieldMapper();
+        }
+
+        long start = System.nanoTime();
+        MapperBuildTimer timer = MapperBuildTimer.start();
+        SourceFieldMapper<ROW, T> mapper;
+        try {
+            mapper = setRowMapperBuilder.sourceFieldMapper();
+        } finally {
+            timer.stop();
+        }
+        notifyListener(listener, timer, System.nanoTime() - start, mapper);
+        return mapper;
+    }
+
+    private void notifyListener(MapperBuildListener listener, MapperBuildTimer timer, long buildNanos, Object mapper) {
+        listener.mapperBuilt(
+                new MapperBuildEvent(
+                        timer.targetType,
+                        setRowMapperBuilder.getKeys(),
+                        timer.isCacheMiss() ? MapperBuildEvent.CacheOutcome.MISS : MapperBuildEvent.CacheOutcome.NOT_CACHED,
+                        propertyMatchingNanos,
+                        buildNanos - timer.asmGenerationNanos,
+                        timer.asmGenerationNanos,
+                        timer.nbAsmMappers,
+                        mapper));
     }
 
     /**
@@ -139,7 +183,13 @@ public class MapperBuilder<ROW, SET, T, K extends FieldKey<K>, E extends Excepti
 
     @SuppressWarnings("unchecked")
     public final B addMapping(K key, ColumnDefinition<K, ?> columnDefinition) {
-        setRowMapperBuilder.addMapping(key, columnDefinition);
+        if (setRowMapperBuilder.mapperConfig().mapperBuildListener() != null) {
+            long start = System.nanoTime();
+            setRowMapperBuilder.addMapping(key, columnDefinition);
+            propertyMatchingNanos += System.nanoTime() - start;
+        } else {
+            setRowMapperBuilder.addMapping(key, columnDefinition);
+        }
         return (B) this;
     }
 
@@ -14,7 +14,7 @@ public final class MapperCache<K extends FieldKey<K>, M> {
 	public MapperCache(MapperKeyComparator<K> comparator) {
 		this.sortedEntries =
 				new AtomicReference<SortedEntries<K>>(
-						new SortedEntries<K>(0, comparator));
+						new SortedEntries<K>(0, comparator != null ? new HashFirstComparator<K>(comparator) : null));
 	}
 
 	@SuppressWarnings("unchecked")
@@ -119,6 +119,25 @@ public final class MapperCache<K extends FieldKey<K>, M> {
 		}
 	}
 
+	// the keys are ordered on their cached hash code first, the columns are only compared on a collision
+	private static final class HashFirstComparator<K extends FieldKey<K>> extends MapperKeyComparator<K> {
+		private final MapperKeyComparator<K> delegate;
+
+		private HashFirstComparator(MapperKeyComparator<K> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public int compare(MapperKey<K> m1, MapperKey<K> m2) {
+			int h1 = m1.hashCode();
+			int h2 = m2.hashCode();
+			if (h1 != h2) {
+				return h1 < h2 ? -1 : 1;
+			}
+			return delegate.compare(m1, m2);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return "MapperCache{" +
@@ -9,6 +9,8 @@ import static org.simpleflatmapper.util.Asserts.requireNonNull;
 public final class MapperKey<K extends FieldKey<K>> {
 
 	private final K[] columns;
+	// column signature fingerprint, 0 if not computed yet
+	private int hash;
 
 	@SuppressWarnings("unchecked")
 	public MapperKey(final K... columns) {
@@ -23,6 +25,8 @@ public final class MapperKey<K extends FieldKey<K>> {
 		if (getClass() != obj.getClass())
 			return false;
 		MapperKey<?> that = (MapperKey<?>) obj;
+		if (hashCode() != that.hashCode())
+			return false;
 		return equals(columns, that.columns);
 	}
 
@@ -39,7 +43,12 @@ public final class MapperKey<K extends FieldKey<K>> {
 
 	@Override
 	public int hashCode() {
-		return Arrays.hashCode(columns);
+		int h = hash;
+		if (h == 0) {
+			h = Arrays.hashCode(columns);
+			hash = h;
+		}
+		return h;
 	}
 
 	public K[] getColumns() {
@@ -12,6 +12,11 @@ import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.test.beans.DbObject;
 
 import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class MapperAsmFactoryTest {
@@ -70,4 +75,43 @@ public class MapperAsmFactoryTest {
 			// ok
 		} 
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testWideMapperSplitsMappingCalls() throws Exception {
+		final int nbFields = 400;
+		final int[] counts = new int[nbFields];
+		FieldMapper<Object, DbObject>[] mappers = new FieldMapper[nbFields];
+		for(int i = 0; i < nbFields; i++) {
+			final int index = i;
+			mappers[i] = new FieldMapper<Object, DbObject>() {
+				@Override
+				public void mapTo(Object source, DbObject target, MappingContext<? super Object> context) throws Exception {
+					counts[index]++;
+				}
+			};
+		}
+		SourceMapper<Object, DbObject> mapper = asmFactory.createMapper(new SampleFieldKey[0],
+				mappers,
+				(FieldMapper<Object, DbObject>[]) new FieldMapper[]{},
+				new BiInstantiator<Object, MappingContext<? super Object>, DbObject>() {
+					@Override
+					public DbObject newInstance(Object s, MappingContext<? super Object> context) throws Exception {
+						return new DbObject();
+					}
+				}, Object.class,
+				DbObject.class, 128);
+
+		mapper.map(null, null);
+		for(int i = 0; i < nbFields; i++) {
+			assertEquals(1, counts[i]);
+		}
+
+		Set<String> methods = new HashSet<String>();
+		for(Method m : mapper.getClass().getDeclaredMethods()) {
+			methods.add(m.getName());
+		}
+		assertTrue(methods.contains("mapFields0"));
+		assertTrue(methods.contains("mapFields3"));
+	}
 }
@@ -3,6 +3,7 @@ package org.simpleflatmapper.querydsl;
 import com.mysema.query.Tuple;
 import com.mysema.query.types.Expression;
 import com.mysema.query.types.MappingProjection;
+import org.simpleflatmapper.map.MappingContext;
 import org.simpleflatmapper.map.SourceMapper;
 import org.simpleflatmapper.map.context.MappingContextFactory;
 
@@ -13,20 +14,43 @@ public class QueryDslMappingProjection<T> extends MappingProjection<T> {
 	private static final long serialVersionUID = -9015755919878465141L;
 	private final SourceMapper<Tuple, T> mapper;
 	private final MappingContextFactory<? super Tuple> mappingContextFactory;
+	private final boolean statelessContext;
 
 	public QueryDslMappingProjection(Class<T> type, Expression<?>... args) {
+		this(type, new QueryDslMapperBuilder<T>(type), args);
+	}
+
+	private QueryDslMappingProjection(Class<T> type, QueryDslMapperBuilder<T> builder, Expression<?>... args) {
+		this(type, addMappings(builder, args).mapper(), builder.contextFactory(), args);
+	}
+
+	/**
+	 * Create a projection using an already built mapper, see {@link QueryDslMappingProjectionFactory}.
+	 * @param type the target type
+	 * @param mapper the mapper
+	 * @param mappingContextFactory the context factory of the mapper
+	 * @param args the expressions the mapper was built for
+	 */
+	public QueryDslMappingProjection(Class<T> type, SourceMapper<Tuple, T> mapper, MappingContextFactory<? super Tuple> mappingContextFactory, Expression<?>... args) {
 		super(type, args);
-		QueryDslMapperBuilder<T> builder =new QueryDslMapperBuilder<T>(type);
+		this.mapper = mapper;
+		this.mappingContextFactory = mappingContextFactory;
+		this.statelessContext = mappingContextFactory == MappingContext.EMPTY_FACTORY;
+	}
+
+	static <T> QueryDslMapperBuilder<T> addMappings(QueryDslMapperBuilder<T> builder, Expression<?>... args) {
 		for(int i = 0; i < args.length; i++) {
 			builder.addMapping(args[i], i);
 		}
-		mapper = builder.mapper();
-		mappingContextFactory = builder.contextFactory();
+		return builder;
 	}
 
-
+	@SuppressWarnings("unchecked")
 	@Override
 	protected T map(Tuple row) {
+		if (statelessContext) {
+			return mapper.map(row, (MappingContext<? super Tuple>) MappingContext.EMPTY_CONTEXT);
+		}
 		return mapper.map(row, mappingContextFactory.newContext());
 	}
 
@@ -0,0 +1,85 @@
+package org.simpleflatmapper.querydsl;
+
+import com.mysema.query.Tuple;
+import com.mysema.query.types.Expression;
+import org.simpleflatmapper.map.SourceMapper;
+import org.simpleflatmapper.map.context.MappingContextFactory;
+import org.simpleflatmapper.reflect.ReflectionService;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Create {@link QueryDslMappingProjection} reusing the mapper built for the same target type and expressions.
+ * <p>
+ * The factory is thread safe and meant to be shared, the projection it returns only holds the cached mapper.
+ * The cache is not bounded, the expressions are expected to be the ones of the application queries.
+ */
+public final class QueryDslMappingProjectionFactory {
+
+	private final ConcurrentMap<ProjectionKey, MapperAndContext> mapperCache = new ConcurrentHashMap<ProjectionKey, MapperAndContext>();
+	private final ReflectionService reflectionService;
+
+	public QueryDslMappingProjectionFactory() {
+		this(ReflectionService.newInstance());
+	}
+
+	public QueryDslMappingProjectionFactory(ReflectionService reflectionService) {
+		this.reflectionService = reflectionService;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> QueryDslMappingProjection<T> newProjection(Class<T> type, Expression<?>... args) {
+		ProjectionKey key = new ProjectionKey(type, args.clone());
+
+		MapperAndContext mc = mapperCache.get(key);
+		if (mc == null) {
+			QueryDslMapperBuilder<T> builder = QueryDslMappingProjection.addMappings(new QueryDslMapperBuilder<T>(type, reflectionService), args);
+			mc = new MapperAndContext(builder.mapper(), builder.contextFactory());
+			MapperAndContext previous = mapperCache.putIfAbsent(key, mc);
+			if (previous != null) {
+				mc = previous;
+			}
+		}
+
+		return new QueryDslMappingProjection<T>(type, (SourceMapper<Tuple, T>) mc.mapper, mc.mappingContextFactory, args);
+	}
+
+	private static final class ProjectionKey {
+		private final Class<?> type;
+		private final Expression<?>[] expressions;
+
+		private ProjectionKey(Class<?> type, Expression<?>[] expressions) {
+			this.type = type;
+			this.expressions = expressions;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+
+			ProjectionKey that = (ProjectionKey) o;
+
+			return type.equals(that.type) && Arrays.equals(expressions, that.expressions);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = type.hashCode();
+			result = 31 * result + Arrays.hashCode(expressions);
+			return result;
+		}
+	}
+
+	private static final class MapperAndContext {
+		private final SourceMapper<Tuple, ?> mapper;
+		private final MappingContextFactory<? super Tuple> mappingContextFactory;
+
+		private MapperAndContext(SourceMapper<Tuple, ?> mapper, MappingContextFactory<? super Tuple> mappingContextFactory) {
+			this.mapper = mapper;
+			this.mappingContextFactory = mappingContextFactory;
+		}
+	}
+}
@@ -6,10 +6,13 @@ import org.junit.Test;
 import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.test.jdbc.DbHelper;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 public class QueryDSLTest {
 	QTestDbObject qTestDbObject = new QTestDbObject("o");
@@ -40,4 +43,42 @@ public class QueryDSLTest {
 		}
 	}
 
+	@Test
+	public void testMappingProjectionFactory()
+	        throws Exception {
+		QueryDslMappingProjectionFactory factory = new QueryDslMappingProjectionFactory();
+
+		Connection conn = DbHelper.objectDb();
+		try {
+			for(int i = 0; i < 2; i++) {
+				SQLQuery sqlquery = new SQLQuery(conn, new HSQLDBTemplates());
+				List<DbObject> list =
+						sqlquery
+								.from(qTestDbObject)
+								.where(qTestDbObject.id.eq(1l))
+								.list(
+										factory.newProjection(
+												DbObject.class,
+												qTestDbObject.id, qTestDbObject.name, qTestDbObject.email,
+												qTestDbObject.creationTime, qTestDbObject.typeName, qTestDbObject.typeOrdinal));
+
+				assertEquals(1, list.size());
+				DbHelper.assertDbObjectMapping(list.get(0));
+			}
+		} finally {
+			conn.close();
+		}
+
+		QueryDslMappingProjection<DbObject> p1 = factory.newProjection(DbObject.class, qTestDbObject.id, qTestDbObject.name);
+		QueryDslMappingProjection<DbObject> p2 = factory.newProjection(DbObject.class, qTestDbObject.id, qTestDbObject.name);
+		QueryDslMappingProjection<DbObject> p3 = factory.newProjection(DbObject.class, qTestDbObject.name, qTestDbObject.id);
+		assertSame(getMapper(p1), getMapper(p2));
+		assertNotSame(getMapper(p1), getMapper(p3));
+	}
+
+	private Object getMapper(QueryDslMappingProjection<?> projection) throws Exception {
+		Field field = QueryDslMappingProjection.class.getDeclaredField("mapper");
+		field.setAccessible(true);
+		return field.get(projection);
+	}
 }
@@ -8,12 +8,23 @@ public final class BuilderInstantiatorDefinition implements InstantiatorDefiniti
 	private final InstantiatorDefinition builderInstantiator;
 	private final Map<Parameter, Method> setters;
 	private final Method buildMethod;
+	private final boolean copiesInjectedValues;
 
 	public BuilderInstantiatorDefinition(InstantiatorDefinition builderInstantiator,
 										 Map<Parameter, Method> setters, Method buildMethod) {
+		this(builderInstantiator, setters, buildMethod, false);
+	}
+
+	/**
+	 * @param copiesInjectedValues true if the built object copies the injected collections,
+	 *                             a value added to the collection after the build is then not visible on the object.
+	 */
+	public BuilderInstantiatorDefinition(InstantiatorDefinition builderInstantiator,
+										 Map<Parameter, Method> setters, Method buildMethod, boolean copiesInjectedValues) {
 		this.builderInstantiator = builderInstantiator;
 		this.setters = setters;
 		this.buildMethod = buildMethod;
+		this.copiesInjectedValues = copiesInjectedValues;
 	}
 
 
@@ -57,6 +68,10 @@ public final class BuilderInstantiatorDefinition implements InstantiatorDefiniti
 		return buildMethod.getDeclaringClass().getName();
 	}
 
+	public boolean copiesInjectedValues() {
+		return copiesInjectedValues;
+	}
+
 	public boolean isMutable() {
 		for(Method m : setters.values()) {
 			Class<?> returnType = m.getReturnType();
@@ -112,8 +112,8 @@ public class DefaultReflectionService extends ReflectionService {
 
 	public DefaultReflectionService(final AsmFactory asmFactory) {
 		this(
-				new ObjectSetterFactory(asmFactory),
-				new ObjectGetterFactory(asmFactory),
+				new ObjectSetterFactory(asmFactory, true),
+				new ObjectGetterFactory(asmFactory, true),
 				new InstantiatorFactory(asmFactory),
 				asmFactory,
 				AliasProviderService.getAliasProvider(),
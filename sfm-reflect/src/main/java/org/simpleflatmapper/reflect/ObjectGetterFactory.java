@@ -4,6 +4,9 @@ import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.reflect.getter.FieldGetter;
 import org.simpleflatmapper.reflect.getter.MethodGetter;
 import org.simpleflatmapper.reflect.getter.GetterHelper;
+//IFJAVA8_START
+import org.simpleflatmapper.reflect.invoke.MethodHandleAccessorFactory;
+//IFJAVA8_END
 import org.simpleflatmapper.reflect.primitive.BooleanGetter;
 import org.simpleflatmapper.reflect.primitive.BoxedBooleanGetter;
 import org.simpleflatmapper.reflect.primitive.BoxedByteGetter;
@@ -33,9 +36,19 @@ import static org.simpleflatmapper.util.Asserts.requireNonNull;
  */
 public final class ObjectGetterFactory {
     private final AsmFactory asmFactory;
+    private final boolean useMethodHandles;
 
 	public ObjectGetterFactory(AsmFactory asmFactory) {
+        this(asmFactory, false);
+    }
+
+	/**
+	 * @param asmFactory the asm factory, null to disable the asm getters
+	 * @param useMethodHandles if true the getters that cannot be generated by asm use a method handle instead of the reflection call
+	 */
+	public ObjectGetterFactory(AsmFactory asmFactory, boolean useMethodHandles) {
         this.asmFactory = asmFactory;
+        this.useMethodHandles = useMethodHandles;
     }
 	
 
@@ -68,6 +81,12 @@ public final class ObjectGetterFactory {
 				return null;
 			}
 		}
+		//IFJAVA8_START
+		if (useMethodHandles) {
+			Getter<T, P> getter = MethodHandleAccessorFactory.newGetter(method);
+			if (getter != null) return getter;
+		}
+		//IFJAVA8_END
         return new MethodGetter<T, P>(method);
 	}
 
@@ -99,6 +118,12 @@ public final class ObjectGetterFactory {
         		return null;
 			}
         }
+		//IFJAVA8_START
+		if (useMethodHandles) {
+			Getter<T, P> getter = MethodHandleAccessorFactory.newGetter(field);
+			if (getter != null) return getter;
+		}
+		//IFJAVA8_END
         return new FieldGetter<T, P>(field);
     }
 
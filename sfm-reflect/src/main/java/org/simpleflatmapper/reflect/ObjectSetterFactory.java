@@ -2,6 +2,9 @@ package org.simpleflatmapper.reflect;
 
 import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.reflect.getter.FieldSetter;
+//IFJAVA8_START
+import org.simpleflatmapper.reflect.invoke.MethodHandleAccessorFactory;
+//IFJAVA8_END
 import org.simpleflatmapper.reflect.setter.MethodSetter;
 import org.simpleflatmapper.reflect.setter.NullSetter;
 import org.simpleflatmapper.reflect.setter.SetterHelper;
@@ -40,9 +43,19 @@ import java.lang.reflect.Modifier;
 public final class ObjectSetterFactory {
 	
 	private final AsmFactory asmFactory;
+	private final boolean useMethodHandles;
 	
 	public ObjectSetterFactory(final AsmFactory asmFactory) {
+		this(asmFactory, false);
+	}
+
+	/**
+	 * @param asmFactory the asm factory, null to disable the asm setters
+	 * @param useMethodHandles if true the setters that cannot be generated by asm use a method handle instead of the reflection call
+	 */
+	public ObjectSetterFactory(final AsmFactory asmFactory, boolean useMethodHandles) {
 		this.asmFactory = asmFactory;
+		this.useMethodHandles = useMethodHandles;
 	}
 
 	public <T, P> Setter<T, P> getSetter(final Class<? extends T> target, final String property) {
@@ -74,6 +87,12 @@ public final class ObjectSetterFactory {
 				return null;
 			}
 		}
+		//IFJAVA8_START
+		if (useMethodHandles) {
+			Setter<T, P> setter = MethodHandleAccessorFactory.newSetter(method);
+			if (setter != null) return setter;
+		}
+		//IFJAVA8_END
         return new MethodSetter<T, P>(method);
 	}
 
@@ -104,6 +123,12 @@ public final class ObjectSetterFactory {
 				return null;
 			}
         }
+		//IFJAVA8_START
+		if (useMethodHandles) {
+			Setter<T, P> setter = MethodHandleAccessorFactory.newSetter(field);
+			if (setter != null) return setter;
+		}
+		//IFJAVA8_END
         return new FieldSetter<T, P>(field);
     }
 
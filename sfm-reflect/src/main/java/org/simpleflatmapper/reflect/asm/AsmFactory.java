@@ -9,6 +9,9 @@ import org.simpleflatmapper.reflect.Instantiator;
 import org.simpleflatmapper.reflect.InstantiatorDefinition;
 import org.simpleflatmapper.reflect.Parameter;
 import org.simpleflatmapper.reflect.Setter;
+//IFJAVA8_START
+import org.simpleflatmapper.reflect.invoke.HiddenClassDefiner;
+//IFJAVA8_END
 import org.simpleflatmapper.util.BiFunction;
 import org.simpleflatmapper.util.TypeHelper;
 import org.simpleflatmapper.util.UnaryFactory;
@@ -27,13 +30,19 @@ public class AsmFactory {
     private final FactoryClassLoader factoryClassLoader;
 	private final ConcurrentMap<Object, Setter<?, ?>> setterCache = new ConcurrentHashMap<Object, Setter<?, ?>>();
     private final ConcurrentMap<Object, Getter<?, ?>> getterCache = new ConcurrentHashMap<Object, Getter<?, ?>>();
-	private final ConcurrentMap<InstantiatorKey, Class<? extends Instantiator<?, ?>>> instantiatorCache = new ConcurrentHashMap<InstantiatorKey, Class<? extends Instantiator<?, ?>>>();
-    private final ConcurrentMap<BiInstantiatorKey, Class<? extends BiInstantiator<?, ?, ?>>> biInstantiatorCache = new ConcurrentHashMap<BiInstantiatorKey, Class<? extends BiInstantiator<?, ?, ?>>>();
+	private final GeneratedClassCache<InstantiatorKey, Instantiator<?, ?>> instantiatorCache = new GeneratedClassCache<InstantiatorKey, Instantiator<?, ?>>();
+    private final GeneratedClassCache<BiInstantiatorKey, BiInstantiator<?, ?, ?>> biInstantiatorCache = new GeneratedClassCache<BiInstantiatorKey, BiInstantiator<?, ?, ?>>();
     private final ConcurrentMap<Class<?>, Object> subFactories = new ConcurrentHashMap<Class<?>, Object>();
+    //IFJAVA8_START
+    private final HiddenClassDefiner hiddenClassDefiner;
+    //IFJAVA8_END
 
 
 	public AsmFactory(ClassLoader cl) {
 		factoryClassLoader = new FactoryClassLoader(cl);
+		//IFJAVA8_START
+		hiddenClassDefiner = HiddenClassDefiner.isSupported() ? new HiddenClassDefiner(factoryClassLoader) : null;
+		//IFJAVA8_END
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -67,6 +76,27 @@ public class AsmFactory {
         return factoryClassLoader.registerClass(className, bytes, declaringClassLoader);
     }
 
+    /**
+     * Define the class as a hidden class when the jvm supports it, jdk 15+, it can then be unloaded when no longer reachable.
+     * The class must not be referenced by name from other classes. Fall back to {@link #createClass(String, byte[], ClassLoader)}.
+     * @param className the class name
+     * @param bytes the bytecode
+     * @param declaringClassLoader the class loader of the types referenced by the class
+     * @return the class
+     */
+    public Class<?> createHiddenClass(String className, byte[] bytes, ClassLoader declaringClassLoader) {
+        //IFJAVA8_START
+        if (hiddenClassDefiner != null) {
+            try {
+                return hiddenClassDefiner.defineHiddenClass(className, bytes, declaringClassLoader);
+            } catch (Exception e) {
+                // fall back to the factory class loader
+            }
+        }
+        //IFJAVA8_END
+        return createClass(className, bytes, declaringClassLoader);
+    }
+
     @SuppressWarnings("unchecked")
     public <T, P> Getter<T,P> createGetter(final Method m) throws Exception {
         Getter<T,P> getter = (Getter<T, P>) getterCache.get(m);
@@ -136,8 +166,8 @@ public class AsmFactory {
 		if (instantiatorType == null) {
 			final String className = generateClassNameForInstantiator(instantiatorKey);
 			final byte[] bytes = ConstructorBuilder.createEmptyConstructor(className, source, target);
-			instantiatorType = (Class<? extends Instantiator<?, ?>>) createClass(className, bytes, target.getClassLoader());
-			instantiatorCache.putIfAbsent(instantiatorKey, instantiatorType);
+			instantiatorType = (Class<? extends Instantiator<?, ?>>) createHiddenClass(className, bytes, target.getClassLoader());
+			instantiatorCache.put(instantiatorKey, instantiatorType);
 		}
 		return  (Instantiator<S, T>) instantiatorType.newInstance();
 	}
@@ -159,7 +189,7 @@ public class AsmFactory {
                         source,
                         (BuilderInstantiatorDefinition)instantiatorDefinition, injections, builderIgnoresNullValues);
             }
-			instantiator = (Class<? extends Instantiator<?, ?>>) createClass(className, bytes, instantiatorKey.getDeclaringClass().getClassLoader());
+			instantiator = (Class<? extends Instantiator<?, ?>>) createHiddenClass(className, bytes, instantiatorKey.getDeclaringClass().getClassLoader());
 			instantiatorCache.put(instantiatorKey, instantiator);
 		}
 
@@ -195,7 +225,7 @@ public class AsmFactory {
                         builderInstantiator,
                         (BuilderInstantiatorDefinition)instantiatorDefinition, injections, builderIgnoresNullValues);
             }
-            instantiator = (Class<? extends BiInstantiator<?, ?, ?>>) createClass(className, bytes, instantiatorKey.getDeclaringClass().getClassLoader());
+            instantiator = (Class<? extends BiInstantiator<?, ?, ?>>) createHiddenClass(className, bytes, instantiatorKey.getDeclaringClass().getClassLoader());
             biInstantiatorCache.put(instantiatorKey, instantiator);
         }
 
@@ -316,6 +316,14 @@ public class AsmUtils {
 		return aClass.getClassLoader();
 	}
 
+	/**
+	 * @param clazz the class
+	 * @return true if the class is a hidden class, it cannot be referenced by name from the generated classes
+	 */
+	public static boolean isHidden(Class<?> clazz) {
+		return clazz.getName().indexOf('/') != -1;
+	}
+
 	public static Type findClosestPublicTypeExposing(Type type, Class<?> expose) {
 		return findTypeInHierarchy(type, new TypeIsPublicAndImplement(expose));
 	}
@@ -615,7 +623,7 @@ public class AsmUtils {
 		@Override
 		public boolean test(Type type) {
 			Class<?> clazz = TypeHelper.toClass(type);
-			if (!Modifier.isPublic(clazz.getModifiers())) {
+			if (!Modifier.isPublic(clazz.getModifiers()) || isHidden(clazz)) {
 				return false;
 			}
 			for(Method m : clazz.getMethods()) {
@@ -637,7 +645,7 @@ public class AsmUtils {
 		@Override
 		public boolean test(Type type) {
 			Class<Object> targetClass = TypeHelper.toClass(type);
-			return Modifier.isPublic(targetClass.getModifiers()) && expose.isAssignableFrom(targetClass);
+			return Modifier.isPublic(targetClass.getModifiers()) && !isHidden(targetClass) && expose.isAssignableFrom(targetClass);
 		}
 	}
 }
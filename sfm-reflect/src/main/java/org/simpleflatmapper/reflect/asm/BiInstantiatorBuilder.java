@@ -508,7 +508,8 @@ public class BiInstantiatorBuilder {
             Type publicGetterClass = AsmUtils.findClosestPublicTypeExposing(getterClass, Getter.class);
             return new InjectionPoint(parameter, biFunction, true, "get", publicGetterClass, false);
         } else {
-            return new InjectionPoint(parameter, biFunction, false, "apply", biFunction.getClass(), false);
+            Type publicFunctionClass = AsmUtils.findClosestPublicTypeExposing(biFunction.getClass(), BiFunction.class);
+            return new InjectionPoint(parameter, biFunction, false, "apply", publicFunctionClass != null ? publicFunctionClass : BiFunction.class, false);
         }
     }
 
@@ -0,0 +1,72 @@
+package org.simpleflatmapper.reflect.asm;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache of generated classes.
+ * <p>
+ * The hidden classes are only weakly referenced, they are reachable through their instances
+ * and can be unloaded once the last mapper or instantiator using them is collected.
+ * The classes defined in the FactoryClassLoader are kept as the loader keeps them anyway.
+ * @param <K> the key type
+ * @param <C> the class type
+ */
+public final class GeneratedClassCache<K, C> {
+
+    private final ConcurrentMap<K, Object> classes = new ConcurrentHashMap<K, Object>();
+    private final ReferenceQueue<C> queue = new ReferenceQueue<C>();
+
+    @SuppressWarnings("unchecked")
+    public Class<? extends C> get(K key) {
+        Object o = classes.get(key);
+        if (o instanceof ClassReference) {
+            return ((ClassReference<K, C>) o).get();
+        }
+        return (Class<? extends C>) o;
+    }
+
+    public void put(K key, Class<? extends C> clazz) {
+        expungeStaleEntries();
+        if (AsmUtils.isHidden(clazz)) {
+            classes.put(key, new ClassReference<K, C>(key, clazz, queue));
+        } else {
+            classes.put(key, clazz);
+        }
+    }
+
+    /**
+     * @param key the key
+     * @return true if the class of the key is only weakly referenced by the cache
+     */
+    public boolean isWeaklyReferenced(K key) {
+        return classes.get(key) instanceof ClassReference;
+    }
+
+    public int size() {
+        expungeStaleEntries();
+        return classes.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void expungeStaleEntries() {
+        Reference<?> ref;
+        while((ref = queue.poll()) != null) {
+            ClassReference<K, C> classReference = (ClassReference<K, C>) ref;
+            classes.remove(classReference.key, classReference);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class ClassReference<K, C> extends WeakReference<Class<? extends C>> {
+        private final K key;
+
+        private ClassReference(K key, Class<? extends C> referent, ReferenceQueue<C> queue) {
+            super(referent, (ReferenceQueue) queue);
+            this.key = key;
+        }
+    }
+}
@@ -36,6 +36,14 @@ public class BuilderInstantiatorDefinitionFactory {
         List<InstantiatorDefinition> instantiatorDefinitions = new ArrayList<InstantiatorDefinition>();
         Class<?> clazz = TypeHelper.toClass(target);
 
+        if (ProtobufBuilderInstantiatorDefinitionFactory.isProtobufMessage(clazz)) {
+            BuilderInstantiatorDefinition def = ProtobufBuilderInstantiatorDefinitionFactory.getDefinition(target);
+            if (def != null) {
+                instantiatorDefinitions.add(def);
+                return instantiatorDefinitions;
+            }
+        }
+
         for(Method m : clazz.getDeclaredMethods()) {
             if (isPotentialBuilderMethod(m)) {
                 BuilderInstantiatorDefinition def = getDefinitionForBuilderFromMethod(m, target);
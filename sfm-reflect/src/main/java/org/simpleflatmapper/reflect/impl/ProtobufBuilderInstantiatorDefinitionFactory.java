@@ -0,0 +1,126 @@
+package org.simpleflatmapper.reflect.impl;
+
+import org.simpleflatmapper.reflect.BuilderInstantiatorDefinition;
+import org.simpleflatmapper.reflect.ParameterizedTypeImpl;
+import org.simpleflatmapper.reflect.instantiator.ExecutableInstantiatorDefinition;
+import org.simpleflatmapper.util.TypeHelper;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builder definition for protobuf generated messages.
+ * <p>
+ * The setters are derived from the fields of the message as generated by protoc, a field has a clear method on the builder
+ * and a typed getter on the message, instead of every single argument method of the builder.
+ * Singular fields use the setter of the field type, primitive or message, not the Bytes, Value or nested Builder variants,
+ * repeated fields use the addAll method with a List of the element type so the elements can be aggregated from join rows,
+ * map fields use the putAll method.
+ * The built message copies the repeated fields, the definition is marked as copying the injected values
+ * so a join aggregates the elements before building the message.
+ * <p>
+ * The field schema is read from the generated accessors as the Descriptor needs the embedded file descriptor to be parsed.
+ */
+public class ProtobufBuilderInstantiatorDefinitionFactory {
+
+    private static final String GENERATED_MESSAGE_V3 = "com.google.protobuf.GeneratedMessageV3";
+
+    public static boolean isProtobufMessage(Class<?> clazz) {
+        Class<?> superClass = clazz.getSuperclass();
+        return superClass != null && GENERATED_MESSAGE_V3.equals(superClass.getName());
+    }
+
+    /**
+     * @param target the message type
+     * @return the builder definition or null if the message does not follow the generated code conventions
+     */
+    public static BuilderInstantiatorDefinition getDefinition(Type target) {
+        Class<?> messageClass = TypeHelper.toClass(target);
+
+        Method newBuilder = getMethod(messageClass, "newBuilder");
+        if (newBuilder == null || !Modifier.isStatic(newBuilder.getModifiers())) return null;
+
+        Class<?> builderClass = newBuilder.getReturnType();
+        Method buildMethod = getMethod(builderClass, "build");
+        if (buildMethod == null || !messageClass.equals(buildMethod.getReturnType())) return null;
+
+        Map<org.simpleflatmapper.reflect.Parameter, Method> setters = new LinkedHashMap<org.simpleflatmapper.reflect.Parameter, Method>();
+
+        int i = 0;
+        for(Method clear : builderClass.getDeclaredMethods()) {
+            String name = clear.getName();
+            if (!Modifier.isPublic(clear.getModifiers())
+                    || Modifier.isStatic(clear.getModifiers())
+                    || clear.getParameterTypes().length != 0
+                    || !name.startsWith("clear")
+                    || name.length() == "clear".length()
+                    || !builderClass.equals(clear.getReturnType())) {
+                continue;
+            }
+
+            String field = name.substring("clear".length());
+            FieldSetter fieldSetter = fieldSetter(messageClass, builderClass, field);
+            if (fieldSetter != null) {
+                String paramName = field.substring(0, 1).toLowerCase() + field.substring(1);
+                setters.put(new org.simpleflatmapper.reflect.Parameter(i++, paramName, TypeHelper.toClass(fieldSetter.type), fieldSetter.type), fieldSetter.setter);
+            }
+        }
+
+        if (setters.isEmpty()) return null;
+
+        return new BuilderInstantiatorDefinition(new ExecutableInstantiatorDefinition(newBuilder), setters, buildMethod, true);
+    }
+
+    private static FieldSetter fieldSetter(Class<?> messageClass, Class<?> builderClass, String field) {
+        // repeated field
+        Method listGetter = getMethod(messageClass, "get" + field + "List");
+        Method addAll = getMethod(builderClass, "addAll" + field, Iterable.class);
+        if (listGetter != null && addAll != null && List.class.isAssignableFrom(listGetter.getReturnType())) {
+            // a repeated string returns a ProtocolStringList, the element type is resolved from the indexed getter
+            Method elementGetter = getMethod(messageClass, "get" + field, int.class);
+            Type elementType = elementGetter != null
+                    ? elementGetter.getGenericReturnType()
+                    : TypeHelper.getComponentTypeOfListOrArray(listGetter.getGenericReturnType());
+            return new FieldSetter(addAll, new ParameterizedTypeImpl(List.class, new Type[] { elementType }));
+        }
+
+        // map field
+        Method mapGetter = getMethod(messageClass, "get" + field + "Map");
+        Method putAll = getMethod(builderClass, "putAll" + field, Map.class);
+        if (mapGetter != null && putAll != null) {
+            return new FieldSetter(putAll, mapGetter.getGenericReturnType());
+        }
+
+        // singular field, the oneof clear methods do not have a getter
+        Method getter = getMethod(messageClass, "get" + field);
+        if (getter != null) {
+            Method setter = getMethod(builderClass, "set" + field, getter.getReturnType());
+            if (setter != null) {
+                return new FieldSetter(setter, getter.getGenericReturnType());
+            }
+        }
+        return null;
+    }
+
+    private static Method getMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static class FieldSetter {
+        private final Method setter;
+        private final Type type;
+
+        private FieldSetter(Method setter, Type type) {
+            this.setter = setter;
+            this.type = type;
+        }
+    }
+}
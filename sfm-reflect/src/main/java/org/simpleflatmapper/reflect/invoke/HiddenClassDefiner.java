@@ -0,0 +1,136 @@
+package org.simpleflatmapper.reflect.invoke;
+
+import org.simpleflatmapper.ow2asm.ClassWriter;
+import org.simpleflatmapper.ow2asm.MethodVisitor;
+import org.simpleflatmapper.ow2asm.Opcodes;
+import org.simpleflatmapper.util.FactoryClassLoader;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Define generated classes as hidden classes, jdk 15+ only, so that they can be unloaded
+ * once no instance is reachable even if the FactoryClassLoader is still alive.
+ * <p>
+ * A hidden class is defined in the package of the lookup class, an anchor class returning its own lookup
+ * is registered in the FactoryClassLoader for each package of generated classes.
+ * A hidden class cannot be referenced by name, it must only be used through its super type and reflection.
+ */
+public final class HiddenClassDefiner {
+
+    public static final String ANCHOR_CLASS_NAME = "HiddenClassAnchor";
+
+    private static final String LOOKUP_METHOD = "lookup";
+
+    private static final Method DEFINE_HIDDEN_CLASS;
+    private static final Object NO_OPTIONS;
+
+    static {
+        Method defineHiddenClass = null;
+        Object noOptions = null;
+        try {
+            Class<?> classOption = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+            noOptions = Array.newInstance(classOption, 0);
+            defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class, boolean.class, noOptions.getClass());
+        } catch (Throwable e) {
+            // jdk older than 15
+        }
+        DEFINE_HIDDEN_CLASS = defineHiddenClass;
+        NO_OPTIONS = noOptions;
+    }
+
+    /**
+     * @return true if the jvm supports hidden classes
+     */
+    public static boolean isSupported() {
+        return DEFINE_HIDDEN_CLASS != null;
+    }
+
+    private final FactoryClassLoader factoryClassLoader;
+    private final ConcurrentMap<String, MethodHandles.Lookup> lookups = new ConcurrentHashMap<String, MethodHandles.Lookup>();
+
+    public HiddenClassDefiner(FactoryClassLoader factoryClassLoader) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Hidden classes are not supported by this jvm");
+        }
+        this.factoryClassLoader = factoryClassLoader;
+    }
+
+    /**
+     * define the class as a hidden class in the package of className.
+     * @param className the name of the class in bytes
+     * @param bytes the bytecode
+     * @param declaringClassLoader the class loader of the types referenced by the class
+     * @return the hidden class
+     * @throws Exception if the class cannot be defined
+     */
+    public Class<?> defineHiddenClass(String className, byte[] bytes, ClassLoader declaringClassLoader) throws Exception {
+        factoryClassLoader.registerClassLoader(declaringClassLoader);
+        MethodHandles.Lookup lookup = getLookup(packageName(className));
+        try {
+            return ((MethodHandles.Lookup) DEFINE_HIDDEN_CLASS.invoke(lookup, bytes, true, NO_OPTIONS)).lookupClass();
+        } catch (InvocationTargetException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private MethodHandles.Lookup getLookup(String packageName) throws Exception {
+        MethodHandles.Lookup lookup = lookups.get(packageName);
+        if (lookup == null) {
+            String anchorName = packageName + "." + ANCHOR_CLASS_NAME;
+            Class<?> anchor = factoryClassLoader.registerClass(anchorName, anchorBytes(anchorName), null);
+            Method lookupMethod = anchor.getDeclaredMethod(LOOKUP_METHOD);
+            lookupMethod.setAccessible(true);
+            try {
+                lookup = (MethodHandles.Lookup) lookupMethod.invoke(null);
+            } catch (InvocationTargetException e) {
+                throw unwrap(e);
+            }
+            MethodHandles.Lookup previous = lookups.putIfAbsent(packageName, lookup);
+            if (previous != null) {
+                lookup = previous;
+            }
+        }
+        return lookup;
+    }
+
+    private static String packageName(String className) {
+        int i = className.lastIndexOf('.');
+        if (i == -1) {
+            throw new IllegalArgumentException("Generated class " + className + " needs to be in a package");
+        }
+        return className.substring(0, i);
+    }
+
+    /**
+     * the anchor needs to create the lookup itself, a lookup obtained through privateLookupIn from another module
+     * does not have the full privilege access required by defineHiddenClass.
+     */
+    private static byte[] anchorBytes(String anchorName) {
+        ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V1_6, Opcodes.ACC_PUBLIC + Opcodes.ACC_FINAL + Opcodes.ACC_SUPER, anchorName.replace('.', '/'), null, "java/lang/Object", null);
+        MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PRIVATE + Opcodes.ACC_STATIC, LOOKUP_METHOD, "()Ljava/lang/invoke/MethodHandles$Lookup;", null, null);
+        mv.visitCode();
+        mv.visitMethodInsn(Opcodes.INVOKESTATIC, "java/lang/invoke/MethodHandles", "lookup", "()Ljava/lang/invoke/MethodHandles$Lookup;", false);
+        mv.visitInsn(Opcodes.ARETURN);
+        mv.visitMaxs(1, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static Exception unwrap(InvocationTargetException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return e;
+    }
+}
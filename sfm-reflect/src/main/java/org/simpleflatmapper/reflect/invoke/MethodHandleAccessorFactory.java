@@ -0,0 +1,115 @@
+package org.simpleflatmapper.reflect.invoke;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.Setter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Create getters and setters backed by method handles, used when the asm getter or setter cannot be generated.
+ * <p>
+ * The handles are adapted to an Object receiver and invoked with invokeExact,
+ * that avoids the argument array and the access check of the reflection call and,
+ * for the primitive properties, the boxing of the value.
+ * The member needs to be accessible from this class or to have been made accessible,
+ * the methods return null if the handle cannot be created.
+ */
+public final class MethodHandleAccessorFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private MethodHandleAccessorFactory() {
+    }
+
+    public static <T, P> Getter<T, P> newGetter(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterTypes().length != 0) return null;
+        try {
+            return newGetter(LOOKUP.unreflect(method), method.getReturnType(), method);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    public static <T, P> Getter<T, P> newGetter(Field field) {
+        if (Modifier.isStatic(field.getModifiers())) return null;
+        try {
+            return newGetter(LOOKUP.unreflectGetter(field), field.getType(), field);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    public static <T, P> Setter<T, P> newSetter(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterTypes().length != 1) return null;
+        try {
+            return newSetter(LOOKUP.unreflect(method), method.getParameterTypes()[0], method);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    public static <T, P> Setter<T, P> newSetter(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) return null;
+        try {
+            return newSetter(LOOKUP.unreflectSetter(field), field.getType(), field);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, P> Getter<T, P> newGetter(MethodHandle handle, Class<?> type, Member member) {
+        if (type.isPrimitive()) {
+            MethodHandle h = handle.asType(MethodType.methodType(type, Object.class));
+            if (boolean.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.BooleanMethodHandleGetter<T>(h, member);
+            } else if (byte.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.ByteMethodHandleGetter<T>(h, member);
+            } else if (char.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.CharacterMethodHandleGetter<T>(h, member);
+            } else if (short.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.ShortMethodHandleGetter<T>(h, member);
+            } else if (int.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.IntMethodHandleGetter<T>(h, member);
+            } else if (long.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.LongMethodHandleGetter<T>(h, member);
+            } else if (float.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.FloatMethodHandleGetter<T>(h, member);
+            } else if (double.class.equals(type)) {
+                return (Getter<T, P>) new MethodHandleGetter.DoubleMethodHandleGetter<T>(h, member);
+            }
+        }
+        return new MethodHandleGetter<T, P>(handle.asType(MethodType.methodType(Object.class, Object.class)), member);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, P> Setter<T, P> newSetter(MethodHandle handle, Class<?> type, Member member) {
+        if (type.isPrimitive()) {
+            MethodHandle h = handle.asType(MethodType.methodType(void.class, Object.class, type));
+            if (boolean.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.BooleanMethodHandleSetter<T>(h, member);
+            } else if (byte.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.ByteMethodHandleSetter<T>(h, member);
+            } else if (char.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.CharacterMethodHandleSetter<T>(h, member);
+            } else if (short.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.ShortMethodHandleSetter<T>(h, member);
+            } else if (int.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.IntMethodHandleSetter<T>(h, member);
+            } else if (long.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.LongMethodHandleSetter<T>(h, member);
+            } else if (float.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.FloatMethodHandleSetter<T>(h, member);
+            } else if (double.class.equals(type)) {
+                return (Setter<T, P>) new MethodHandleSetter.DoubleMethodHandleSetter<T>(h, member);
+            }
+        }
+        return new MethodHandleSetter<T, P>(handle.asType(MethodType.methodType(void.class, Object.class, Object.class)), member);
+    }
+}
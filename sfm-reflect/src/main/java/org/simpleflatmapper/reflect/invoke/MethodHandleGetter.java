@@ -0,0 +1,295 @@
+package org.simpleflatmapper.reflect.invoke;
+
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.primitive.BooleanGetter;
+import org.simpleflatmapper.reflect.primitive.ByteGetter;
+import org.simpleflatmapper.reflect.primitive.CharacterGetter;
+import org.simpleflatmapper.reflect.primitive.ShortGetter;
+import org.simpleflatmapper.reflect.primitive.IntGetter;
+import org.simpleflatmapper.reflect.primitive.LongGetter;
+import org.simpleflatmapper.reflect.primitive.FloatGetter;
+import org.simpleflatmapper.reflect.primitive.DoubleGetter;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Member;
+
+/**
+ * Getter calling a method handle adapted to (Object)Object, the primitive properties use the nested specialised
+ * getters that invoke a handle returning the primitive type to avoid the boxing.
+ * @see MethodHandleAccessorFactory
+ */
+public class MethodHandleGetter<T, P> implements Getter<T, P> {
+    private final MethodHandle handle;
+    private final Member member;
+
+    public MethodHandleGetter(MethodHandle handle, Member member) {
+        this.handle = handle;
+        this.member = member;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public P get(T target) throws Exception {
+        try {
+            return (P) (Object) handle.invokeExact((Object) target);
+        } catch (Throwable e) {
+            return ErrorHelper.rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleGetter{" +
+                "member=" + member +
+                '}';
+    }
+
+    public static final class BooleanMethodHandleGetter<T> implements Getter<T, Boolean>, BooleanGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public BooleanMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public boolean getBoolean(T target) throws Exception {
+            try {
+                return (boolean) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Boolean>rethrow(e);
+            }
+        }
+
+        @Override
+        public Boolean get(T target) throws Exception {
+            return getBoolean(target);
+        }
+
+        @Override
+        public String toString() {
+            return "BooleanMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class ByteMethodHandleGetter<T> implements Getter<T, Byte>, ByteGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public ByteMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public byte getByte(T target) throws Exception {
+            try {
+                return (byte) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Byte>rethrow(e);
+            }
+        }
+
+        @Override
+        public Byte get(T target) throws Exception {
+            return getByte(target);
+        }
+
+        @Override
+        public String toString() {
+            return "ByteMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class CharacterMethodHandleGetter<T> implements Getter<T, Character>, CharacterGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public CharacterMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public char getCharacter(T target) throws Exception {
+            try {
+                return (char) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Character>rethrow(e);
+            }
+        }
+
+        @Override
+        public Character get(T target) throws Exception {
+            return getCharacter(target);
+        }
+
+        @Override
+        public String toString() {
+            return "CharacterMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class ShortMethodHandleGetter<T> implements Getter<T, Short>, ShortGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public ShortMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public short getShort(T target) throws Exception {
+            try {
+                return (short) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Short>rethrow(e);
+            }
+        }
+
+        @Override
+        public Short get(T target) throws Exception {
+            return getShort(target);
+        }
+
+        @Override
+        public String toString() {
+            return "ShortMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class IntMethodHandleGetter<T> implements Getter<T, Integer>, IntGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public IntMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public int getInt(T target) throws Exception {
+            try {
+                return (int) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Integer>rethrow(e);
+            }
+        }
+
+        @Override
+        public Integer get(T target) throws Exception {
+            return getInt(target);
+        }
+
+        @Override
+        public String toString() {
+            return "IntMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class LongMethodHandleGetter<T> implements Getter<T, Long>, LongGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public LongMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public long getLong(T target) throws Exception {
+            try {
+                return (long) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Long>rethrow(e);
+            }
+        }
+
+        @Override
+        public Long get(T target) throws Exception {
+            return getLong(target);
+        }
+
+        @Override
+        public String toString() {
+            return "LongMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class FloatMethodHandleGetter<T> implements Getter<T, Float>, FloatGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public FloatMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public float getFloat(T target) throws Exception {
+            try {
+                return (float) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Float>rethrow(e);
+            }
+        }
+
+        @Override
+        public Float get(T target) throws Exception {
+            return getFloat(target);
+        }
+
+        @Override
+        public String toString() {
+            return "FloatMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class DoubleMethodHandleGetter<T> implements Getter<T, Double>, DoubleGetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public DoubleMethodHandleGetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public double getDouble(T target) throws Exception {
+            try {
+                return (double) handle.invokeExact((Object) target);
+            } catch (Throwable e) {
+                return ErrorHelper.<Double>rethrow(e);
+            }
+        }
+
+        @Override
+        public Double get(T target) throws Exception {
+            return getDouble(target);
+        }
+
+        @Override
+        public String toString() {
+            return "DoubleMethodHandleGetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package org.simpleflatmapper.reflect.invoke;
+
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.primitive.BooleanSetter;
+import org.simpleflatmapper.reflect.primitive.ByteSetter;
+import org.simpleflatmapper.reflect.primitive.CharacterSetter;
+import org.simpleflatmapper.reflect.primitive.ShortSetter;
+import org.simpleflatmapper.reflect.primitive.IntSetter;
+import org.simpleflatmapper.reflect.primitive.LongSetter;
+import org.simpleflatmapper.reflect.primitive.FloatSetter;
+import org.simpleflatmapper.reflect.primitive.DoubleSetter;
+import org.simpleflatmapper.util.ErrorHelper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Member;
+
+/**
+ * Setter calling a method handle adapted to (Object, Object)void, the primitive properties use the nested specialised
+ * setters that invoke a handle taking the primitive type to avoid the boxing.
+ * @see MethodHandleAccessorFactory
+ */
+public class MethodHandleSetter<T, P> implements Setter<T, P> {
+    private final MethodHandle handle;
+    private final Member member;
+
+    public MethodHandleSetter(MethodHandle handle, Member member) {
+        this.handle = handle;
+        this.member = member;
+    }
+
+    @Override
+    public void set(T target, P value) throws Exception {
+        try {
+            handle.invokeExact((Object) target, (Object) value);
+        } catch (Throwable e) {
+            ErrorHelper.rethrow(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MethodHandleSetter{" +
+                "member=" + member +
+                '}';
+    }
+
+    public static final class BooleanMethodHandleSetter<T> implements Setter<T, Boolean>, BooleanSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public BooleanMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setBoolean(T target, boolean value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Boolean value) throws Exception {
+            setBoolean(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "BooleanMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class ByteMethodHandleSetter<T> implements Setter<T, Byte>, ByteSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public ByteMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setByte(T target, byte value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Byte value) throws Exception {
+            setByte(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "ByteMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class CharacterMethodHandleSetter<T> implements Setter<T, Character>, CharacterSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public CharacterMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setCharacter(T target, char value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Character value) throws Exception {
+            setCharacter(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "CharacterMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class ShortMethodHandleSetter<T> implements Setter<T, Short>, ShortSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public ShortMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setShort(T target, short value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Short value) throws Exception {
+            setShort(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "ShortMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class IntMethodHandleSetter<T> implements Setter<T, Integer>, IntSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public IntMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setInt(T target, int value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Integer value) throws Exception {
+            setInt(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "IntMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class LongMethodHandleSetter<T> implements Setter<T, Long>, LongSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public LongMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setLong(T target, long value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Long value) throws Exception {
+            setLong(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "LongMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class FloatMethodHandleSetter<T> implements Setter<T, Float>, FloatSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public FloatMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setFloat(T target, float value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Float value) throws Exception {
+            setFloat(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "FloatMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+
+    public static final class DoubleMethodHandleSetter<T> implements Setter<T, Double>, DoubleSetter<T> {
+        private final MethodHandle handle;
+        private final Member member;
+
+        public DoubleMethodHandleSetter(MethodHandle handle, Member member) {
+            this.handle = handle;
+            this.member = member;
+        }
+
+        @Override
+        public void setDouble(T target, double value) throws Exception {
+            try {
+                handle.invokeExact((Object) target, value);
+            } catch (Throwable e) {
+                ErrorHelper.rethrow(e);
+            }
+        }
+
+        @Override
+        public void set(T target, Double value) throws Exception {
+            setDouble(target, value);
+        }
+
+        @Override
+        public String toString() {
+            return "DoubleMethodHandleSetter{" +
+                    "member=" + member +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package org.simpleflatmapper.reflect.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.reflect.Getter;
+import org.simpleflatmapper.reflect.ObjectGetterFactory;
+import org.simpleflatmapper.reflect.ObjectSetterFactory;
+import org.simpleflatmapper.reflect.Setter;
+import org.simpleflatmapper.reflect.asm.AsmFactory;
+import org.simpleflatmapper.reflect.invoke.MethodHandleAccessorFactory;
+import org.simpleflatmapper.reflect.invoke.MethodHandleGetter;
+import org.simpleflatmapper.reflect.invoke.MethodHandleSetter;
+import org.simpleflatmapper.reflect.primitive.BooleanGetter;
+import org.simpleflatmapper.reflect.primitive.CharacterSetter;
+import org.simpleflatmapper.reflect.primitive.DoubleGetter;
+import org.simpleflatmapper.reflect.primitive.IntGetter;
+import org.simpleflatmapper.reflect.primitive.IntSetter;
+import org.simpleflatmapper.reflect.primitive.LongSetter;
+import org.simpleflatmapper.test.beans.DbPrimitiveObjectWithSetter;
+import org.simpleflatmapper.test.beans.Foo;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MethodHandleAccessorFactoryTest {
+
+	@Test
+	public void testObjectAccessors() throws Exception {
+		Setter<Foo, String> setter = MethodHandleAccessorFactory.newSetter(Foo.class.getDeclaredMethod("setFoo", String.class));
+		SetterHelperTest.validateFooSetter(setter);
+		assertEquals("MethodHandleSetter{member=public void org.simpleflatmapper.test.beans.Foo.setFoo(java.lang.String)}", setter.toString());
+
+		Getter<Foo, String> getter = MethodHandleAccessorFactory.newGetter(Foo.class.getDeclaredMethod("getFoo"));
+		Foo foo = new Foo();
+		foo.setFoo("v1");
+		assertEquals("v1", getter.get(foo));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testPrimitiveAccessors() throws Exception {
+		DbPrimitiveObjectWithSetter object = new DbPrimitiveObjectWithSetter();
+
+		Setter<DbPrimitiveObjectWithSetter, Integer> intSetter = MethodHandleAccessorFactory.newSetter(DbPrimitiveObjectWithSetter.class.getDeclaredMethod("setpInt", int.class));
+		((IntSetter<DbPrimitiveObjectWithSetter>) intSetter).setInt(object, 3);
+		assertEquals(3, object.getpInt());
+		intSetter.set(object, 4);
+		assertEquals(4, object.getpInt());
+
+		Setter<DbPrimitiveObjectWithSetter, Long> longSetter = MethodHandleAccessorFactory.newSetter(DbPrimitiveObjectWithSetter.class.getDeclaredMethod("setpLong", long.class));
+		((LongSetter<DbPrimitiveObjectWithSetter>) longSetter).setLong(object, 5l);
+		assertEquals(5l, object.getpLong());
+
+		Setter<DbPrimitiveObjectWithSetter, Character> charSetter = MethodHandleAccessorFactory.newSetter(DbPrimitiveObjectWithSetter.class.getDeclaredMethod("setpCharacter", char.class));
+		((CharacterSetter<DbPrimitiveObjectWithSetter>) charSetter).setCharacter(object, 'c');
+		assertEquals('c', object.getpCharacter());
+
+		Getter<DbPrimitiveObjectWithSetter, Integer> intGetter = MethodHandleAccessorFactory.newGetter(DbPrimitiveObjectWithSetter.class.getMethod("getpInt"));
+		assertEquals(4, ((IntGetter<DbPrimitiveObjectWithSetter>) intGetter).getInt(object));
+		assertEquals(Integer.valueOf(4), intGetter.get(object));
+
+		object.setpBoolean(true);
+		Getter<DbPrimitiveObjectWithSetter, Boolean> booleanGetter = MethodHandleAccessorFactory.newGetter(DbPrimitiveObjectWithSetter.class.getMethod("ispBoolean"));
+		assertTrue(((BooleanGetter<DbPrimitiveObjectWithSetter>) booleanGetter).getBoolean(object));
+
+		object.setpDouble(7.0);
+		Getter<DbPrimitiveObjectWithSetter, Double> doubleGetter = MethodHandleAccessorFactory.newGetter(DbPrimitiveObjectWithSetter.class.getMethod("getpDouble"));
+		assertEquals(7.0, ((DoubleGetter<DbPrimitiveObjectWithSetter>) doubleGetter).getDouble(object), 0.0001);
+	}
+
+	@Test
+	public void testFieldAccessors() throws Exception {
+		Setter<FooField, String> setter = MethodHandleAccessorFactory.newSetter(FooField.class.getDeclaredField("bar"));
+		Getter<FooField, String> getter = MethodHandleAccessorFactory.newGetter(FooField.class.getDeclaredField("bar"));
+		FooField ff = new FooField();
+		setter.set(ff, "bar1");
+		assertEquals("bar1", ff.bar);
+		assertEquals("bar1", getter.get(ff));
+	}
+
+	@Test
+	public void testFactoriesFallBackToMethodHandleWhenAsmFails() throws Exception {
+		AsmFactory failingAsmFactory = new AsmFactory(Thread.currentThread().getContextClassLoader()) {
+			@Override
+			public <T, P> Setter<T, P> createSetter(Method m) throws Exception {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public <T, P> Getter<T, P> createGetter(Method m) throws Exception {
+				throw new UnsupportedOperationException();
+			}
+		};
+
+		Setter<Foo, String> setter = new ObjectSetterFactory(failingAsmFactory, true).getSetter(Foo.class, "foo");
+		assertTrue(setter instanceof MethodHandleSetter);
+		SetterHelperTest.validateFooSetter(setter);
+
+		IntSetter<? super DbPrimitiveObjectWithSetter> intSetter = ObjectSetterFactory.toIntSetter(new ObjectSetterFactory(failingAsmFactory, true).<DbPrimitiveObjectWithSetter, Integer>getSetter(DbPrimitiveObjectWithSetter.class, "pInt"));
+		assertTrue(intSetter instanceof MethodHandleSetter.IntMethodHandleSetter);
+
+		Getter<DbPrimitiveObjectWithSetter, Integer> getter = new ObjectGetterFactory(failingAsmFactory, true).getGetter(DbPrimitiveObjectWithSetter.class, "pInt");
+		assertTrue(ObjectGetterFactory.toIntGetter(getter) instanceof MethodHandleGetter.IntMethodHandleGetter);
+
+		// private members are made accessible before the handle is created
+		Getter<PrivateField, String> privateGetter = new ObjectGetterFactory(null, true).getGetter(PrivateField.class, "value");
+		assertTrue(privateGetter instanceof MethodHandleGetter);
+		assertEquals("v", privateGetter.get(new PrivateField()));
+	}
+
+	public static class FooField {
+		public String bar;
+	}
+
+	private static class PrivateField {
+		private String value = "v";
+	}
+}
@@ -1,9 +1,12 @@
 package org.simpleflatmapper.reflect.test.asm;
 
+import org.junit.Assume;
 import org.junit.Test;
 import org.simpleflatmapper.reflect.Setter;
 import org.simpleflatmapper.reflect.asm.AsmFactory;
 import org.simpleflatmapper.reflect.asm.AsmInstantiatorDefinitionFactory;
+import org.simpleflatmapper.reflect.asm.AsmUtils;
+import org.simpleflatmapper.reflect.asm.GeneratedClassCache;
 import org.simpleflatmapper.reflect.instantiator.ExecutableInstantiatorDefinition;
 import org.simpleflatmapper.reflect.Getter;
 import org.simpleflatmapper.reflect.Instantiator;
@@ -19,13 +22,16 @@ import org.simpleflatmapper.test.beans.DbObject;
 import org.simpleflatmapper.test.beans.DbObject.Type;
 import org.simpleflatmapper.util.UnaryFactory;
 
+import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class AsmFactoryTest {
 
@@ -119,6 +125,62 @@ public class AsmFactoryTest {
 	}
 	
 
+	@Test
+	public void testInstantiatorIsHidden() throws Exception {
+		Assume.assumeTrue(isHiddenClassSupported());
+		AsmFactory asmFactory = new AsmFactory(getClass().getClassLoader());
+
+		Instantiator<Object, DbObject> instantiator = asmFactory.createEmptyArgsInstantiator(Object.class, DbObject.class);
+		assertTrue(AsmUtils.isHidden(instantiator.getClass()));
+		assertNotNull(instantiator.newInstance(null));
+		assertSame(instantiator.getClass(), asmFactory.createEmptyArgsInstantiator(Object.class, DbObject.class).getClass());
+	}
+
+	@Test
+	public void testHiddenClassIsWeaklyCached() throws Exception {
+		Assume.assumeTrue(isHiddenClassSupported());
+		AsmFactory asmFactory = new AsmFactory(getClass().getClassLoader());
+		Class<?> hiddenClass = asmFactory.createEmptyArgsInstantiator(Object.class, DbObject.class).getClass();
+
+		GeneratedClassCache<String, Object> cache = new GeneratedClassCache<String, Object>();
+		cache.put("hidden", hiddenClass);
+		cache.put("named", DbObject.class);
+
+		assertSame(hiddenClass, cache.get("hidden"));
+		assertTrue(cache.isWeaklyReferenced("hidden"));
+		assertSame(DbObject.class, cache.get("named"));
+		assertFalse(cache.isWeaklyReferenced("named"));
+	}
+
+	@Test
+	public void testInstantiatorIsUnloadable() throws Exception {
+		Assume.assumeTrue(isHiddenClassSupported());
+		AsmFactory asmFactory = new AsmFactory(getClass().getClassLoader());
+
+		Instantiator<Object, DbObject> instantiator = asmFactory.createEmptyArgsInstantiator(Object.class, DbObject.class);
+
+		WeakReference<Class<?>> classReference = new WeakReference<Class<?>>(instantiator.getClass());
+		instantiator = null;
+		for(int i = 0; i < 10 && classReference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		// System.gc is only a hint, the unloading is checked when the jvm did collect
+		Assume.assumeTrue("hidden class not collected", classReference.get() == null);
+
+		instantiator = asmFactory.createEmptyArgsInstantiator(Object.class, DbObject.class);
+		assertNotNull(instantiator.newInstance(null));
+	}
+
+	private static boolean isHiddenClassSupported() {
+		try {
+			Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
 	@Test
 	public void testRegisterOrCreate() {
 		AsmFactory asmFactory = new AsmFactory(getClass().getClassLoader());
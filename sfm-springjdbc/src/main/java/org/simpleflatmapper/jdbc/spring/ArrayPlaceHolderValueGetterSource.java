@@ -4,6 +4,10 @@ import org.simpleflatmapper.converter.ContextFactory;
 
 import java.util.Arrays;
 
+/**
+ * @deprecated the {@link SqlParameterSourceFactory} uses a {@link HashPlaceHolderValueGetterSource}.
+ */
+@Deprecated
 public final class ArrayPlaceHolderValueGetterSource<T> implements PlaceHolderValueGetterSource<T> {
 
     private final PlaceHolderValueGetter<T>[] parameters;
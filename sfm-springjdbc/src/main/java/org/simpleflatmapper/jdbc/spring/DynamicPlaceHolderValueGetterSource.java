@@ -4,11 +4,19 @@ import org.simpleflatmapper.jdbc.JdbcColumnKey;
 import org.simpleflatmapper.map.MapperConfig;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Resolves the {@link PlaceHolderValueGetter} on demand.
+ * The resolved getters are kept in an immutable {@link HashPlaceHolderValueGetterSource} that is replaced when new columns are added,
+ * only the new columns are built.
+ */
 public class DynamicPlaceHolderValueGetterSource<T> implements PlaceHolderValueGetterSource<T> {
 
-    private final AtomicReference<PlaceHolderValueGetterSource<T>> delegate;
+    private final AtomicReference<HashPlaceHolderValueGetterSource<T>> delegate;
     private final ClassMeta<T> classMeta;
     private final MapperConfig<JdbcColumnKey, ?> mapperConfig;
 
@@ -16,22 +24,39 @@ public class DynamicPlaceHolderValueGetterSource<T> implements PlaceHolderValueG
     public DynamicPlaceHolderValueGetterSource(ClassMeta<T> classMeta, MapperConfig<JdbcColumnKey, ?> mapperConfig) {
         this.classMeta = classMeta;
         this.mapperConfig = mapperConfig;
-        this.delegate = new AtomicReference<PlaceHolderValueGetterSource<T>>(new ArrayPlaceHolderValueGetterSource<T>(new PlaceHolderValueGetter[0]));
+        this.delegate = new AtomicReference<HashPlaceHolderValueGetterSource<T>>(new HashPlaceHolderValueGetterSource<T>(new PlaceHolderValueGetter[0]));
     }
 
     @Override
     public PlaceHolderValueGetter<T> getPlaceHolderValueGetter(String column) {
+        PlaceHolderValueGetter<T> parameter = delegate.get().getPlaceHolderValueGetter(column);
+        if (parameter != null) {
+            return parameter;
+        }
+        return ensureColumns(Collections.singletonList(column)).getPlaceHolderValueGetter(column);
+    }
+
+    /**
+     * make sure all the columns are resolved, building the missing ones at once.
+     * @param columns the columns
+     * @return the source containing all the columns
+     */
+    public PlaceHolderValueGetterSource<T> ensureColumns(Iterable<String> columns) {
         do {
-            PlaceHolderValueGetterSource<T> ssp = delegate.get();
-            PlaceHolderValueGetter<T> parameter = ssp.getPlaceHolderValueGetter(column);
-            if (parameter != null) {
-                return parameter;
-            } else {
-                PlaceHolderValueGetterSource<T> nssp = addColumn(ssp, column);
-                if (delegate.compareAndSet(ssp, nssp)) {
-                    return nssp.getPlaceHolderValueGetter(column);
+            HashPlaceHolderValueGetterSource<T> ssp = delegate.get();
+            List<String> missingColumns = new ArrayList<String>();
+            for(String column : columns) {
+                if (ssp.getPlaceHolderValueGetter(column) == null && !missingColumns.contains(column)) {
+                    missingColumns.add(column);
                 }
             }
+            if (missingColumns.isEmpty()) {
+                return ssp;
+            }
+            HashPlaceHolderValueGetterSource<T> nssp = addColumns(ssp, missingColumns);
+            if (delegate.compareAndSet(ssp, nssp)) {
+                return nssp;
+            }
         } while(true);
     }
 
@@ -40,12 +65,15 @@ public class DynamicPlaceHolderValueGetterSource<T> implements PlaceHolderValueG
         return delegate.get().getParameters();
     }
 
-    private PlaceHolderValueGetterSource<T> addColumn(PlaceHolderValueGetterSource<T> ssp, String column) {
+    private HashPlaceHolderValueGetterSource<T> addColumns(HashPlaceHolderValueGetterSource<T> ssp, List<String> columns) {
         SqlParameterSourceBuilder<T> builder = new SqlParameterSourceBuilder<T>(classMeta, mapperConfig);
-        for(PlaceHolderValueGetter<T> ph : ssp.getParameters()) {
-            builder.add(ph.getColumn());
+        for(String column : columns) {
+            builder.add(column);
+        }
+        List<PlaceHolderValueGetter<T>> newParameters = new ArrayList<PlaceHolderValueGetter<T>>();
+        for(PlaceHolderValueGetter<T> ph : builder.buildSource().getParameters()) {
+            newParameters.add(ph);
         }
-        builder.add(column);
-        return builder.buildSource();
+        return ssp.with(newParameters);
     }
 }
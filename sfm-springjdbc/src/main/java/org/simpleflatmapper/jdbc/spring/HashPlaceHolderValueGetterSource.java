@@ -0,0 +1,73 @@
+package org.simpleflatmapper.jdbc.spring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable open addressing table of {@link PlaceHolderValueGetter} indexed by column name.
+ * The lookup is case insensitive and does not allocate, an exact match is preferred if 2 columns differ only by case.
+ */
+public final class HashPlaceHolderValueGetterSource<T> implements PlaceHolderValueGetterSource<T> {
+
+    private final PlaceHolderValueGetter<T>[] parameters;
+    private final PlaceHolderValueGetter<T>[] table;
+    private final int mask;
+
+    @SuppressWarnings("unchecked")
+    public HashPlaceHolderValueGetterSource(PlaceHolderValueGetter<T>[] parameters) {
+        this.parameters = parameters;
+        int capacity = Integer.highestOneBit(Math.max(parameters.length, 1) * 2 - 1) << 1;
+        this.table = new PlaceHolderValueGetter[capacity];
+        this.mask = capacity - 1;
+        for(PlaceHolderValueGetter<T> parameter : parameters) {
+            int i = hash(parameter.getColumn()) & mask;
+            while(table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = parameter;
+        }
+    }
+
+    @Override
+    public PlaceHolderValueGetter<T> getPlaceHolderValueGetter(String column) {
+        PlaceHolderValueGetter<T>[] lTable = this.table;
+        PlaceHolderValueGetter<T> ignoreCaseMatch = null;
+        int i = hash(column) & mask;
+        PlaceHolderValueGetter<T> parameter;
+        while((parameter = lTable[i]) != null) {
+            String parameterColumn = parameter.getColumn();
+            if (parameterColumn.equals(column)) {
+                return parameter;
+            } else if (ignoreCaseMatch == null && parameterColumn.equalsIgnoreCase(column)) {
+                ignoreCaseMatch = parameter;
+            }
+            i = (i + 1) & mask;
+        }
+        return ignoreCaseMatch;
+    }
+
+    @Override
+    public Iterable<PlaceHolderValueGetter<T>> getParameters() {
+        return Arrays.asList(parameters);
+    }
+
+    /**
+     * @param newParameters the parameters to add
+     * @return a new source containing the current parameters and the new ones
+     */
+    @SuppressWarnings("unchecked")
+    public HashPlaceHolderValueGetterSource<T> with(List<PlaceHolderValueGetter<T>> newParameters) {
+        List<PlaceHolderValueGetter<T>> all = new ArrayList<PlaceHolderValueGetter<T>>(Arrays.asList(parameters));
+        all.addAll(newParameters);
+        return new HashPlaceHolderValueGetterSource<T>(all.toArray(new PlaceHolderValueGetter[0]));
+    }
+
+    private static int hash(String column) {
+        int h = 0;
+        for(int i = 0; i < column.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(column.charAt(i)));
+        }
+        return h ^ (h >>> 16);
+    }
+}
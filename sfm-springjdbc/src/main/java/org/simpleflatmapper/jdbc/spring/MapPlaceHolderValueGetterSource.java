@@ -3,6 +3,10 @@ package org.simpleflatmapper.jdbc.spring;
 import java.util.HashMap;
 import java.util.Map;
 
+/**
+ * @deprecated the {@link SqlParameterSourceFactory} uses a {@link HashPlaceHolderValueGetterSource}.
+ */
+@Deprecated
 public final class MapPlaceHolderValueGetterSource<T> implements PlaceHolderValueGetterSource<T> {
 
     private final Map<String, PlaceHolderValueGetter<T>> parameters;
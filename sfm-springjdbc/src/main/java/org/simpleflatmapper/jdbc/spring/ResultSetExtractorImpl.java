@@ -48,6 +48,13 @@ import java.util.List;
  *
  */
 public final class ResultSetExtractorImpl<T> implements ResultSetExtractor<List<T>> {
+	/**
+	 * the fetch size is a hint of the number of rows per round trip, not of the size of the result,
+	 * the list is pre-sized up to that and grows from there.
+	 */
+	static final int MAX_INITIAL_CAPACITY = 256;
+	static final int DEFAULT_INITIAL_CAPACITY = 10;
+
 	private final JdbcMapper<T> mapper;
 
 	public ResultSetExtractorImpl(JdbcMapper<T> mapper) {
@@ -57,9 +64,20 @@ public final class ResultSetExtractorImpl<T> implements ResultSetExtractor<List<
     @Override
     public List<T> extractData(ResultSet rs) throws SQLException,
             DataAccessException {
-        return mapper.forEach(rs, new ListCollector<T>()).getList();
+        return mapper.forEach(rs, newListCollector(rs)).getList();
     }
 
+	private ListCollector<T> newListCollector(ResultSet rs) throws SQLException {
+		return new ListCollector<T>(initialCapacity(rs.getFetchSize()));
+	}
+
+	static int initialCapacity(int fetchSize) {
+		if (fetchSize > 0) {
+			return Math.min(fetchSize, MAX_INITIAL_CAPACITY);
+		}
+		return DEFAULT_INITIAL_CAPACITY;
+	}
+
 	public <H extends CheckedConsumer<T>>  ResultSetExtractor<H> newResultSetExtractor(final H handler) {
 		return new ResultSetExtractor<H>() {
 			@Override
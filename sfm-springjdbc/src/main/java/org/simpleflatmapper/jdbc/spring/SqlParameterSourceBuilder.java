@@ -118,10 +118,7 @@ public final class SqlParameterSourceBuilder<T> {
                     }
                 });
 
-        return parameters.length > 10
-                ? new ArrayPlaceHolderValueGetterSource<T>(parameters)
-                : new MapPlaceHolderValueGetterSource<T>(parameters)
-                ;
+        return new HashPlaceHolderValueGetterSource<T>(parameters);
     }
 
     private static int getParameterType(PropertyMapping<?, ?, JdbcColumnKey> pm) {
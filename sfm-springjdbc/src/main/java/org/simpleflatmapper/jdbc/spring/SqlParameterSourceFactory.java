@@ -1,12 +1,21 @@
 package org.simpleflatmapper.jdbc.spring;
 
+import org.simpleflatmapper.jdbc.named.NamedSqlQuery;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class SqlParameterSourceFactory<T> {
+    // the batch sql are expected to be constants, past that number the sources are not cached
+    private static final int MAX_CACHED_BATCH_SOURCES = 256;
+
     private final PlaceHolderValueGetterSource<T> placeHolderValueGetterSource;
+    private final ConcurrentMap<String, PlaceHolderValueGetterSource<T>> batchSources = new ConcurrentHashMap<String, PlaceHolderValueGetterSource<T>>();
 
     public SqlParameterSourceFactory(PlaceHolderValueGetterSource<T> placeHolderValueGetterSource) {
         this.placeHolderValueGetterSource = placeHolderValueGetterSource;
@@ -38,4 +47,68 @@ public class SqlParameterSourceFactory<T> {
         return sources;
     }
 
+    /**
+     * Create the SqlParameterSource for a batch update of the specified sql.
+     * The getters for the parameters of the query are resolved once per sql and shared by the batches.
+     * @param sql the named parameter sql
+     * @param values the values
+     * @return the sources to pass to NamedParameterJdbcTemplate.batchUpdate
+     */
+    public SqlParameterSource[] newBatchSqlParameterSources(String sql, Collection<T> values) {
+        PlaceHolderValueGetterSource<T> batchSource = getBatchSource(sql);
+
+        SqlParameterSource[] sources = new SqlParameterSource[values.size()];
+        int i = 0;
+        for(T value : values) {
+            sources[i++] = new SqlParameterSourceImpl<T>(batchSource, value);
+        }
+        return sources;
+    }
+
+    public SqlParameterSource[] newBatchSqlParameterSources(String sql, T[] values) {
+        PlaceHolderValueGetterSource<T> batchSource = getBatchSource(sql);
+
+        SqlParameterSource[] sources = new SqlParameterSource[values.length];
+        for(int i = 0; i < values.length; i++) {
+            sources[i] = new SqlParameterSourceImpl<T>(batchSource, values[i]);
+        }
+        return sources;
+    }
+
+    private PlaceHolderValueGetterSource<T> getBatchSource(String sql) {
+        PlaceHolderValueGetterSource<T> batchSource = batchSources.get(sql);
+        if (batchSource == null) {
+            batchSource = newBatchSource(sql);
+            if (batchSources.size() < MAX_CACHED_BATCH_SOURCES) {
+                PlaceHolderValueGetterSource<T> previous = batchSources.putIfAbsent(sql, batchSource);
+                if (previous != null) {
+                    batchSource = previous;
+                }
+            }
+        }
+        return batchSource;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PlaceHolderValueGetterSource<T> newBatchSource(String sql) {
+        NamedSqlQuery namedSqlQuery = NamedSqlQuery.parse(sql);
+        List<String> columns = new ArrayList<String>(namedSqlQuery.getParametersSize());
+        for(int i = 0; i < namedSqlQuery.getParametersSize(); i++) {
+            columns.add(namedSqlQuery.getParameter(i).getName());
+        }
+
+        if (placeHolderValueGetterSource instanceof DynamicPlaceHolderValueGetterSource) {
+            ((DynamicPlaceHolderValueGetterSource<T>) placeHolderValueGetterSource).ensureColumns(columns);
+        }
+
+        // small table restricted to the parameters of the query
+        List<PlaceHolderValueGetter<T>> parameters = new ArrayList<PlaceHolderValueGetter<T>>(columns.size());
+        for(String column : columns) {
+            PlaceHolderValueGetter<T> parameter = placeHolderValueGetterSource.getPlaceHolderValueGetter(column);
+            if (parameter != null && !parameters.contains(parameter)) {
+                parameters.add(parameter);
+            }
+        }
+        return new HashPlaceHolderValueGetterSource<T>(parameters.toArray(new PlaceHolderValueGetter[0]));
+    }
 }
@@ -6,6 +6,10 @@ public final class SqlParameterSourceImpl<T> implements SqlParameterSource {
     private final PlaceHolderValueGetterSource<T> parameters;
     private final T instance;
 
+    // spring asks for the type, type name and value of the same column in a row,
+    // the column and its parameter are published together as the source can be shared between threads
+    private LastParameter<T> lastParameter;
+
     public SqlParameterSourceImpl(PlaceHolderValueGetterSource<T> parameters, T instance) {
         this.parameters = parameters;
         this.instance = instance;
@@ -13,12 +17,12 @@ public final class SqlParameterSourceImpl<T> implements SqlParameterSource {
 
     @Override
     public boolean hasValue(String column) {
-        return parameters.getPlaceHolderValueGetter(column) != null;
+        return getPlaceHolderValueGetter(column) != null;
     }
 
     @Override
     public Object getValue(String column) throws IllegalArgumentException {
-        PlaceHolderValueGetter<T> parameter = parameters.getPlaceHolderValueGetter(column);
+        PlaceHolderValueGetter<T> parameter = getPlaceHolderValueGetter(column);
         if (parameter != null) {
             return parameter.getValue(instance );
         } else {
@@ -28,7 +32,7 @@ public final class SqlParameterSourceImpl<T> implements SqlParameterSource {
 
     @Override
     public int getSqlType(String column) {
-        PlaceHolderValueGetter<T> parameter = parameters.getPlaceHolderValueGetter(column);
+        PlaceHolderValueGetter<T> parameter = getPlaceHolderValueGetter(column);
         if (parameter != null) {
             return parameter.getSqlType();
         } else {
@@ -38,11 +42,30 @@ public final class SqlParameterSourceImpl<T> implements SqlParameterSource {
 
     @Override
     public String getTypeName(String column) {
-        PlaceHolderValueGetter<T> parameter = parameters.getPlaceHolderValueGetter(column);
+        PlaceHolderValueGetter<T> parameter = getPlaceHolderValueGetter(column);
         if (parameter != null) {
             return parameter.getTypeName();
         } else {
             return null;
         }
     }
+
+    private PlaceHolderValueGetter<T> getPlaceHolderValueGetter(String column) {
+        LastParameter<T> last = lastParameter;
+        if (last == null || column != last.column) {
+            last = new LastParameter<T>(column, parameters.getPlaceHolderValueGetter(column));
+            lastParameter = last;
+        }
+        return last.parameter;
+    }
+
+    private static final class LastParameter<T> {
+        private final String column;
+        private final PlaceHolderValueGetter<T> parameter;
+
+        private LastParameter(String column, PlaceHolderValueGetter<T> parameter) {
+            this.column = column;
+            this.parameter = parameter;
+        }
+    }
 }
@@ -0,0 +1,50 @@
+package org.simpleflatmapper.jdbc.spring;
+
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.util.ListCollector;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResultSetExtractorImplTest {
+
+	@Test
+	public void testInitialCapacityFromFetchSize() {
+		assertEquals(ResultSetExtractorImpl.DEFAULT_INITIAL_CAPACITY, ResultSetExtractorImpl.initialCapacity(0));
+		assertEquals(ResultSetExtractorImpl.DEFAULT_INITIAL_CAPACITY, ResultSetExtractorImpl.initialCapacity(-1));
+		assertEquals(1, ResultSetExtractorImpl.initialCapacity(1));
+		assertEquals(100, ResultSetExtractorImpl.initialCapacity(100));
+		assertEquals(ResultSetExtractorImpl.MAX_INITIAL_CAPACITY, ResultSetExtractorImpl.initialCapacity(Integer.MAX_VALUE));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testExtractDataReadsFetchSize() throws Exception {
+		JdbcMapper<Object> mapper = mock(JdbcMapper.class);
+		ResultSet rs = mock(ResultSet.class);
+		when(rs.getFetchSize()).thenReturn(Integer.MAX_VALUE);
+		doAnswer(new Answer<Object>() {
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				return invocation.getArgument(1);
+			}
+		}).when(mapper).forEach(same(rs), any(ListCollector.class));
+
+		List<Object> list = new ResultSetExtractorImpl<Object>(mapper).extractData(rs);
+
+		assertTrue(list.isEmpty());
+		verify(rs).getFetchSize();
+	}
+}
@@ -49,6 +49,15 @@ public class JdbcTemplateMapperFactoryTest {
 		DbHelper.assertDbObjectMapping(results.get(0));
 	}
 
+	@Test
+	public void testResultSetExtractorWithFetchSize() throws SQLException, ParseException  {
+		ResultSetExtractor<List<DbObject>> mapper = JdbcTemplateMapperFactory.newInstance().newResultSetExtractor(DbObject.class);
+		template.setFetchSize(Integer.MAX_VALUE);
+		List<DbObject> results = template.query(DbHelper.TEST_DB_OBJECT_QUERY, mapper);
+		Assert.assertEquals(1, results.size());
+		DbHelper.assertDbObjectMapping(results.get(0));
+	}
+
 	@Test
 	public void testPreparedStatementCallbackWithHandler() throws SQLException, ParseException  {
 		PreparedStatementCallbackImpl<DbObject> mapper = JdbcTemplateMapperFactory.newInstance().newPreparedStatementCallback(DbObject.class);
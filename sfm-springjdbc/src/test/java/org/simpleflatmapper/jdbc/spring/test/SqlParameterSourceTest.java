@@ -17,6 +17,7 @@ import java.time.Instant;
 import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 public class SqlParameterSourceTest {
 
@@ -150,6 +151,42 @@ public class SqlParameterSourceTest {
 
     }
 
+    @Test
+    public void testBatchSource() {
+        SqlParameterSourceFactory<DbObject> parameterSourceFactory =
+                JdbcTemplateMapperFactory.newInstance().newSqlParameterSourceFactory(DbObject.class);
+
+        DbObject[] dbObjects = new DbObject[10];
+        for(int i = 0; i < dbObjects.length; i++ ) {
+            dbObjects[i] = new DbObject();
+            dbObjects[i].setId(i);
+            dbObjects[i].setName("name" + i);
+        }
+
+        String sql = "UPDATE TEST_DB_OBJECT SET name = :name WHERE id = :id";
+        SqlParameterSource[] sources = parameterSourceFactory.newBatchSqlParameterSources(sql, dbObjects);
+        validate(sources);
+        validate(parameterSourceFactory.newBatchSqlParameterSources(sql, Arrays.asList(dbObjects)));
+
+        assertEquals("name3", sources[3].getValue("NAME"));
+        assertEquals(Types.VARCHAR, sources[3].getSqlType("name"));
+        assertFalse(sources[3].hasValue("email"));
+    }
+
+    @Test
+    public void testCaseInsensitiveLookup() {
+        SqlParameterSourceFactory<DbObject> parameterSourceFactory =
+                JdbcTemplateMapperFactory.newInstance().newSqlParameterSourceFactory(DbObject.class);
+        DbObject dbObject = getDbObject();
+
+        SqlParameterSource parameterSource = parameterSourceFactory.newSqlParameterSource(dbObject);
+
+        assertEquals(12345l, parameterSource.getValue("ID"));
+        assertEquals("name", parameterSource.getValue("Name"));
+        assertEquals("name", parameterSource.getValue("name"));
+        assertEquals("email", parameterSource.getValue("EMAIL"));
+    }
+
     private void validate(SqlParameterSource[] sqlParameterSources) {
         for(int i = 0; i < sqlParameterSources.length; i++) {
             assertEquals((long)i, sqlParameterSources[i].getValue("id"));
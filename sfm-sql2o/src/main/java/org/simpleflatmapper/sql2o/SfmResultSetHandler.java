@@ -1,13 +1,21 @@
 package org.simpleflatmapper.sql2o;
 
 import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.map.MappingContext;
 import org.sql2o.ResultSetHandler;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
+/**
+ * The handler is created per ResultSet by the {@link SfmResultSetHandlerFactory},
+ * the mapping context is resolved on the first row and reused for the following rows when the mapper is stateless.
+ * A mapper with keys still gets a new context per row as sql2o maps one object per row.
+ */
 public final class SfmResultSetHandler<T> implements ResultSetHandler<T> {
         private final JdbcMapper<T> mapper;
+        private MappingContext<? super ResultSet> statelessContext;
+        private boolean resolved;
 
         public SfmResultSetHandler(JdbcMapper<T> mapper) {
             this.mapper = mapper;
@@ -15,6 +23,16 @@ public final class SfmResultSetHandler<T> implements ResultSetHandler<T> {
 
         @Override
         public T handle(ResultSet resultSet) throws SQLException {
+            if (!resolved) {
+                MappingContext<? super ResultSet> context = mapper.newMappingContext(resultSet);
+                if (context == MappingContext.EMPTY_CONTEXT) {
+                    statelessContext = context;
+                }
+                resolved = true;
+            }
+            if (statelessContext != null) {
+                return mapper.map(resultSet, statelessContext);
+            }
             return mapper.map(resultSet);
         }
-    }
\ No newline at end of file
+    }
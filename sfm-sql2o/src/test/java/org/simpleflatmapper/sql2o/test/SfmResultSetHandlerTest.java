@@ -0,0 +1,53 @@
+package org.simpleflatmapper.sql2o.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.jdbc.JdbcMapper;
+import org.simpleflatmapper.map.MappingContext;
+import org.simpleflatmapper.sql2o.SfmResultSetHandler;
+
+import java.sql.ResultSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SfmResultSetHandlerTest {
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testStatelessContextResolvedOnce() throws Exception {
+        JdbcMapper<String> mapper = mock(JdbcMapper.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(mapper.newMappingContext(rs)).thenReturn((MappingContext) MappingContext.EMPTY_CONTEXT);
+        when(mapper.map(rs, MappingContext.EMPTY_CONTEXT)).thenReturn("a", "b");
+
+        SfmResultSetHandler<String> handler = new SfmResultSetHandler<String>(mapper);
+
+        assertEquals("a", handler.handle(rs));
+        assertEquals("b", handler.handle(rs));
+
+        verify(mapper, times(1)).newMappingContext(rs);
+        verify(mapper, times(2)).map(rs, MappingContext.EMPTY_CONTEXT);
+        verify(mapper, never()).map(rs);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testContextPerRowWithKeys() throws Exception {
+        JdbcMapper<String> mapper = mock(JdbcMapper.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(mapper.newMappingContext(rs)).thenReturn(mock(MappingContext.class));
+        when(mapper.map(rs)).thenReturn("a", "b");
+
+        SfmResultSetHandler<String> handler = new SfmResultSetHandler<String>(mapper);
+
+        assertEquals("a", handler.handle(rs));
+        assertEquals("b", handler.handle(rs));
+
+        verify(mapper, times(1)).newMappingContext(rs);
+        verify(mapper, times(2)).map(rs);
+    }
+}
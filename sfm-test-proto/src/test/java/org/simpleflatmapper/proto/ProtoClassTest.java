@@ -1,21 +1,31 @@
 package org.simpleflatmapper.proto;
 
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.Timestamp;
 import org.junit.Test;
 import org.simpleflatmapper.csv.CsvMapper;
 import org.simpleflatmapper.csv.CsvMapperFactory;
 import org.simpleflatmapper.map.property.DateFormatProperty;
+import org.simpleflatmapper.reflect.BuilderInstantiatorDefinition;
+import org.simpleflatmapper.reflect.InstantiatorDefinition;
+import org.simpleflatmapper.reflect.Parameter;
 import org.simpleflatmapper.reflect.ReflectionService;
 import org.simpleflatmapper.reflect.TypeAffinity;
 import org.simpleflatmapper.reflect.meta.ClassMeta;
 import org.simpleflatmapper.reflect.meta.DefaultPropertyNameMatcher;
 import org.simpleflatmapper.reflect.meta.PropertyMeta;
+import org.simpleflatmapper.util.ListCollector;
 import org.simpleflatmapper.util.Predicate;
+import org.simpleflatmapper.util.TypeHelper;
 
 import java.io.IOException;
 import java.io.StringReader;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
 
@@ -101,6 +111,40 @@ message AddressBook {
 
     }
 
+    @Test
+    public void testJoinPersonPhones() throws IOException {
+        CsvMapper<AddressBookProtos.Person> csvMapper =
+                CsvMapperFactory
+                        .newInstance()
+                        .useAsm(false)
+                        .addKeys("id", "phones_number")
+                        .newBuilder(AddressBookProtos.Person.class)
+                        .addMapping("name")
+                        .addMapping("id")
+                        .addMapping("phones_number")
+                        .addMapping("phones_type")
+                        .mapper();
+
+        List<AddressBookProtos.Person> persons = csvMapper.forEach(
+                new StringReader("arnaud,1,+4411223333,MOBILE\narnaud,1,+4411223334,HOME\nbob,2,+4411223335,WORK"),
+                new ListCollector<AddressBookProtos.Person>()).getList();
+
+        assertEquals(2, persons.size());
+
+        AddressBookProtos.Person arnaud = persons.get(0);
+        assertEquals(1, arnaud.getId());
+        assertEquals(2, arnaud.getPhonesCount());
+        assertEquals("+4411223333", arnaud.getPhones(0).getNumber());
+        assertEquals(AddressBookProtos.Person.PhoneType.MOBILE, arnaud.getPhones(0).getType());
+        assertEquals("+4411223334", arnaud.getPhones(1).getNumber());
+        assertEquals(AddressBookProtos.Person.PhoneType.HOME, arnaud.getPhones(1).getType());
+
+        AddressBookProtos.Person bob = persons.get(1);
+        assertEquals(2, bob.getId());
+        assertEquals(1, bob.getPhonesCount());
+        assertEquals("+4411223335", bob.getPhones(0).getNumber());
+    }
+
     @Test
     public void testMapPersonTs() throws IOException, ParseException {
         CsvMapper<AddressBookProtos.Person> csvMapper =
@@ -154,5 +198,59 @@ message AddressBook {
         
         assertEquals(Timestamp.class, ts.getPropertyType());
 
+        BuilderInstantiatorDefinition builder = null;
+        for(InstantiatorDefinition def : classMeta.getInstantiatorDefinitions()) {
+            if (def instanceof BuilderInstantiatorDefinition) {
+                builder = (BuilderInstantiatorDefinition) def;
+            }
+        }
+
+        Set<String> names = new HashSet<String>();
+        for(Parameter p : builder.getParameters()) {
+            names.add(p.getName());
+        }
+        assertEquals(new HashSet<String>(Arrays.asList("name", "id", "email", "phones", "ts", "oint", "corpus")), names);
+        assertEquals(int.class, builder.getSetters().get(builder.getParameters()[indexOf(builder, "id")]).getParameterTypes()[0]);
+
+    }
+
+    @Test
+    public void testRepeatedStringField() throws Exception {
+        // getOneofsList() returns a ProtocolStringList
+        ClassMeta<com.google.protobuf.Type> classMeta = ReflectionService
+                .newInstance()
+                .getClassMeta(com.google.protobuf.Type.class);
+
+        BuilderInstantiatorDefinition builder = null;
+        for(InstantiatorDefinition def : classMeta.getInstantiatorDefinitions()) {
+            if (def instanceof BuilderInstantiatorDefinition) {
+                builder = (BuilderInstantiatorDefinition) def;
+            }
+        }
+
+        Parameter oneofs = builder.getParameters()[indexOf(builder, "oneofs")];
+        assertEquals(List.class, oneofs.getType());
+        assertEquals(String.class, TypeHelper.getComponentTypeOfListOrArray(oneofs.getGenericType()));
+
+        CsvMapper<FieldMask> csvMapper =
+                CsvMapperFactory
+                        .newInstance()
+                        .useAsm(false)
+                        .newBuilder(FieldMask.class)
+                        .addMapping("paths_0")
+                        .addMapping("paths_1")
+                        .mapper();
+
+        FieldMask fieldMask = csvMapper.iterator(new StringReader("name,email")).next();
+
+        assertEquals(Arrays.asList("name", "email"), fieldMask.getPathsList());
+    }
+
+    private static int indexOf(BuilderInstantiatorDefinition builder, String name) {
+        Parameter[] parameters = builder.getParameters();
+        for(int i = 0; i < parameters.length; i++) {
+            if (parameters[i].getName().equals(name)) return i;
+        }
+        return -1;
     }
 }
@@ -0,0 +1,159 @@
+package org.simpleflatmapper.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+class Pad0 {
+    long p1,p2,p3,p4,p5,p6,p7;
+}
+class Tail extends Pad0 {
+    protected volatile long tail = 0;
+}
+class Pad1 extends Tail { long p1,p2,p3,p4,p5,p6,p7; }
+class Head extends Pad1 {
+    protected volatile long head = 0;
+}
+class Pad2 extends Head { long p1,p2,p3,p4,p5,p6,p7; }
+class Run extends Pad2 {
+    protected volatile boolean run = true;
+}
+class Pad3 extends Run { long p1,p2,p3,p4,p5,p6,p7; }
+
+/**
+ * Sequences of a single producer single consumer ring buffer, the slots are held by the subclass.
+ * <p>
+ * The head, tail and run fields are padded on their own cache line. The producer fills the slots up to head + capacity and publishes the tail,
+ * the consumer reads the slots up to tail and publishes the head. With a {@link ParallelReader.BlockingWaitingStrategy} the waiting side
+ * registers its thread and is unparked by the other side on progress.
+ */
+public abstract class AbstractRingBuffer extends Pad3 {
+
+    protected final ParallelReader.WaitingStrategy waitingStrategy;
+    // when blocking the waiting side registers its thread so the other side can unpark it
+    private final boolean handOff;
+    private volatile Thread consumerWaiter;
+    private volatile Thread producerWaiter;
+    private volatile Thread stopWaiter;
+    private volatile boolean producerDone;
+
+    // tail as last seen by the consumer
+    protected long tailCache;
+
+    protected volatile long consumerWaitingNanos;
+    protected volatile long producerWaitingNanos;
+
+    protected AbstractRingBuffer(ParallelReader.WaitingStrategy waitingStrategy) {
+        this.waitingStrategy = waitingStrategy;
+        this.handOff = waitingStrategy instanceof ParallelReader.BlockingWaitingStrategy;
+    }
+
+    /**
+     * consumer side, wait for the producer to publish past currentHead.
+     * @param currentHead the consumer head
+     * @return false if the producer stopped without publishing past currentHead
+     */
+    protected final boolean waitForData(long currentHead) {
+        long start = System.nanoTime();
+        if (handOff) consumerWaiter = Thread.currentThread();
+        try {
+            tailCache = tail;
+            int i = 0;
+            while(currentHead >= tailCache) {
+                if (!run) {
+                    tailCache = tail;
+                    return currentHead < tailCache;
+                }
+                i = waitingStrategy.idle(i);
+                tailCache = tail;
+            }
+            return true;
+        } finally {
+            if (handOff) consumerWaiter = null;
+            consumerWaitingNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * consumer side, release the slots before newHead to the producer.
+     * @param newHead the new head
+     */
+    protected final void publishHead(long newHead) {
+        head = newHead;
+        if (handOff) unpark(producerWaiter);
+    }
+
+    /**
+     * producer side, wait for the consumer head to move past wrapPoint or for the ring buffer to be stopped.
+     * @param wrapPoint the wrap point
+     * @return the head
+     */
+    protected final long waitForSpace(long wrapPoint) {
+        long start = System.nanoTime();
+        if (handOff) producerWaiter = Thread.currentThread();
+        try {
+            int i = 0;
+            long headCache = head;
+            while (headCache <= wrapPoint && run) {
+                i = waitingStrategy.idle(i);
+                headCache = head;
+            }
+            return headCache;
+        } finally {
+            if (handOff) producerWaiter = null;
+            producerWaitingNanos += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * producer side, make the slots before newTail visible to the consumer.
+     * @param newTail the new tail
+     */
+    protected final void publishTail(long newTail) {
+        tail = newTail;
+        if (handOff) unpark(consumerWaiter);
+    }
+
+    /**
+     * ask the producer to stop.
+     */
+    protected final void stopProducer() {
+        run = false;
+        if (handOff) unpark(producerWaiter);
+    }
+
+    /**
+     * producer side, to call when the producer exits, after it published its last slot.
+     */
+    protected final void producerDone() {
+        run = false;
+        producerDone = true;
+        unpark(consumerWaiter);
+        unpark(stopWaiter);
+    }
+
+    /**
+     * park until the producer calls {@link #producerDone()}.
+     * @param timeoutNanos the maximum time to wait
+     * @return true if the producer is done
+     */
+    protected final boolean awaitProducerDone(long timeoutNanos) {
+        if (producerDone) return true;
+        long deadline = System.nanoTime() + timeoutNanos;
+        stopWaiter = Thread.currentThread();
+        try {
+            long remaining = timeoutNanos;
+            while (!producerDone && remaining > 0) {
+                LockSupport.parkNanos(this, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            return producerDone;
+        } finally {
+            stopWaiter = null;
+        }
+    }
+
+    private static void unpark(Thread waiter) {
+        if (waiter != null) {
+            LockSupport.unpark(waiter);
+        }
+    }
+}
@@ -1,43 +1,95 @@
 package org.simpleflatmapper.util;
 
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
+/**
+ * Spliterator over an {@link Enumerable}.
+ * <p>
+ * The enumerable is not thread safe and its current value is usually built from a shared row,
+ * so {@link #trySplit()} pulls and maps a batch of values on the calling thread and hands them off as an array.
+ * The batch size grows by the batch unit on each split, the same way the jdk iterator spliterator does,
+ * so that the stages downstream of the mapping can run in parallel while the encounter order is preserved.
+ * @param <T> the type of the elements
+ */
 public class EnumerableSpliterator<T> implements Spliterator<T> {
 
+    public static final int DEFAULT_BATCH_UNIT = 1 << 10;
+    public static final int MAX_BATCH = 1 << 25;
+
     private final Enumerable<T> enumerable;
+    private final int batchUnit;
+
+    private int batch;
+    private boolean exhausted;
 
     public EnumerableSpliterator(Enumerable<T> enumerable) {
+        this(enumerable, DEFAULT_BATCH_UNIT);
+    }
+
+    /**
+     * @param enumerable the enumerable
+     * @param batchUnit the number of elements added to the batch size on each split
+     */
+    public EnumerableSpliterator(Enumerable<T> enumerable, int batchUnit) {
+        if (batchUnit <= 0) throw new IllegalArgumentException("batchUnit needs to be strictly positive " + batchUnit);
         this.enumerable = enumerable;
+        this.batchUnit = batchUnit;
     }
 
     @Override
     public boolean tryAdvance(Consumer<? super T> action) {
+        if (exhausted) return false;
         Enumerable<T> lEnumerable = this.enumerable;
         if (lEnumerable.next()) {
             action.accept(lEnumerable.currentValue());
             return true;
         } else {
+            exhausted = true;
             return false;
         }
     }
 
     @Override
     public void forEachRemaining(Consumer<? super T> action) {
+        if (exhausted) return;
         Enumerable<T> lEnumerable = this.enumerable;
         while(lEnumerable.next()) {
             action.accept(lEnumerable.currentValue());
         }
+        exhausted = true;
     }
 
     @Override
     public Spliterator<T> trySplit() {
-        return null;
+        if (exhausted) return null;
+
+        Enumerable<T> lEnumerable = this.enumerable;
+        if (!lEnumerable.next()) {
+            exhausted = true;
+            return null;
+        }
+
+        int n = Math.min(batch + batchUnit, MAX_BATCH);
+        Object[] values = new Object[n];
+        int j = 0;
+        values[j++] = lEnumerable.currentValue();
+        while (j < n) {
+            if (!lEnumerable.next()) {
+                exhausted = true;
+                break;
+            }
+            values[j++] = lEnumerable.currentValue();
+        }
+
+        batch = j;
+        return Spliterators.spliterator(values, 0, j, ORDERED);
     }
 
     @Override
     public long estimateSize() {
-        return Long.MAX_VALUE;
+        return exhausted ? 0 : Long.MAX_VALUE;
     }
 
     @Override
@@ -42,9 +42,7 @@ public class FactoryClassLoader extends ClassLoader {
 				Class<?> clazz = defineClass(name, bytes, 0, bytes.length);
 				info = new ClassInfo(bytes, clazz);
 				classes.put(name, info);
-                if (classLoader != null && !isAlreadyAccessible(classLoader)) {
-                    delegateClassLoader.add(classLoader);
-                }
+				registerClassLoader(classLoader);
 			}
 			
 			return info.clazz;
@@ -53,6 +51,23 @@ public class FactoryClassLoader extends ClassLoader {
 		}
 	}
 
+	/**
+	 * make the classes of classLoader visible to the classes defined by this class loader,
+	 * needed for the classes defined through a lookup on a class of this class loader.
+	 * @param classLoader the class loader of the types referenced by the generated class
+	 */
+	public void registerClassLoader(ClassLoader classLoader) {
+		if (classLoader == null) return;
+		lock.lock();
+		try {
+			if (!isAlreadyAccessible(classLoader)) {
+				delegateClassLoader.add(classLoader);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
     private boolean isAlreadyAccessible(ClassLoader classLoader) {
         if (isAccessibleFrom(classLoader, getParent())) {
             return true;
@@ -10,8 +10,19 @@ import java.util.List;
  */
 public final class ListCollector<T> implements Consumer<T> {
 
-	private final List<T> list = new ArrayList<T>();
-	
+	private final List<T> list;
+
+	public ListCollector() {
+		this.list = new ArrayList<T>();
+	}
+
+	/**
+	 * @param initialCapacity the initial capacity of the list
+	 */
+	public ListCollector(int initialCapacity) {
+		this.list = new ArrayList<T>(initialCapacity);
+	}
+
 	@Override
 	public void accept(final T t) {
 		list.add(t);
@@ -2,11 +2,13 @@ package org.simpleflatmapper.util;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 //IFJAVA8_START
 import java.util.concurrent.ForkJoinPool;
 //IFJAVA8_END
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.LockSupport;
 
 
@@ -20,6 +22,8 @@ public class ParallelReader extends Reader {
     };
     //IFJAVA8_END
     private static Executor DEFAULT_EXECUTOR_J6 = null;
+
+    private static final Executor VIRTUAL_THREAD_EXECUTOR = newVirtualThreadExecutor();
     
     private static final Object lock = new Object();
     
@@ -51,7 +55,42 @@ public class ParallelReader extends Reader {
         }
 
 
-    } 
+    }
+
+    /**
+     * @return an executor that starts a new virtual thread per task if the jvm supports them, the default executor otherwise.
+     * @see #getDefaultExecutor()
+     */
+    public static Executor getVirtualThreadExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            return VIRTUAL_THREAD_EXECUTOR;
+        }
+        return getDefaultExecutor();
+    }
+
+    /**
+     * @return true if the jvm supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    // resolved by reflection so that the library still runs on java 6
+    private static Executor newVirtualThreadExecutor() {
+        try {
+            Method ofVirtual = Thread.class.getMethod("ofVirtual");
+            Object builder = ofVirtual.invoke(null);
+            Method factory = ofVirtual.getReturnType().getMethod("factory");
+            final ThreadFactory threadFactory = (ThreadFactory) factory.invoke(builder);
+            return new Executor() {
+                public void execute(Runnable command) {
+                    threadFactory.newThread(command).start();
+                }
+            };
+        } catch (Throwable e) {
+            return null;
+        }
+    }
     
     private static final WaitingStrategy DEFAULT_WAITING_STRATEGY = new WaitingStrategy() {
         @Override
@@ -71,6 +110,8 @@ public class ParallelReader extends Reader {
      * By default it will use the ForkJoinPool common pool from java8 or a ExecutorService with a pool size set to the number of available cores. 
      * If the number of cores is 1 it will create a new Thread everytime.
      * The default WaitingStrategy just call LockSupport.parkNanos(1l);
+     * With a lot of concurrent readers prefer {@link #getVirtualThreadExecutor()} with a {@link #backOffWaitingStrategy(int, int, long, long)}
+     * or a {@link #blockingWaitingStrategy(long)}.
      * @param reader the reader
      */
     public ParallelReader(Reader reader) {
@@ -115,52 +156,116 @@ public class ParallelReader extends Reader {
     public void close() throws IOException {
         reader.close();
     }
+
+    /**
+     * @return the total time in nanoseconds the reading thread spent waiting for the producer to fetch data.
+     */
+    public long getConsumerWaitingNanos() {
+        return reader.consumerWaitingNanos;
+    }
+
+    /**
+     * @return the total time in nanoseconds the producer spent waiting for space in the ring buffer.
+     */
+    public long getProducerWaitingNanos() {
+        return reader.producerWaitingNanos;
+    }
+
+    /**
+     * Create a waiting strategy that spins, then yields, then parks with an exponential back off.
+     * @param spins the number of busy spins before yielding
+     * @param yields the number of yields before parking
+     * @param minParkNanos the first park duration
+     * @param maxParkNanos the maximum park duration
+     * @return the waiting strategy
+     */
+    public static WaitingStrategy backOffWaitingStrategy(int spins, int yields, long minParkNanos, long maxParkNanos) {
+        return new BackOffWaitingStrategy(spins, yields, minParkNanos, maxParkNanos);
+    }
+
+    /**
+     * Create a waiting strategy that parks the waiting thread until the other side unparks it on progress.
+     * @param maxParkNanos the maximum park duration, the wait is rechecked after it
+     * @return the waiting strategy
+     */
+    public static WaitingStrategy blockingWaitingStrategy(long maxParkNanos) {
+        return new BlockingWaitingStrategy(maxParkNanos);
+    }
     
     public interface WaitingStrategy {
         int idle(int i);
     }
-}
 
+    public static final class BackOffWaitingStrategy implements WaitingStrategy {
+        private final int spins;
+        private final int spinsAndYields;
+        private final long minParkNanos;
+        private final long maxParkNanos;
+
+        public BackOffWaitingStrategy(int spins, int yields, long minParkNanos, long maxParkNanos) {
+            this.spins = spins;
+            this.spinsAndYields = spins + yields;
+            this.minParkNanos = Math.max(minParkNanos, 1);
+            this.maxParkNanos = Math.max(maxParkNanos, this.minParkNanos);
+        }
 
-class Pad0 {
-    long p1,p2,p3,p4,p5,p6,p7;
-}
-class Tail extends Pad0 {
-    volatile long tail = 0;
-}
-class Pad1 extends Tail { long p1,p2,p3,p4,p5,p6,p7; }
-class Buffer extends Pad1 { char[] buffer; }
-class Pad2 extends Buffer { long p1,p2,p3,p4,p5,p6,p7; }
-class Head extends Pad2 {
-    volatile long head = 0;
-}
-class Pad3 extends Head { long p1,p2,p3,p4,p5,p6,p7; }
-class Run extends Pad3 {
-    volatile boolean run = true;
+        @Override
+        public int idle(int i) {
+            if (i < spins) {
+                return i + 1;
+            } else if (i < spinsAndYields) {
+                Thread.yield();
+                return i + 1;
+            }
+            int shift = Math.min(i - spinsAndYields, 62);
+            long parkNanos = minParkNanos << shift;
+            if ((parkNanos >> shift) != minParkNanos || parkNanos > maxParkNanos) {
+                parkNanos = maxParkNanos;
+            }
+            LockSupport.parkNanos(parkNanos);
+            return parkNanos < maxParkNanos ? i + 1 : i;
+        }
+    }
+
+    /**
+     * Parks the waiting thread, the ring buffer unparks it when data or space becomes available.
+     */
+    public static final class BlockingWaitingStrategy implements WaitingStrategy {
+        private final long maxParkNanos;
+
+        public BlockingWaitingStrategy(long maxParkNanos) {
+            this.maxParkNanos = maxParkNanos;
+        }
+
+        @Override
+        public int idle(int i) {
+            LockSupport.parkNanos(maxParkNanos);
+            return i;
+        }
+    }
 }
-class Pad4 extends Run { long p1,p2,p3,p4,p5,p6,p7; }
 
-final class RingBufferReader extends Pad4 {
+
+final class RingBufferReader extends AbstractRingBuffer {
 
     public static final int L1_CACHE_LINE_SIZE = 64;
     private final Reader reader;
     private final DataProducer dataProducer;
+    private final char[] buffer;
     
     private final long bufferMask;
 
     private final int capacity;
     private final int tailPadding;
-    private long tailCache;
-    private final ParallelReader.WaitingStrategy waitingStrategy;
 
     public RingBufferReader(Reader reader, Executor executorService, int ringBufferSize, int readSize, ParallelReader.WaitingStrategy waitingStrategy) {
+        super(waitingStrategy);
         capacity =  1 << 32 - Integer.numberOfLeadingZeros(ringBufferSize - 1);
         tailPadding = capacity <= 1024 ? 0 : L1_CACHE_LINE_SIZE;
         this.reader = reader;
         buffer = new char[capacity + L1_CACHE_LINE_SIZE * 2]; // cache line padding on both 
         bufferMask = capacity - 1;
-        this.waitingStrategy = waitingStrategy;
-        dataProducer = new DataProducer(waitingStrategy, Math.max(Math.min(ringBufferSize / 8, readSize), 1));
+        dataProducer = new DataProducer(Math.max(Math.min(ringBufferSize / 8, readSize), 1));
         executorService.execute(dataProducer);
     }
 
@@ -168,22 +273,13 @@ final class RingBufferReader extends Pad4 {
         final long currentHead = head;
         if (currentHead >= tailCache) {
             tailCache = tail;
-            int i = 0;
-            while(currentHead >= tailCache) {
-                if (!run) {
-                    if (dataProducer.exception != null) {
-                        throw dataProducer.exception;
-                    } else if (currentHead >= tail) {
-                        return -1;
-                    }
-                } 
-                i = waitingStrategy.idle(i);
-                tailCache = tail;                
+            if (currentHead >= tailCache && !waitForData(currentHead)) {
+                return endOfData();
             }
         }
 
         int l = read(cbuf, off, len, currentHead, tailCache);
-        head = currentHead + l;
+        publishHead(currentHead + l);
         return l;
     }
 
@@ -191,26 +287,24 @@ final class RingBufferReader extends Pad4 {
         final long currentHead = head;
         if (currentHead >= tailCache) {
             tailCache = tail;
-            int i = 0;
-            while(currentHead >= tailCache) {
-                if (!run) {
-                    if (dataProducer.exception != null) {
-                        throw dataProducer.exception;
-                    } else if (currentHead >= tail){
-                        return -1;
-                    }
-                }
-                i = waitingStrategy.idle(i);
-                tailCache = tail;
+            if (currentHead >= tailCache && !waitForData(currentHead)) {
+                return endOfData();
             }
         }
 
         int headIndex = (int) (currentHead & bufferMask);
         char c = buffer[headIndex + L1_CACHE_LINE_SIZE];
-        head = currentHead + 1;
+        publishHead(currentHead + 1);
         return c;
     }
 
+    private int endOfData() throws IOException {
+        if (dataProducer.exception != null) {
+            throw dataProducer.exception;
+        }
+        return -1;
+    }
+
     private int read(char[] cbuf, int off, int len, long currentHead, long currentTail) {
         int headIndex = (int) (currentHead & bufferMask);
         int usedLength = (int) (currentTail - currentHead);
@@ -231,34 +325,30 @@ final class RingBufferReader extends Pad4 {
 
     private final class DataProducer implements Runnable {
         private volatile IOException exception;
-        private final ParallelReader.WaitingStrategy waitingStrategy;
 
         private int readSize;
-        public DataProducer(ParallelReader.WaitingStrategy waitingStrategy, int readSize) {
-            this.waitingStrategy = waitingStrategy;
+        public DataProducer(int readSize) {
             this.readSize = readSize;
         }
 
         @Override
         public void run() {
-            ParallelReader.WaitingStrategy waitingStrategy = this.waitingStrategy;
             long currentTail = tail;
             long headCache = head;
             int readSize = this.readSize;
             long wrapPointOffest = capacity - tailPadding - readSize;
-            while(run) {
-                final long wrapPoint = currentTail - wrapPointOffest;
-
-                if (headCache <= wrapPoint) {
-                    int i = 0;
-                    headCache = head;
-                    while (headCache <= wrapPoint) {
-                        i = waitingStrategy.idle(i);
-                        headCache = head;
+            try {
+                while(run) {
+                    final long wrapPoint = currentTail - wrapPointOffest;
+
+                    if (headCache <= wrapPoint) {
+                        headCache = waitForSpace(wrapPoint);
                     }
-                }
 
-                currentTail = fillBuffer(currentTail, headCache, readSize);
+                    currentTail = fillBuffer(currentTail, headCache, readSize);
+                }
+            } finally {
+                producerDone();
             }
         }
 
@@ -281,7 +371,7 @@ final class RingBufferReader extends Pad4 {
                 
                 if (r != -1) {
                     tail += r;
-                    RingBufferReader.this.tail = tail;
+                    publishTail(tail);
                 } else {
                     run = false;
                 }
@@ -294,7 +384,7 @@ final class RingBufferReader extends Pad4 {
 
 
         public void stop() {
-            run = false;
+            stopProducer();
         }
     }
 }
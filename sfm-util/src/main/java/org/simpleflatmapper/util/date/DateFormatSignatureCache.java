@@ -0,0 +1,70 @@
+package org.simpleflatmapper.util.date;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Learn, for a multi format date converter, which format parses the inputs of a given signature.
+ * <p>
+ * The signature of an input is its length and its non digit characters, all the digits being equivalent.
+ * A format that cannot parse the structure of an input, wrong literal or a letter instead of a digit,
+ * cannot parse any input of the same signature. A format learned for a signature is only put in the cache
+ * when all the formats of higher priority failed on the structure of the input,
+ * trying it first then gives the same result as trying the formats in priority order.
+ * <p>
+ * The cache is a fixed size direct mapped table, an entry can be overwritten by another signature at any time.
+ */
+public final class DateFormatSignatureCache {
+
+    /**
+     * the index is stored in the 6 low bits of the entry.
+     */
+    public static final int MAX_FORMATS = 63;
+
+    private static final int SIZE = 64;
+    private static final long INDEX_MASK = 0x3f;
+
+    private final AtomicLongArray entries = new AtomicLongArray(SIZE);
+
+    /**
+     * @param in the input
+     * @return the signature of the input
+     */
+    public static long signature(CharSequence in) {
+        long h = in.length();
+        for(int i = 0; i < in.length(); i++) {
+            char c = in.charAt(i);
+            if (c >= '0' && c <= '9') {
+                c = '0';
+            }
+            h = h * 31 + c;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * @param signature the signature of the input
+     * @return the index of the format learned for the signature or -1
+     */
+    public int get(long signature) {
+        long entry = entries.get(slot(signature));
+        if (entry != 0 && (entry & ~INDEX_MASK) == (signature & ~INDEX_MASK)) {
+            return (int) (entry & INDEX_MASK) - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * @param signature the signature of the input
+     * @param index the index of the format that parsed the input, needs to be less than {@link #MAX_FORMATS}
+     */
+    public void put(long signature, int index) {
+        entries.lazySet(slot(signature), (signature & ~INDEX_MASK) | (index + 1));
+    }
+
+    private static int slot(long signature) {
+        return (int) (signature >>> 58) & (SIZE - 1);
+    }
+}
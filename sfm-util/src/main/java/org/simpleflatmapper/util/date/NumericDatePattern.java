@@ -0,0 +1,314 @@
+package org.simpleflatmapper.util.date;
+
+/**
+ * Parser for fixed width numeric date patterns like yyyy-MM-dd HH:mm:ss.SSS, shared by the java.time, joda and java.util.Date converters.
+ * <p>
+ * Supported letters are yyyy, MM, dd, HH, mm, ss, S (1 to 9 fraction digits) and Z (+HHMM offset),
+ * any other character is a literal and quoted text is supported. {@link #compile(String)} returns null for any other pattern.
+ * <p>
+ * {@link #parse(CharSequence, int[])} does not allocate and does not throw,
+ * it fills the field values and returns false if the input does not match the pattern or is not a valid date,
+ * the caller is then expected to fall back to the formatter that will report the error.
+ */
+public final class NumericDatePattern {
+
+    public static final int YEAR = 0;
+    public static final int MONTH = 1;
+    public static final int DAY = 2;
+    public static final int HOUR = 3;
+    public static final int MINUTE = 4;
+    public static final int SECOND = 5;
+    public static final int NANO = 6;
+    public static final int OFFSET_SECONDS = 7;
+    public static final int NB_FIELDS = 8;
+
+    private static final byte LITERAL = -1;
+    private static final byte OFFSET_SIGN = 8;
+    private static final byte OFFSET_HOUR = 9;
+    private static final byte OFFSET_MINUTE = 10;
+
+    private static final int[] NANO_SCALE = { 1, 100000000, 10000000, 1000000, 100000, 10000, 1000, 100, 10, 1 };
+
+    private final String pattern;
+    private final byte[] kinds;
+    private final char[] literals;
+    private final int fractionDigits;
+    private final int fieldsMask;
+
+    private NumericDatePattern(String pattern, byte[] kinds, char[] literals, int fractionDigits, int fieldsMask) {
+        this.pattern = pattern;
+        this.kinds = kinds;
+        this.literals = literals;
+        this.fractionDigits = fractionDigits;
+        this.fieldsMask = fieldsMask;
+    }
+
+    /**
+     * @param pattern the date pattern
+     * @return the compiled pattern or null if the pattern is not a fixed width numeric pattern
+     */
+    public static NumericDatePattern compile(String pattern) {
+        if (pattern == null || pattern.length() == 0) return null;
+
+        StringBuilder literals = new StringBuilder();
+        StringBuilder kinds = new StringBuilder();
+        int fractionDigits = 0;
+        int fieldsMask = 0;
+
+        int i = 0;
+        while(i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    appendLiteral(kinds, literals, '\'');
+                    i += 2;
+                    continue;
+                }
+                // quoted text, '' is a quote
+                i++;
+                while(true) {
+                    if (i >= pattern.length()) return null;
+                    char q = pattern.charAt(i);
+                    if (q == '\'') {
+                        if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                            appendLiteral(kinds, literals, '\'');
+                            i += 2;
+                        } else {
+                            i++;
+                            break;
+                        }
+                    } else {
+                        appendLiteral(kinds, literals, q);
+                        i++;
+                    }
+                }
+                continue;
+            }
+            if (!isLetter(c)) {
+                appendLiteral(kinds, literals, c);
+                i++;
+                continue;
+            }
+
+            int count = 1;
+            while(i + count < pattern.length() && pattern.charAt(i + count) == c) {
+                count++;
+            }
+            i += count;
+
+            int field;
+            switch (c) {
+                case 'y': field = count == 4 ? YEAR : -1; break;
+                case 'M': field = count == 2 ? MONTH : -1; break;
+                case 'd': field = count == 2 ? DAY : -1; break;
+                case 'H': field = count == 2 ? HOUR : -1; break;
+                case 'm': field = count == 2 ? MINUTE : -1; break;
+                case 's': field = count == 2 ? SECOND : -1; break;
+                case 'S': field = count <= 9 ? NANO : -1; break;
+                case 'Z': field = count == 1 ? OFFSET_SECONDS : -1; break;
+                default: field = -1;
+            }
+            if (field == -1 || (fieldsMask & (1 << field)) != 0) {
+                return null;
+            }
+            fieldsMask |= 1 << field;
+
+            if (field == OFFSET_SECONDS) {
+                appendKind(kinds, literals, OFFSET_SIGN, 1);
+                appendKind(kinds, literals, OFFSET_HOUR, 2);
+                appendKind(kinds, literals, OFFSET_MINUTE, 2);
+            } else {
+                if (field == NANO) {
+                    fractionDigits = count;
+                }
+                appendKind(kinds, literals, (byte) field, count);
+            }
+        }
+
+        // the time fields need to be contiguous for the formatters to resolve them
+        if ((has(fieldsMask, NANO) && !has(fieldsMask, SECOND))
+                || (has(fieldsMask, SECOND) && !has(fieldsMask, MINUTE))
+                || (has(fieldsMask, MINUTE) && !has(fieldsMask, HOUR))
+                || (has(fieldsMask, DAY) && !has(fieldsMask, MONTH))) {
+            return null;
+        }
+
+        byte[] kindArray = new byte[kinds.length()];
+        for(int j = 0; j < kindArray.length; j++) {
+            kindArray[j] = (byte) kinds.charAt(j);
+        }
+
+        return new NumericDatePattern(pattern, kindArray, literals.toString().toCharArray(), fractionDigits, fieldsMask);
+    }
+
+    private static boolean has(int fieldsMask, int field) {
+        return (fieldsMask & (1 << field)) != 0;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static void appendLiteral(StringBuilder kinds, StringBuilder literals, char c) {
+        kinds.append((char) LITERAL);
+        literals.append(c);
+    }
+
+    private static void appendKind(StringBuilder kinds, StringBuilder literals, byte kind, int count) {
+        for(int j = 0; j < count; j++) {
+            kinds.append((char) kind);
+            literals.append('0');
+        }
+    }
+
+    /**
+     * parse the input in the fields array, the fields not in the pattern are set to 1970-01-01T00:00:00Z.
+     * @param in the input
+     * @param fields the fields values, needs to be at least {@link #NB_FIELDS} long
+     * @return true if the input matches the pattern and is a valid date
+     */
+    public boolean parse(CharSequence in, int[] fields) {
+        if (in == null || in.length() != kinds.length) return false;
+
+        fields[YEAR] = 0;
+        fields[MONTH] = 0;
+        fields[DAY] = 0;
+        fields[HOUR] = 0;
+        fields[MINUTE] = 0;
+        fields[SECOND] = 0;
+        fields[NANO] = 0;
+        int offsetSign = 1;
+        int offsetHour = 0;
+        int offsetMinute = 0;
+
+        for(int i = 0; i < kinds.length; i++) {
+            char c = in.charAt(i);
+            byte kind = kinds[i];
+            if (kind == LITERAL) {
+                if (c != literals[i]) return false;
+            } else if (kind == OFFSET_SIGN) {
+                if (c == '-') {
+                    offsetSign = -1;
+                } else if (c != '+') {
+                    return false;
+                }
+            } else {
+                int d = c - '0';
+                if (d < 0 || d > 9) return false;
+                if (kind == OFFSET_HOUR) {
+                    offsetHour = offsetHour * 10 + d;
+                } else if (kind == OFFSET_MINUTE) {
+                    offsetMinute = offsetMinute * 10 + d;
+                } else {
+                    fields[kind] = fields[kind] * 10 + d;
+                }
+            }
+        }
+
+        if (!has(YEAR)) fields[YEAR] = 1970;
+        if (!has(MONTH)) fields[MONTH] = 1;
+        if (!has(DAY)) fields[DAY] = 1;
+        fields[NANO] *= NANO_SCALE[fractionDigits];
+        fields[OFFSET_SECONDS] = offsetSign * (offsetHour * 3600 + offsetMinute * 60);
+
+        return fields[YEAR] > 0
+                && fields[MONTH] >= 1 && fields[MONTH] <= 12
+                && fields[DAY] >= 1 && fields[DAY] <= lengthOfMonth(fields[YEAR], fields[MONTH])
+                && fields[HOUR] <= 23
+                && fields[MINUTE] <= 59
+                && fields[SECOND] <= 59
+                && offsetHour <= 18 && offsetMinute <= 59;
+    }
+
+    public int length() {
+        return kinds.length;
+    }
+
+    public boolean has(int field) {
+        return has(fieldsMask, field);
+    }
+
+    public boolean hasDate() {
+        return has(YEAR) && has(MONTH) && has(DAY);
+    }
+
+    public boolean hasTime() {
+        return has(HOUR) && has(MINUTE);
+    }
+
+    public boolean hasOffset() {
+        return has(OFFSET_SECONDS);
+    }
+
+    /**
+     * @return the number of fraction of second digits, 0 if the pattern does not have any
+     */
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @param fields the parsed fields
+     * @return the number of days since 1970-01-01 of the date fields in the proleptic gregorian calendar
+     */
+    public static long toEpochDay(int[] fields) {
+        long y = fields[YEAR];
+        long m = fields[MONTH];
+        long total = 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += fields[DAY] - 1;
+        if (m > 2) {
+            total--;
+            if (!isLeapYear(y)) {
+                total--;
+            }
+        }
+        return total - 719528;
+    }
+
+    /**
+     * @param fields the parsed fields
+     * @return the millis since 1970-01-01T00:00:00 of the date and time fields, not taking the offset into account
+     */
+    public static long toLocalEpochMillis(int[] fields) {
+        return toEpochDay(fields) * 86400000l
+                + fields[HOUR] * 3600000l
+                + fields[MINUTE] * 60000l
+                + fields[SECOND] * 1000l
+                + fields[NANO] / 1000000;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(long year) {
+        return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+    }
+
+    @Override
+    public String toString() {
+        return "NumericDatePattern{" +
+                "pattern='" + pattern + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package org.simpleflatmapper.util.date;
+
+/**
+ * Date converter that can parse the input of its fixed width numeric pattern without going through its formatter.
+ * @param <T> the parsed type
+ */
+public interface NumericDatePatternParser<T> {
+    /**
+     * @return the pattern of the converter or null if it does not have a fast path
+     */
+    NumericDatePattern getNumericDatePattern();
+
+    /**
+     * @param in the input, its length matches the pattern length
+     * @return the parsed value or null if the input could not be parsed by the fast path, the formatter then needs to be used
+     */
+    T parseNumeric(CharSequence in);
+}
@@ -0,0 +1,34 @@
+package org.simpleflatmapper.util.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.util.date.DateFormatSignatureCache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class DateFormatSignatureCacheTest {
+
+    @Test
+    public void testSignature() {
+        assertEquals(DateFormatSignatureCache.signature("2019-01-05"), DateFormatSignatureCache.signature("1999-12-31"));
+        assertNotEquals(DateFormatSignatureCache.signature("2019-01-05"), DateFormatSignatureCache.signature("2019/01/05"));
+        assertNotEquals(DateFormatSignatureCache.signature("2019-01-05"), DateFormatSignatureCache.signature("2019-01-5"));
+        assertNotEquals(DateFormatSignatureCache.signature("05 Jan 2019"), DateFormatSignatureCache.signature("05 Feb 2019"));
+    }
+
+    @Test
+    public void testGetPut() {
+        DateFormatSignatureCache cache = new DateFormatSignatureCache();
+        long signature = DateFormatSignatureCache.signature("2019-01-05");
+
+        assertEquals(-1, cache.get(signature));
+
+        cache.put(signature, 0);
+        assertEquals(0, cache.get(signature));
+
+        cache.put(signature, DateFormatSignatureCache.MAX_FORMATS - 1);
+        assertEquals(DateFormatSignatureCache.MAX_FORMATS - 1, cache.get(signature));
+
+        assertEquals(-1, cache.get(DateFormatSignatureCache.signature("2019/01/05")));
+    }
+}
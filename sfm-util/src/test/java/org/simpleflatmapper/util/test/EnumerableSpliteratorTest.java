@@ -5,8 +5,10 @@ import org.simpleflatmapper.util.ArrayEnumerable;
 import org.simpleflatmapper.util.Enumerable;
 import org.simpleflatmapper.util.EnumerableSpliterator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -35,4 +37,41 @@ public class EnumerableSpliteratorTest {
         assertEquals(Arrays.asList(STRINGS).subList(0, 1), list);
     }
 
+    @Test
+    public void testParallelStreamKeepOrder() {
+        Integer[] values = new Integer[10000];
+        for(int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        List<Integer> list = StreamSupport
+                .stream(new EnumerableSpliterator<Integer>(new ArrayEnumerable<Integer>(values), 16), true)
+                .map(i -> i * 2)
+                .collect(Collectors.<Integer>toList());
+
+        assertEquals(values.length, list.size());
+        for(int i = 0; i < values.length; i++) {
+            assertEquals(i * 2, list.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testTrySplit() {
+        EnumerableSpliterator<String> spliterator = new EnumerableSpliterator<String>(enumerable, 2);
+
+        Spliterator<String> split = spliterator.trySplit();
+        assertEquals(2, split.estimateSize());
+        List<String> list = new ArrayList<String>();
+        split.forEachRemaining(list::add);
+        assertEquals(Arrays.asList(STRINGS).subList(0, 2), list);
+
+        split = spliterator.trySplit();
+        assertEquals(1, split.estimateSize());
+        split.forEachRemaining(list::add);
+        assertEquals(Arrays.asList(STRINGS), list);
+
+        assertNull(spliterator.trySplit());
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(list::add));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package org.simpleflatmapper.util.test;
+
+import org.junit.Test;
+import org.simpleflatmapper.util.date.NumericDatePattern;
+
+import java.text.SimpleDateFormat;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class NumericDatePatternTest {
+
+    @Test
+    public void testCompile() {
+        assertNotNull(NumericDatePattern.compile("yyyy-MM-dd"));
+        assertNotNull(NumericDatePattern.compile("yyyyMMddHHmmss"));
+        assertNotNull(NumericDatePattern.compile("yyyy-MM-dd'T'HH:mm:ss.SSSZ"));
+        assertNotNull(NumericDatePattern.compile("dd/MM/yyyy HH:mm"));
+
+        assertNull(NumericDatePattern.compile(null));
+        assertNull(NumericDatePattern.compile(""));
+        assertNull(NumericDatePattern.compile("yy-MM-dd"));
+        assertNull(NumericDatePattern.compile("yyyy-MMM-dd"));
+        assertNull(NumericDatePattern.compile("yyyy-M-d"));
+        assertNull(NumericDatePattern.compile("yyyy-MM-dd hh:mm a"));
+        assertNull(NumericDatePattern.compile("yyyy-MM-dd'T"));
+        assertNull(NumericDatePattern.compile("yyyy-MM-dd HH:ss"));
+        assertNull(NumericDatePattern.compile("yyyy-MM-dd-dd"));
+
+        NumericDatePattern pattern = NumericDatePattern.compile("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+        assertEquals(28, pattern.length());
+        assertTrue(pattern.hasDate());
+        assertTrue(pattern.hasTime());
+        assertTrue(pattern.hasOffset());
+        assertEquals(3, pattern.getFractionDigits());
+
+        NumericDatePattern datePattern = NumericDatePattern.compile("yyyy-MM-dd");
+        assertTrue(datePattern.hasDate());
+        assertFalse(datePattern.hasTime());
+        assertFalse(datePattern.hasOffset());
+    }
+
+    @Test
+    public void testParse() {
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+
+        assertTrue(NumericDatePattern.compile("yyyy-MM-dd'T'HH:mm:ss.SSSSSSZ").parse("2019-03-31T02:15:59.123456-0130", fields));
+        assertArrayEquals(new int[] {2019, 3, 31, 2, 15, 59, 123456000, -5400}, fields);
+
+        assertTrue(NumericDatePattern.compile("dd/MM/yyyy").parse("29/02/2020", fields));
+        assertArrayEquals(new int[] {2020, 2, 29, 0, 0, 0, 0, 0}, fields);
+
+        assertTrue(NumericDatePattern.compile("HH:mm").parse("23:59", fields));
+        assertArrayEquals(new int[] {1970, 1, 1, 23, 59, 0, 0, 0}, fields);
+
+        assertTrue(NumericDatePattern.compile("'It''s' yyyy").parse("It's 2001", fields));
+        assertEquals(2001, fields[NumericDatePattern.YEAR]);
+
+        NumericDatePattern pattern = NumericDatePattern.compile("yyyy-MM-dd HH:mm:ss");
+        assertFalse(pattern.parse("2019-01-01 00:00", fields));
+        assertFalse(pattern.parse("2019/01/01 00:00:00", fields));
+        assertFalse(pattern.parse("2019-01-0a 00:00:00", fields));
+        assertFalse(pattern.parse("2019-02-29 00:00:00", fields));
+        assertFalse(pattern.parse("2019-13-01 00:00:00", fields));
+        assertFalse(pattern.parse("2019-04-31 00:00:00", fields));
+        assertFalse(pattern.parse("2019-01-00 00:00:00", fields));
+        assertFalse(pattern.parse("0000-01-01 00:00:00", fields));
+        assertFalse(pattern.parse("2019-01-01 24:00:00", fields));
+        assertFalse(pattern.parse("2019-01-01 00:60:00", fields));
+        assertFalse(pattern.parse("2019-01-01 00:00:60", fields));
+        assertFalse(pattern.parse(null, fields));
+        assertFalse(NumericDatePattern.compile("HHmmZ").parse("1010 0100", fields));
+    }
+
+    @Test
+    public void testLocalEpochMillisMatchesGregorianCalendar() throws Exception {
+        SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        format.setTimeZone(TimeZone.getTimeZone("UTC"));
+        NumericDatePattern pattern = NumericDatePattern.compile("yyyy-MM-dd HH:mm:ss.SSS");
+        int[] fields = new int[NumericDatePattern.NB_FIELDS];
+
+        Random random = new Random(17);
+        for(int i = 0; i < 1000; i++) {
+            // between 1600 and 2400
+            long millis = -11676096000000l + (long) (random.nextDouble() * 25245000000000l);
+            String str = format.format(new java.util.Date(millis));
+            assertTrue(str, pattern.parse(str, fields));
+            assertEquals(str, millis, NumericDatePattern.toLocalEpochMillis(fields));
+        }
+    }
+}
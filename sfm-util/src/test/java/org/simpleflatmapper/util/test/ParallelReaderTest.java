@@ -6,12 +6,14 @@ import org.simpleflatmapper.util.ParallelReader;
 import java.io.IOException;
 import java.io.StringReader;
 import java.util.Random;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class ParallelReaderTest {
 
@@ -25,11 +27,15 @@ public class ParallelReaderTest {
     }
 
     public void testReadFromString(String str, char[] buffer, boolean slow, int bufferSize) throws IOException {
+        testReadFromString(str, buffer, slow, bufferSize, executorService, null);
+    }
+
+    public void testReadFromString(String str, char[] buffer, boolean slow, int bufferSize, Executor executor, ParallelReader.WaitingStrategy waitingStrategy) throws IOException {
         StringReader stringReader = new StringReader(str);
 
 
         StringBuilder sb = new StringBuilder();
-        ParallelReader parallelReader = new ParallelReader(stringReader, executorService, bufferSize);
+        ParallelReader parallelReader = newParallelReader(stringReader, bufferSize, executor, waitingStrategy);
         try {
             int l;
             while((l = parallelReader.read(buffer, 0, buffer.length)) != -1) {
@@ -49,7 +55,7 @@ public class ParallelReaderTest {
 
 
         sb = new StringBuilder();
-        parallelReader = new ParallelReader(stringReader, executorService, bufferSize);
+        parallelReader = newParallelReader(stringReader, bufferSize, executor, waitingStrategy);
         try {
             int l;
             while((l = parallelReader.read()) != -1) {
@@ -62,12 +68,64 @@ public class ParallelReaderTest {
         assertEquals(str, sb.toString());
     }
 
+    private ParallelReader newParallelReader(StringReader stringReader, int bufferSize, Executor executor, ParallelReader.WaitingStrategy waitingStrategy) {
+        if (waitingStrategy == null) {
+            return new ParallelReader(stringReader, executor, bufferSize);
+        }
+        return new ParallelReader(stringReader, executor, bufferSize, 8192, waitingStrategy);
+    }
+
+    @Test
+    public void testBackOffWaitingStrategy() throws IOException {
+        ParallelReader.WaitingStrategy waitingStrategy = ParallelReader.backOffWaitingStrategy(10, 10, 1000, 1000000);
+        testRandomStrings(16, executorService, waitingStrategy);
+    }
+
+    @Test
+    public void testBlockingWaitingStrategy() throws IOException {
+        ParallelReader.WaitingStrategy waitingStrategy = ParallelReader.blockingWaitingStrategy(TimeUnit.MILLISECONDS.toNanos(100));
+        testRandomStrings(16, executorService, waitingStrategy);
+    }
+
+    @Test
+    public void testVirtualThreadExecutor() throws IOException {
+        testRandomStrings(16, ParallelReader.getVirtualThreadExecutor(), ParallelReader.blockingWaitingStrategy(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+
+    @Test
+    public void testBackOffStrategyCounter() {
+        ParallelReader.WaitingStrategy waitingStrategy = ParallelReader.backOffWaitingStrategy(2, 1, 1, 4);
+        int i = 0;
+        for(int j = 0; j < 6; j++) {
+            i = waitingStrategy.idle(i);
+        }
+        // 2 spins, 1 yield, park 1, 2 then capped at 4
+        assertEquals(5, i);
+        assertEquals(5, waitingStrategy.idle(i));
+    }
+
+    @Test
+    public void testWaitingMetrics() throws IOException {
+        ParallelReader parallelReader = new ParallelReader(new StringReader("0123456789"), executorService, 4, 8192, ParallelReader.blockingWaitingStrategy(TimeUnit.MILLISECONDS.toNanos(100)));
+        try {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+            while(parallelReader.read() != -1);
+        } finally {
+            parallelReader.close();
+        }
+        assertTrue(parallelReader.getProducerWaitingNanos() > 0);
+        assertTrue(parallelReader.getConsumerWaitingNanos() >= 0);
+    }
 
     String data = "abcdefghijklmnopqrstuvwxyz\n";
     @Test
     public void testReadFromRandomStringsReader() throws IOException {
+        testRandomStrings(256, executorService, null);
+    }
+
+    private void testRandomStrings(int n, Executor executor, ParallelReader.WaitingStrategy waitingStrategy) throws IOException {
         Random random = new Random();
-        for(int i = 0; i < 256; i++) {
+        for(int i = 0; i < n; i++) {
             int strLength = random.nextInt(1024 * 64);
             StringBuilder sb = new StringBuilder(strLength);
             for(int j = 0; j < strLength; j++) {
@@ -79,8 +137,8 @@ public class ParallelReaderTest {
             int bufferSize = random.nextInt(8096) + 1;
 
             String str = sb.toString();
-            testReadFromString(str, new char[bufferSize], false, 1 << 10);
-            testReadFromString(str, new char[bufferSize], true, 1 << 10);
+            testReadFromString(str, new char[bufferSize], false, 1 << 10, executor, waitingStrategy);
+            testReadFromString(str, new char[bufferSize], true, 1 << 10, executor, waitingStrategy);
         }
     }
 